@@ -0,0 +1,66 @@
+package com.example.boilerplate.cache.controller;
+
+import com.example.boilerplate.cache.dto.CacheDto;
+import com.example.boilerplate.cache.service.CacheService;
+import com.example.boilerplate.common.response.BaseResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+public class CacheController {
+
+  private final CacheService cacheService;
+
+  /**
+   * 캐시 통계 조회
+   *
+   * @return 캐시 통계 정보
+   */
+  @GetMapping("/admin/cache/stats")
+  public BaseResponse<CacheDto.StatsResponse> getCacheStats() {
+    return BaseResponse.ok(cacheService.getCacheStats());
+  }
+
+  /**
+   * Hot Key 목록 조회
+   *
+   * @return 추정 조회 수가 높은 순서의 Hot Key 목록
+   */
+  @GetMapping("/admin/cache/hot-keys")
+  public BaseResponse<List<CacheDto.HotKeyResponse>> getHotKeys() {
+    return BaseResponse.ok(cacheService.getHotKeys());
+  }
+
+  /**
+   * 패턴과 일치하는 키의 네임스페이스 별 키 수, 메모리 사용량, TTL 분포 조회
+   *
+   * @param pattern SCAN MATCH 패턴
+   * @return 네임스페이스 별 키 통계
+   */
+  @GetMapping("/admin/cache/keyspace")
+  public BaseResponse<List<CacheDto.KeyspaceResponse>> getKeyspace(
+      @RequestParam(value = "pattern", required = false, defaultValue = "BP:*") String pattern) {
+    return BaseResponse.ok(cacheService.getKeyspace(pattern));
+  }
+
+  /**
+   * 패턴과 일치하는 키를 초당 삭제 키 수를 제한하여 삭제
+   *
+   * @param pattern SCAN MATCH 패턴 ({@code BP:todo:*}처럼 네임스페이스를 포함)
+   * @param dryRun  true이면 삭제하지 않고 일치하는 키 수만 확인
+   * @return 삭제 결과
+   */
+  @DeleteMapping("/admin/cache/keys")
+  public BaseResponse<CacheDto.EvictResponse> evictKeys(
+      @RequestParam("pattern") String pattern,
+      @RequestParam(value = "dryRun", required = false, defaultValue = "true") boolean dryRun) {
+    return BaseResponse.ok(cacheService.evictKeys(pattern, dryRun));
+  }
+}
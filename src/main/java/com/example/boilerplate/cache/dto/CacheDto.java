@@ -0,0 +1,236 @@
+package com.example.boilerplate.cache.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+public class CacheDto {
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class StatsResponse {
+
+    private CacheDto.SingleFlightStats singleFlight;
+    private CacheDto.RefreshStats refresh;
+    private CacheDto.CircuitBreakerStats circuitBreaker;
+    private CacheDto.InvalidationStats invalidation;
+    private CacheDto.HotKeyStats hotKey;
+    private CacheDto.ReadRoutingStats readRouting;
+    private CacheDto.CounterStats counter;
+    private CacheDto.LeaseStats lease;
+    private CacheDto.VersionStats version;
+    private CacheDto.HashStats hash;
+    private CacheDto.IndexStats index;
+    private CacheDto.OffHeapStats offHeap;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class SingleFlightStats {
+
+    private long loadCount;
+    private long coalescedCount;
+    private long timeoutCount;
+    private int inFlightCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class RefreshStats {
+
+    private long refreshCount;
+    private long rejectedCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class CircuitBreakerStats {
+
+    private String state;
+    private long openCount;
+    private long halfOpenCount;
+    private long closedCount;
+    private long notPermittedCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class InvalidationStats {
+
+    private long requestedCount;
+    private long coalescedCount;
+    private long invalidatedCount;
+    private long batchCount;
+    private long inlineCount;
+    private long failedCount;
+    private long retriedCount;
+    private long droppedCount;
+    private int pendingCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class HotKeyStats {
+
+    private int hotKeyCount;
+    private long promotedCount;
+    private long demotedCount;
+    private long hitCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class ReadRoutingStats {
+
+    private long masterReadCount;
+    private long replicaReadCount;
+    private long recentWriteCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class CounterStats {
+
+    private int keyCount;
+    private long flushCount;
+    private long flushedKeyCount;
+    private long failedCount;
+    private long directCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class LeaseStats {
+
+    private long acquiredCount;
+    private long waitedCount;
+    private long timeoutCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class VersionStats {
+
+    private long writtenCount;
+    private long rejectedCount;
+    private long fencedCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class HashStats {
+
+    private long updatedCount;
+    private long missedCount;
+    private long evictedCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class IndexStats {
+
+    private long addedCount;
+    private long removedCount;
+    private long missedCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class OffHeapStats {
+
+    private long entryCount;
+    private long usedBytes;
+    private long allocatedBytes;
+    private long capacityBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long rejectedCount;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class HotKeyResponse {
+
+    private String key;
+    private long estimatedCount;
+    private boolean replicated;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class KeyspaceResponse {
+
+    private String prefix;
+    private long keyCount;
+    private long sampledCount;
+    private long sampledBytes;
+    private long estimatedBytes;
+    private Map<String, Long> ttlDistribution;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @ToString
+  public static class EvictResponse {
+
+    private String pattern;
+    private boolean dryRun;
+    private long matchedCount;
+    private long evictedCount;
+    private long skippedCount;
+    private long failedCount;
+    private boolean truncated;
+    private long elapsedMillis;
+  }
+}
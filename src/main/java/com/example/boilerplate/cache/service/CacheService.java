@@ -0,0 +1,184 @@
+package com.example.boilerplate.cache.service;
+
+import com.example.boilerplate.cache.dto.CacheDto;
+import com.example.boilerplate.common.cache.CacheInvalidator;
+import com.example.boilerplate.common.cache.CacheKeyScanner;
+import com.example.boilerplate.common.cache.CacheRefresher;
+import com.example.boilerplate.common.cache.CacheVersionFence;
+import com.example.boilerplate.common.cache.CounterAggregator;
+import com.example.boilerplate.common.cache.HashCacheStore;
+import com.example.boilerplate.common.cache.HotKeyCache;
+import com.example.boilerplate.common.cache.OffHeapCache;
+import com.example.boilerplate.common.cache.RebuildLease;
+import com.example.boilerplate.common.cache.RedisCircuitBreaker;
+import com.example.boilerplate.common.cache.RedisCircuitBreaker.State;
+import com.example.boilerplate.common.cache.RedisReadRouter;
+import com.example.boilerplate.common.cache.SingleFlight;
+import com.example.boilerplate.common.cache.SortedSetIndexStore;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CacheService {
+
+  private final SingleFlight singleFlight;
+  private final CacheRefresher cacheRefresher;
+  private final RedisCircuitBreaker redisCircuitBreaker;
+  private final CacheInvalidator cacheInvalidator;
+  private final HotKeyCache hotKeyCache;
+  private final RedisReadRouter redisReadRouter;
+  private final CounterAggregator counterAggregator;
+  private final RebuildLease rebuildLease;
+  private final CacheVersionFence cacheVersionFence;
+  private final HashCacheStore hashCacheStore;
+  private final SortedSetIndexStore sortedSetIndexStore;
+  private final CacheKeyScanner cacheKeyScanner;
+  private final OffHeapCache offHeapCache;
+
+  /**
+   * 캐시 통계 조회
+   *
+   * @return 캐시 통계 정보
+   */
+  public CacheDto.StatsResponse getCacheStats() {
+    return CacheDto.StatsResponse.builder()
+        .singleFlight(CacheDto.SingleFlightStats.builder()
+            .loadCount(singleFlight.getLoadCount())
+            .coalescedCount(singleFlight.getCoalescedCount())
+            .timeoutCount(singleFlight.getTimeoutCount())
+            .inFlightCount(singleFlight.getInFlightCount())
+            .build())
+        .refresh(CacheDto.RefreshStats.builder()
+            .refreshCount(cacheRefresher.getRefreshCount())
+            .rejectedCount(cacheRefresher.getRejectedCount())
+            .build())
+        .circuitBreaker(CacheDto.CircuitBreakerStats.builder()
+            .state(redisCircuitBreaker.getState().name())
+            .openCount(redisCircuitBreaker.getTransitionCount(State.OPEN))
+            .halfOpenCount(redisCircuitBreaker.getTransitionCount(State.HALF_OPEN))
+            .closedCount(redisCircuitBreaker.getTransitionCount(State.CLOSED))
+            .notPermittedCount(redisCircuitBreaker.getNotPermittedCount())
+            .build())
+        .invalidation(CacheDto.InvalidationStats.builder()
+            .requestedCount(cacheInvalidator.getRequestedCount())
+            .coalescedCount(cacheInvalidator.getCoalescedCount())
+            .invalidatedCount(cacheInvalidator.getInvalidatedCount())
+            .batchCount(cacheInvalidator.getBatchCount())
+            .inlineCount(cacheInvalidator.getInlineCount())
+            .failedCount(cacheInvalidator.getFailedCount())
+            .retriedCount(cacheInvalidator.getRetriedCount())
+            .droppedCount(cacheInvalidator.getDroppedCount())
+            .pendingCount(cacheInvalidator.getPendingCount())
+            .build())
+        .hotKey(CacheDto.HotKeyStats.builder()
+            .hotKeyCount(hotKeyCache.getHotKeys().size())
+            .promotedCount(hotKeyCache.getPromotedCount())
+            .demotedCount(hotKeyCache.getDemotedCount())
+            .hitCount(hotKeyCache.getHitCount())
+            .build())
+        .readRouting(CacheDto.ReadRoutingStats.builder()
+            .masterReadCount(redisReadRouter.getMasterReadCount())
+            .replicaReadCount(redisReadRouter.getReplicaReadCount())
+            .recentWriteCount(redisReadRouter.getRecentWriteCount())
+            .build())
+        .counter(CacheDto.CounterStats.builder()
+            .keyCount(counterAggregator.getKeyCount())
+            .flushCount(counterAggregator.getFlushCount())
+            .flushedKeyCount(counterAggregator.getFlushedKeyCount())
+            .failedCount(counterAggregator.getFailedCount())
+            .directCount(counterAggregator.getDirectCount())
+            .build())
+        .lease(CacheDto.LeaseStats.builder()
+            .acquiredCount(rebuildLease.getAcquiredCount())
+            .waitedCount(rebuildLease.getWaitedCount())
+            .timeoutCount(rebuildLease.getTimeoutCount())
+            .build())
+        .version(CacheDto.VersionStats.builder()
+            .writtenCount(cacheVersionFence.getWrittenCount())
+            .rejectedCount(cacheVersionFence.getRejectedCount())
+            .fencedCount(cacheVersionFence.getFencedCount())
+            .build())
+        .hash(CacheDto.HashStats.builder()
+            .updatedCount(hashCacheStore.getUpdatedCount())
+            .missedCount(hashCacheStore.getMissedCount())
+            .evictedCount(hashCacheStore.getEvictedCount())
+            .build())
+        .index(CacheDto.IndexStats.builder()
+            .addedCount(sortedSetIndexStore.getAddedCount())
+            .removedCount(sortedSetIndexStore.getRemovedCount())
+            .missedCount(sortedSetIndexStore.getMissedCount())
+            .build())
+        .offHeap(CacheDto.OffHeapStats.builder()
+            .entryCount(offHeapCache.getEntryCount())
+            .usedBytes(offHeapCache.getUsedBytes())
+            .allocatedBytes(offHeapCache.getAllocatedBytes())
+            .capacityBytes(offHeapCache.getCapacityBytes())
+            .hitCount(offHeapCache.getHitCount())
+            .missCount(offHeapCache.getMissCount())
+            .evictionCount(offHeapCache.getEvictionCount())
+            .rejectedCount(offHeapCache.getRejectedCount())
+            .build())
+        .build();
+  }
+
+  /**
+   * Hot Key 목록 조회
+   *
+   * @return 추정 조회 수가 높은 순서의 Hot Key 목록
+   */
+  public List<CacheDto.HotKeyResponse> getHotKeys() {
+    return hotKeyCache.getHotKeys().stream()
+        .map(hotKey -> CacheDto.HotKeyResponse.builder()
+            .key(hotKey.key())
+            .estimatedCount(hotKey.estimatedCount())
+            .replicated(hotKey.replicated())
+            .build())
+        .toList();
+  }
+
+  /**
+   * 패턴과 일치하는 키를 모든 마스터 노드에서 SCAN하여 네임스페이스 별로 집계
+   *
+   * @param pattern SCAN MATCH 패턴 ({@code BP:}로 시작)
+   * @return 키 수가 많은 순서의 네임스페이스 별 키 수, 메모리 사용량, TTL 분포
+   */
+  public List<CacheDto.KeyspaceResponse> getKeyspace(String pattern) {
+    CacheKeyScanner.validatePattern(pattern, false);
+    return cacheKeyScanner.scan(pattern).stream()
+        .map(prefixStats -> CacheDto.KeyspaceResponse.builder()
+            .prefix(prefixStats.prefix())
+            .keyCount(prefixStats.keyCount())
+            .sampledCount(prefixStats.sampledCount())
+            .sampledBytes(prefixStats.sampledBytes())
+            .estimatedBytes(prefixStats.estimatedBytes())
+            .ttlDistribution(prefixStats.ttlDistribution())
+            .build())
+        .toList();
+  }
+
+  /**
+   * 패턴과 일치하는 키를 초당 삭제 키 수를 제한하여 삭제
+   *
+   * @param pattern SCAN MATCH 패턴 ({@code BP:todo:*}처럼 네임스페이스를 포함)
+   * @param dryRun  true이면 삭제하지 않고 일치하는 키 수만 확인
+   * @return 삭제 결과
+   */
+  public CacheDto.EvictResponse evictKeys(String pattern, boolean dryRun) {
+    CacheKeyScanner.validatePattern(pattern, true);
+    CacheKeyScanner.EvictResult evictResult = cacheKeyScanner.evict(pattern, dryRun);
+    return CacheDto.EvictResponse.builder()
+        .pattern(pattern)
+        .dryRun(dryRun)
+        .matchedCount(evictResult.matchedCount())
+        .evictedCount(evictResult.evictedCount())
+        .skippedCount(evictResult.skippedCount())
+        .failedCount(evictResult.failedCount())
+        .truncated(evictResult.truncated())
+        .elapsedMillis(evictResult.elapsedMillis())
+        .build();
+  }
+}
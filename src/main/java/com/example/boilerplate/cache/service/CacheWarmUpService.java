@@ -0,0 +1,272 @@
+package com.example.boilerplate.cache.service;
+
+import com.example.boilerplate.common.cache.CacheOptions;
+import com.example.boilerplate.common.cache.CacheSpecResolver;
+import com.example.boilerplate.common.cache.HotKeyCache;
+import com.example.boilerplate.common.cache.HotKeyCache.HotKey;
+import com.example.boilerplate.common.component.RedisComponent;
+import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.domain.repository.MemberRepository;
+import com.example.boilerplate.domain.repository.TodoRepository;
+import com.example.boilerplate.member.dto.MemberDto;
+import com.example.boilerplate.member.service.MemberService;
+import com.example.boilerplate.todo.dto.TodoDto;
+import com.example.boilerplate.todo.service.TodoService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 애플리케이션 시작 시 자주 조회되는 할 일과 회원을 미리 캐싱하는 서비스
+ *
+ * <p>{@link ApplicationRunner}로 실행되므로 워밍업이 끝나거나 제한 시간이 지난 후에 readiness 상태가
+ * ACCEPTING_TRAFFIC으로 전환되며, 최근에 등록된 아이디와 이전 인스턴스가 종료 시 저장한 Hot Key 목록을 대상으로 함</p>
+ *
+ * <p>대상 아이디를 배치 크기로 나누어 여러 스레드에서 {@link RedisComponent#getCachesOrDefault}로 조회하므로,
+ * 이미 캐시된 키는 DB를 조회하지 않고 캐시에 없는 아이디만 IN 조건으로 조회한 후 파이프라인으로 저장</p>
+ */
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.CouplingBetweenObjects"})
+@Slf4j
+@Service
+public class CacheWarmUpService implements ApplicationRunner {
+
+  private static final TypeReference<TodoDto.Response> TODO_TYPE = new TypeReference<>() {
+  };
+  private static final TypeReference<MemberDto.Response> MEMBER_TYPE = new TypeReference<>() {
+  };
+  private static final Duration WARM_UP_KEY_TTL = Duration.ofDays(1);
+
+  private final RedisComponent redisComponent;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final HotKeyCache hotKeyCache;
+  private final CacheSpecResolver cacheSpecResolver;
+  private final TodoService todoService;
+  private final MemberService memberService;
+  private final TodoRepository todoRepository;
+  private final MemberRepository memberRepository;
+  private final boolean enabled;
+  private final int recentCount;
+  private final int hotKeyCount;
+  private final int batchSize;
+  private final int concurrency;
+  private final Duration timeout;
+
+  /**
+   * 캐시 워밍업 설정을 받아 생성
+   *
+   * @param redisComponent      Redis 컴포넌트
+   * @param stringRedisTemplate 문자열을 저장하기 위한 RedisTemplate
+   * @param hotKeyCache         Hot Key 로컬 복제본
+   * @param cacheSpecResolver   단건 캐시 정책을 생성하는 컴포넌트
+   * @param todoService         할 일 서비스
+   * @param memberService       회원 서비스
+   * @param todoRepository      할 일 Repository
+   * @param memberRepository    회원 Repository
+   * @param enabled             캐시 워밍업 사용 여부
+   * @param recentCount         도메인 별로 워밍업할 최근 아이디 수
+   * @param hotKeyCount         워밍업할 저장된 Hot Key 수
+   * @param batchSize           한 번에 조회 및 저장하는 아이디 수
+   * @param concurrency         동시에 실행하는 배치 수
+   * @param timeout             워밍업 제한 시간, 지나면 남은 배치를 취소하고 시작
+   */
+  @SuppressWarnings("PMD.ExcessiveParameterList")
+  public CacheWarmUpService(
+      RedisComponent redisComponent,
+      StringRedisTemplate stringRedisTemplate,
+      HotKeyCache hotKeyCache,
+      CacheSpecResolver cacheSpecResolver,
+      TodoService todoService,
+      MemberService memberService,
+      TodoRepository todoRepository,
+      MemberRepository memberRepository,
+      @Value("${redis.cache.warm-up.enabled:true}") boolean enabled,
+      @Value("${redis.cache.warm-up.recent-count:1000}") int recentCount,
+      @Value("${redis.cache.warm-up.hot-key-count:1000}") int hotKeyCount,
+      @Value("${redis.cache.warm-up.batch-size:100}") int batchSize,
+      @Value("${redis.cache.warm-up.concurrency:4}") int concurrency,
+      @Value("${redis.cache.warm-up.timeout:30s}") Duration timeout) {
+    this.redisComponent = redisComponent;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.hotKeyCache = hotKeyCache;
+    this.cacheSpecResolver = cacheSpecResolver;
+    this.todoService = todoService;
+    this.memberService = memberService;
+    this.todoRepository = todoRepository;
+    this.memberRepository = memberRepository;
+    this.enabled = enabled;
+    this.recentCount = recentCount;
+    this.hotKeyCount = hotKeyCount;
+    this.batchSize = Math.max(1, batchSize);
+    this.concurrency = Math.max(1, concurrency);
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      warmUp();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("cache warm-up interrupted");
+    } catch (Exception e) {
+      log.error("cache warm-up failed", e);
+    }
+  }
+
+  /**
+   * 최근 아이디와 저장된 Hot Key를 배치로 나누어 제한 시간 안에서 동시에 캐싱
+   *
+   * @return 캐싱된 키 수
+   * @throws InterruptedException 워밍업 대기 중 인터럽트가 발생한 경우
+   */
+  public int warmUp() throws InterruptedException {
+    long startedAt = System.nanoTime();
+    Map<String, List<Long>> savedIds = toIds(getSavedHotKeys());
+
+    Set<Long> todoIds = new LinkedHashSet<>(
+        savedIds.getOrDefault(Constants.TODO_CACHE_PREFIX, List.of()));
+    todoIds.addAll(todoRepository.findRecentIds(PageRequest.of(0, recentCount)));
+    Set<Long> memberIds = new LinkedHashSet<>(
+        savedIds.getOrDefault(Constants.MEMBER_CACHE_PREFIX, List.of()));
+    memberIds.addAll(memberRepository.findRecentIds(PageRequest.of(0, recentCount)));
+
+    List<Callable<Integer>> batches = new ArrayList<>();
+    addBatches(batches, todoIds, id -> Constants.TODO_CACHE_PREFIX + id, TODO_TYPE,
+        todoService::getTodoMap,
+        cacheSpecResolver.resolve(TodoService.class, Constants.TODO_CACHE_NAME));
+    addBatches(batches, memberIds, id -> Constants.MEMBER_CACHE_PREFIX + id, MEMBER_TYPE,
+        memberService::getMemberMap,
+        cacheSpecResolver.resolve(MemberService.class, Constants.MEMBER_CACHE_NAME));
+
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+        new CustomizableThreadFactory("cache-warm-up-"));
+    int warmedCount = 0;
+    int skippedCount = 0;
+    try {
+      for (Future<Integer> future : executor.invokeAll(batches, timeout.toMillis(),
+          TimeUnit.MILLISECONDS)) {
+        try {
+          warmedCount += future.get();
+        } catch (CancellationException | ExecutionException e) {
+          skippedCount++;
+          log.warn("cache warm-up batch skipped. Error: {}", e.getMessage());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    log.info("cache warm-up finished. keys: {}, batches: {}, skipped: {}, elapsed: {}ms",
+        warmedCount, batches.size(), skippedCount,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    return warmedCount;
+  }
+
+  /**
+   * 종료 시 현재 Hot Key 목록을 저장하여 다음에 시작하는 인스턴스가 워밍업에 사용
+   */
+  @PreDestroy
+  public void saveHotKeys() {
+    List<HotKey> hotKeys = hotKeyCache.getHotKeys();
+    if (!enabled || hotKeys.isEmpty()) {
+      return;
+    }
+    Set<TypedTuple<String>> tuples = hotKeys.stream()
+        .<TypedTuple<String>>map(hotKey -> new DefaultTypedTuple<>(hotKey.key(),
+            (double) hotKey.estimatedCount()))
+        .collect(Collectors.toSet());
+    try {
+      stringRedisTemplate.opsForZSet().add(Constants.CACHE_WARM_UP_KEY, tuples);
+      stringRedisTemplate.expire(Constants.CACHE_WARM_UP_KEY, WARM_UP_KEY_TTL);
+    } catch (Exception e) {
+      log.warn("saveHotKeys failed. Error: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 저장된 Hot Key를 추정 조회 수가 높은 순서로 조회
+   *
+   * @return Hot Key 목록, 없거나 오류가 발생하면 빈 목록
+   */
+  private Collection<String> getSavedHotKeys() {
+    try {
+      Set<String> keys = stringRedisTemplate.opsForZSet()
+          .reverseRange(Constants.CACHE_WARM_UP_KEY, 0, hotKeyCount - 1L);
+      return keys == null ? List.of() : keys;
+    } catch (Exception e) {
+      log.warn("getSavedHotKeys failed. Error: {}", e.getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * 아이디 목록을 배치 크기로 나누어 캐싱 작업을 추가
+   *
+   * @param batches       캐싱 작업 목록
+   * @param ids           캐싱할 아이디 목록
+   * @param keyMapper     아이디를 Redis 캐시 키로 변환하는 함수
+   * @param typeReference 캐시 값의 타입 정보를 포함한 {@code TypeReference}
+   * @param dbCallback    아이디 목록을 DB에서 한 번에 조회하는 콜백
+   * @param cacheOptions  캐시 정책
+   * @param <T>           캐시 값의 타입
+   */
+  private <T> void addBatches(
+      List<Callable<Integer>> batches,
+      Collection<Long> ids,
+      Function<Long, String> keyMapper,
+      TypeReference<T> typeReference,
+      Function<Collection<Long>, Map<Long, T>> dbCallback,
+      CacheOptions cacheOptions) {
+    List<Long> idList = new ArrayList<>(ids);
+    for (int from = 0; from < idList.size(); from += batchSize) {
+      List<Long> batch = idList.subList(from, Math.min(from + batchSize, idList.size()));
+      batches.add(() -> redisComponent.getCachesOrDefault(batch, keyMapper, typeReference,
+          dbCallback, cacheOptions).size());
+    }
+  }
+
+  /**
+   * 캐시 키를 키 Prefix 별 아이디 목록으로 변환
+   *
+   * @param keys 캐시 키 목록
+   * @return 키 Prefix와 아이디 목록의 Map, 단건 캐시 키가 아니면 제외
+   */
+  static Map<String, List<Long>> toIds(Collection<String> keys) {
+    return keys.stream()
+        .filter(key -> key.startsWith(Constants.TODO_CACHE_PREFIX)
+            || key.startsWith(Constants.MEMBER_CACHE_PREFIX))
+        .filter(key -> key.substring(key.lastIndexOf(':') + 1).chars()
+            .allMatch(Character::isDigit))
+        .filter(key -> !key.endsWith(":"))
+        .collect(Collectors.groupingBy(key -> key.substring(0, key.lastIndexOf(':') + 1),
+            Collectors.mapping(key -> Long.valueOf(key.substring(key.lastIndexOf(':') + 1)),
+                Collectors.toList())));
+  }
+}
@@ -0,0 +1,186 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import com.example.boilerplate.common.constants.Constants;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link BpCacheable}, {@link BpCacheEvict}, {@link BpCachePut}이 선언된 메서드에 캐시를 적용하는 Aspect
+ *
+ * <p>캐시 적중 시 트랜잭션을 시작하지 않도록 트랜잭션 Advisor보다 먼저(바깥에서) 실행</p>
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Component
+public class BpCacheAspect {
+
+  private static final String RESULT_VARIABLE = "result";
+
+  private final RedisComponent redisComponent;
+  private final CacheInvalidator cacheInvalidator;
+  private final CacheSpecResolver cacheSpecResolver;
+
+  private final ExpressionParser expressionParser = new SpelExpressionParser();
+  private final ParameterNameDiscoverer parameterNameDiscoverer =
+      new DefaultParameterNameDiscoverer();
+  private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+  private final Map<Method, CacheableOperation> cacheableOperations = new ConcurrentHashMap<>();
+
+  /**
+   * 캐시에서 반환 값을 조회하고, 없으면 메서드를 실행한 결과를 캐싱
+   *
+   * @param joinPoint   대상 메서드
+   * @param bpCacheable 캐시 설정
+   * @return 캐시 데이터 또는 메서드 실행 결과
+   */
+  @Around("@annotation(bpCacheable)")
+  public Object cacheable(ProceedingJoinPoint joinPoint, BpCacheable bpCacheable) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    CacheableOperation cacheableOperation = cacheableOperations.computeIfAbsent(method,
+        key -> new CacheableOperation(typeReference(key.getGenericReturnType()),
+            cacheSpecResolver.resolve(bpCacheable)));
+    String cacheKey = cacheKey(bpCacheable.cacheName(),
+        evaluate(bpCacheable.key(), joinPoint, method, null));
+    return redisComponent.getCacheOrDefault(cacheKey, cacheableOperation.typeReference(),
+        () -> proceed(joinPoint), cacheableOperation.cacheOptions());
+  }
+
+  /**
+   * 메서드가 정상적으로 반환되면 캐시(설정 시 응답 캐시 포함)와 목록 캐시의 세대 번호를 무효화
+   *
+   * @param joinPoint    대상 메서드
+   * @param bpCacheEvict 캐시 무효화 설정
+   * @param result       메서드 실행 결과
+   */
+  @AfterReturning(pointcut = "@annotation(bpCacheEvict)", returning = "result")
+  public void cacheEvict(JoinPoint joinPoint, BpCacheEvict bpCacheEvict, Object result) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    Object key = evaluate(bpCacheEvict.key(), joinPoint, method, result);
+    if (bpCacheEvict.response()) {
+      cacheInvalidator.evict(cacheKey(bpCacheEvict.cacheName(), key),
+          ResponseCache.responseKey(bpCacheEvict.cacheName(), key));
+    } else {
+      cacheInvalidator.evict(cacheKey(bpCacheEvict.cacheName(), key));
+    }
+    if (bpCacheEvict.generations().length > 0) {
+      cacheInvalidator.evictGeneration(bpCacheEvict.generations());
+    }
+  }
+
+  /**
+   * 메서드가 정상적으로 반환되면 Hash 캐시의 필드를 덮어쓰고, 응답 캐시(설정 시)와 목록 캐시의 세대 번호를 무효화
+   *
+   * @param joinPoint  대상 메서드
+   * @param bpCachePut 캐시 덮어쓰기 설정
+   * @param result     메서드 실행 결과
+   */
+  @AfterReturning(pointcut = "@annotation(bpCachePut)", returning = "result")
+  public void cachePut(JoinPoint joinPoint, BpCachePut bpCachePut, Object result) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    Object key = evaluate(bpCachePut.key(), joinPoint, method, result);
+    cacheInvalidator.update(cacheKey(bpCachePut.cacheName(), key),
+        evaluate(bpCachePut.fields(), joinPoint, method, result));
+    if (bpCachePut.response()) {
+      cacheInvalidator.evict(ResponseCache.responseKey(bpCachePut.cacheName(), key));
+    }
+    if (bpCachePut.generations().length > 0) {
+      cacheInvalidator.evictGeneration(bpCachePut.generations());
+    }
+  }
+
+  /**
+   * 캐시 이름과 키로 Redis 캐시 키를 생성
+   *
+   * @param cacheName 캐시 이름
+   * @param key       SpEL 표현식으로 만든 키
+   * @return Redis 캐시 키
+   */
+  static String cacheKey(String cacheName, Object key) {
+    return Constants.BP_CACHE_PREFIX + cacheName + ":" + key;
+  }
+
+  /**
+   * 메서드 파라미터(및 반환 값)를 변수로 사용하여 키 또는 필드 표현식을 평가
+   *
+   * @param expression SpEL 표현식
+   * @param joinPoint  대상 메서드
+   * @param method     대상 메서드
+   * @param result     메서드 실행 결과, 실행 전이면 null
+   * @return 평가된 값
+   */
+  private Object evaluate(String expression, JoinPoint joinPoint, Method method,
+      Object result) {
+    MethodBasedEvaluationContext evaluationContext = new MethodBasedEvaluationContext(
+        joinPoint.getTarget(), method, joinPoint.getArgs(), parameterNameDiscoverer);
+    evaluationContext.setVariable(RESULT_VARIABLE, result);
+    return expressions.computeIfAbsent(expression, expressionParser::parseExpression)
+        .getValue(evaluationContext);
+  }
+
+  /**
+   * 메서드의 반환 타입으로 {@code TypeReference}를 생성
+   *
+   * @param type 메서드의 반환 타입
+   * @return 반환 타입 정보를 포함한 {@code TypeReference}
+   */
+  private static TypeReference<Object> typeReference(Type type) {
+    return new TypeReference<>() {
+      @Override
+      public Type getType() {
+        return type;
+      }
+    };
+  }
+
+  /**
+   * 대상 메서드를 실행하고, 검사 예외는 {@link UndeclaredThrowableException}으로 감싸서 전달
+   *
+   * @param joinPoint 대상 메서드
+   * @return 메서드 실행 결과
+   */
+  @SuppressWarnings("PMD.AvoidCatchingThrowable")
+  private static Object proceed(ProceedingJoinPoint joinPoint) {
+    try {
+      return joinPoint.proceed();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  /**
+   * 메서드 별 반환 타입 정보와 캐시 정책
+   *
+   * @param typeReference 반환 타입 정보
+   * @param cacheOptions  캐시 정책
+   */
+  private record CacheableOperation(TypeReference<Object> typeReference,
+                                    CacheOptions cacheOptions) {
+
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.boilerplate.common.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드가 정상적으로 반환되면 {@link CacheInvalidator}로 캐시를 무효화
+ *
+ * <p>트랜잭션 안에서 호출되면 커밋 이후에 무효화되며, 키 표현식에서 {@code #result}로 반환 값을 참조 가능</p>
+ *
+ * <pre>{@code
+ * @BpCacheEvict(cacheName = "todo", key = "#result.id",
+ *     generations = Constants.TODO_LIST_GENERATION_KEY)
+ * public TodoDto.Response updateTodo(TodoDto.UpdateRequest updateTodoRequest) { ... }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BpCacheEvict {
+
+  /**
+   * 무효화할 캐시 이름
+   */
+  String cacheName();
+
+  /**
+   * 무효화할 캐시 키를 만드는 SpEL 표현식
+   */
+  String key();
+
+  /**
+   * 함께 세대 번호를 증가시킬 목록 캐시의 세대 번호 키
+   */
+  String[] generations() default {};
+
+  /**
+   * 같은 캐시 이름과 키로 저장된 HTTP 응답 캐시({@link ResponseCache})도 함께 무효화할지 여부
+   */
+  boolean response() default false;
+}
@@ -0,0 +1,51 @@
+package com.example.boilerplate.common.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드가 정상적으로 반환되면 Hash로 저장된 캐시({@code @BpCacheable(hash = true)})의 바뀐 필드만 덮어씀
+ * (write-through)
+ *
+ * <p>캐시를 삭제하지 않으므로 다음 조회에서 DB를 다시 조회하지 않으며, 트랜잭션 안에서 호출되면 커밋 이후에 덮어씀.
+ * 덮어쓰기에 실패하면 {@link CacheInvalidator}로 캐시를 무효화</p>
+ *
+ * <pre>{@code
+ * @BpCachePut(cacheName = "todo", key = "#dynamicRequest.id",
+ *     fields = "{completed: #dynamicRequest.completed}")
+ * public void updateTodoCompleted(TodoDto.DynamicRequest dynamicRequest) { ... }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BpCachePut {
+
+  /**
+   * 덮어쓸 캐시 이름
+   */
+  String cacheName();
+
+  /**
+   * 덮어쓸 캐시 키를 만드는 SpEL 표현식
+   */
+  String key();
+
+  /**
+   * 덮어쓸 필드를 만드는 SpEL 표현식, 필드 이름과 값의 Map(예: {@code {completed: #completed}}) 또는 객체(모든 속성)
+   */
+  String fields() default "#result";
+
+  /**
+   * 함께 세대 번호를 증가시킬 목록 캐시의 세대 번호 키
+   */
+  String[] generations() default {};
+
+  /**
+   * 같은 캐시 이름과 키로 저장된 HTTP 응답 캐시({@link ResponseCache})를 무효화할지 여부
+   */
+  boolean response() default false;
+}
@@ -0,0 +1,70 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.type.ApiStatus;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드의 반환 값을 {@code RedisComponent.getCacheOrDefault}로 캐싱
+ *
+ * <p>캐시 키는 {@code Constants.BP_CACHE_PREFIX + cacheName + ":" + key}로 구성되며, 캐시 정책은
+ * {@code redis.cache.specs.<cacheName>.*} 설정이 있으면 애너테이션 값보다 우선 적용</p>
+ *
+ * <pre>{@code
+ * @BpCacheable(cacheName = "todo", key = "#id", ttl = "10m", refreshAhead = true)
+ * public TodoDto.Response getTodo(Long id) { ... }
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BpCacheable {
+
+  /**
+   * 캐시 이름, 캐시 키의 접두사 및 설정 키로 사용 ({@code redis.cache.specs.<cacheName>.*})
+   */
+  String cacheName();
+
+  /**
+   * 캐시 키를 만드는 SpEL 표현식 (예: {@code #id}, {@code #request.id})
+   */
+  String key();
+
+  /**
+   * 캐시 만료 시간 (예: {@code 10m}, {@code 30s}), 설정 키: {@code ttl}
+   */
+  String ttl() default "10m";
+
+  /**
+   * 만료 전 확률적 갱신 및 만료 후 이전 값 제공 사용 여부, 설정 키: {@code refresh-ahead}
+   */
+  boolean refreshAhead() default false;
+
+  /**
+   * 여러 노드 중 Redis Lease를 획득한 노드만 DB를 조회할지 여부, 설정 키: {@code rebuild-lease}
+   */
+  boolean rebuildLease() default false;
+
+  /**
+   * 값을 속성마다 하나의 필드를 가진 Redis Hash로 저장할지 여부, 설정 키: {@code hash}
+   */
+  boolean hash() default false;
+
+  /**
+   * 존재하지 않는 데이터(404)를 캐싱하는 시간, 빈 값이면 캐싱하지 않음, 설정 키: {@code negative-ttl}
+   */
+  String negativeTtl() default "";
+
+  /**
+   * 존재하지 않는 데이터의 Tombstone에 저장할 Api 상태
+   */
+  ApiStatus notFoundStatus() default ApiStatus.NOT_FOUND;
+
+  /**
+   * 저장 시 사용할 직렬화 형식 ({@code json}, {@code smile}), 빈 값이면 기본 형식, 설정 키: {@code codec}
+   */
+  String codec() default "";
+}
@@ -0,0 +1,64 @@
+package com.example.boilerplate.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 값과 함께 논리적 만료 시각과 재계산 소요 시간을 저장하는 캐시 엔트리
+ *
+ * <p>XFetch(Optimal Probabilistic Cache Stampede Prevention) 알고리즘으로 만료 전에 확률적으로
+ * 갱신 여부를 판단</p>
+ *
+ * @param <T> 저장하는 값의 타입
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@ToString
+public class CacheEntry<T> {
+
+  private T value;
+
+  /**
+   * 논리적 만료 시각 (epoch millis)
+   */
+  private long expireAt;
+
+  /**
+   * 값을 재계산하는 데 걸린 시간 (millis)
+   */
+  private long delta;
+
+  /**
+   * 논리적 만료 시각이 지났는지 여부
+   *
+   * @param now 현재 시각 (epoch millis)
+   * @return 만료되었으면 true
+   */
+  @JsonIgnore
+  public boolean isExpired(long now) {
+    return now >= expireAt;
+  }
+
+  /**
+   * XFetch 알고리즘에 따라 지금 값을 갱신해야 하는지 판단
+   *
+   * <p>{@code now - delta * beta * ln(random) >= expireAt} 이면 갱신하며, 만료 시각에 가까울수록
+   * 그리고 재계산 시간이 길수록 갱신 확률이 높아짐</p>
+   *
+   * @param now  현재 시각 (epoch millis)
+   * @param beta 갱신 민감도
+   * @return 갱신해야 하면 true
+   */
+  public boolean shouldRefresh(long now, double beta) {
+    if (isExpired(now)) {
+      return true;
+    }
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    return now - delta * beta * Math.log(random) >= expireAt;
+  }
+}
@@ -0,0 +1,36 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.constants.Constants;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 발행한 캐시 무효화 메시지를 수신하여 로컬 캐시와 Hot Key 복제본에서 제거
+ *
+ * <p>수신한 키는 복제본에 아직 반영되지 않았을 수 있으므로 {@link RedisReadRouter}에 기록하여 잠시 마스터에서 조회</p>
+ */
+@RequiredArgsConstructor
+@Component
+public class CacheInvalidationListener implements MessageListener {
+
+  private final LocalCache localCache;
+  private final RedisReadRouter redisReadRouter;
+
+  /**
+   * 무효화 메시지의 본문(구분자로 연결된 캐시 키 목록)에 해당하는 로컬 캐시를 제거
+   *
+   * @param message 수신한 메시지
+   * @param pattern 구독 패턴
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    for (String key : body.split(Constants.CACHE_INVALIDATION_DELIMITER)) {
+      localCache.evict(key);
+      redisReadRouter.markWritten(key);
+    }
+  }
+}
@@ -0,0 +1,421 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 캐시를 비동기로 무효화하는 컴포넌트
+ *
+ * <p>트랜잭션 안에서 요청된 무효화는 커밋된 후에만 실행되고 롤백 시 버려지며, 대기 중인 키는 중복 없이 합쳐져
+ * 백그라운드에서 배치 단위의 파이프라인 UNLINK로 전송. 대기 중인 키가 최대 개수를 넘으면 호출한 스레드에서
+ * 직접 무효화</p>
+ *
+ * <p>전송에 실패한 키는 지연 시간을 두 배씩 늘리며 다시 대기 목록에 추가하고, 최대 재시도 횟수를 넘으면 오류 로그와
+ * 지표를 남기고 포기</p>
+ */
+@Slf4j
+@SuppressWarnings("PMD.GodClass")
+@Component
+public class CacheInvalidator {
+
+  private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+  private final RedisComponent redisComponent;
+  private final LocalCache localCache;
+  private final CacheMetrics cacheMetrics;
+  private final TaskExecutor cacheInvalidationExecutor;
+  private final TaskScheduler cacheInvalidationRetryScheduler;
+  private final int batchSize;
+  private final int maxPending;
+  private final int maxRetries;
+  private final Duration retryBackoff;
+
+  private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+  private final Set<String> pendingGenerations = ConcurrentHashMap.newKeySet();
+  private final Map<String, Integer> keyAttempts = new ConcurrentHashMap<>();
+  private final Map<String, Integer> generationAttempts = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  private final LongAdder requestedCount = new LongAdder();
+  private final LongAdder coalescedCount = new LongAdder();
+  private final LongAdder invalidatedCount = new LongAdder();
+  private final LongAdder batchCount = new LongAdder();
+  private final LongAdder inlineCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder retriedCount = new LongAdder();
+  private final LongAdder droppedCount = new LongAdder();
+
+  /**
+   * 캐시 무효화 설정을 받아 생성
+   *
+   * @param redisComponent                  Redis 컴포넌트
+   * @param localCache                      로컬 캐시 및 Hot Key 로컬 복제본
+   * @param cacheMetrics                    무효화를 포기한 키를 기록할 캐시 지표
+   * @param cacheInvalidationExecutor       무효화를 실행하는 TaskExecutor
+   * @param cacheInvalidationRetryScheduler 실패한 무효화의 재시도를 예약하는 TaskScheduler
+   * @param batchSize                       한 번의 파이프라인으로 전송하는 최대 키 수
+   * @param maxPending                      대기할 수 있는 최대 키 수
+   * @param maxRetries                      전송에 실패한 키의 최대 재시도 횟수
+   * @param retryBackoff                    첫 재시도까지의 지연 시간 (재시도마다 두 배)
+   */
+  public CacheInvalidator(
+      RedisComponent redisComponent,
+      LocalCache localCache,
+      CacheMetrics cacheMetrics,
+      @Qualifier("cacheInvalidationExecutor") TaskExecutor cacheInvalidationExecutor,
+      @Qualifier("cacheInvalidationRetryScheduler") TaskScheduler cacheInvalidationRetryScheduler,
+      @Value("${redis.cache.invalidation.batch-size:100}") int batchSize,
+      @Value("${redis.cache.invalidation.max-pending:10000}") int maxPending,
+      @Value("${redis.cache.invalidation.max-retries:5}") int maxRetries,
+      @Value("${redis.cache.invalidation.retry-backoff:100ms}") Duration retryBackoff) {
+    this.redisComponent = redisComponent;
+    this.localCache = localCache;
+    this.cacheMetrics = cacheMetrics;
+    this.cacheInvalidationExecutor = cacheInvalidationExecutor;
+    this.cacheInvalidationRetryScheduler = cacheInvalidationRetryScheduler;
+    this.batchSize = batchSize;
+    this.maxPending = maxPending;
+    this.maxRetries = maxRetries;
+    this.retryBackoff = retryBackoff;
+  }
+
+  /**
+   * 캐시 키를 무효화하며, 트랜잭션 안에서 호출되면 커밋 이후에 무효화
+   *
+   * <p>현재 노드의 로컬 캐시는 즉시 제거하고, Redis와 다른 노드의 로컬 캐시는 백그라운드에서 제거</p>
+   *
+   * @param keys 무효화할 캐시 키
+   */
+  public void evict(String... keys) {
+    List<String> keyList = List.of(keys);
+    afterCommit(() -> {
+      keyList.forEach(localCache::evict);
+      enqueue(keyList, false);
+    });
+  }
+
+  /**
+   * Hash로 저장된 캐시의 필드를 덮어쓰며(write-through), 트랜잭션 안에서 호출되면 커밋 이후에 덮어씀
+   *
+   * <p>덮어쓰기는 호출한 스레드에서 바로 전송하고, 실패하면 캐시 키를 무효화 대기 목록에 추가</p>
+   *
+   * @param cacheKey 덮어쓸 캐시 키
+   * @param fields   속성 이름과 값의 Map 또는 객체 (객체이면 모든 속성)
+   */
+  public void update(String cacheKey, Object fields) {
+    afterCommit(() -> {
+      localCache.evict(cacheKey);
+      if (!redisComponent.updateHashFields(cacheKey, fields)) {
+        enqueue(List.of(cacheKey), false);
+      }
+    });
+  }
+
+  /**
+   * Sorted Set 인덱스에 아이디를 추가하며, 트랜잭션 안에서 호출되면 커밋 이후에 추가
+   *
+   * <p>추가는 호출한 스레드에서 바로 전송하고, 실패하면 인덱스 키를 무효화 대기 목록에 추가</p>
+   *
+   * @param indexKey 인덱스 키
+   * @param id       추가할 아이디
+   */
+  public void addIndexMember(String indexKey, long id) {
+    afterCommit(() -> {
+      if (!redisComponent.addIndexMember(indexKey, id)) {
+        enqueue(List.of(indexKey), false);
+      }
+    });
+  }
+
+  /**
+   * Sorted Set 인덱스에서 아이디를 제거하며, 트랜잭션 안에서 호출되면 커밋 이후에 제거
+   *
+   * <p>제거는 호출한 스레드에서 바로 전송하고, 실패하면 인덱스 키를 무효화 대기 목록에 추가</p>
+   *
+   * @param indexKey 인덱스 키
+   * @param id       제거할 아이디
+   */
+  public void removeIndexMember(String indexKey, long id) {
+    afterCommit(() -> {
+      if (!redisComponent.removeIndexMember(indexKey, id)) {
+        enqueue(List.of(indexKey), false);
+      }
+    });
+  }
+
+  /**
+   * 목록 캐시의 세대 번호를 증가시키며, 트랜잭션 안에서 호출되면 커밋 이후에 증가
+   *
+   * @param generationKeys 증가시킬 세대 번호 키
+   */
+  public void evictGeneration(String... generationKeys) {
+    List<String> keyList = List.of(generationKeys);
+    afterCommit(() -> enqueue(keyList, true));
+  }
+
+  /**
+   * 트랜잭션이 활성화되어 있으면 커밋 이후에, 아니면 즉시 작업을 실행
+   *
+   * @param task 실행할 작업
+   */
+  private void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+
+  /**
+   * 키를 대기 목록에 추가하고 백그라운드 전송을 예약
+   *
+   * @param keys       추가할 키 목록
+   * @param generation 세대 번호 키 여부
+   */
+  private void enqueue(List<String> keys, boolean generation) {
+    requestedCount.add(keys.size());
+    if (pendingKeys.size() + pendingGenerations.size() + keys.size() > maxPending) {
+      inlineCount.add(keys.size());
+      send(new LinkedHashSet<>(keys), generation);
+      return;
+    }
+    Set<String> pending = generation ? pendingGenerations : pendingKeys;
+    for (String key : keys) {
+      if (!pending.add(key)) {
+        coalescedCount.increment();
+      }
+    }
+    scheduleFlush();
+  }
+
+  /**
+   * 전송 작업이 예약되어 있지 않으면 예약하고, 작업 큐가 가득 차면 호출한 스레드에서 전송
+   */
+  private void scheduleFlush() {
+    if (!flushScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      cacheInvalidationExecutor.execute(this::flush);
+    } catch (TaskRejectedException e) {
+      log.warn("cache invalidation flush rejected. flushing on caller thread");
+      flush();
+    }
+  }
+
+  /**
+   * 대기 중인 키를 배치 단위로 꺼내어 전송
+   */
+  private void flush() {
+    try {
+      flushPending(pendingKeys, false);
+      flushPending(pendingGenerations, true);
+    } finally {
+      flushScheduled.set(false);
+    }
+    if (!pendingKeys.isEmpty() || !pendingGenerations.isEmpty()) {
+      scheduleFlush();
+    }
+  }
+
+  private void flushPending(Set<String> pending, boolean generation) {
+    while (!pending.isEmpty()) {
+      Set<String> batch = new LinkedHashSet<>();
+      Iterator<String> iterator = pending.iterator();
+      while (iterator.hasNext() && batch.size() < batchSize) {
+        batch.add(iterator.next());
+        iterator.remove();
+      }
+      send(batch, generation);
+    }
+  }
+
+  /**
+   * 키 목록을 하나의 파이프라인으로 전송하고, 실패하면 재시도를 예약
+   *
+   * @param keys       전송할 키 목록
+   * @param generation 세대 번호 증가 여부 (false이면 UNLINK)
+   */
+  private void send(Set<String> keys, boolean generation) {
+    boolean sent = generation
+        ? redisComponent.incrementGenerations(new ArrayList<>(keys))
+        : redisComponent.unlinkKeys(new ArrayList<>(keys));
+    Map<String, Integer> attempts = generation ? generationAttempts : keyAttempts;
+    if (sent) {
+      invalidatedCount.add(keys.size());
+      batchCount.increment();
+      if (!attempts.isEmpty()) {
+        attempts.keySet().removeAll(keys);
+      }
+      return;
+    }
+    failedCount.add(keys.size());
+    retryLater(keys, generation, attempts);
+  }
+
+  /**
+   * 실패한 키의 시도 횟수를 늘리고, 최대 재시도 횟수 이내의 키는 지연 후 다시 대기 목록에 추가
+   *
+   * <p>대기 목록에 바로 추가하면 같은 전송 작업 안에서 곧바로 다시 실패하므로 지연 시간이 지난 후에 추가하며, 지연
+   * 시간은 키 중 가장 많이 시도한 횟수를 기준으로 계산</p>
+   *
+   * @param keys       전송에 실패한 키 목록
+   * @param generation 세대 번호 키 여부
+   * @param attempts   키 별 시도 횟수
+   */
+  private void retryLater(Set<String> keys, boolean generation, Map<String, Integer> attempts) {
+    List<String> retryKeys = new ArrayList<>();
+    List<String> droppedKeys = new ArrayList<>();
+    int maxAttempt = 0;
+    for (String key : keys) {
+      int attempt = attempts.merge(key, 1, Integer::sum);
+      if (attempt > maxRetries) {
+        attempts.remove(key);
+        droppedKeys.add(key);
+      } else {
+        retryKeys.add(key);
+        maxAttempt = Math.max(maxAttempt, attempt);
+      }
+    }
+    if (!droppedKeys.isEmpty()) {
+      droppedCount.add(droppedKeys.size());
+      droppedKeys.forEach(cacheMetrics::recordInvalidationDropped);
+      log.error("cache invalidation given up after {} retries. generation: {}, keys: {}",
+          maxRetries, generation, droppedKeys);
+    }
+    if (retryKeys.isEmpty()) {
+      return;
+    }
+    retriedCount.add(retryKeys.size());
+    Instant retryAt = Instant.now().plus(backoff(maxAttempt));
+    try {
+      cacheInvalidationRetryScheduler.schedule(() -> requeue(retryKeys, generation), retryAt);
+    } catch (TaskRejectedException e) {
+      log.warn("cache invalidation retry rejected. requeueing without delay");
+      requeue(retryKeys, generation);
+    }
+  }
+
+  /**
+   * 재시도할 키를 대기 목록에 다시 추가하고 전송을 예약
+   *
+   * <p>대기 목록이 가득 차 있어도 추가하며, 이미 대기 중인 키와는 합쳐짐</p>
+   *
+   * @param keys       재시도할 키 목록
+   * @param generation 세대 번호 키 여부
+   */
+  private void requeue(List<String> keys, boolean generation) {
+    (generation ? pendingGenerations : pendingKeys).addAll(keys);
+    scheduleFlush();
+  }
+
+  private Duration backoff(int attempt) {
+    Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+    return delay.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : delay;
+  }
+
+  /**
+   * 무효화가 요청된 키의 수
+   *
+   * @return 요청된 키의 수
+   */
+  public long getRequestedCount() {
+    return requestedCount.sum();
+  }
+
+  /**
+   * 이미 대기 중인 키와 합쳐진 요청의 수
+   *
+   * @return 합쳐진 요청의 수
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.sum();
+  }
+
+  /**
+   * 무효화가 전송된 키의 수
+   *
+   * @return 전송된 키의 수
+   */
+  public long getInvalidatedCount() {
+    return invalidatedCount.sum();
+  }
+
+  /**
+   * 전송된 파이프라인 배치의 수
+   *
+   * @return 배치의 수
+   */
+  public long getBatchCount() {
+    return batchCount.sum();
+  }
+
+  /**
+   * 대기 목록이 가득 차 호출한 스레드에서 직접 무효화한 키의 수
+   *
+   * @return 직접 무효화한 키의 수
+   */
+  public long getInlineCount() {
+    return inlineCount.sum();
+  }
+
+  /**
+   * 전송에 실패한 키의 수 (재시도 포함)
+   *
+   * @return 실패한 키의 수
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /**
+   * 재시도가 예약된 키의 수
+   *
+   * @return 재시도가 예약된 키의 수
+   */
+  public long getRetriedCount() {
+    return retriedCount.sum();
+  }
+
+  /**
+   * 최대 재시도 횟수를 넘어 무효화를 포기한 키의 수
+   *
+   * @return 무효화를 포기한 키의 수
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /**
+   * 현재 대기 중인 키의 수
+   *
+   * @return 대기 중인 키의 수
+   */
+  public int getPendingCount() {
+    return pendingKeys.size() + pendingGenerations.size();
+  }
+}
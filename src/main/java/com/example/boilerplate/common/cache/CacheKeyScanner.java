@@ -0,0 +1,395 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.common.exception.ApiException;
+import com.example.boilerplate.common.type.ApiStatus;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode.NodeFlag;
+import io.lettuce.core.codec.StringCodec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터의 모든 마스터 노드를 SCAN으로 순회하여 {@code BP:} 키를 집계하거나 패턴으로 삭제하는 관리용 컴포넌트
+ *
+ * <p>KEYS 대신 COUNT 단위의 SCAN을 노드 별로 반복하므로 한 번의 명령이 Redis를 오래 점유하지 않으며, 관리 요청마다
+ * 별도의 연결을 열어 캐시 조회 연결과 명령 큐를 공유하지 않음</p>
+ *
+ * <p>삭제는 {@link RedisComponent#unlinkKeys(java.util.Collection)}로 배치 단위로 처리하여 삭제 펜스와 로컬 캐시 무효화를
+ * 그대로 적용하고, 초당 삭제 키 수를 제한하며 동시에 하나만 실행</p>
+ */
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.CouplingBetweenObjects"})
+@Slf4j
+@Component
+public class CacheKeyScanner {
+
+  private static final String PERSISTENT_BUCKET = "persistent";
+  private static final Map<String, Duration> TTL_BUCKETS = Map.of(
+      "<1m", Duration.ofMinutes(1),
+      "<10m", Duration.ofMinutes(10),
+      "<1h", Duration.ofHours(1),
+      "<1d", Duration.ofDays(1));
+  private static final String LONGEST_BUCKET = ">=1d";
+
+  private final LettuceConnectionFactory lettuceConnectionFactory;
+  private final RedisComponent redisComponent;
+  private final int scanCount;
+  private final int sampleSize;
+  private final int evictBatchSize;
+  private final int evictRate;
+  private final long maxEvictKeys;
+  private final Duration commandTimeout;
+
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  /**
+   * SCAN 및 삭제 설정을 받아 생성
+   *
+   * @param lettuceConnectionFactory Lettuce를 통한 Redis 연결 팩토리
+   * @param redisComponent           키 삭제에 사용할 Redis 컴포넌트
+   * @param scanCount                SCAN 한 번에 확인할 키 수(COUNT)
+   * @param sampleSize               접두사 별로 메모리 사용량과 TTL을 확인할 최대 키 수
+   * @param evictBatchSize           한 번에 삭제할 키 수
+   * @param evictRate                초당 삭제할 최대 키 수
+   * @param maxEvictKeys             한 번의 요청으로 삭제할 최대 키 수
+   * @param commandTimeout           명령 응답 대기 시간
+   */
+  public CacheKeyScanner(
+      LettuceConnectionFactory lettuceConnectionFactory,
+      RedisComponent redisComponent,
+      @Value("${redis.cache.admin.scan-count:1000}") int scanCount,
+      @Value("${redis.cache.admin.sample-size:100}") int sampleSize,
+      @Value("${redis.cache.admin.evict-batch-size:100}") int evictBatchSize,
+      @Value("${redis.cache.admin.evict-rate:1000}") int evictRate,
+      @Value("${redis.cache.admin.max-evict-keys:100000}") long maxEvictKeys,
+      @Value("${redis.command-timeout:1s}") Duration commandTimeout) {
+    this.lettuceConnectionFactory = lettuceConnectionFactory;
+    this.redisComponent = redisComponent;
+    this.scanCount = scanCount;
+    this.sampleSize = sampleSize;
+    this.evictBatchSize = evictBatchSize;
+    this.evictRate = evictRate;
+    this.maxEvictKeys = maxEvictKeys;
+    this.commandTimeout = commandTimeout;
+  }
+
+  /**
+   * SCAN에 사용할 패턴을 검증
+   *
+   * <p>패턴은 {@code BP:}로 시작해야 하며, 삭제에 사용할 패턴은 {@code BP:todo:*}처럼 와일드카드가 없는 네임스페이스를
+   * 포함해야 함</p>
+   *
+   * @param pattern          SCAN MATCH 패턴
+   * @param requireNamespace 네임스페이스가 필요한지 여부
+   * @throws ApiException 패턴이 올바르지 않은 경우
+   */
+  public static void validatePattern(String pattern, boolean requireNamespace) {
+    if (pattern == null || !pattern.startsWith(Constants.BP_CACHE_PREFIX)) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, ApiStatus.INVALID_REQUEST,
+          "pattern must start with " + Constants.BP_CACHE_PREFIX);
+    }
+    String namespace = CacheMetrics.namespace(pattern);
+    if (requireNamespace && (CacheMetrics.OTHER_NAMESPACE.equals(namespace)
+        || namespace.chars().anyMatch(c -> c == '*' || c == '?' || c == '['))) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, ApiStatus.INVALID_REQUEST,
+          "pattern must contain a namespace such as " + Constants.TODO_CACHE_PREFIX + "*");
+    }
+  }
+
+  /**
+   * 남은 만료 시간을 구간 이름으로 변환
+   *
+   * @param ttlMillis PTTL 결과(ms), 만료 시간이 없으면 -1
+   * @return TTL 구간 이름
+   */
+  public static String ttlBucket(long ttlMillis) {
+    if (ttlMillis < 0) {
+      return PERSISTENT_BUCKET;
+    }
+    return TTL_BUCKETS.entrySet().stream()
+        .filter(entry -> ttlMillis < entry.getValue().toMillis())
+        .min(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .orElse(LONGEST_BUCKET);
+  }
+
+  /**
+   * 패턴과 일치하는 키를 네임스페이스 별로 집계
+   *
+   * <p>네임스페이스 별로 최대 {@code sample-size}개의 키를 표본으로 MEMORY USAGE와 PTTL을 조회하여 메모리 사용량을
+   * 추정하고 TTL 분포를 계산</p>
+   *
+   * @param pattern SCAN MATCH 패턴
+   * @return 키 수가 많은 순서의 네임스페이스 별 통계
+   */
+  public List<PrefixStats> scan(String pattern) {
+    Map<String, PrefixAccumulator> accumulators = new TreeMap<>();
+    forEachMaster(pattern, (connection, keys) -> {
+      List<String> samples = new ArrayList<>();
+      for (String key : keys) {
+        PrefixAccumulator accumulator = accumulators.computeIfAbsent(
+            CacheMetrics.namespace(key), prefix -> new PrefixAccumulator());
+        accumulator.keyCount++;
+        if (accumulator.sampling++ < sampleSize) {
+          samples.add(key);
+        }
+      }
+      sample(connection.async(), samples, accumulators);
+      return true;
+    });
+    return accumulators.entrySet().stream()
+        .map(entry -> entry.getValue().toStats(entry.getKey()))
+        .sorted(Comparator.comparingLong(PrefixStats::keyCount).reversed())
+        .toList();
+  }
+
+  /**
+   * 패턴과 일치하는 키를 초당 삭제 키 수를 지키며 배치 단위로 삭제
+   *
+   * <p>버전 키({@code BP:version:})는 삭제 펜스이므로 삭제하지 않으며, 삭제에 실패하면 Redis에 부하를 더하지 않도록
+   * 중단</p>
+   *
+   * @param pattern SCAN MATCH 패턴
+   * @param dryRun  true이면 삭제하지 않고 일치하는 키 수만 확인
+   * @return 삭제 결과
+   * @throws ApiException 이미 다른 삭제가 실행 중인 경우
+   */
+  public EvictResult evict(String pattern, boolean dryRun) {
+    if (!evicting.compareAndSet(false, true)) {
+      throw new ApiException(HttpStatus.CONFLICT, ApiStatus.DUPLICATED_REQUEST,
+          "cache eviction is already running");
+    }
+    try {
+      Eviction eviction = new Eviction(dryRun, System.nanoTime());
+      forEachMaster(pattern, (connection, keys) -> eviction.accept(keys));
+      eviction.flush();
+      EvictResult evictResult = eviction.toResult();
+      log.info("evict pattern: {}, dryRun: {}, result: {}", pattern, dryRun, evictResult);
+      return evictResult;
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  @SuppressWarnings("PMD.CloseResource")
+  private void forEachMaster(String pattern,
+      BiPredicate<StatefulRedisConnection<String, String>, List<String>> consumer) {
+    RedisClusterClient redisClusterClient =
+        (RedisClusterClient) lettuceConnectionFactory.getRequiredNativeClient();
+    try (StatefulRedisClusterConnection<String, String> connection =
+        redisClusterClient.connect(StringCodec.UTF8)) {
+      connection.setTimeout(commandTimeout);
+      ScanArgs scanArgs = ScanArgs.Builder.matches(pattern).limit(scanCount);
+      for (RedisClusterNode node : connection.getPartitions()) {
+        if (!node.is(NodeFlag.UPSTREAM) || node.is(NodeFlag.FAIL)) {
+          continue;
+        }
+        // 노드 연결은 클러스터 연결이 관리하며 클러스터 연결을 닫을 때 함께 닫힘
+        StatefulRedisConnection<String, String> nodeConnection =
+            connection.getConnection(node.getNodeId());
+        Predicate<List<String>> nodeConsumer = keys -> consumer.test(nodeConnection, keys);
+        if (!scanNode(nodeConnection.sync(), scanArgs, nodeConsumer)) {
+          return;
+        }
+      }
+    }
+  }
+
+  private static boolean scanNode(RedisCommands<String, String> commands, ScanArgs scanArgs,
+      Predicate<List<String>> consumer) {
+    KeyScanCursor<String> cursor = commands.scan(scanArgs);
+    while (cursor.getKeys().isEmpty() || consumer.test(cursor.getKeys())) {
+      if (cursor.isFinished()) {
+        return true;
+      }
+      cursor = commands.scan(cursor, scanArgs);
+    }
+    return false;
+  }
+
+  private void sample(RedisAsyncCommands<String, String> commands, List<String> keys,
+      Map<String, PrefixAccumulator> accumulators) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    List<RedisFuture<Long>> ttls = new ArrayList<>(keys.size());
+    List<RedisFuture<Long>> usages = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      ttls.add(commands.pttl(key));
+      usages.add(commands.memoryUsage(key));
+    }
+    List<RedisFuture<Long>> futures = new ArrayList<>(ttls);
+    futures.addAll(usages);
+    if (!LettuceFutures.awaitAll(commandTimeout, futures.toArray(new RedisFuture[0]))) {
+      return;
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      Long ttl = ttls.get(i).toCompletableFuture().getNow(null);
+      Long usage = usages.get(i).toCompletableFuture().getNow(null);
+      // SCAN과 조회 사이에 만료된 키는 표본에서 제외
+      if (ttl == null || ttl == -2 || usage == null) {
+        continue;
+      }
+      PrefixAccumulator accumulator = accumulators.get(CacheMetrics.namespace(keys.get(i)));
+      accumulator.sampledCount++;
+      accumulator.sampledBytes += usage;
+      accumulator.ttlDistribution.merge(ttlBucket(ttl), 1L, Long::sum);
+    }
+  }
+
+  /**
+   * 네임스페이스 별 키 통계
+   *
+   * @param prefix          네임스페이스 ({@code BP:todo:})
+   * @param keyCount        키 수
+   * @param sampledCount    메모리 사용량과 TTL을 확인한 키 수
+   * @param sampledBytes    표본 키의 메모리 사용량 합계(byte)
+   * @param ttlDistribution 표본 키의 TTL 구간 별 키 수
+   */
+  public record PrefixStats(String prefix, long keyCount, long sampledCount, long sampledBytes,
+                            Map<String, Long> ttlDistribution) {
+
+    /**
+     * 표본의 평균 메모리 사용량으로 추정한 네임스페이스 전체 메모리 사용량
+     *
+     * @return 추정 메모리 사용량(byte), 표본이 없으면 0
+     */
+    public long estimatedBytes() {
+      return sampledCount == 0 ? 0 : sampledBytes * keyCount / sampledCount;
+    }
+  }
+
+  /**
+   * 패턴 삭제 결과
+   *
+   * @param matchedCount  패턴과 일치한 키 수
+   * @param evictedCount  삭제한 키 수
+   * @param skippedCount  삭제하지 않은 버전 키 수
+   * @param failedCount   삭제에 실패한 키 수
+   * @param truncated     최대 삭제 키 수에 도달하거나 실패하여 중단했는지 여부
+   * @param elapsedMillis 걸린 시간(ms)
+   */
+  public record EvictResult(long matchedCount, long evictedCount, long skippedCount,
+                            long failedCount, boolean truncated, long elapsedMillis) {
+
+  }
+
+  private static final class PrefixAccumulator {
+
+    private final Map<String, Long> ttlDistribution = new LinkedHashMap<>();
+    private long keyCount;
+    private long sampling;
+    private long sampledCount;
+    private long sampledBytes;
+
+    private PrefixStats toStats(String prefix) {
+      return new PrefixStats(prefix, keyCount, sampledCount, sampledBytes, ttlDistribution);
+    }
+  }
+
+  private final class Eviction {
+
+    private final boolean dryRun;
+    private final long startedAt;
+    private final List<String> pending = new ArrayList<>();
+    private long matchedCount;
+    private long evictedCount;
+    private long skippedCount;
+    private long failedCount;
+    private boolean truncated;
+    private boolean aborted;
+
+    private Eviction(boolean dryRun, long startedAt) {
+      this.dryRun = dryRun;
+      this.startedAt = startedAt;
+    }
+
+    private boolean accept(List<String> keys) {
+      for (String key : keys) {
+        if (truncated) {
+          return false;
+        }
+        if (key.startsWith(Constants.CACHE_VERSION_PREFIX)) {
+          skippedCount++;
+          continue;
+        }
+        if (matchedCount >= maxEvictKeys) {
+          truncated = true;
+          return false;
+        }
+        matchedCount++;
+        pending.add(key);
+        if (pending.size() >= evictBatchSize) {
+          flush();
+        }
+      }
+      return !truncated;
+    }
+
+    private void flush() {
+      // 최대 삭제 키 수에 도달한 경우에는 이미 일치한 키를 삭제하고, 삭제에 실패했거나 중단된 경우에만 버림
+      if (pending.isEmpty() || aborted) {
+        pending.clear();
+        return;
+      }
+      if (!dryRun) {
+        if (redisComponent.unlinkKeys(List.copyOf(pending))) {
+          evictedCount += pending.size();
+        } else {
+          failedCount += pending.size();
+          abort();
+        }
+        throttle();
+      }
+      pending.clear();
+    }
+
+    private void throttle() {
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+      long expectedMillis = (evictedCount + failedCount) * 1000 / evictRate;
+      if (expectedMillis <= elapsedMillis) {
+        return;
+      }
+      try {
+        Thread.sleep(expectedMillis - elapsedMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        abort();
+      }
+    }
+
+    private void abort() {
+      truncated = true;
+      aborted = true;
+    }
+
+    private EvictResult toResult() {
+      return new EvictResult(matchedCount, evictedCount, skippedCount, failedCount, truncated,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.constants.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 키의 네임스페이스(예: {@code BP:todo:}) 별로 캐시 조회 결과, Redis 응답 시간, DB 조회 시간 및 저장 크기를
+ * Micrometer로 기록하는 컴포넌트
+ *
+ * <p>Meter는 태그 조합 별로 한 번만 생성하여 재사용하며, 네임스페이스는 코드에 정의된 접두사로 한정되므로 태그의
+ * 카디널리티가 키 수만큼 늘어나지 않음</p>
+ */
+@Component
+public class CacheMetrics {
+
+  static final String GETS = "bp.cache.gets";
+  static final String ERRORS = "bp.cache.errors";
+  static final String REDIS_LATENCY = "bp.cache.redis.latency";
+  static final String LOAD_LATENCY = "bp.cache.load.latency";
+  static final String PAYLOAD_SIZE = "bp.cache.payload.size";
+  static final String INVALIDATION_DROPPED = "bp.cache.invalidation.dropped";
+  static final String OTHER_NAMESPACE = "other";
+
+  private static final String TAG_NAMESPACE = "namespace";
+  private static final String TAG_OPERATION = "operation";
+  private static final String TAG_OUTCOME = "outcome";
+  private static final String SUCCESS = "success";
+  private static final String FAILURE = "failure";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+  /**
+   * 캐시 조회 결과
+   */
+  public enum GetResult {
+    LOCAL_HIT, HIT, MISS
+  }
+
+  /**
+   * 캐시 지표 설정을 받아 생성
+   *
+   * @param meterRegistry 지표를 등록할 MeterRegistry
+   * @param enabled       캐시 지표 기록 여부
+   */
+  public CacheMetrics(
+      MeterRegistry meterRegistry,
+      @Value("${redis.cache.metrics.enabled:true}") boolean enabled) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+  }
+
+  /**
+   * 캐시 키에서 네임스페이스를 추출
+   *
+   * <p>{@code BP:todo:1} → {@code BP:todo:}, {@code BP:todos:list:...} → {@code BP:todos:}</p>
+   *
+   * @param key 캐시 키
+   * @return 네임스페이스, 형식에 맞지 않는 키는 {@code other}
+   */
+  public static String namespace(String key) {
+    if (key == null || !key.startsWith(Constants.BP_CACHE_PREFIX)) {
+      return OTHER_NAMESPACE;
+    }
+    int end = key.indexOf(':', Constants.BP_CACHE_PREFIX.length());
+    return end < 0 ? OTHER_NAMESPACE : key.substring(0, end + 1);
+  }
+
+  /**
+   * 캐시 조회 결과를 기록
+   *
+   * @param key       캐시 키
+   * @param getResult 조회 결과
+   */
+  public void recordGet(String key, GetResult getResult) {
+    if (!enabled) {
+      return;
+    }
+    String namespace = namespace(key);
+    String result = getResult.name().toLowerCase(Locale.ROOT);
+    counters.computeIfAbsent(String.join("|", namespace, result), name -> Counter.builder(GETS)
+            .description("cache lookups by result")
+            .tag(TAG_NAMESPACE, namespace)
+            .tag("result", result)
+            .register(meterRegistry))
+        .increment();
+  }
+
+  /**
+   * Redis 명령을 실행하고 응답 시간과 오류를 기록
+   *
+   * @param operation Redis 명령 이름
+   * @param key       대표 캐시 키
+   * @param action    Redis 명령
+   * @param <T>       반환 데이터의 타입
+   * @return 명령의 결과
+   */
+  public <T> T recordRedis(String operation, String key, Supplier<T> action) {
+    if (!enabled) {
+      return action.get();
+    }
+    String namespace = namespace(key);
+    long startedAt = System.nanoTime();
+    try {
+      T result = action.get();
+      recordRedisResult(operation, namespace, startedAt, false);
+      return result;
+    } catch (RuntimeException e) {
+      recordRedisResult(operation, namespace, startedAt, true);
+      throw e;
+    }
+  }
+
+  /**
+   * 비동기 Redis 명령을 실행하고 완료 시점에 응답 시간과 오류를 기록
+   *
+   * @param operation Redis 명령 이름
+   * @param key       대표 캐시 키
+   * @param action    비동기 Redis 명령
+   * @param <T>       반환 데이터의 타입
+   * @return 명령의 결과로 완료되는 Future
+   */
+  public <T> CompletableFuture<T> recordRedisAsync(String operation, String key,
+      Supplier<CompletableFuture<T>> action) {
+    if (!enabled) {
+      return action.get();
+    }
+    String namespace = namespace(key);
+    long startedAt = System.nanoTime();
+    try {
+      return action.get().whenComplete((result, throwable) ->
+          recordRedisResult(operation, namespace, startedAt, throwable != null));
+    } catch (RuntimeException e) {
+      recordRedisResult(operation, namespace, startedAt, true);
+      throw e;
+    }
+  }
+
+  private void recordRedisResult(String operation, String namespace, long startedAt,
+      boolean failure) {
+    timer(REDIS_LATENCY, operation, namespace, failure ? FAILURE : SUCCESS)
+        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    if (!failure) {
+      return;
+    }
+    counters.computeIfAbsent(String.join("|", operation, namespace),
+            name -> Counter.builder(ERRORS)
+                .description("redis operation errors")
+                .tag(TAG_OPERATION, operation)
+                .tag(TAG_NAMESPACE, namespace)
+                .register(meterRegistry))
+        .increment();
+  }
+
+  /**
+   * 캐시에 없는 데이터를 DB에서 조회하고 조회 시간을 기록
+   *
+   * @param key    캐시 키
+   * @param loader DB에서 데이터를 조회하는 콜백
+   * @param <T>    반환 데이터의 타입
+   * @return DB 조회 데이터
+   */
+  public <T> T recordLoad(String key, Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    String namespace = namespace(key);
+    long startedAt = System.nanoTime();
+    String outcome = FAILURE;
+    try {
+      T value = loader.get();
+      outcome = SUCCESS;
+      return value;
+    } finally {
+      timer(LOAD_LATENCY, "load", namespace, outcome).record(System.nanoTime() - startedAt,
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * 직렬화된 캐시 값의 크기를 기록
+   *
+   * @param namespace 캐시 키의 네임스페이스
+   * @param size      직렬화된 크기(byte)
+   */
+  public void recordPayloadSize(String namespace, int size) {
+    if (!enabled) {
+      return;
+    }
+    summaries.computeIfAbsent(namespace, name -> DistributionSummary.builder(PAYLOAD_SIZE)
+            .description("serialized cache value size")
+            .baseUnit("bytes")
+            .tag(TAG_NAMESPACE, namespace)
+            .publishPercentileHistogram()
+            .register(meterRegistry))
+        .record(size);
+  }
+
+  /**
+   * 재시도 횟수를 모두 사용하여 무효화를 포기한 캐시 키를 기록
+   *
+   * @param key 무효화를 포기한 캐시 키
+   */
+  public void recordInvalidationDropped(String key) {
+    if (!enabled) {
+      return;
+    }
+    String namespace = namespace(key);
+    counters.computeIfAbsent(String.join("|", INVALIDATION_DROPPED, namespace),
+            name -> Counter.builder(INVALIDATION_DROPPED)
+                .description("cache invalidations given up after retries")
+                .tag(TAG_NAMESPACE, namespace)
+                .register(meterRegistry))
+        .increment();
+  }
+
+  private Timer timer(String name, String operation, String namespace, String outcome) {
+    return timers.computeIfAbsent(String.join("|", name, operation, namespace, outcome),
+        key -> Timer.builder(name)
+            .tag(TAG_OPERATION, operation)
+            .tag(TAG_NAMESPACE, namespace)
+            .tag(TAG_OUTCOME, outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+  }
+}
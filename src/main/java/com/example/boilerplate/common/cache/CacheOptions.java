@@ -0,0 +1,99 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.type.ApiStatus;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@code RedisComponent.getCacheOrDefault} 호출 시 적용할 캐시 정책
+ */
+@Getter
+@Builder
+@ToString
+public class CacheOptions {
+
+  /**
+   * 캐시 만료 시간(Time-To-Live)
+   */
+  private final Duration ttl;
+
+  /**
+   * 만료 전 확률적 갱신(XFetch) 및 만료 후 이전 값 제공(stale-while-revalidate) 사용 여부
+   */
+  private final boolean refreshAhead;
+
+  /**
+   * 캐시가 없을 때 Redis Lease({@link RebuildLease})를 획득한 노드만 DB를 조회하고, 나머지 노드는 적재된 값을
+   * 기다리거나(조기 갱신 시 이전 값을 제공) 대기 시간이 지나면 직접 조회할지 여부
+   */
+  private final boolean rebuildLease;
+
+  /**
+   * 값을 속성마다 하나의 필드를 가진 Redis Hash({@link HashCacheStore})로 저장할지 여부, 수정 시 바뀐 필드만
+   * 덮어쓸 수 있으며({@link BpCachePut}) 조기 갱신({@link #refreshAhead})과 함께 사용할 수 없음
+   */
+  private final boolean hash;
+
+  /**
+   * 확률적 갱신의 민감도, 값이 클수록 더 일찍 갱신
+   */
+  @Builder.Default
+  private final double beta = 1.0;
+
+  /**
+   * 논리적 만료 이후 백그라운드 갱신 동안 이전 값을 제공할 수 있는 시간
+   */
+  @Builder.Default
+  private final Duration staleTtl = Duration.ofMinutes(1);
+
+  /**
+   * 동시에 저장된 키가 한꺼번에 만료되지 않도록 만료 시간에 더하는 무작위 비율 (0.1 = 최대 10%)
+   */
+  @Builder.Default
+  private final double jitter = 0.1;
+
+  /**
+   * 존재하지 않는 데이터(404)를 캐싱하는 시간, null이면 캐싱하지 않음
+   */
+  private final Duration negativeTtl;
+
+  /**
+   * 여러 건을 한 번에 조회할 때 DB에 존재하지 않는 데이터의 Tombstone에 저장할 Api 상태 코드
+   */
+  @Builder.Default
+  private final ApiStatus notFoundStatus = ApiStatus.NOT_FOUND;
+
+  /**
+   * 저장 시 사용할 직렬화 형식, null이면 {@code redis.cache.codec.format} 설정을 따름
+   */
+  private final CacheValueCodec.Format format;
+
+  /**
+   * 만료 시간만 지정된 기본 캐시 정책을 생성
+   *
+   * @param ttl 캐시 만료 시간
+   * @return 캐시 정책
+   */
+  public static CacheOptions of(Duration ttl) {
+    return CacheOptions.builder()
+        .ttl(ttl)
+        .build();
+  }
+
+  /**
+   * 무작위 비율을 적용한 만료 시간을 반환
+   *
+   * @return 무작위 비율이 적용된 만료 시간
+   */
+  public Duration jitteredTtl() {
+    if (jitter <= 0) {
+      return ttl;
+    }
+    long ttlMillis = ttl.toMillis();
+    long jitterMillis = (long) (ttlMillis * jitter * ThreadLocalRandom.current().nextDouble());
+    return Duration.ofMillis(ttlMillis + jitterMillis);
+  }
+}
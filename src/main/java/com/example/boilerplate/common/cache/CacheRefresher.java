@@ -0,0 +1,79 @@
+package com.example.boilerplate.common.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 값을 백그라운드에서 갱신하는 컴포넌트
+ *
+ * <p>같은 키에 대한 갱신은 동시에 하나만 예약되며, 작업 큐가 가득 차면 갱신을 건너뛰고
+ * 기존 값을 계속 제공</p>
+ */
+@Slf4j
+@Component
+public class CacheRefresher {
+
+  private final TaskExecutor cacheRefreshExecutor;
+  private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+  private final LongAdder refreshCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+
+  public CacheRefresher(@Qualifier("cacheRefreshExecutor") TaskExecutor cacheRefreshExecutor) {
+    this.cacheRefreshExecutor = cacheRefreshExecutor;
+  }
+
+  /**
+   * 키에 해당하는 갱신 작업을 백그라운드로 예약
+   *
+   * @param key     갱신할 키
+   * @param refresh 갱신 작업
+   * @return 예약되었으면 true, 이미 갱신 중이거나 거절되었으면 false
+   */
+  public boolean refreshAsync(String key, Runnable refresh) {
+    if (!refreshingKeys.add(key)) {
+      return false;
+    }
+    try {
+      cacheRefreshExecutor.execute(() -> {
+        try {
+          refresh.run();
+          refreshCount.increment();
+        } catch (Exception e) {
+          log.error("refreshAsync key: {}", key, e);
+        } finally {
+          refreshingKeys.remove(key);
+        }
+      });
+      return true;
+    } catch (TaskRejectedException e) {
+      refreshingKeys.remove(key);
+      rejectedCount.increment();
+      log.warn("refreshAsync rejected key: {}", key);
+      return false;
+    }
+  }
+
+  /**
+   * 백그라운드 갱신이 완료된 횟수
+   *
+   * @return 갱신 완료 횟수
+   */
+  public long getRefreshCount() {
+    return refreshCount.sum();
+  }
+
+  /**
+   * 작업 큐가 가득 차 갱신이 거절된 횟수
+   *
+   * @return 갱신 거절 횟수
+   */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+}
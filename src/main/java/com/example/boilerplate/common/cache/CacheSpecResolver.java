@@ -0,0 +1,89 @@
+package com.example.boilerplate.common.cache;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link BpCacheable} 애너테이션 값과 {@code redis.cache.specs.<cacheName>.*} 설정으로 캐시 정책을 생성하는 컴포넌트
+ *
+ * <p>{@link BpCacheAspect}와 같은 캐시를 직접 조회하는 코드(여러 건 조회, 캐시 워밍업)가 같은 정책을 사용하도록
+ * 애너테이션 별로 한 번만 생성하여 공유</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CacheSpecResolver {
+
+  private static final String SPEC_PREFIX = "redis.cache.specs.";
+
+  private final Environment environment;
+
+  private final Map<BpCacheable, CacheOptions> cacheOptions = new ConcurrentHashMap<>();
+  private final Map<String, CacheOptions> namedCacheOptions = new ConcurrentHashMap<>();
+
+  /**
+   * 애너테이션 값과 설정으로 캐시 정책을 생성
+   *
+   * @param bpCacheable 캐시 설정
+   * @return 캐시 정책
+   */
+  public CacheOptions resolve(BpCacheable bpCacheable) {
+    return cacheOptions.computeIfAbsent(bpCacheable, this::create);
+  }
+
+  /**
+   * 클래스에서 캐시 이름이 같은 {@link BpCacheable} 메서드를 찾아 캐시 정책을 생성
+   *
+   * @param type      {@link BpCacheable} 메서드가 선언된 클래스
+   * @param cacheName 캐시 이름
+   * @return 캐시 정책
+   * @throws IllegalStateException 캐시 이름이 같은 메서드가 없는 경우
+   */
+  public CacheOptions resolve(Class<?> type, String cacheName) {
+    return namedCacheOptions.computeIfAbsent(cacheName, name -> resolve(find(type, name)));
+  }
+
+  private static BpCacheable find(Class<?> type, String cacheName) {
+    for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type)) {
+      BpCacheable bpCacheable = AnnotationUtils.findAnnotation(method, BpCacheable.class);
+      if (bpCacheable != null && bpCacheable.cacheName().equals(cacheName)) {
+        return bpCacheable;
+      }
+    }
+    throw new IllegalStateException(
+        "No @BpCacheable method for cache " + cacheName + " in " + type.getName());
+  }
+
+  private CacheOptions create(BpCacheable bpCacheable) {
+    String specPrefix = SPEC_PREFIX + bpCacheable.cacheName() + ".";
+    String negativeTtl = environment.getProperty(specPrefix + "negative-ttl",
+        bpCacheable.negativeTtl());
+    String codec = environment.getProperty(specPrefix + "codec", bpCacheable.codec());
+    CacheOptions options = CacheOptions.builder()
+        .ttl(DurationStyle.detectAndParse(
+            environment.getProperty(specPrefix + "ttl", bpCacheable.ttl())))
+        .refreshAhead(environment.getProperty(specPrefix + "refresh-ahead", Boolean.class,
+            bpCacheable.refreshAhead()))
+        .rebuildLease(environment.getProperty(specPrefix + "rebuild-lease", Boolean.class,
+            bpCacheable.rebuildLease()))
+        .hash(environment.getProperty(specPrefix + "hash", Boolean.class, bpCacheable.hash()))
+        .negativeTtl(StringUtils.hasText(negativeTtl)
+            ? DurationStyle.detectAndParse(negativeTtl) : null)
+        .notFoundStatus(bpCacheable.notFoundStatus())
+        .format(StringUtils.hasText(codec)
+            ? CacheValueCodec.Format.valueOf(codec.toUpperCase(Locale.ROOT)) : null)
+        .build();
+    log.info("cache spec. cacheName: {}, cacheOptions: {}", bpCacheable.cacheName(), options);
+    return options;
+  }
+}
@@ -0,0 +1,35 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.exception.ApiException;
+import com.example.boilerplate.common.type.ApiStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 존재하지 않는 데이터에 대한 조회 결과를 짧은 시간 동안 캐싱하기 위한 엔트리(Negative Caching)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@ToString
+public class CacheTombstone {
+
+  /**
+   * 조회 시 발생했던 Api 상태 코드
+   */
+  private String statusCode;
+
+  /**
+   * 저장된 상태 코드로 404 예외를 생성
+   *
+   * @return 404 상태의 ApiException
+   */
+  public ApiException toException() {
+    ApiStatus apiStatus = ApiStatus.getByCode(statusCode);
+    return new ApiException(HttpStatus.NOT_FOUND,
+        apiStatus != null ? apiStatus : ApiStatus.NOT_FOUND);
+  }
+}
@@ -0,0 +1,355 @@
+package com.example.boilerplate.common.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에 저장하는 객체 값의 직렬화 형식(JSON, Smile)과 압축(LZ4)을 처리하는 코덱
+ *
+ * <p>헤더가 있는 값은 [매직 바이트, 버전, 형식, 압축] 4바이트 헤더 뒤에 본문을 저장하고, 압축된 경우 원본 크기(4바이트)를
+ * 본문 앞에 추가하며, 헤더가 없는 값은 기존 JSON 형식으로 읽어 배포 중에도 두 형식을 모두 조회 가능</p>
+ *
+ * <p>JSON 형식이면서 압축하지 않는 값은 기존 형식 그대로 저장하므로, 새 버전을 먼저 배포한 후 형식을 변경</p>
+ *
+ * <p>반환 타입을 알고 조회하는 경우 {@link #decode(byte[], TypeReference)}로 직렬화에 사용한 타입 정보 설정 그대로
+ * 반환 타입에 바로 역직렬화하며, 타입 별 {@link ObjectReader}를 재사용</p>
+ */
+@Component
+public class CacheValueCodec implements RedisSerializer<Object> {
+
+  static final byte MAGIC = (byte) 0xBC;
+  static final byte VERSION = 1;
+  private static final int HEADER_SIZE = 4;
+  private static final int LENGTH_SIZE = 4;
+
+  private final ObjectMapper objectMapper;
+  private final Format format;
+  private final int compressionThreshold;
+  private final CacheMetrics cacheMetrics;
+  // 직렬화기의 빌더가 타입 정보 설정을 추가한 ObjectMapper로 반환 타입 별 ObjectReader를 생성
+  private final ObjectMapper jsonMapper = new ObjectMapper();
+  private final ObjectMapper smileMapper = new SmileMapper();
+  private final RedisSerializer<Object> jsonSerializer = GenericJackson2JsonRedisSerializer
+      .builder()
+      .objectMapper(jsonMapper)
+      .defaultTyping(true)
+      .build();
+  private final RedisSerializer<Object> smileSerializer = GenericJackson2JsonRedisSerializer
+      .builder()
+      .objectMapper(smileMapper)
+      .defaultTyping(true)
+      .build();
+  private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+  private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+  private final Map<Type, JavaType> javaTypes = new ConcurrentHashMap<>();
+  private final Map<Type, JavaType> cacheEntryTypes = new ConcurrentHashMap<>();
+  private final Map<JavaType, ObjectReader> jsonReaders = new ConcurrentHashMap<>();
+  private final Map<JavaType, ObjectReader> smileReaders = new ConcurrentHashMap<>();
+
+  /**
+   * 직렬화 형식
+   */
+  public enum Format {
+    JSON, SMILE
+  }
+
+  /**
+   * 압축 방식
+   */
+  enum Compression {
+    NONE, LZ4
+  }
+
+  /**
+   * 코덱 설정을 받아 생성
+   *
+   * @param objectMapper         캐시 값을 반환 타입으로 변환할 때 사용하는 ObjectMapper
+   * @param format               저장 시 사용할 직렬화 형식
+   * @param compressionThreshold 압축을 적용할 최소 크기(byte), 0 이하이면 압축하지 않음. 압축한 값은 헤더가 있어 이전
+   *                             버전이 읽지 못하므로 기본 형식(json)과 같이 기본값은 압축하지 않음(0)
+   * @param cacheMetrics         저장 크기를 기록할 캐시 지표
+   */
+  public CacheValueCodec(
+      ObjectMapper objectMapper,
+      @Value("${redis.cache.codec.format:json}") Format format,
+      @Value("${redis.cache.codec.compression-threshold:0}") int compressionThreshold,
+      CacheMetrics cacheMetrics) {
+    this.objectMapper = objectMapper;
+    this.cacheMetrics = cacheMetrics;
+    this.format = format;
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  @Override
+  public byte[] serialize(Object value) {
+    if (value instanceof WrappedValue wrappedValue) {
+      byte[] bytes = encode(wrappedValue.value(),
+          wrappedValue.format() == null ? format : wrappedValue.format());
+      cacheMetrics.recordPayloadSize(wrappedValue.namespace(), bytes.length);
+      return bytes;
+    }
+    return encode(value, format);
+  }
+
+  /**
+   * 지정한 직렬화 형식으로 저장하고 저장 크기를 기록하도록 값을 감싸서 반환
+   *
+   * <p>조회 시에는 헤더의 형식 정보로 역직렬화하므로 캐시마다 형식이 달라도 같은 템플릿으로 조회 가능</p>
+   *
+   * @param value       저장할 값
+   * @param valueFormat 저장 시 사용할 직렬화 형식, null이면 기본 형식
+   * @param namespace   저장 크기를 기록할 캐시 키의 네임스페이스
+   * @return 감싼 값, 저장할 값이 null이면 null
+   */
+  public Object wrap(Object value, Format valueFormat, String namespace) {
+    if (value == null) {
+      return null;
+    }
+    return new WrappedValue(value, valueFormat, namespace);
+  }
+
+  private byte[] encode(Object value, Format valueFormat) {
+    if (value == null) {
+      return new byte[0];
+    }
+    byte[] payload = valueFormat == Format.SMILE
+        ? smileSerializer.serialize(value)
+        : jsonSerializer.serialize(value);
+    if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+      return compress(payload, valueFormat);
+    }
+    if (valueFormat == Format.JSON) {
+      return payload;
+    }
+    return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+        .put(header(valueFormat, Compression.NONE))
+        .put(payload)
+        .array();
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    byte[] payload = payload(bytes);
+    return format(bytes) == Format.SMILE
+        ? smileSerializer.deserialize(payload)
+        : jsonSerializer.deserialize(payload);
+  }
+
+  /**
+   * Redis에서 조회한 바이트를 반환 타입으로 바로 역직렬화
+   *
+   * <p>{@link CacheTombstone}처럼 반환 타입이 아닌 값이 저장되어 있으면 타입 정보로 역직렬화하여 그대로 반환하고, 타입
+   * 정보가 없는 이전 형식의 값은 반환 타입으로 변환</p>
+   *
+   * @param bytes         Redis에서 조회한 바이트
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @return 반환 타입의 값 또는 {@link CacheTombstone}, 바이트가 없으면 null
+   * @throws SerializationException 바이트를 역직렬화할 수 없는 경우
+   */
+  public Object decode(byte[] bytes, TypeReference<?> typeReference) {
+    return decode(bytes, javaType(typeReference));
+  }
+
+  /**
+   * Redis에서 조회한 바이트를 {@link CacheEntry}로 바로 역직렬화
+   *
+   * @param bytes         Redis에서 조회한 바이트
+   * @param typeReference 엔트리에 담긴 값의 타입 정보를 포함한 {@code TypeReference}
+   * @return 캐시 엔트리 또는 {@link CacheTombstone}, 바이트가 없으면 null
+   * @throws SerializationException 바이트를 역직렬화할 수 없는 경우
+   */
+  public Object decodeCacheEntry(byte[] bytes, TypeReference<?> typeReference) {
+    return decode(bytes, cacheEntryTypes.computeIfAbsent(typeReference.getType(),
+        type -> objectMapper.getTypeFactory().constructParametricType(
+            CacheEntry.class, objectMapper.getTypeFactory().constructType(type))));
+  }
+
+  /**
+   * Redis에서 조회한 값을 반환 타입으로 변환
+   *
+   * <p>값이 이미 반환 타입의 인스턴스이고 제네릭 타입이 아니면 추가 변환 없이 그대로 반환하며, 바이트로 조회한 값은
+   * {@link #decode(byte[], TypeReference)}로 변환 없이 역직렬화</p>
+   *
+   * @param value         Redis에서 조회한 값
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param <T>           반환 데이터의 타입
+   * @return 변환된 값
+   */
+  public <T> T convert(Object value, TypeReference<T> typeReference) {
+    return convert(value, javaType(typeReference));
+  }
+
+  /**
+   * 타입 별로 재사용하는 ObjectReader로 본문을 반환 타입에 역직렬화
+   *
+   * @param bytes    Redis에서 조회한 바이트
+   * @param javaType 반환 타입
+   * @return 반환 타입의 값 또는 {@link CacheTombstone}, 바이트가 없으면 null
+   * @throws SerializationException 바이트를 역직렬화할 수 없는 경우
+   */
+  private Object decode(byte[] bytes, JavaType javaType) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    byte[] payload = payload(bytes);
+    ObjectReader objectReader = format(bytes) == Format.SMILE
+        ? smileReaders.computeIfAbsent(javaType, smileMapper::readerFor)
+        : jsonReaders.computeIfAbsent(javaType, jsonMapper::readerFor);
+    try {
+      return objectReader.readValue(payload);
+    } catch (MismatchedInputException e) {
+      // 반환 타입이 아닌 값(Tombstone, 이전 형식)은 저장된 타입 정보로 읽은 후 필요한 경우에만 변환
+      Object value = deserialize(bytes);
+      return value instanceof CacheTombstone ? value : convert(value, javaType);
+    } catch (IOException e) {
+      throw new SerializationException("Cannot decode cache value", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T convert(Object value, JavaType javaType) {
+    if (javaType.getBindings().isEmpty() && !javaType.isContainerType()
+        && javaType.getRawClass().isInstance(value)) {
+      return (T) value;
+    }
+    return objectMapper.convertValue(value, javaType);
+  }
+
+  private JavaType javaType(TypeReference<?> typeReference) {
+    return javaTypes.computeIfAbsent(typeReference.getType(),
+        type -> objectMapper.getTypeFactory().constructType(type));
+  }
+
+  /**
+   * 헤더에 저장된 직렬화 형식을 확인하며, 헤더가 없으면 기존 JSON 형식
+   *
+   * @param bytes Redis에서 조회한 바이트
+   * @return 직렬화 형식
+   * @throws SerializationException 헤더가 잘렸거나 알 수 없는 버전 또는 형식인 경우
+   */
+  private static Format format(byte[] bytes) {
+    if (bytes[0] != MAGIC) {
+      return Format.JSON;
+    }
+    if (bytes.length < HEADER_SIZE) {
+      throw new SerializationException("Truncated cache value header: " + bytes.length);
+    }
+    if (bytes[1] != VERSION) {
+      throw new SerializationException("Unsupported cache value header version: " + bytes[1]);
+    }
+    return headerValue(Format.values(), bytes[2], "format");
+  }
+
+  /**
+   * 헤더를 제외하고 압축을 해제한 본문을 반환
+   *
+   * @param bytes Redis에서 조회한 바이트
+   * @return 직렬화된 본문
+   * @throws SerializationException 헤더가 올바르지 않거나 압축 데이터가 손상된 경우
+   */
+  private byte[] payload(byte[] bytes) {
+    if (bytes[0] != MAGIC) {
+      return bytes;
+    }
+    format(bytes);
+    Compression compression = headerValue(Compression.values(), bytes[3], "compression");
+    return compression == Compression.LZ4
+        ? decompress(bytes)
+        : Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+  }
+
+  /**
+   * 본문을 LZ4로 압축하고 헤더와 원본 크기를 추가
+   *
+   * @param payload     압축할 본문
+   * @param valueFormat 본문의 직렬화 형식
+   * @return 헤더가 포함된 압축 데이터
+   */
+  private byte[] compress(byte[] payload, Format valueFormat) {
+    int maxLength = compressor.maxCompressedLength(payload.length);
+    byte[] compressed = new byte[HEADER_SIZE + LENGTH_SIZE + maxLength];
+    System.arraycopy(header(valueFormat, Compression.LZ4), 0, compressed, 0, HEADER_SIZE);
+    ByteBuffer.wrap(compressed, HEADER_SIZE, LENGTH_SIZE).putInt(payload.length);
+    int compressedLength = compressor.compress(payload, 0, payload.length,
+        compressed, HEADER_SIZE + LENGTH_SIZE, maxLength);
+    return Arrays.copyOf(compressed, HEADER_SIZE + LENGTH_SIZE + compressedLength);
+  }
+
+  /**
+   * 헤더 뒤의 LZ4 압축 데이터를 원본 본문으로 복원
+   *
+   * @param bytes 헤더가 포함된 압축 데이터
+   * @return 원본 본문
+   * @throws SerializationException 원본 크기가 없거나 압축 데이터가 손상된 경우
+   */
+  private byte[] decompress(byte[] bytes) {
+    if (bytes.length < HEADER_SIZE + LENGTH_SIZE) {
+      throw new SerializationException("Truncated compressed cache value: " + bytes.length);
+    }
+    int length = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+    if (length < 0) {
+      throw new SerializationException("Invalid compressed cache value length: " + length);
+    }
+    byte[] payload = new byte[length];
+    try {
+      decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, payload, 0, length);
+    } catch (LZ4Exception e) {
+      throw new SerializationException("Corrupted compressed cache value", e);
+    }
+    return payload;
+  }
+
+  /**
+   * 헤더의 바이트를 열거형 값으로 변환
+   *
+   * @param values 열거형 값 목록
+   * @param index  헤더에 저장된 순서 값
+   * @param name   오류 메시지에 사용할 헤더 항목 이름
+   * @param <E>    열거형 타입
+   * @return 열거형 값
+   * @throws SerializationException 알 수 없는 순서 값인 경우
+   */
+  private static <E extends Enum<E>> E headerValue(E[] values, byte index, String name) {
+    if (index < 0 || index >= values.length) {
+      throw new SerializationException("Unsupported cache value " + name + ": " + index);
+    }
+    return values[index];
+  }
+
+  private static byte[] header(Format format, Compression compression) {
+    return new byte[]{MAGIC, VERSION, (byte) format.ordinal(), (byte) compression.ordinal()};
+  }
+
+  /**
+   * 직렬화 형식과 네임스페이스가 지정된 저장할 값
+   *
+   * @param value     저장할 값
+   * @param format    직렬화 형식, null이면 기본 형식
+   * @param namespace 캐시 키의 네임스페이스
+   */
+  private record WrappedValue(Object value, Format format, String namespace) {
+
+  }
+}
@@ -0,0 +1,279 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.constants.Constants;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * DB에서 적재한 캐시 값을 버전과 함께 저장하여, 오래된 값이 새 값이나 삭제를 덮어쓰지 않도록 하는 컴포넌트
+ *
+ * <p>값의 버전은 DB 조회를 시작한 시각(ms)이며 캐시 키와 같은 슬롯의 버전 키에 저장. 저장은 버전 키보다 새로운 버전일
+ * 때만 값을 바꾸는 Lua 스크립트로 처리하고, 삭제는 삭제 시각을 버전 키에 펜스로 남기므로 삭제 전에 조회를 시작한 적재는
+ * 펜스가 만료될 때까지 이전 값을 다시 저장하지 못함</p>
+ *
+ * <p>버전 키는 {@code BP:version:{<캐시 키>}} 형식이며, 해시 태그로 캐시 키와 같은 클러스터 슬롯에 위치</p>
+ */
+@Component
+public class CacheVersionFence {
+
+  private static final RedisScript<Long> VERSIONED_SET_SCRIPT =
+      loadScript("script/redis/versioned-set.lua");
+  private static final RedisScript<Long> FENCED_DELETE_SCRIPT =
+      loadScript("script/redis/fenced-delete.lua");
+  private static final RedisSerializer<Long> RESULT_SERIALIZER =
+      new GenericToStringSerializer<>(Long.class);
+  private static final Map<String, byte[]> SCRIPT_BODIES = new ConcurrentHashMap<>();
+
+  private final RedisSerializer<Object> valueSerializer;
+  private final boolean enabled;
+  private final Duration fenceTtl;
+
+  private final LongAdder writtenCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+  private final LongAdder fencedCount = new LongAdder();
+
+  /**
+   * 버전 설정을 받아 생성
+   *
+   * @param valueSerializer 캐시 값 직렬화 코덱 ({@code objectRedisTemplate}과 같은 형식으로 저장)
+   * @param enabled         버전 비교 저장 및 삭제 펜스 사용 여부
+   * @param fenceTtl        삭제 펜스 만료 시간, DB 조회에 걸리는 최대 시간보다 길어야 함
+   */
+  public CacheVersionFence(
+      CacheValueCodec valueSerializer,
+      @Value("${redis.cache.version.enabled:true}") boolean enabled,
+      @Value("${redis.cache.version.fence-ttl:10s}") Duration fenceTtl) {
+    this.valueSerializer = valueSerializer;
+    this.enabled = enabled;
+    this.fenceTtl = fenceTtl;
+  }
+
+  /**
+   * 캐시 키와 같은 클러스터 슬롯에 위치하는 버전 키를 생성
+   *
+   * @param cacheKey Redis 캐시 키
+   * @return 버전 키
+   */
+  public static String versionKey(String cacheKey) {
+    return Constants.CACHE_VERSION_PREFIX + "{" + cacheKey + "}";
+  }
+
+  /**
+   * 버전 비교 저장 및 삭제 펜스 사용 여부
+   *
+   * @return 사용 중이면 true
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 삭제 펜스 만료 시간
+   *
+   * @return 펜스 만료 시간
+   */
+  public Duration getFenceTtl() {
+    return fenceTtl;
+  }
+
+  /**
+   * DB 조회를 시작하기 전에 적재할 값의 버전을 생성
+   *
+   * @return 현재 시각(ms)
+   */
+  public long newVersion() {
+    return System.currentTimeMillis();
+  }
+
+  /**
+   * 저장된 버전보다 새로운 버전일 때만 값을 저장
+   *
+   * <p>파이프라인 안에서 호출하면 스크립트 원문으로 EVAL을 전송하고, 결과는 파이프라인의 결과 목록으로 반환되며 이 메서드는
+   * null 반환</p>
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate 또는 파이프라인
+   * @param cacheKey   Redis 캐시 키
+   * @param value      저장할 값
+   * @param ttl        캐시 만료 시간
+   * @param version    값의 버전
+   * @return 저장했으면 1, 저장된 버전이 같거나 새로우면 0
+   */
+  public Long write(RedisOperations<String, ?> operations, String cacheKey, Object value,
+      Duration ttl, long version) {
+    Long result = executeScript(operations, VERSIONED_SET_SCRIPT,
+        List.of(cacheKey, versionKey(cacheKey)),
+        writeArgs(valueSerializer.serialize(value), ttl, version));
+    recordWrite(result);
+    return result;
+  }
+
+  /**
+   * 값을 삭제하고 삭제 시각을 펜스로 남김
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate 또는 파이프라인
+   * @param key        삭제할 키
+   * @return 삭제한 키 수, 파이프라인 안에서 호출하면 null
+   */
+  public Long delete(RedisOperations<String, ?> operations, String key) {
+    fencedCount.increment();
+    return executeScript(operations, FENCED_DELETE_SCRIPT, List.of(key, versionKey(key)),
+        deleteArgs());
+  }
+
+  /**
+   * 버전 비교 저장 스크립트
+   *
+   * @return KEYS: 캐시 키, 버전 키 / ARGV: {@link #writeArgs(byte[], Duration, long)}
+   */
+  public RedisScript<Long> getVersionedSetScript() {
+    return VERSIONED_SET_SCRIPT;
+  }
+
+  /**
+   * 펜스 삭제 스크립트
+   *
+   * @return KEYS: 캐시 키, 버전 키 / ARGV: {@link #deleteArgs()}
+   */
+  public RedisScript<Long> getFencedDeleteScript() {
+    return FENCED_DELETE_SCRIPT;
+  }
+
+  /**
+   * 버전 비교 저장 스크립트의 인자를 생성
+   *
+   * @param value   직렬화된 값
+   * @param ttl     캐시 만료 시간
+   * @param version 값의 버전
+   * @return 버전, 값, 만료 시간(ms)
+   */
+  public byte[][] writeArgs(byte[] value, Duration ttl, long version) {
+    return new byte[][]{toBytes(version), value, toBytes(ttl.toMillis())};
+  }
+
+  /**
+   * 현재 시각을 펜스 버전으로 하는 펜스 삭제 스크립트의 인자를 생성
+   *
+   * @return 펜스 버전, 펜스 만료 시간(ms)
+   */
+  public byte[][] deleteArgs() {
+    return new byte[][]{toBytes(newVersion()), toBytes(fenceTtl.toMillis())};
+  }
+
+  /**
+   * 버전 비교 저장의 결과를 기록
+   *
+   * @param result 스크립트의 결과, 파이프라인 안에서 호출한 경우 null
+   */
+  public void recordWrite(Object result) {
+    if (isRejected(result)) {
+      rejectedCount.increment();
+    } else if (result instanceof Number) {
+      writtenCount.increment();
+    }
+  }
+
+  /**
+   * 버전 비교 저장의 결과가 저장 거부인지 확인
+   *
+   * @param result 스크립트의 결과, 파이프라인 안에서 호출했거나 실행하지 못한 경우 null
+   * @return 저장된 버전 또는 삭제 펜스가 같거나 새로워 저장하지 않았으면 true
+   */
+  public static boolean isRejected(Object result) {
+    return result instanceof Number number && number.longValue() <= 0;
+  }
+
+  /**
+   * 버전이 새로워 저장한 횟수
+   *
+   * @return 저장 횟수
+   */
+  public long getWrittenCount() {
+    return writtenCount.sum();
+  }
+
+  /**
+   * 저장된 버전 또는 삭제 펜스보다 오래되어 저장하지 않은 횟수
+   *
+   * @return 저장 거부 횟수
+   */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /**
+   * 삭제하면서 펜스를 남긴 횟수
+   *
+   * @return 펜스 횟수
+   */
+  public long getFencedCount() {
+    return fencedCount.sum();
+  }
+
+  /**
+   * Lua 스크립트를 실행하며, 파이프라인 안에서는 EVALSHA 대신 스크립트 원문으로 EVAL을 전송
+   *
+   * <p>RedisTemplate은 EVALSHA가 NOSCRIPT로 실패하면 EVAL로 다시 실행하지만, 파이프라인 안에서는 결과를 파이프라인을
+   * 닫을 때 받으므로 다시 실행하지 못함. 원문을 보내면 노드의 스크립트 캐시(재시작, 장애 조치, SCRIPT FLUSH)와 관계없이
+   * 실행되며, 파이프라인 밖에서는 EVALSHA로 원문 전송을 생략</p>
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate 또는 파이프라인
+   * @param script     실행할 스크립트
+   * @param keys       스크립트의 KEYS
+   * @param args       스크립트의 ARGV
+   * @return 스크립트의 결과, 파이프라인 안에서 호출하면 null
+   */
+  static Long executeScript(RedisOperations<String, ?> operations, RedisScript<Long> script,
+      List<String> keys, byte[]... args) {
+    if (!Boolean.TRUE.equals(
+        operations.execute((RedisCallback<Boolean>) RedisConnection::isPipelined))) {
+      return operations.execute(script, RedisSerializer.byteArray(), RESULT_SERIALIZER, keys,
+          (Object[]) args);
+    }
+    byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+    for (int i = 0; i < keys.size(); i++) {
+      keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+    }
+    System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+    byte[] body = SCRIPT_BODIES.computeIfAbsent(script.getSha1(),
+        sha1 -> script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    return operations.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+        .eval(body, ReturnType.INTEGER, keys.size(), keysAndArgs));
+  }
+
+  /**
+   * 클래스패스의 Lua 스크립트를 한 번만 읽어 생성 (비동기 명령에서 스크립트 원문을 매번 읽지 않도록)
+   *
+   * @param path 스크립트 경로
+   * @return Redis 스크립트
+   */
+  static RedisScript<Long> loadScript(String path) {
+    try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+      return RedisScript.of(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8),
+          Long.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] toBytes(long value) {
+    return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+  }
+}
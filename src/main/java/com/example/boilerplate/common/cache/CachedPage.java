@@ -0,0 +1,49 @@
+package com.example.boilerplate.common.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link Page}를 캐시에 저장하기 위한 직렬화 가능한 엔트리
+ *
+ * <p>페이지 정보(번호, 크기, 정렬)는 캐시 키를 만든 요청에서 다시 생성하므로 목록과 전체 건수만 저장</p>
+ *
+ * @param <T> 목록 데이터의 타입
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@ToString
+public class CachedPage<T> {
+
+  private List<T> content;
+  private long totalElements;
+
+  /**
+   * 조회한 {@link Page}로 캐시 엔트리를 생성
+   *
+   * @param page 조회한 페이지
+   * @param <T>  목록 데이터의 타입
+   * @return 캐시 엔트리
+   */
+  public static <T> CachedPage<T> of(Page<T> page) {
+    return CachedPage.of(new ArrayList<>(page.getContent()), page.getTotalElements());
+  }
+
+  /**
+   * 요청한 페이지 정보로 {@link Page}를 다시 생성
+   *
+   * @param pageable 요청한 페이지 정보
+   * @return 페이지
+   */
+  public Page<T> toPage(Pageable pageable) {
+    return new PageImpl<>(content, pageable, totalElements);
+  }
+}
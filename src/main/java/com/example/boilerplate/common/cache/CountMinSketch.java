@@ -0,0 +1,102 @@
+package com.example.boilerplate.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키 별 접근 빈도를 고정된 메모리로 근사 집계하는 Count-Min Sketch
+ *
+ * <p>키마다 행(row) 수만큼의 카운터를 증가시키고 그 중 최솟값을 빈도로 추정하므로, 추정 값은 실제 빈도보다 작지
+ * 않으며 해시 충돌만큼만 크게 계산됨. {@link #halve()}로 모든 카운터를 절반으로 줄여 오래된 접근의 비중을 낮춤</p>
+ *
+ * <p>행 별 위치는 키의 64비트 해시를 두 32비트 값(h1, h2)으로 나누어 {@code h1 + row * h2}로 계산
+ * (Kirsch–Mitzenmacher)하므로, 키를 한 번만 해시하면서 행마다 독립에 가까운 위치를 얻음</p>
+ */
+public class CountMinSketch {
+
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+  private final int depth;
+  private final int widthMask;
+  private final AtomicLongArray counters;
+
+  /**
+   * Count-Min Sketch를 생성
+   *
+   * @param depth 행 수 (1 이상), 클수록 충돌에 의한 오차가 줄어듦
+   * @param width 행 당 카운터 수, 2의 거듭제곱으로 올림
+   */
+  public CountMinSketch(int depth, int width) {
+    if (depth < 1) {
+      throw new IllegalArgumentException("depth must be positive");
+    }
+    int powerOfTwoWidth = Integer.highestOneBit(Math.max(1, width - 1) << 1);
+    this.depth = depth;
+    this.widthMask = powerOfTwoWidth - 1;
+    this.counters = new AtomicLongArray(depth * powerOfTwoWidth);
+  }
+
+  /**
+   * 키의 빈도를 1 증가시키고 증가된 추정 빈도를 반환
+   *
+   * @param key 접근한 키
+   * @return 추정 빈도
+   */
+  public long increment(String key) {
+    long hash = hash64(key);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash)));
+    }
+    return estimate;
+  }
+
+  /**
+   * 키의 추정 빈도를 반환
+   *
+   * @param key 조회할 키
+   * @return 추정 빈도
+   */
+  public long estimate(String key) {
+    long hash = hash64(key);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.get(index(row, hash)));
+    }
+    return estimate;
+  }
+
+  /**
+   * 모든 카운터를 절반으로 줄임
+   */
+  public void halve() {
+    for (int i = 0; i < counters.length(); i++) {
+      counters.getAndUpdate(i, count -> count >>> 1);
+    }
+  }
+
+  private int index(int row, long hash) {
+    int h1 = (int) hash;
+    // 너비가 2의 거듭제곱이므로 h2를 홀수로 하여 행마다 다른 위치를 가리키도록 함
+    int h2 = (int) (hash >>> 32) | 1;
+    return row * (widthMask + 1) + ((h1 + row * h2) & widthMask);
+  }
+
+  /**
+   * 키의 문자를 모두 반영한 64비트 해시를 MurmurHash3의 fmix64로 섞어 생성
+   *
+   * @param key 해시할 키
+   * @return 64비트 해시
+   */
+  private static long hash64(String key) {
+    long hash = key.length() * GOLDEN_RATIO;
+    for (int i = 0; i < key.length(); i++) {
+      hash = (hash ^ key.charAt(i)) * GOLDEN_RATIO;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,243 @@
+package com.example.boilerplate.common.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터의 증가분을 노드 안에서 {@link LongAdder}로 합산하고, 주기적으로 또는 임계치에 도달하면 한 번에 전송하는 컴포넌트
+ *
+ * <p>전송한 값만큼만 증가분에서 차감하므로 전송 중에 더해진 값은 다음 전송에 포함되며, 전송에 실패하면 증가분을 유지하여
+ * 다음 전송에서 다시 시도. 합산 중인 키가 최대 개수에 도달하면 새 키는 합산하지 않고 바로 전송</p>
+ *
+ * <p>전송 후 증가분이 0인 키는 제거하므로, 합산 중인 키 수는 전송 간격 동안 증가한 키 수로 유지됨</p>
+ */
+@Component
+public class CounterAggregator {
+
+  /**
+   * 증가분을 합산한 결과
+   */
+  public enum AddResult {
+    /**
+     * 증가분을 합산하여 다음 전송을 기다림
+     */
+    AGGREGATED,
+    /**
+     * 증가분을 합산하였고 임계치에 도달하여 바로 전송해야 함
+     */
+    FLUSH,
+    /**
+     * 합산하지 않았으므로 호출한 쪽에서 바로 전송해야 함
+     */
+    DIRECT
+  }
+
+  private final boolean enabled;
+  private final Duration flushInterval;
+  private final long flushThreshold;
+  private final int maximumKeys;
+
+  private final Map<String, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final Lock flushLock = new ReentrantLock();
+
+  private final LongAdder flushCount = new LongAdder();
+  private final LongAdder flushedKeyCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder directCount = new LongAdder();
+
+  /**
+   * 카운터 합산 설정을 받아 생성
+   *
+   * @param enabled        노드 안에서 합산할지 여부, 사용하지 않으면 증가할 때마다 전송
+   * @param flushInterval  주기적으로 전송하는 간격
+   * @param flushThreshold 한 키의 증가분이 이 값 이상이면 주기를 기다리지 않고 전송
+   * @param maximumKeys    합산할 수 있는 최대 키 수
+   */
+  public CounterAggregator(
+      @Value("${redis.counter.enabled:true}") boolean enabled,
+      @Value("${redis.counter.flush-interval:1s}") Duration flushInterval,
+      @Value("${redis.counter.flush-threshold:1000}") long flushThreshold,
+      @Value("${redis.counter.maximum-keys:100000}") int maximumKeys) {
+    this.enabled = enabled;
+    this.flushInterval = flushInterval;
+    this.flushThreshold = flushThreshold;
+    this.maximumKeys = maximumKeys;
+  }
+
+  /**
+   * 키의 증가분을 합산
+   *
+   * @param key   카운터 키
+   * @param delta 증가분
+   * @return 합산 결과, 임계치 도달로 전송이 필요한 경우는 이미 요청된 전송이 없을 때만 {@link AddResult#FLUSH}
+   */
+  public AddResult add(String key, long delta) {
+    LongAdder pendingDelta = pendingDeltas.get(key);
+    if (pendingDelta == null) {
+      if (!enabled || pendingDeltas.size() >= maximumKeys) {
+        directCount.increment();
+        return AddResult.DIRECT;
+      }
+      pendingDelta = pendingDeltas.computeIfAbsent(key, name -> new LongAdder());
+    }
+    pendingDelta.add(delta);
+    if (pendingDeltas.get(key) != pendingDelta) {
+      // 전송 후 제거된 합산기에 더한 경우 증가분을 잃지 않도록 다시 등록
+      restore(key, pendingDelta);
+    }
+    if (Math.abs(pendingDelta.sum()) >= flushThreshold
+        && flushRequested.compareAndSet(false, true)) {
+      return AddResult.FLUSH;
+    }
+    return AddResult.AGGREGATED;
+  }
+
+  /**
+   * 아직 전송하지 않은 증가분을 조회
+   *
+   * @param key 카운터 키
+   * @return 전송하지 않은 증가분
+   */
+  public long getPendingDelta(String key) {
+    LongAdder pendingDelta = pendingDeltas.get(key);
+    return pendingDelta == null ? 0 : pendingDelta.sum();
+  }
+
+  /**
+   * 0이 아닌 증가분을 모두 전송하고, 전송에 성공하면 전송한 값만큼 차감
+   *
+   * <p>전송은 동시에 하나만 실행</p>
+   *
+   * @param sender 키와 증가분의 Map을 전송하고 성공 여부를 반환하는 함수
+   * @return 전송한 키 수, 전송하지 않았거나 실패하면 0
+   */
+  public int flush(Predicate<Map<String, Long>> sender) {
+    flushLock.lock();
+    try {
+      flushRequested.set(false);
+      Map<String, Long> deltas = new HashMap<>();
+      pendingDeltas.forEach((key, pendingDelta) -> {
+        long delta = pendingDelta.sum();
+        if (delta != 0) {
+          deltas.put(key, delta);
+        } else {
+          removeIfZero(key, pendingDelta);
+        }
+      });
+      if (deltas.isEmpty()) {
+        return 0;
+      }
+      if (!sender.test(deltas)) {
+        failedCount.increment();
+        return 0;
+      }
+      deltas.forEach((key, delta) -> {
+        LongAdder pendingDelta = pendingDeltas.get(key);
+        pendingDelta.add(-delta);
+        removeIfZero(key, pendingDelta);
+      });
+      flushCount.increment();
+      flushedKeyCount.add(deltas.size());
+      return deltas.size();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * 주기적으로 전송하는 간격
+   *
+   * @return 전송 간격
+   */
+  public Duration getFlushInterval() {
+    return flushInterval;
+  }
+
+  /**
+   * 전송에 성공한 횟수
+   *
+   * @return 전송 횟수
+   */
+  public long getFlushCount() {
+    return flushCount.sum();
+  }
+
+  /**
+   * 전송에 성공한 키의 누적 수
+   *
+   * @return 전송한 키의 누적 수
+   */
+  public long getFlushedKeyCount() {
+    return flushedKeyCount.sum();
+  }
+
+  /**
+   * 전송에 실패한 횟수
+   *
+   * @return 실패 횟수
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /**
+   * 합산하지 않고 바로 전송하도록 반환한 횟수
+   *
+   * @return 바로 전송한 횟수
+   */
+  public long getDirectCount() {
+    return directCount.sum();
+  }
+
+  /**
+   * 합산 중인 키 수
+   *
+   * @return 합산 중인 키 수
+   */
+  public int getKeyCount() {
+    return pendingDeltas.size();
+  }
+
+  /**
+   * 증가분이 0인 합산기를 제거하며, 제거하는 사이에 더해진 증가분이 있으면 다시 등록
+   *
+   * @param key          카운터 키
+   * @param pendingDelta 제거할 합산기
+   */
+  private void removeIfZero(String key, LongAdder pendingDelta) {
+    if (pendingDelta.sum() == 0 && pendingDeltas.remove(key, pendingDelta)) {
+      restore(key, pendingDelta);
+    }
+  }
+
+  /**
+   * 제거된 합산기에 남은 증가분을 키의 현재 합산기로 옮기고, 현재 합산기가 없으면 제거된 합산기를 다시 등록
+   *
+   * <p>{@link LongAdder#sumThenReset()}은 셀마다 값을 읽으면서 0으로 바꾸므로, 여러 스레드가 동시에 옮겨도 증가분은 한
+   * 번만 옮겨짐</p>
+   *
+   * @param key     카운터 키
+   * @param removed 맵에서 제거된 합산기
+   */
+  private void restore(String key, LongAdder removed) {
+    if (removed.sum() == 0) {
+      return;
+    }
+    pendingDeltas.merge(key, removed, (current, orphan) -> {
+      if (current != orphan) {
+        current.add(orphan.sumThenReset());
+      }
+      return current;
+    });
+  }
+}
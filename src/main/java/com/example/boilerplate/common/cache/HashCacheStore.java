@@ -0,0 +1,215 @@
+package com.example.boilerplate.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 값을 속성마다 하나의 필드를 가진 Redis Hash로 저장하고 조회하는 컴포넌트
+ *
+ * <p>필드 값은 속성의 JSON 문자열이며, 데이터를 수정하면 바뀐 필드만 HSET으로 덮어쓰므로(write-through) 캐시를 삭제하고
+ * 다시 적재하지 않아도 됨. 필드 수와 값의 크기가 {@code hash-max-listpack-entries}, {@code hash-max-listpack-value}
+ * 이하이면 Redis가 listpack 인코딩으로 저장하여 키 당 메모리가 줄어듦</p>
+ *
+ * <p>저장과 수정은 {@link CacheVersionFence}와 같은 버전 키를 사용하는 Lua 스크립트로 처리하며, 존재하지 않는 데이터는
+ * {@code @tombstone} 필드 하나만 가진 Hash로 저장</p>
+ */
+@Component
+public class HashCacheStore {
+
+  static final String TOMBSTONE_FIELD = "@tombstone";
+
+  private static final RedisScript<Long> VERSIONED_HSET_SCRIPT =
+      CacheVersionFence.loadScript("script/redis/versioned-hset.lua");
+  private static final RedisScript<Long> FENCED_HASH_UPDATE_SCRIPT =
+      CacheVersionFence.loadScript("script/redis/fenced-hash-update.lua");
+  private static final TypeReference<Map<String, Object>> FIELDS_TYPE = new TypeReference<>() {
+  };
+
+  private final ObjectMapper objectMapper;
+  private final CacheVersionFence cacheVersionFence;
+
+  private final LongAdder updatedCount = new LongAdder();
+  private final LongAdder missedCount = new LongAdder();
+  private final LongAdder evictedCount = new LongAdder();
+
+  /**
+   * Hash 변환에 사용할 ObjectMapper와 버전 설정을 받아 생성
+   *
+   * @param objectMapper      속성과 필드 값을 변환하는 ObjectMapper
+   * @param cacheVersionFence 버전 비교 저장 및 삭제 펜스 설정
+   */
+  public HashCacheStore(ObjectMapper objectMapper, CacheVersionFence cacheVersionFence) {
+    this.objectMapper = objectMapper;
+    this.cacheVersionFence = cacheVersionFence;
+  }
+
+  /**
+   * 캐시 값을 Hash 필드로 변환
+   *
+   * @param value 저장할 값 또는 {@link CacheTombstone}
+   * @return 필드 이름과 JSON 문자열의 Map
+   */
+  public Map<String, String> encode(Object value) {
+    if (value instanceof CacheTombstone cacheTombstone) {
+      return Map.of(TOMBSTONE_FIELD, cacheTombstone.getStatusCode());
+    }
+    return encodeFields(value);
+  }
+
+  /**
+   * 덮어쓸 속성을 Hash 필드로 변환
+   *
+   * @param fields 속성 이름과 값의 Map 또는 객체 (객체이면 모든 속성)
+   * @return 필드 이름과 JSON 문자열의 Map
+   * @throws IllegalArgumentException 속성을 JSON으로 변환할 수 없는 경우
+   */
+  public Map<String, String> encodeFields(Object fields) {
+    Map<String, String> encoded = new LinkedHashMap<>();
+    try {
+      for (Map.Entry<String, Object> entry : objectMapper.convertValue(fields, FIELDS_TYPE)
+          .entrySet()) {
+        encoded.put(entry.getKey(), objectMapper.writeValueAsString(entry.getValue()));
+      }
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot encode hash fields", e);
+    }
+    return encoded;
+  }
+
+  /**
+   * Hash 필드를 캐시 값으로 변환
+   *
+   * @param entries       HGETALL로 조회한 필드와 값
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param <T>           반환하는 객체의 타입
+   * @return 캐시 값 또는 {@link CacheTombstone}, 필드가 없으면 null
+   * @throws IllegalArgumentException 필드 값을 변환할 수 없는 경우
+   */
+  public <T> Object decode(Map<?, ?> entries, TypeReference<T> typeReference) {
+    if (entries == null || entries.isEmpty()) {
+      return null;
+    }
+    Object statusCode = entries.get(TOMBSTONE_FIELD);
+    if (statusCode != null) {
+      return CacheTombstone.of(statusCode.toString());
+    }
+    ObjectNode objectNode = objectMapper.createObjectNode();
+    try {
+      for (Map.Entry<?, ?> entry : entries.entrySet()) {
+        objectNode.set(entry.getKey().toString(),
+            objectMapper.readTree(entry.getValue().toString()));
+      }
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot decode hash fields", e);
+    }
+    return objectMapper.convertValue(objectNode,
+        objectMapper.getTypeFactory().constructType(typeReference));
+  }
+
+  /**
+   * DB에서 적재한 값을 Hash로 다시 저장하며, 버전이 있으면 저장된 버전보다 새로울 때만 저장
+   *
+   * <p>파이프라인 안에서 호출하면 스크립트 원문으로 EVAL을 전송하고, 결과는 파이프라인의 결과 목록으로 반환되며 이 메서드는
+   * null 반환</p>
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate 또는 파이프라인
+   * @param cacheKey   Redis 캐시 키
+   * @param fields     저장할 필드
+   * @param ttl        캐시 만료 시간
+   * @param version    값의 버전, null이거나 버전을 사용하지 않으면 비교 없이 저장
+   * @return 저장했으면 1, 저장된 버전이 같거나 새로우면 0
+   */
+  public Long write(RedisOperations<String, String> operations, String cacheKey,
+      Map<String, String> fields, Duration ttl, Long version) {
+    String versionArg = version != null && cacheVersionFence.isEnabled()
+        ? String.valueOf(version) : "";
+    Long result = CacheVersionFence.executeScript(operations, VERSIONED_HSET_SCRIPT,
+        List.of(cacheKey, CacheVersionFence.versionKey(cacheKey)),
+        toArgs(versionArg, ttl, fields));
+    cacheVersionFence.recordWrite(result);
+    return result;
+  }
+
+  /**
+   * 캐시된 Hash의 필드만 덮어쓰고 수정 시각을 펜스로 남김
+   *
+   * <p>캐시가 없으면 저장하지 않으며, Hash가 아닌 값이나 Tombstone이 저장되어 있으면 삭제</p>
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate
+   * @param cacheKey   Redis 캐시 키
+   * @param fields     덮어쓸 필드
+   * @return 덮어썼으면 1, 캐시가 없으면 0, 삭제했으면 -1
+   */
+  public Long update(RedisOperations<String, String> operations, String cacheKey,
+      Map<String, String> fields) {
+    String fenceArg = cacheVersionFence.isEnabled()
+        ? String.valueOf(cacheVersionFence.newVersion()) : "";
+    Long result = CacheVersionFence.executeScript(operations, FENCED_HASH_UPDATE_SCRIPT,
+        List.of(cacheKey, CacheVersionFence.versionKey(cacheKey)),
+        toArgs(fenceArg, cacheVersionFence.getFenceTtl(), fields));
+    if (result != null) {
+      if (result > 0) {
+        updatedCount.increment();
+      } else if (result == 0) {
+        missedCount.increment();
+      } else {
+        evictedCount.increment();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 캐시된 Hash의 필드를 덮어쓴 횟수
+   *
+   * @return 덮어쓴 횟수
+   */
+  public long getUpdatedCount() {
+    return updatedCount.sum();
+  }
+
+  /**
+   * 캐시가 없어 덮어쓰지 않은 횟수
+   *
+   * @return 캐시가 없었던 횟수
+   */
+  public long getMissedCount() {
+    return missedCount.sum();
+  }
+
+  /**
+   * Hash가 아닌 값이나 Tombstone이 저장되어 있어 삭제한 횟수
+   *
+   * @return 삭제 횟수
+   */
+  public long getEvictedCount() {
+    return evictedCount.sum();
+  }
+
+  private static byte[][] toArgs(String version, Duration ttl, Map<String, String> fields) {
+    List<byte[]> args = new ArrayList<>(2 + fields.size() * 2);
+    args.add(toBytes(version));
+    args.add(toBytes(String.valueOf(ttl.toMillis())));
+    fields.forEach((field, value) -> {
+      args.add(toBytes(field));
+      args.add(toBytes(value));
+    });
+    return args.toArray(new byte[0][]);
+  }
+
+  private static byte[] toBytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
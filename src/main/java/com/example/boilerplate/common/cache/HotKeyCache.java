@@ -0,0 +1,236 @@
+package com.example.boilerplate.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접근 빈도가 높은 키(Hot Key)를 찾아 짧은 TTL의 로컬 복제본으로 제공하는 캐시
+ *
+ * <p>조회되는 키를 일정 비율로 샘플링하여 {@link CountMinSketch}로 빈도를 추정하고, 윈도우 동안의 추정 빈도가
+ * 기준 이상인 키를 최대 top-k개까지 Hot Key로 승격. Hot Key의 값은 로컬에 복제되어 Redis 샤드 하나에 요청이
+ * 몰리지 않도록 하며, 윈도우가 지날 때마다 빈도를 절반으로 줄여 더 이상 자주 조회되지 않는 키는 강등</p>
+ *
+ * <p>{@link NearCache}와 별개로 동작하므로 로컬 캐시를 사용하지 않는 환경에서도 Hot Key만 로컬에 보관</p>
+ */
+@Slf4j
+@Component
+public class HotKeyCache {
+
+  private final boolean enabled;
+  private final int sampleRate;
+  private final long threshold;
+  private final long windowNanos;
+  private final int topK;
+
+  private final CountMinSketch sketch;
+  private final Map<String, Long> hotKeys = new ConcurrentHashMap<>();
+  private final Cache<String, Object> replicas;
+  private final AtomicLong windowStartedAt = new AtomicLong(System.nanoTime());
+
+  private final LongAdder promotedCount = new LongAdder();
+  private final LongAdder demotedCount = new LongAdder();
+  private final LongAdder hitCount = new LongAdder();
+
+  /**
+   * Hot Key 설정을 받아 생성
+   *
+   * @param enabled    Hot Key 감지 및 로컬 복제 사용 여부
+   * @param sampleRate 샘플링 비율 (N이면 N번 조회 중 1번만 집계)
+   * @param threshold  Hot Key로 승격하는 윈도우 당 추정 조회 수
+   * @param window     빈도를 절반으로 줄이는 주기
+   * @param topK       동시에 유지하는 최대 Hot Key 수
+   * @param ttl        로컬 복제본의 만료 시간
+   * @param width      Count-Min Sketch의 행 당 카운터 수
+   */
+  public HotKeyCache(
+      @Value("${redis.cache.hot-key.enabled:true}") boolean enabled,
+      @Value("${redis.cache.hot-key.sample-rate:8}") int sampleRate,
+      @Value("${redis.cache.hot-key.threshold:1000}") long threshold,
+      @Value("${redis.cache.hot-key.window:10s}") Duration window,
+      @Value("${redis.cache.hot-key.top-k:32}") int topK,
+      @Value("${redis.cache.hot-key.ttl:2s}") Duration ttl,
+      @Value("${redis.cache.hot-key.width:4096}") int width) {
+    this.enabled = enabled;
+    this.sampleRate = Math.max(1, sampleRate);
+    this.threshold = threshold;
+    this.windowNanos = window.toNanos();
+    this.topK = topK;
+    this.sketch = new CountMinSketch(4, width);
+    this.replicas = Caffeine.newBuilder()
+        .maximumSize(topK)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  /**
+   * Hot Key 감지 및 로컬 복제 사용 여부
+   *
+   * @return 사용 중이면 true
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 키의 조회를 집계하고, 로컬 복제본이 있으면 반환
+   *
+   * @param key 조회할 키
+   * @param <T> 반환하는 객체의 타입
+   * @return 로컬 복제본, 없거나 비활성화 상태이면 null 반환
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key) {
+    if (!enabled) {
+      return null;
+    }
+    record(key);
+    Object value = replicas.getIfPresent(key);
+    if (value != null) {
+      hitCount.increment();
+    }
+    return (T) value;
+  }
+
+  /**
+   * Hot Key인 경우에만 값을 로컬에 복제
+   *
+   * @param key   저장할 키
+   * @param value 저장할 값
+   */
+  public void put(String key, Object value) {
+    if (enabled && value != null && hotKeys.containsKey(key)) {
+      replicas.put(key, value);
+    }
+  }
+
+  /**
+   * 키에 해당하는 로컬 복제본을 제거
+   *
+   * @param key 제거할 키
+   */
+  public void evict(String key) {
+    if (enabled) {
+      replicas.invalidate(key);
+    }
+  }
+
+  /**
+   * 현재 Hot Key 목록을 추정 조회 수가 높은 순서로 반환
+   *
+   * @return Hot Key 목록
+   */
+  public List<HotKey> getHotKeys() {
+    return hotKeys.keySet().stream()
+        .map(key -> new HotKey(key, sketch.estimate(key) * sampleRate,
+            replicas.getIfPresent(key) != null))
+        .sorted(Comparator.comparingLong(HotKey::estimatedCount).reversed())
+        .toList();
+  }
+
+  /**
+   * 샘플링된 조회를 집계하고, 추정 빈도가 기준 이상이면 Hot Key로 승격
+   *
+   * <p>Hot Key가 최대 개수만큼 있으면 가장 빈도가 낮은 Hot Key보다 자주 조회된 경우에만 교체하여, 비슷한 빈도의
+   * 키가 승격과 강등을 반복하지 않도록 함</p>
+   *
+   * @param key 조회한 키
+   */
+  private void record(String key) {
+    if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+      return;
+    }
+    decayIfNeeded();
+    long estimatedCount = sketch.increment(key) * sampleRate;
+    if (estimatedCount < threshold || hotKeys.replace(key, estimatedCount) != null) {
+      return;
+    }
+    if (hotKeys.size() >= topK) {
+      Map.Entry<String, Long> coldest = hotKeys.entrySet().stream()
+          .min(Map.Entry.comparingByValue())
+          .orElse(null);
+      if (coldest != null && coldest.getValue() >= estimatedCount) {
+        return;
+      }
+      if (coldest != null) {
+        demote(coldest.getKey());
+      }
+    }
+    if (hotKeys.putIfAbsent(key, estimatedCount) == null) {
+      promotedCount.increment();
+      log.info("hot key promoted. key: {}, estimatedCount: {}", key, estimatedCount);
+    }
+  }
+
+  /**
+   * 윈도우가 지나면 빈도를 절반으로 줄이고, 기준 아래로 떨어진 Hot Key를 강등
+   */
+  private void decayIfNeeded() {
+    long now = System.nanoTime();
+    long startedAt = windowStartedAt.get();
+    if (now - startedAt < windowNanos || !windowStartedAt.compareAndSet(startedAt, now)) {
+      return;
+    }
+    sketch.halve();
+    hotKeys.keySet().stream()
+        .filter(key -> sketch.estimate(key) * sampleRate < threshold)
+        .toList()
+        .forEach(this::demote);
+  }
+
+  private void demote(String key) {
+    if (hotKeys.remove(key) != null) {
+      replicas.invalidate(key);
+      demotedCount.increment();
+      log.info("hot key demoted. key: {}", key);
+    }
+  }
+
+  /**
+   * Hot Key로 승격된 횟수
+   *
+   * @return 승격 횟수
+   */
+  public long getPromotedCount() {
+    return promotedCount.sum();
+  }
+
+  /**
+   * Hot Key에서 강등된 횟수
+   *
+   * @return 강등 횟수
+   */
+  public long getDemotedCount() {
+    return demotedCount.sum();
+  }
+
+  /**
+   * 로컬 복제본으로 응답한 횟수
+   *
+   * @return 로컬 복제본 적중 횟수
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Hot Key 정보
+   *
+   * @param key            캐시 키
+   * @param estimatedCount 윈도우 당 추정 조회 수
+   * @param replicated     로컬 복제본 보유 여부
+   */
+  public record HotKey(String key, long estimatedCount, boolean replicated) {
+
+  }
+}
@@ -0,0 +1,71 @@
+package com.example.boilerplate.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 캐시(L1), Hot Key 로컬 복제본과 Off-heap 캐시를 하나의 프로세스 내부 캐시 계층으로 묶어서 제공
+ */
+@RequiredArgsConstructor
+@Component
+public class LocalCache {
+
+  private final NearCache nearCache;
+  private final HotKeyCache hotKeyCache;
+  private final OffHeapCache offHeapCache;
+
+  /**
+   * 로컬 캐시, Hot Key 로컬 복제본 또는 Off-heap 캐시 사용 여부
+   *
+   * @return 하나라도 사용 중이면 true
+   */
+  public boolean isEnabled() {
+    return nearCache.isEnabled() || hotKeyCache.isEnabled() || offHeapCache.isEnabled();
+  }
+
+  /**
+   * 로컬 캐시, Hot Key 로컬 복제본, Off-heap 캐시 순서로 값을 조회하고, Hot Key 감지를 위해 조회를 집계
+   *
+   * <p>Off-heap 캐시에서 찾은 값은 로컬 캐시에도 저장</p>
+   *
+   * @param key 조회할 키
+   * @param <T> 반환하는 객체의 타입
+   * @return 로컬에 저장된 값, 없으면 null 반환
+   */
+  public <T> T get(String key) {
+    T localValue = nearCache.get(key);
+    T hotValue = hotKeyCache.get(key);
+    if (localValue != null) {
+      return localValue;
+    }
+    if (hotValue != null) {
+      return hotValue;
+    }
+    T offHeapValue = offHeapCache.get(key);
+    nearCache.put(key, offHeapValue);
+    return offHeapValue;
+  }
+
+  /**
+   * 로컬 캐시와 Off-heap 캐시에 저장하고, Hot Key이면 로컬 복제본도 저장
+   *
+   * @param key   저장할 키
+   * @param value 저장할 값
+   */
+  public void put(String key, Object value) {
+    nearCache.put(key, value);
+    hotKeyCache.put(key, value);
+    offHeapCache.put(key, value);
+  }
+
+  /**
+   * 로컬 캐시, Hot Key 로컬 복제본과 Off-heap 캐시에서 키를 제거
+   *
+   * @param key 제거할 키
+   */
+  public void evict(String key) {
+    nearCache.evict(key);
+    hotKeyCache.evict(key);
+    offHeapCache.evict(key);
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.boilerplate.common.cache;
+
+import java.util.Arrays;
+
+/**
+ * long 키와 long 값을 원시 타입 배열에 저장하는 오픈 어드레싱(선형 탐사) 해시 인덱스
+ *
+ * <p>키와 값을 객체로 감싸지 않으므로 항목 수와 관계없이 힙에는 두 개의 배열만 남으며, 삭제는 툼스톤 대신 뒤따르는 항목을
+ * 당겨오는 방식(backward shift)으로 처리. 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 함</p>
+ */
+final class LongLongIndex {
+
+  static final long EMPTY = -1L;
+
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+  private long[] keys;
+  private long[] values;
+  private int mask;
+  private int count;
+
+  /**
+   * 초기 용량을 받아 생성
+   *
+   * @param initialCapacity 초기 용량, 2의 거듭제곱으로 올림
+   */
+  LongLongIndex(int initialCapacity) {
+    allocate(Integer.highestOneBit(Math.max(initialCapacity, 2) * 2 - 1));
+  }
+
+  /**
+   * 키를 해시 값으로 섞음
+   *
+   * @param key 키
+   * @return 해시 값
+   */
+  static long mix(long key) {
+    long hash = key * GOLDEN_RATIO;
+    return hash ^ hash >>> 32;
+  }
+
+  /**
+   * 키에 해당하는 값을 조회
+   *
+   * @param key 조회할 키 (음수가 아니어야 함)
+   * @return 값, 없으면 {@link #EMPTY}
+   */
+  long get(long key) {
+    for (int i = slot(key); ; i = i + 1 & mask) {
+      if (keys[i] == key) {
+        return values[i];
+      }
+      if (keys[i] == EMPTY) {
+        return EMPTY;
+      }
+    }
+  }
+
+  /**
+   * 키와 값을 저장하며, 키가 있으면 값을 덮어씀
+   *
+   * @param key   저장할 키 (음수가 아니어야 함)
+   * @param value 저장할 값
+   */
+  void put(long key, long value) {
+    if ((count + 1) * 2 > keys.length) {
+      resize();
+    }
+    int i = slot(key);
+    while (keys[i] != EMPTY && keys[i] != key) {
+      i = i + 1 & mask;
+    }
+    if (keys[i] == EMPTY) {
+      count++;
+    }
+    keys[i] = key;
+    values[i] = value;
+  }
+
+  /**
+   * 키를 제거
+   *
+   * @param key 제거할 키
+   * @return 제거한 값, 없으면 {@link #EMPTY}
+   */
+  long remove(long key) {
+    int i = slot(key);
+    while (keys[i] != key) {
+      if (keys[i] == EMPTY) {
+        return EMPTY;
+      }
+      i = i + 1 & mask;
+    }
+    long removed = values[i];
+    int j = i;
+    while (true) {
+      j = j + 1 & mask;
+      if (keys[j] == EMPTY) {
+        break;
+      }
+      int home = slot(keys[j]);
+      // j의 원래 위치가 빈 칸 i 이후 (i, j] 구간이 아니면 i로 당겨와야 탐사가 끊기지 않음
+      boolean reachable = i <= j ? i < home && home <= j : i < home || home <= j;
+      if (!reachable) {
+        keys[i] = keys[j];
+        values[i] = values[j];
+        i = j;
+      }
+    }
+    keys[i] = EMPTY;
+    count--;
+    return removed;
+  }
+
+  private int slot(long key) {
+    return (int) mix(key) & mask;
+  }
+
+  private void resize() {
+    long[] oldKeys = keys;
+    long[] oldValues = values;
+    allocate(oldKeys.length * 2);
+    count = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        put(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new long[capacity];
+    mask = capacity - 1;
+    Arrays.fill(keys, EMPTY);
+  }
+}
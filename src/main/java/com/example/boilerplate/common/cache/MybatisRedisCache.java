@@ -0,0 +1,196 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import com.example.boilerplate.common.constants.Constants;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ibatis.cache.Cache;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.DigestUtils;
+
+/**
+ * MyBatis Mapper 네임스페이스의 2차 캐시를 Redis 클러스터에 저장하는 {@link Cache} 구현
+ *
+ * <p>Mapper XML에 {@code <cache type="com.example.boilerplate.common.cache.MybatisRedisCache"/>}를
+ * 추가하여 사용하며, 값은 {@link RedisComponent}의 객체 템플릿({@link CacheValueCodec})으로 직렬화하여 저장. 만료 시간은
+ * {@code redis.cache.mybatis.ttl}을 따르고 {@code <property name="ttl" value="5m"/>}로 Mapper 별로 변경</p>
+ *
+ * <p>캐시 키는 {@code BP:mybatis:<네임스페이스>:<세대 번호>:<CacheKey의 MD5>}이며, 같은 네임스페이스의 insert,
+ * update, delete가 커밋되면 MyBatis가 {@link #clear()}를 호출하여 세대 번호만 증가시키므로 키 검색 없이 O(1)로
+ * 네임스페이스의 모든 조회 결과를 무효화. 다른 경로(JPA 등)에서 같은 데이터를 변경한다면
+ * {@code <property name="generationKey" value="..."/>}로 그 경로가 증가시키는 세대 키를 함께 사용</p>
+ *
+ * <p>조회 결과는 트랜잭션이 커밋된 후에 저장되므로 조회한 스레드가 읽은 세대 번호로 저장하여, 조회 중에 무효화된 이전
+ * 결과가 새 세대에서 조회되지 않도록 함. SqlSession은 한 스레드에서 조회하고 커밋하므로 세대 번호는 스레드 별로 기억하며,
+ * 다른 스레드가 새 세대에서 같은 조회를 해도 덮어쓰지 않음</p>
+ *
+ * <p>MyBatis가 Spring 빈이 아닌 리플렉션으로 생성하므로 {@link MybatisRedisCacheInitializer}가 시작 시점에
+ * {@link RedisComponent}를 전달하며, 전달 전이거나 사용하지 않도록 설정하면 항상 캐시가 없는 것으로 동작</p>
+ */
+public class MybatisRedisCache implements Cache {
+
+  private static final AtomicReference<RedisComponent> REDIS_COMPONENT = new AtomicReference<>();
+  private static final AtomicReference<Duration> DEFAULT_TTL =
+      new AtomicReference<>(Duration.ofMinutes(10));
+  private static final int READ_GENERATION_MAXIMUM_SIZE = 1000;
+  private static final TypeReference<Object> VALUE_TYPE = new TypeReference<>() {
+  };
+
+  private final String namespace;
+  private final String cacheKeyPrefix;
+  private final ThreadLocal<Map<String, String>> readGenerations =
+      ThreadLocal.withInitial(HashMap::new);
+  private String generationKey;
+  private Duration ttl;
+
+  /**
+   * Mapper 네임스페이스를 받아 생성 (MyBatis가 호출)
+   *
+   * @param namespace Mapper 네임스페이스
+   */
+  public MybatisRedisCache(String namespace) {
+    if (namespace == null) {
+      throw new IllegalArgumentException("Cache instances require an ID");
+    }
+    this.namespace = namespace;
+    this.cacheKeyPrefix = Constants.MYBATIS_CACHE_PREFIX + namespace + ":";
+    this.generationKey = cacheKeyPrefix + "generation";
+  }
+
+  /**
+   * 모든 Mapper 캐시가 사용할 RedisComponent와 기본 만료 시간을 설정
+   *
+   * @param redisComponent Redis 명령을 실행할 컴포넌트, null이면 캐시를 사용하지 않음
+   * @param ttl            기본 만료 시간
+   */
+  static void initialize(RedisComponent redisComponent, Duration ttl) {
+    REDIS_COMPONENT.set(redisComponent);
+    DEFAULT_TTL.set(ttl);
+  }
+
+  /**
+   * Mapper의 만료 시간을 설정 ({@code <property name="ttl" value="5m"/>})
+   *
+   * @param ttl 만료 시간 (예: {@code 5m}, {@code PT5M})
+   */
+  public void setTtl(String ttl) {
+    this.ttl = DurationStyle.detectAndParse(ttl);
+  }
+
+  /**
+   * 무효화에 사용할 세대 키를 설정 ({@code <property name="generationKey" value="..."/>})
+   *
+   * @param generationKey 세대 번호를 저장하는 키
+   */
+  public void setGenerationKey(String generationKey) {
+    this.generationKey = generationKey;
+  }
+
+  @Override
+  public String getId() {
+    return namespace;
+  }
+
+  /**
+   * 현재 스레드가 조회할 때 읽은 세대 번호의 키로 조회 결과를 저장
+   *
+   * <p>이 스레드에서 조회하지 않았거나 롤백으로 잊은 키는 저장하지 않음</p>
+   *
+   * @param key   MyBatis CacheKey
+   * @param value 조회 결과
+   */
+  @Override
+  public void putObject(Object key, Object value) {
+    String digest = digest(key);
+    String generation = forgetGeneration(digest);
+    RedisComponent redisComponent = REDIS_COMPONENT.get();
+    if (redisComponent == null || value == null) {
+      return;
+    }
+    if (generation != null) {
+      Duration entryTtl = ttl != null ? ttl : DEFAULT_TTL.get();
+      redisComponent.setObjectValue(cacheKeyPrefix + generation + ":" + digest, value,
+          entryTtl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * 현재 세대 번호의 키로 조회 결과를 조회하고, 저장할 때 사용할 세대 번호를 현재 스레드에 기억
+   *
+   * @param key MyBatis CacheKey
+   * @return 조회 결과, 없거나 Redis를 사용할 수 없으면 null 반환
+   */
+  @Override
+  public Object getObject(Object key) {
+    RedisComponent redisComponent = REDIS_COMPONENT.get();
+    if (redisComponent == null) {
+      return null;
+    }
+    String generation = redisComponent.getGeneration(generationKey);
+    if (generation == null) {
+      return null;
+    }
+    String digest = digest(key);
+    Map<String, String> generations = readGenerations.get();
+    if (generations.size() >= READ_GENERATION_MAXIMUM_SIZE) {
+      generations.clear();
+    }
+    generations.put(digest, generation);
+    return redisComponent.getObjectValue(cacheKeyPrefix + generation + ":" + digest, VALUE_TYPE);
+  }
+
+  /**
+   * 저장할 세대 번호만 잊어서 조회 결과를 저장하지 않도록 함
+   *
+   * <p>MyBatis는 트랜잭션을 롤백할 때 캐시가 없었던 키에 대해서만 호출하며, Redis에 저장된 값은 세대 번호로 무효화</p>
+   *
+   * @param key MyBatis CacheKey
+   * @return 항상 null
+   */
+  @Override
+  public Object removeObject(Object key) {
+    forgetGeneration(digest(key));
+    return null;
+  }
+
+  /**
+   * 세대 번호를 증가시켜 네임스페이스의 모든 조회 결과를 무효화
+   */
+  @Override
+  public void clear() {
+    readGenerations.remove();
+    RedisComponent redisComponent = REDIS_COMPONENT.get();
+    if (redisComponent != null) {
+      redisComponent.incrementGenerations(List.of(generationKey));
+    }
+  }
+
+  /**
+   * Redis에 저장된 항목 수는 세지 않으므로 항상 0
+   *
+   * @return 0
+   */
+  @Override
+  public int getSize() {
+    return 0;
+  }
+
+  private String forgetGeneration(String digest) {
+    Map<String, String> generations = readGenerations.get();
+    String generation = generations.remove(digest);
+    if (generations.isEmpty()) {
+      readGenerations.remove();
+    }
+    return generation;
+  }
+
+  private static String digest(Object key) {
+    return DigestUtils.md5DigestAsHex(String.valueOf(key).getBytes(StandardCharsets.UTF_8));
+  }
+}
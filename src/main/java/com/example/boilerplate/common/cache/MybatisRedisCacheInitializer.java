@@ -0,0 +1,51 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis가 리플렉션으로 생성하는 {@link MybatisRedisCache}에 RedisComponent와 만료 시간을 전달하는 컴포넌트
+ */
+@Component
+public class MybatisRedisCacheInitializer {
+
+  private final RedisComponent redisComponent;
+  private final boolean enabled;
+  private final Duration ttl;
+
+  /**
+   * MyBatis 2차 캐시 설정을 받아 생성
+   *
+   * @param redisComponent Redis 명령을 실행할 컴포넌트
+   * @param enabled        MyBatis 2차 캐시 사용 여부
+   * @param ttl            Mapper에 만료 시간을 설정하지 않은 경우의 만료 시간
+   */
+  public MybatisRedisCacheInitializer(
+      RedisComponent redisComponent,
+      @Value("${redis.cache.mybatis.enabled:true}") boolean enabled,
+      @Value("${redis.cache.mybatis.ttl:10m}") Duration ttl) {
+    this.redisComponent = redisComponent;
+    this.enabled = enabled;
+    this.ttl = ttl;
+  }
+
+  /**
+   * MyBatis 2차 캐시에 RedisComponent와 만료 시간을 전달
+   */
+  @PostConstruct
+  void initialize() {
+    MybatisRedisCache.initialize(enabled ? redisComponent : null, ttl);
+  }
+
+  /**
+   * 종료 시 MyBatis 2차 캐시가 더 이상 Redis를 사용하지 않도록 해제
+   */
+  @PreDestroy
+  void destroy() {
+    MybatisRedisCache.initialize(null, ttl);
+  }
+}
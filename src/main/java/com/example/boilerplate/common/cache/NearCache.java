@@ -0,0 +1,88 @@
+package com.example.boilerplate.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis(L2) 앞단에서 동작하는 프로세스 내부 로컬(L1) 캐시
+ *
+ * <p>최대 건수와 TTL로 크기를 제한하며, 다른 노드에서 발생한 무효화는
+ * {@link CacheInvalidationListener}를 통해 전달받아 제거</p>
+ */
+@Slf4j
+@Component
+public class NearCache {
+
+  private final boolean enabled;
+  private final Cache<String, Object> cache;
+
+  /**
+   * 로컬 캐시 설정을 받아 NearCache를 생성
+   *
+   * @param enabled     로컬 캐시 사용 여부
+   * @param maximumSize 로컬 캐시에 보관할 최대 건수
+   * @param ttl         로컬 캐시 만료 시간
+   */
+  public NearCache(
+      @Value("${redis.cache.near.enabled:false}") boolean enabled,
+      @Value("${redis.cache.near.maximum-size:10000}") long maximumSize,
+      @Value("${redis.cache.near.ttl:30s}") Duration ttl) {
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  /**
+   * 로컬 캐시 사용 여부
+   *
+   * @return 사용 중이면 true
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 키에 해당하는 값을 로컬 캐시에서 조회
+   *
+   * @param key 조회할 키
+   * @param <T> 반환하는 객체의 타입
+   * @return 로컬 캐시에 저장된 값, 없거나 비활성화 상태이면 null 반환
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key) {
+    if (!enabled) {
+      return null;
+    }
+    return (T) cache.getIfPresent(key);
+  }
+
+  /**
+   * 키에 해당하는 값을 로컬 캐시에 저장
+   *
+   * @param key   저장할 키
+   * @param value 저장할 값
+   */
+  public void put(String key, Object value) {
+    if (enabled && value != null) {
+      cache.put(key, value);
+    }
+  }
+
+  /**
+   * 키에 해당하는 값을 로컬 캐시에서 제거
+   *
+   * @param key 제거할 키
+   */
+  public void evict(String key) {
+    if (enabled) {
+      cache.invalidate(key);
+      log.debug("evict near cache key: {}", key);
+    }
+  }
+}
@@ -0,0 +1,519 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.constants.Constants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 아이디로 조회하는 엔티티 캐시 값(예: {@code BP:todo:1})을 직렬화하여 힙 밖의 Direct ByteBuffer에 보관하는 로컬 캐시
+ *
+ * <p>값은 {@link CacheValueCodec}으로 직렬화한 바이트로 저장하므로 많은 항목을 보관해도 GC 대상 객체가 늘어나지 않음.
+ * 메모리는 {@code slab-size} 크기의 페이지 단위로 용량까지 필요할 때 할당하고, 페이지는 64바이트부터 2배씩 커지는 슬롯
+ * 크기 별 슬랩 클래스에 배정. 키는 네임스페이스 번호와 아이디를 합친 long으로 변환하여 {@link LongLongIndex}에 슬롯
+ * 위치와 함께 저장</p>
+ *
+ * <p>용량을 모두 할당한 슬랩 클래스에 빈 슬롯이 없으면 CLOCK 알고리즘으로 최근에 조회되지 않은 슬롯을 교체하며, 다른
+ * 노드에서 발생한 무효화는 {@link CacheInvalidationListener}를 통해 {@link LocalCache}로 전달받아 제거</p>
+ */
+@Slf4j
+@Component
+public class OffHeapCache implements MeterBinder {
+
+  static final String ENTRIES = "bp.cache.offheap.entries";
+  static final String USED_BYTES = "bp.cache.offheap.used";
+  static final String ALLOCATED_BYTES = "bp.cache.offheap.allocated";
+  static final String CAPACITY_BYTES = "bp.cache.offheap.capacity";
+  static final String GETS = "bp.cache.offheap.gets";
+  static final String EVICTIONS = "bp.cache.offheap.evictions";
+  static final String REJECTIONS = "bp.cache.offheap.rejections";
+
+  private static final int SEGMENT_COUNT = 16;
+  private static final int MIN_SLOT_SHIFT = 6;
+  private static final int NAMESPACE_SHIFT = 56;
+  private static final int MAX_ID_DIGITS = 16;
+
+  private final CacheValueCodec cacheValueCodec;
+  private final boolean enabled;
+  private final long capacityBytes;
+  private final long ttlMillis;
+  private final List<String> prefixes;
+  private final Segment[] segments;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+
+  /**
+   * Off-heap 캐시 설정을 받아 생성
+   *
+   * @param cacheValueCodec 캐시 값 직렬화 코덱
+   * @param enabled         Off-heap 캐시 사용 여부
+   * @param capacity        Off-heap 캐시에 할당할 최대 크기 ({@code -XX:MaxDirectMemorySize} 이하)
+   * @param slabSize        한 번에 할당하는 페이지 크기이자 저장할 수 있는 값의 최대 크기
+   * @param namespaces      보관할 캐시 이름 (예: {@code todo}이면 {@code BP:todo:<아이디>} 키)
+   * @param ttl             Off-heap 캐시 만료 시간
+   */
+  public OffHeapCache(
+      CacheValueCodec cacheValueCodec,
+      @Value("${redis.cache.off-heap.enabled:false}") boolean enabled,
+      @Value("${redis.cache.off-heap.capacity:256MB}") DataSize capacity,
+      @Value("${redis.cache.off-heap.slab-size:64KB}") DataSize slabSize,
+      @Value("${redis.cache.off-heap.namespaces:todo,member}") List<String> namespaces,
+      @Value("${redis.cache.off-heap.ttl:1m}") Duration ttl) {
+    this.cacheValueCodec = cacheValueCodec;
+    this.enabled = enabled;
+    this.ttlMillis = ttl.toMillis();
+    this.prefixes = namespaces.stream()
+        .map(namespace -> Constants.BP_CACHE_PREFIX + namespace + ":")
+        .toList();
+    int pageSize = Integer.highestOneBit(
+        (int) Math.min(Math.max(slabSize.toBytes(), 1L << MIN_SLOT_SHIFT), 1 << 30));
+    long pageCount = Math.max(1, capacity.toBytes() / pageSize);
+    int segmentCount = (int) Math.min(SEGMENT_COUNT, Long.highestOneBit(pageCount));
+    this.capacityBytes = pageCount * pageSize;
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      this.segments[i] = new Segment(pageSize, (int) (pageCount / segmentCount), evictionCount);
+    }
+  }
+
+  /**
+   * Off-heap 캐시 사용 여부
+   *
+   * @return 사용 중이면 true
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 키에 해당하는 값을 Off-heap 캐시에서 조회
+   *
+   * @param key 조회할 키
+   * @param <T> 반환하는 객체의 타입
+   * @return 저장된 값, 없거나 보관 대상이 아닌 키이거나 비활성화 상태이면 null 반환
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key) {
+    long indexKey = indexKey(key);
+    if (indexKey == LongLongIndex.EMPTY) {
+      return null;
+    }
+    byte[] bytes = segment(indexKey).read(indexKey, System.currentTimeMillis());
+    if (bytes == null) {
+      missCount.increment();
+      return null;
+    }
+    try {
+      T value = (T) cacheValueCodec.deserialize(bytes);
+      hitCount.increment();
+      return value;
+    } catch (SerializationException e) {
+      log.warn("Off-heap cache value cannot be deserialized, key: {}", key, e);
+      segment(indexKey).remove(indexKey);
+      missCount.increment();
+      return null;
+    }
+  }
+
+  /**
+   * 키에 해당하는 값을 직렬화하여 Off-heap 캐시에 저장
+   *
+   * <p>값이 페이지보다 크거나 할당할 페이지와 교체할 슬롯이 없으면 저장하지 않고 기존 값만 제거</p>
+   *
+   * @param key   저장할 키
+   * @param value 저장할 값
+   */
+  public void put(String key, Object value) {
+    long indexKey = indexKey(key);
+    if (indexKey == LongLongIndex.EMPTY || value == null) {
+      return;
+    }
+    byte[] bytes = cacheValueCodec.serialize(value);
+    if (!segment(indexKey).write(indexKey, bytes, System.currentTimeMillis() + ttlMillis)) {
+      rejectedCount.increment();
+    }
+  }
+
+  /**
+   * 키에 해당하는 값을 Off-heap 캐시에서 제거
+   *
+   * @param key 제거할 키
+   */
+  public void evict(String key) {
+    long indexKey = indexKey(key);
+    if (indexKey != LongLongIndex.EMPTY) {
+      segment(indexKey).remove(indexKey);
+    }
+  }
+
+  /**
+   * 캐시 키를 네임스페이스 번호(상위 8비트)와 아이디를 합친 인덱스 키로 변환
+   *
+   * @param key 캐시 키
+   * @return 인덱스 키, 비활성화 상태이거나 보관할 네임스페이스의 아이디 키가 아니면 {@link LongLongIndex#EMPTY}
+   */
+  long indexKey(String key) {
+    if (!enabled || key == null) {
+      return LongLongIndex.EMPTY;
+    }
+    for (int namespace = 0; namespace < prefixes.size(); namespace++) {
+      String prefix = prefixes.get(namespace);
+      if (key.startsWith(prefix)) {
+        long id = parseId(key, prefix.length());
+        return id < 0 ? LongLongIndex.EMPTY : (long) namespace << NAMESPACE_SHIFT | id;
+      }
+    }
+    return LongLongIndex.EMPTY;
+  }
+
+  /**
+   * 저장된 항목 수
+   *
+   * @return 항목 수
+   */
+  public long getEntryCount() {
+    return sum(Segment::getEntryCount);
+  }
+
+  /**
+   * 저장된 값의 바이트 합계
+   *
+   * @return 사용 중인 바이트
+   */
+  public long getUsedBytes() {
+    return sum(Segment::getUsedBytes);
+  }
+
+  /**
+   * 할당한 페이지의 바이트 합계
+   *
+   * @return 할당한 바이트
+   */
+  public long getAllocatedBytes() {
+    return sum(Segment::getAllocatedBytes);
+  }
+
+  /**
+   * 할당할 수 있는 최대 바이트
+   *
+   * @return 용량
+   */
+  public long getCapacityBytes() {
+    return capacityBytes;
+  }
+
+  /**
+   * Off-heap 캐시에서 값을 찾은 횟수
+   *
+   * @return 히트 횟수
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * 보관 대상 키를 Off-heap 캐시에서 찾지 못한 횟수
+   *
+   * @return 미스 횟수
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * 빈 슬롯이 없어 CLOCK 알고리즘으로 교체한 횟수
+   *
+   * @return 교체 횟수
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * 값이 너무 크거나 슬롯을 할당할 수 없어 저장하지 않은 횟수
+   *
+   * @return 저장 거부 횟수
+   */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /**
+   * 점유율 게이지와 히트, 미스, 교체 카운터를 등록
+   *
+   * @param registry 지표를 등록할 MeterRegistry
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!enabled) {
+      return;
+    }
+    Gauge.builder(ENTRIES, this, OffHeapCache::getEntryCount).register(registry);
+    Gauge.builder(USED_BYTES, this, OffHeapCache::getUsedBytes)
+        .baseUnit("bytes").register(registry);
+    Gauge.builder(ALLOCATED_BYTES, this, OffHeapCache::getAllocatedBytes)
+        .baseUnit("bytes").register(registry);
+    Gauge.builder(CAPACITY_BYTES, this, OffHeapCache::getCapacityBytes)
+        .baseUnit("bytes").register(registry);
+    FunctionCounter.builder(GETS, this, OffHeapCache::getHitCount)
+        .tag("result", "hit").register(registry);
+    FunctionCounter.builder(GETS, this, OffHeapCache::getMissCount)
+        .tag("result", "miss").register(registry);
+    FunctionCounter.builder(EVICTIONS, this, OffHeapCache::getEvictionCount).register(registry);
+    FunctionCounter.builder(REJECTIONS, this, OffHeapCache::getRejectedCount).register(registry);
+  }
+
+  private Segment segment(long indexKey) {
+    return segments[(int) (LongLongIndex.mix(indexKey) >>> 32) & segments.length - 1];
+  }
+
+  private long sum(ToLongFunction<Segment> getter) {
+    long total = 0;
+    for (Segment segment : segments) {
+      total += getter.applyAsLong(segment);
+    }
+    return total;
+  }
+
+  private static long parseId(String key, int start) {
+    int length = key.length() - start;
+    if (length <= 0 || length > MAX_ID_DIGITS || length > 1 && key.charAt(start) == '0') {
+      return -1;
+    }
+    long id = 0;
+    for (int i = start; i < key.length(); i++) {
+      char digit = key.charAt(i);
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+      id = id * 10 + digit - '0';
+    }
+    return id;
+  }
+
+  /**
+   * 하나의 잠금으로 보호하는 인덱스와 슬랩 클래스의 묶음
+   */
+  private static final class Segment {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongLongIndex index = new LongLongIndex(64);
+    private final SlabClass[] slabClasses;
+    private final int pageSize;
+    private final int maxPages;
+    private final LongAdder evictionCount;
+    private int pageCount;
+    private long entryCount;
+    private long usedBytes;
+
+    Segment(int pageSize, int maxPages, LongAdder evictionCount) {
+      this.pageSize = pageSize;
+      this.maxPages = maxPages;
+      this.evictionCount = evictionCount;
+      int classCount = Integer.numberOfTrailingZeros(pageSize) - MIN_SLOT_SHIFT + 1;
+      this.slabClasses = new SlabClass[classCount];
+      for (int i = 0; i < classCount; i++) {
+        this.slabClasses[i] = new SlabClass(1 << MIN_SLOT_SHIFT + i, pageSize);
+      }
+    }
+
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    byte[] read(long key, long now) {
+      lock.lock();
+      try {
+        long location = index.get(key);
+        if (location == LongLongIndex.EMPTY) {
+          return null;
+        }
+        SlabClass slabClass = slabClasses[(int) (location >>> 32)];
+        int slot = (int) location;
+        if (slabClass.expireAts[slot] <= now) {
+          index.remove(key);
+          release(slabClass, slot);
+          return null;
+        }
+        slabClass.referenced[slot] = true;
+        return slabClass.read(slot);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    boolean write(long key, byte[] bytes, long expireAt) {
+      lock.lock();
+      try {
+        removeLocked(key);
+        if (bytes.length > pageSize) {
+          return false;
+        }
+        int slotSize = Math.max(bytes.length, 1 << MIN_SLOT_SHIFT);
+        int classIndex = Integer.SIZE - Integer.numberOfLeadingZeros(slotSize - 1) - MIN_SLOT_SHIFT;
+        SlabClass slabClass = slabClasses[classIndex];
+        int slot = allocate(slabClass);
+        if (slot < 0) {
+          return false;
+        }
+        slabClass.write(slot, bytes);
+        slabClass.keys[slot] = key;
+        slabClass.lengths[slot] = bytes.length;
+        slabClass.expireAts[slot] = expireAt;
+        slabClass.referenced[slot] = false;
+        index.put(key, (long) classIndex << 32 | slot);
+        entryCount++;
+        usedBytes += bytes.length;
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void remove(long key) {
+      lock.lock();
+      try {
+        removeLocked(key);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    long getEntryCount() {
+      lock.lock();
+      try {
+        return entryCount;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    long getUsedBytes() {
+      lock.lock();
+      try {
+        return usedBytes;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    long getAllocatedBytes() {
+      lock.lock();
+      try {
+        return (long) pageCount * pageSize;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void removeLocked(long key) {
+      long location = index.remove(key);
+      if (location != LongLongIndex.EMPTY) {
+        release(slabClasses[(int) (location >>> 32)], (int) location);
+      }
+    }
+
+    private int allocate(SlabClass slabClass) {
+      if (slabClass.freeCount == 0) {
+        if (pageCount < maxPages) {
+          slabClass.addPage();
+          pageCount++;
+        } else if (slabClass.keys.length == 0) {
+          return -1;
+        } else {
+          return evict(slabClass);
+        }
+      }
+      return slabClass.freeSlots[--slabClass.freeCount];
+    }
+
+    /**
+     * CLOCK 알고리즘으로 시계 바늘을 돌리며 조회 표시가 있으면 지우고, 없으면 그 슬롯을 비워서 반환
+     */
+    private int evict(SlabClass slabClass) {
+      int slot = slabClass.hand;
+      while (slabClass.referenced[slot]) {
+        slabClass.referenced[slot] = false;
+        slot = (slot + 1) % slabClass.keys.length;
+      }
+      slabClass.hand = (slot + 1) % slabClass.keys.length;
+      index.remove(slabClass.keys[slot]);
+      entryCount--;
+      usedBytes -= slabClass.lengths[slot];
+      slabClass.keys[slot] = LongLongIndex.EMPTY;
+      evictionCount.increment();
+      return slot;
+    }
+
+    private void release(SlabClass slabClass, int slot) {
+      entryCount--;
+      usedBytes -= slabClass.lengths[slot];
+      slabClass.keys[slot] = LongLongIndex.EMPTY;
+      slabClass.referenced[slot] = false;
+      slabClass.freeSlots[slabClass.freeCount++] = slot;
+    }
+  }
+
+  /**
+   * 같은 크기의 슬롯으로 나눈 페이지와 슬롯 별 메타데이터(키, 길이, 만료 시각, 조회 표시)
+   */
+  private static final class SlabClass {
+
+    private final int slotSize;
+    private final int slotsPerPage;
+    private final int pageSize;
+    private final List<ByteBuffer> pages = new ArrayList<>();
+    private long[] keys = new long[0];
+    private int[] lengths = new int[0];
+    private long[] expireAts = new long[0];
+    private boolean[] referenced = new boolean[0];
+    private int[] freeSlots = new int[0];
+    private int freeCount;
+    private int hand;
+
+    SlabClass(int slotSize, int pageSize) {
+      this.slotSize = slotSize;
+      this.slotsPerPage = pageSize / slotSize;
+      this.pageSize = pageSize;
+    }
+
+    void addPage() {
+      pages.add(ByteBuffer.allocateDirect(pageSize));
+      int from = keys.length;
+      int to = from + slotsPerPage;
+      keys = Arrays.copyOf(keys, to);
+      Arrays.fill(keys, from, to, LongLongIndex.EMPTY);
+      lengths = Arrays.copyOf(lengths, to);
+      expireAts = Arrays.copyOf(expireAts, to);
+      referenced = Arrays.copyOf(referenced, to);
+      freeSlots = Arrays.copyOf(freeSlots, to);
+      for (int slot = to - 1; slot >= from; slot--) {
+        freeSlots[freeCount++] = slot;
+      }
+    }
+
+    void write(int slot, byte[] bytes) {
+      pages.get(slot / slotsPerPage).put(slot % slotsPerPage * slotSize, bytes);
+    }
+
+    byte[] read(int slot) {
+      byte[] bytes = new byte[lengths[slot]];
+      pages.get(slot / slotsPerPage).get(slot % slotsPerPage * slotSize, bytes);
+      return bytes;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.constants.Constants;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시가 없을 때 여러 노드 중 하나만 DB에서 다시 적재하도록 Redis에 짧은 Lease를 획득하는 컴포넌트
+ *
+ * <p>Lease는 {@code SET NX PX}로 획득하고 노드마다 고유한 토큰을 저장하며, 해제는 토큰이 같을 때만 삭제하는 Lua
+ * 스크립트로 처리하므로 만료 후 다른 노드가 다시 획득한 Lease를 삭제하지 않음. Lease를 획득하지 못한 노드는 대기 시간
+ * 동안 적재된 값을 조회하며, Redis 장애 또는 서킷이 열려 있으면 Lease 없이 적재</p>
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+@Slf4j
+@Component
+public class RebuildLease {
+
+  private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT =
+      RedisScript.of(new ClassPathResource("script/redis/compare-and-delete.lua"), Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisCircuitBreaker redisCircuitBreaker;
+  private final Duration leaseTtl;
+  private final Duration waitTimeout;
+  private final Duration pollInterval;
+
+  private final LongAdder acquiredCount = new LongAdder();
+  private final LongAdder waitedCount = new LongAdder();
+  private final LongAdder timeoutCount = new LongAdder();
+
+  /**
+   * Lease 설정을 받아 생성
+   *
+   * @param stringRedisTemplate 문자열을 저장하기 위한 RedisTemplate
+   * @param redisCircuitBreaker Redis 서킷 브레이커
+   * @param leaseTtl            Lease 만료 시간, 적재한 노드가 해제하지 못해도 이 시간이 지나면 만료
+   * @param waitTimeout         Lease를 획득하지 못한 노드가 적재된 값을 기다리는 최대 시간
+   * @param pollInterval        적재된 값을 조회하는 간격
+   */
+  public RebuildLease(
+      StringRedisTemplate stringRedisTemplate,
+      RedisCircuitBreaker redisCircuitBreaker,
+      @Value("${redis.cache.lease.ttl:5s}") Duration leaseTtl,
+      @Value("${redis.cache.lease.wait-timeout:1s}") Duration waitTimeout,
+      @Value("${redis.cache.lease.poll-interval:50ms}") Duration pollInterval) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.redisCircuitBreaker = redisCircuitBreaker;
+    this.leaseTtl = leaseTtl;
+    this.waitTimeout = waitTimeout;
+    this.pollInterval = pollInterval;
+  }
+
+  /**
+   * 캐시 키의 Lease 획득을 시도
+   *
+   * @param cacheKey Redis 캐시 키
+   * @return 획득한 Lease, 다른 노드가 Lease를 가지고 있으면 null, Redis를 사용할 수 없으면 해제할 필요가 없는 Lease
+   */
+  public Lease tryAcquire(String cacheKey) {
+    String leaseKey = Constants.CACHE_LEASE_PREFIX + cacheKey;
+    String token = UUID.randomUUID().toString();
+    try {
+      Boolean acquired = redisCircuitBreaker.execute(
+          () -> stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseTtl),
+          () -> null);
+      if (acquired == null) {
+        return Lease.NONE;
+      }
+      if (!acquired) {
+        return null;
+      }
+      acquiredCount.increment();
+      return new Lease(leaseKey, token);
+    } catch (Exception e) {
+      log.warn("tryAcquire failed. Loading without lease. key: {}, Error: {}", cacheKey,
+          e.getMessage());
+      return Lease.NONE;
+    }
+  }
+
+  /**
+   * 토큰이 같을 때만 Lease를 해제
+   *
+   * @param lease 획득한 Lease
+   */
+  public void release(Lease lease) {
+    if (lease.token() == null) {
+      return;
+    }
+    try {
+      redisCircuitBreaker.execute(
+          () -> stringRedisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(lease.key()),
+              lease.token()),
+          () -> 0L);
+    } catch (Exception e) {
+      log.warn("release failed. Lease expires after ttl. key: {}, Error: {}", lease.key(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Lease를 가진 노드가 적재한 값을 대기 시간 동안 조회
+   *
+   * @param reader 적재된 값을 조회하는 콜백, 아직 없으면 null 반환
+   * @param <T>    반환 데이터의 타입
+   * @return 적재된 값, 대기 시간이 지나면 null
+   */
+  public <T> T await(Supplier<T> reader) {
+    waitedCount.increment();
+    long deadline = System.nanoTime() + waitTimeout.toNanos();
+    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+      LockSupport.parkNanos(pollInterval.toNanos());
+      T value = reader.get();
+      if (value != null) {
+        return value;
+      }
+    }
+    timeoutCount.increment();
+    log.warn("Rebuild lease wait timed out. Loading without lease. timeout: {}", waitTimeout);
+    return null;
+  }
+
+  /**
+   * Lease를 획득한 횟수
+   *
+   * @return 획득 횟수
+   */
+  public long getAcquiredCount() {
+    return acquiredCount.sum();
+  }
+
+  /**
+   * 다른 노드가 Lease를 가지고 있어 적재된 값을 기다린 횟수
+   *
+   * @return 대기 횟수
+   */
+  public long getWaitedCount() {
+    return waitedCount.sum();
+  }
+
+  /**
+   * 대기 시간이 지나 직접 적재한 횟수
+   *
+   * @return 대기 시간 초과 횟수
+   */
+  public long getTimeoutCount() {
+    return timeoutCount.sum();
+  }
+
+  /**
+   * 획득한 Lease
+   *
+   * @param key   Lease 키
+   * @param token Lease를 획득할 때 저장한 토큰, Redis 없이 적재하는 경우 null
+   */
+  public record Lease(String key, String token) {
+
+    static final Lease NONE = new Lease(null, null);
+  }
+}
@@ -0,0 +1,303 @@
+package com.example.boilerplate.common.cache;
+
+import io.lettuce.core.RedisException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 명령 실행을 감싸는 서킷 브레이커
+ *
+ * <p>윈도우 동안의 실패 및 지연 호출 비율이 기준을 넘으면 OPEN 상태가 되어 Redis를 호출하지 않고 즉시 대체 값을
+ * 반환하며, 대기 시간이 지나면 HALF_OPEN 상태에서 일부 호출로 복구 여부를 확인</p>
+ *
+ * <p>연결 실패, 응답 시간 초과, Redis 명령 오류만 실패로 기록하며, 직렬화 오류처럼 Redis 상태와 관계없는 예외는 기록하지
+ * 않고 그대로 전달</p>
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+  private final boolean enabled;
+  private final int failureRateThreshold;
+  private final long slowCallNanos;
+  private final int minimumCalls;
+  private final long windowNanos;
+  private final long openNanos;
+  private final int halfOpenCalls;
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicLong windowStartedAt = new AtomicLong(System.nanoTime());
+  private final Lock transitionLock = new ReentrantLock();
+  private final AtomicLong windowCalls = new AtomicLong();
+  private final AtomicLong windowFailures = new AtomicLong();
+  private final AtomicInteger halfOpenPermits = new AtomicInteger();
+  private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+  private final Map<State, LongAdder> transitionCounts = new EnumMap<>(State.class);
+  private final LongAdder notPermittedCount = new LongAdder();
+
+  /**
+   * 서킷 브레이커 상태
+   */
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  /**
+   * 서킷 브레이커 설정을 받아 생성
+   *
+   * @param enabled              서킷 브레이커 사용 여부
+   * @param failureRateThreshold OPEN 상태로 전환하는 실패 및 지연 호출 비율(%)
+   * @param slowCallThreshold    지연 호출로 판단하는 응답 시간
+   * @param minimumCalls         비율을 계산하기 위한 윈도우 내 최소 호출 수
+   * @param window               실패 비율을 집계하는 윈도우 크기
+   * @param openDuration         OPEN 상태를 유지하는 시간
+   * @param halfOpenCalls        HALF_OPEN 상태에서 허용하는 확인 호출 수
+   */
+  public RedisCircuitBreaker(
+      @Value("${redis.cache.circuit-breaker.enabled:true}") boolean enabled,
+      @Value("${redis.cache.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+      @Value("${redis.cache.circuit-breaker.slow-call-threshold:200ms}") Duration slowCallThreshold,
+      @Value("${redis.cache.circuit-breaker.minimum-calls:20}") int minimumCalls,
+      @Value("${redis.cache.circuit-breaker.window:10s}") Duration window,
+      @Value("${redis.cache.circuit-breaker.open-duration:10s}") Duration openDuration,
+      @Value("${redis.cache.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+    this.enabled = enabled;
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallNanos = slowCallThreshold.toNanos();
+    this.minimumCalls = minimumCalls;
+    this.windowNanos = window.toNanos();
+    this.openNanos = openDuration.toNanos();
+    this.halfOpenCalls = halfOpenCalls;
+    for (State value : State.values()) {
+      transitionCounts.put(value, new LongAdder());
+    }
+  }
+
+  /**
+   * Redis 명령을 실행하고 결과를 기록하며, 서킷이 열려 있으면 명령을 실행하지 않고 대체 값을 반환
+   *
+   * <p>명령에서 발생한 예외는 Redis 장애인 경우에만 실패로 기록하고, 모두 그대로 호출자에게 전달</p>
+   *
+   * @param action   Redis 명령
+   * @param fallback 서킷이 열려 있을 때 반환할 값
+   * @param <T>      반환 데이터의 타입
+   * @return 명령의 결과 또는 대체 값
+   */
+  public <T> T execute(Supplier<T> action, Supplier<T> fallback) {
+    if (!tryAcquire()) {
+      return fallback.get();
+    }
+    long startedAt = System.nanoTime();
+    try {
+      T result = action.get();
+      onResult(System.nanoTime() - startedAt >= slowCallNanos);
+      return result;
+    } catch (RuntimeException e) {
+      onFailure(e);
+      throw e;
+    }
+  }
+
+  /**
+   * 비동기 Redis 명령을 실행하고 완료 시점에 결과를 기록하며, 서킷이 열려 있으면 명령을 실행하지 않고 대체 값으로
+   * 완료된 Future를 반환
+   *
+   * @param action   비동기 Redis 명령
+   * @param fallback 서킷이 열려 있을 때 반환할 값
+   * @param <T>      반환 데이터의 타입
+   * @return 명령의 결과 또는 대체 값으로 완료되는 Future
+   */
+  public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> action,
+      Supplier<T> fallback) {
+    if (!tryAcquire()) {
+      return CompletableFuture.completedFuture(fallback.get());
+    }
+    long startedAt = System.nanoTime();
+    try {
+      return action.get().whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          onFailure(throwable);
+        } else {
+          onResult(System.nanoTime() - startedAt >= slowCallNanos);
+        }
+      });
+    } catch (RuntimeException e) {
+      onFailure(e);
+      throw e;
+    }
+  }
+
+  /**
+   * 반환 값이 없는 Redis 명령을 실행하며, 서킷이 열려 있으면 명령을 건너뜀
+   *
+   * @param action Redis 명령
+   */
+  public void run(Runnable action) {
+    execute(() -> {
+      action.run();
+      return null;
+    }, () -> null);
+  }
+
+  /**
+   * 현재 상태에서 Redis 호출이 허용되는지 확인하고, OPEN 상태의 대기 시간이 지나면 HALF_OPEN 상태로 전환
+   *
+   * @return 호출 허용 여부
+   */
+  private boolean tryAcquire() {
+    if (!enabled || state.get() == State.CLOSED) {
+      return true;
+    }
+    if (state.get() == State.OPEN) {
+      if (System.nanoTime() - windowStartedAt.get() < openNanos) {
+        notPermittedCount.increment();
+        return false;
+      }
+      transition(State.OPEN, State.HALF_OPEN);
+    }
+    if (state.get() == State.HALF_OPEN && halfOpenPermits.getAndDecrement() > 0) {
+      return true;
+    }
+    notPermittedCount.increment();
+    return false;
+  }
+
+  /**
+   * 예외가 Redis 장애이면 실패로 기록하고, 아니면 기록하지 않고 HALF_OPEN 상태의 확인 호출 허용 수를 돌려줌
+   *
+   * @param throwable 명령에서 발생한 예외
+   */
+  private void onFailure(Throwable throwable) {
+    if (isRedisFailure(throwable)) {
+      onResult(true);
+    } else if (enabled && state.get() == State.HALF_OPEN) {
+      halfOpenPermits.incrementAndGet();
+    }
+  }
+
+  /**
+   * 연결 실패, 응답 시간 초과, Redis 명령 오류인지 확인
+   *
+   * @param throwable 명령에서 발생한 예외, 비동기 명령이면 {@link CompletionException}으로 감싼 예외
+   * @return Redis 장애로 기록할 예외이면 true
+   */
+  private static boolean isRedisFailure(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+    return cause instanceof RedisConnectionFailureException
+        || cause instanceof QueryTimeoutException
+        || cause instanceof RedisSystemException
+        || cause instanceof RedisException
+        || cause instanceof TimeoutException;
+  }
+
+  /**
+   * 호출 결과를 기록하고, 기준에 따라 상태를 전환
+   *
+   * @param failure 실패 또는 지연 호출 여부
+   */
+  private void onResult(boolean failure) {
+    if (!enabled) {
+      return;
+    }
+    State current = state.get();
+    if (current == State.HALF_OPEN) {
+      if (failure) {
+        transition(State.HALF_OPEN, State.OPEN);
+      } else if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+        transition(State.HALF_OPEN, State.CLOSED);
+      }
+      return;
+    }
+    if (current != State.CLOSED) {
+      return;
+    }
+
+    long now = System.nanoTime();
+    if (now - windowStartedAt.get() >= windowNanos) {
+      resetWindow(now);
+    }
+    long calls = windowCalls.incrementAndGet();
+    long failures = failure ? windowFailures.incrementAndGet() : windowFailures.get();
+    if (calls >= minimumCalls && failures * 100 >= calls * failureRateThreshold) {
+      transition(State.CLOSED, State.OPEN);
+    }
+  }
+
+  /**
+   * 현재 상태가 from인 경우에만 to 상태로 전환
+   *
+   * @param from 현재 상태
+   * @param to   전환할 상태
+   */
+  private void transition(State from, State to) {
+    transitionLock.lock();
+    try {
+      if (state.get() != from) {
+        return;
+      }
+      if (to == State.HALF_OPEN) {
+        halfOpenPermits.set(halfOpenCalls);
+        halfOpenSuccesses.set(0);
+      }
+      resetWindow(System.nanoTime());
+      state.set(to);
+    } finally {
+      transitionLock.unlock();
+    }
+    transitionCounts.get(to).increment();
+    log.warn("redis circuit breaker state changed: {} -> {}", from, to);
+  }
+
+  private void resetWindow(long now) {
+    windowStartedAt.set(now);
+    windowCalls.set(0);
+    windowFailures.set(0);
+  }
+
+  /**
+   * 현재 서킷 브레이커 상태
+   *
+   * @return 서킷 브레이커 상태
+   */
+  public State getState() {
+    return state.get();
+  }
+
+  /**
+   * 특정 상태로 전환된 횟수
+   *
+   * @param to 전환된 상태
+   * @return 전환 횟수
+   */
+  public long getTransitionCount(State to) {
+    return transitionCounts.get(to).sum();
+  }
+
+  /**
+   * 서킷이 열려 있어 Redis 호출을 건너뛴 횟수
+   *
+   * @return 호출을 건너뛴 횟수
+   */
+  public long getNotPermittedCount() {
+    return notPermittedCount.sum();
+  }
+}
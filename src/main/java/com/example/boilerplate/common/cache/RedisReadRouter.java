@@ -0,0 +1,170 @@
+package com.example.boilerplate.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근에 저장 또는 삭제한 키의 조회를 마스터로 보내 복제 지연으로 이전 값을 읽지 않도록(read-your-writes) 하는 컴포넌트
+ *
+ * <p>이 노드에서 저장한 키와 다른 노드의 무효화 메시지로 전달받은 키를 짧은 시간 동안 기억하고, 그 동안의 조회는 마스터
+ * 템플릿으로, 나머지 조회는 복제본을 우선 사용하는 템플릿으로 전달</p>
+ */
+@Component
+public class RedisReadRouter {
+
+  private final RedisTemplate<String, Object> objectRedisTemplate;
+  private final RedisTemplate<String, Object> masterObjectRedisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final StringRedisTemplate masterStringRedisTemplate;
+  private final boolean enabled;
+  private final Cache<String, Boolean> recentWrites;
+
+  private final LongAdder masterReadCount = new LongAdder();
+  private final LongAdder replicaReadCount = new LongAdder();
+
+  /**
+   * 조회 경로 설정을 받아 생성
+   *
+   * @param objectRedisTemplate       복제본을 우선 사용하는 객체 템플릿
+   * @param masterObjectRedisTemplate 마스터에서만 조회하는 객체 템플릿
+   * @param stringRedisTemplate       복제본을 우선 사용하는 문자열 템플릿
+   * @param masterStringRedisTemplate 마스터에서만 조회하는 문자열 템플릿
+   * @param enabled                   최근에 저장한 키를 마스터에서 조회할지 여부
+   * @param window                    저장 후 마스터에서 조회하는 시간
+   * @param maximumSize               기억하는 최대 키 수
+   */
+  public RedisReadRouter(
+      @Qualifier("objectRedisTemplate") RedisTemplate<String, Object> objectRedisTemplate,
+      @Qualifier("masterObjectRedisTemplate")
+      RedisTemplate<String, Object> masterObjectRedisTemplate,
+      @Qualifier("stringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+      @Qualifier("masterStringRedisTemplate") StringRedisTemplate masterStringRedisTemplate,
+      @Value("${redis.cache.read-your-writes.enabled:true}") boolean enabled,
+      @Value("${redis.cache.read-your-writes.window:2s}") Duration window,
+      @Value("${redis.cache.read-your-writes.maximum-size:100000}") long maximumSize) {
+    this.objectRedisTemplate = objectRedisTemplate;
+    this.masterObjectRedisTemplate = masterObjectRedisTemplate;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.masterStringRedisTemplate = masterStringRedisTemplate;
+    this.enabled = enabled;
+    this.recentWrites = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(window)
+        .build();
+  }
+
+  /**
+   * 키를 저장 또는 삭제한 것으로 기록
+   *
+   * @param key 저장 또는 삭제한 키
+   */
+  public void markWritten(String key) {
+    if (enabled) {
+      recentWrites.put(key, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * 여러 키를 저장 또는 삭제한 것으로 기록
+   *
+   * @param keys 저장 또는 삭제한 키 목록
+   */
+  public void markWritten(Collection<String> keys) {
+    if (enabled) {
+      keys.forEach(key -> recentWrites.put(key, Boolean.TRUE));
+    }
+  }
+
+  /**
+   * 최근에 저장 또는 삭제한 키인지 확인하고, 조회 경로를 집계
+   *
+   * @param key 조회할 키
+   * @return 마스터에서 조회해야 하면 true
+   */
+  public boolean isRecentlyWritten(String key) {
+    boolean recentlyWritten = enabled && recentWrites.getIfPresent(key) != null;
+    (recentlyWritten ? masterReadCount : replicaReadCount).increment();
+    return recentlyWritten;
+  }
+
+  /**
+   * 키를 조회할 객체 템플릿을 반환
+   *
+   * @param key 조회할 키
+   * @return 최근에 저장한 키이면 마스터 템플릿, 아니면 복제본을 우선 사용하는 템플릿
+   */
+  public RedisTemplate<String, Object> objectTemplate(String key) {
+    return isRecentlyWritten(key) ? masterObjectRedisTemplate : objectRedisTemplate;
+  }
+
+  /**
+   * 여러 키를 한 번에 조회할 객체 템플릿을 반환
+   *
+   * @param keys 조회할 키 목록
+   * @return 최근에 저장한 키가 하나라도 있으면 마스터 템플릿, 아니면 복제본을 우선 사용하는 템플릿
+   */
+  public RedisTemplate<String, Object> objectTemplate(Collection<String> keys) {
+    boolean recentlyWritten = enabled && keys.stream()
+        .anyMatch(key -> recentWrites.getIfPresent(key) != null);
+    (recentlyWritten ? masterReadCount : replicaReadCount).increment();
+    return recentlyWritten ? masterObjectRedisTemplate : objectRedisTemplate;
+  }
+
+  /**
+   * 키를 조회할 문자열 템플릿을 반환
+   *
+   * @param key 조회할 키
+   * @return 최근에 저장한 키이면 마스터 템플릿, 아니면 복제본을 우선 사용하는 템플릿
+   */
+  public StringRedisTemplate stringTemplate(String key) {
+    return isRecentlyWritten(key) ? masterStringRedisTemplate : stringRedisTemplate;
+  }
+
+  /**
+   * 여러 키를 한 번에 조회할 문자열 템플릿을 반환
+   *
+   * @param keys 조회할 키 목록
+   * @return 최근에 저장한 키가 하나라도 있으면 마스터 템플릿, 아니면 복제본을 우선 사용하는 템플릿
+   */
+  public StringRedisTemplate stringTemplate(Collection<String> keys) {
+    boolean recentlyWritten = enabled && keys.stream()
+        .anyMatch(key -> recentWrites.getIfPresent(key) != null);
+    (recentlyWritten ? masterReadCount : replicaReadCount).increment();
+    return recentlyWritten ? masterStringRedisTemplate : stringRedisTemplate;
+  }
+
+  /**
+   * 마스터에서 조회한 횟수
+   *
+   * @return 마스터 조회 횟수
+   */
+  public long getMasterReadCount() {
+    return masterReadCount.sum();
+  }
+
+  /**
+   * 복제본을 우선 사용하여 조회한 횟수
+   *
+   * @return 복제본 조회 횟수
+   */
+  public long getReplicaReadCount() {
+    return replicaReadCount.sum();
+  }
+
+  /**
+   * 현재 기억하고 있는 최근에 저장한 키 수
+   *
+   * @return 최근에 저장한 키 수
+   */
+  public long getRecentWriteCount() {
+    return recentWrites.estimatedSize();
+  }
+}
@@ -0,0 +1,208 @@
+package com.example.boilerplate.common.cache;
+
+import com.example.boilerplate.common.cache.CacheMetrics.GetResult;
+import com.example.boilerplate.common.constants.Constants;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 직렬화와 gzip 압축까지 끝난 HTTP 응답 본문을 Redis Hash에 저장하는 컴포넌트
+ *
+ * <p>응답 하나를 ETag, Content-Type, gzip 본문 필드로 저장하므로 HMGET 한 번으로 조회하며, 조회한 바이트는 DTO 변환이나
+ * JSON 직렬화 없이 그대로 응답에 쓸 수 있음. Redis 장애 또는 서킷이 열려 있으면 캐시가 없는 것으로 처리</p>
+ *
+ * <p>저장은 {@link CacheVersionFence}와 같은 버전 키를 사용하는 Lua 스크립트로 처리하므로, 응답을 만드는 동안 데이터가
+ * 수정되어 응답 캐시가 삭제되면 삭제 펜스보다 오래된 응답은 다시 저장되지 않음</p>
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+  private static final byte[] ETAG_FIELD = "etag".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] CONTENT_TYPE_FIELD = "type".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] BODY_FIELD = "body".getBytes(StandardCharsets.UTF_8);
+  private static final RedisScript<Long> VERSIONED_HSET_SCRIPT =
+      CacheVersionFence.loadScript("script/redis/versioned-hset.lua");
+
+  private final RedisReadRouter redisReadRouter;
+  private final RedisCircuitBreaker redisCircuitBreaker;
+  private final CacheMetrics cacheMetrics;
+  private final CacheVersionFence cacheVersionFence;
+  private final boolean enabled;
+
+  /**
+   * 응답 캐시 설정을 받아 생성
+   *
+   * @param redisReadRouter     최근에 저장한 키의 조회를 마스터로 보내는 컴포넌트
+   * @param redisCircuitBreaker Redis 서킷 브레이커
+   * @param cacheMetrics        캐시 지표
+   * @param cacheVersionFence   버전 비교 저장 및 삭제 펜스 설정
+   * @param enabled             응답 캐시 사용 여부
+   */
+  public ResponseCache(
+      RedisReadRouter redisReadRouter,
+      RedisCircuitBreaker redisCircuitBreaker,
+      CacheMetrics cacheMetrics,
+      CacheVersionFence cacheVersionFence,
+      @Value("${redis.cache.response.enabled:true}") boolean enabled) {
+    this.redisReadRouter = redisReadRouter;
+    this.redisCircuitBreaker = redisCircuitBreaker;
+    this.cacheMetrics = cacheMetrics;
+    this.cacheVersionFence = cacheVersionFence;
+    this.enabled = enabled;
+  }
+
+  /**
+   * 캐시 이름과 키로 응답 캐시 키를 생성
+   *
+   * @param cacheName 캐시 이름 (같은 데이터의 {@code @BpCacheable} 캐시 이름)
+   * @param key       캐시 키
+   * @return 응답 캐시 키
+   */
+  public static String responseKey(String cacheName, Object key) {
+    return Constants.RESPONSE_CACHE_PREFIX + cacheName + ":" + key;
+  }
+
+  /**
+   * 응답 캐시 사용 여부
+   *
+   * @return 사용 중이면 true
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 응답을 만들기 전에 저장할 응답의 버전을 생성
+   *
+   * @return 현재 시각(ms)
+   */
+  public long newVersion() {
+    return cacheVersionFence.newVersion();
+  }
+
+  /**
+   * 저장된 응답을 조회
+   *
+   * @param responseKey 응답 캐시 키
+   * @return 저장된 응답, 없거나 오류가 발생하면 null 반환
+   */
+  public CachedResponse get(String responseKey) {
+    byte[] rawKey = responseKey.getBytes(StandardCharsets.UTF_8);
+    CachedResponse cachedResponse = null;
+    try {
+      List<byte[]> fields = cacheMetrics.recordRedis("hmget", responseKey,
+          () -> redisCircuitBreaker.execute(
+              () -> redisReadRouter.stringTemplate(responseKey).execute(
+                  (RedisCallback<List<byte[]>>) connection -> connection.hashCommands()
+                      .hMGet(rawKey, ETAG_FIELD, CONTENT_TYPE_FIELD, BODY_FIELD)),
+              () -> null));
+      if (fields != null && fields.size() == 3 && !fields.contains(null)) {
+        cachedResponse = new CachedResponse(new String(fields.get(0), StandardCharsets.UTF_8),
+            new String(fields.get(1), StandardCharsets.UTF_8), fields.get(2));
+      }
+    } catch (Exception e) {
+      log.warn("Redis is unavailable. Skipping response cache. key: {}, Error: {}",
+          responseKey, e.getMessage());
+    }
+    cacheMetrics.recordGet(responseKey, cachedResponse == null ? GetResult.MISS : GetResult.HIT);
+    return cachedResponse;
+  }
+
+  /**
+   * 저장된 버전(또는 삭제 펜스)보다 새로운 버전일 때만 응답을 저장
+   *
+   * @param responseKey    응답 캐시 키
+   * @param cachedResponse 저장할 응답
+   * @param ttl            캐시 만료 시간
+   * @param version        응답의 버전 ({@link #newVersion()}), 버전을 사용하지 않으면 비교 없이 저장
+   * @return 저장했으면 true, 오래된 응답이거나 오류가 발생하면 false
+   */
+  public boolean put(String responseKey, CachedResponse cachedResponse, Duration ttl,
+      long version) {
+    List<String> keys = List.of(responseKey, CacheVersionFence.versionKey(responseKey));
+    byte[][] args = {
+        cacheVersionFence.isEnabled() ? toBytes(version) : new byte[0],
+        toBytes(ttl.toMillis()),
+        ETAG_FIELD, cachedResponse.etag().getBytes(StandardCharsets.UTF_8),
+        CONTENT_TYPE_FIELD, cachedResponse.contentType().getBytes(StandardCharsets.UTF_8),
+        BODY_FIELD, cachedResponse.gzipBody()};
+    redisReadRouter.markWritten(responseKey);
+    try {
+      Long result = cacheMetrics.recordRedis("hset", responseKey,
+          () -> redisCircuitBreaker.execute(
+              () -> CacheVersionFence.executeScript(redisReadRouter.stringTemplate(responseKey),
+                  VERSIONED_HSET_SCRIPT, keys, args),
+              () -> null));
+      cacheVersionFence.recordWrite(result);
+      if (result == null || result == 0) {
+        return false;
+      }
+      cacheMetrics.recordPayloadSize(CacheMetrics.namespace(responseKey),
+          cachedResponse.gzipBody().length);
+      return true;
+    } catch (Exception e) {
+      log.error("put response cache key: {}", responseKey, e);
+      return false;
+    }
+  }
+
+  private static byte[] toBytes(long value) {
+    return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 저장된 HTTP 응답
+   *
+   * @param etag        본문의 ETag (따옴표 포함)
+   * @param contentType 응답의 Content-Type
+   * @param gzipBody    gzip으로 압축한 응답 본문
+   */
+  public record CachedResponse(String etag, String contentType, byte[] gzipBody) {
+
+    /**
+     * 직렬화된 응답 본문으로 ETag를 계산하고 gzip으로 압축하여 생성
+     *
+     * @param body        직렬화된 응답 본문
+     * @param contentType 응답의 Content-Type
+     * @return 저장할 응답
+     */
+    public static CachedResponse of(byte[] body, String contentType) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 2 + 32);
+      try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+        gzipOutputStream.write(body);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return new CachedResponse("\"" + DigestUtils.md5DigestAsHex(body) + "\"", contentType,
+          outputStream.toByteArray());
+    }
+
+    /**
+     * gzip을 지원하지 않는 클라이언트를 위해 압축을 해제한 본문을 반환
+     *
+     * @return 압축을 해제한 응답 본문
+     */
+    public byte[] body() {
+      try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+        return inputStream.readAllBytes();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
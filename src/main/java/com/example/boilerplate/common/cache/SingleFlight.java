@@ -0,0 +1,145 @@
+package com.example.boilerplate.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일한 키에 대한 동시 로딩 요청을 하나로 합치는(Single-Flight) 컴포넌트
+ *
+ * <p>키마다 JVM 내에서 하나의 로더만 실행되고, 나머지 요청은 대기 시간 동안 그 결과를 공유하며,
+ * 대기 시간이 초과되면 직접 로더를 실행</p>
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+@Slf4j
+@Component
+public class SingleFlight {
+
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final Duration waitTimeout;
+
+  private final LongAdder loadCount = new LongAdder();
+  private final LongAdder coalescedCount = new LongAdder();
+  private final LongAdder timeoutCount = new LongAdder();
+
+  /**
+   * Single-Flight 설정을 받아 생성
+   *
+   * @param enabled     요청 병합 사용 여부
+   * @param waitTimeout 다른 요청의 로딩 결과를 기다리는 최대 시간
+   */
+  public SingleFlight(
+      @Value("${redis.cache.single-flight.enabled:true}") boolean enabled,
+      @Value("${redis.cache.single-flight.wait-timeout:3s}") Duration waitTimeout) {
+    this.enabled = enabled;
+    this.waitTimeout = waitTimeout;
+  }
+
+  /**
+   * 키에 해당하는 로더를 실행하거나, 이미 실행 중인 로더의 결과를 기다려 반환
+   *
+   * @param key    병합 기준이 되는 키
+   * @param loader 값을 로딩하는 콜백
+   * @param <T>    반환 데이터의 타입
+   * @return 로더가 반환한 값
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T load(String key, Supplier<T> loader) {
+    if (!enabled) {
+      loadCount.increment();
+      return loader.get();
+    }
+
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      coalescedCount.increment();
+      return (T) await(key, existing, loader);
+    }
+
+    try {
+      loadCount.increment();
+      T value = loader.get();
+      future.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  /**
+   * 실행 중인 로더의 결과를 대기 시간 동안 기다리고, 초과 시 직접 로더를 실행
+   *
+   * @param key    병합 기준이 되는 키
+   * @param future 실행 중인 로더의 결과
+   * @param loader 대기 시간 초과 시 실행할 콜백
+   * @return 로더가 반환한 값
+   */
+  private Object await(String key, CompletableFuture<Object> future, Supplier<?> loader) {
+    try {
+      return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      timeoutCount.increment();
+      log.warn("single flight wait timeout key: {}", key);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      log.error("single flight load failed key: {}", key, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("single flight wait interrupted key: {}", key);
+    }
+    loadCount.increment();
+    return loader.get();
+  }
+
+  /**
+   * 실제로 로더를 실행한 횟수
+   *
+   * @return 로더 실행 횟수
+   */
+  public long getLoadCount() {
+    return loadCount.sum();
+  }
+
+  /**
+   * 다른 요청의 로딩 결과를 공유받은 횟수
+   *
+   * @return 병합된 요청 횟수
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.sum();
+  }
+
+  /**
+   * 대기 시간이 초과되어 직접 로더를 실행한 횟수
+   *
+   * @return 대기 시간 초과 횟수
+   */
+  public long getTimeoutCount() {
+    return timeoutCount.sum();
+  }
+
+  /**
+   * 현재 로딩 중인 키의 수
+   *
+   * @return 로딩 중인 키의 수
+   */
+  public int getInFlightCount() {
+    return inFlight.size();
+  }
+}
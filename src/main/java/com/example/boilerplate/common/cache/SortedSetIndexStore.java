@@ -0,0 +1,212 @@
+package com.example.boilerplate.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아이디를 점수로 하는 Redis Sorted Set에 목록의 아이디를 저장하는 인덱스 컴포넌트
+ *
+ * <p>목록 조회는 ZREVRANGE와 ZCARD로 아이디 내림차순의 한 페이지와 전체 건수를 O(log n)으로 조회하고, 데이터를
+ * 추가하거나 삭제하면 인덱스를 삭제하지 않고 ZADD, ZREM으로 아이디만 반영</p>
+ *
+ * <p>인덱스는 가장 낮은 점수의 {@code @complete} 멤버를 함께 저장하여 아이디가 없는 목록도 적재된 것으로 구분하며, 적재와
+ * 변경은 {@link CacheVersionFence}와 같은 버전 키를 사용하는 Lua 스크립트로 처리하므로 적재 중에 변경된 아이디가
+ * 누락된 목록은 저장되지 않음</p>
+ */
+@Component
+public class SortedSetIndexStore {
+
+  static final String COMPLETE_MEMBER = "@complete";
+
+  private static final RedisScript<Long> VERSIONED_ZADD_SCRIPT =
+      CacheVersionFence.loadScript("script/redis/versioned-zadd.lua");
+  private static final RedisScript<Long> FENCED_ZSET_UPDATE_SCRIPT =
+      CacheVersionFence.loadScript("script/redis/fenced-zset-update.lua");
+  private static final String OPERATION_ADD = "add";
+  private static final String OPERATION_REMOVE = "remove";
+
+  private final CacheVersionFence cacheVersionFence;
+
+  private final LongAdder addedCount = new LongAdder();
+  private final LongAdder removedCount = new LongAdder();
+  private final LongAdder missedCount = new LongAdder();
+
+  /**
+   * 버전 설정을 받아 생성
+   *
+   * @param cacheVersionFence 버전 비교 저장 및 삭제 펜스 설정
+   */
+  public SortedSetIndexStore(CacheVersionFence cacheVersionFence) {
+    this.cacheVersionFence = cacheVersionFence;
+  }
+
+  /**
+   * 인덱스에서 아이디 내림차순으로 한 페이지의 아이디와 전체 건수를 파이프라인으로 조회
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate
+   * @param indexKey   인덱스 키
+   * @param offset     건너뛸 아이디 수
+   * @param size       조회할 아이디 수
+   * @return 아이디 목록과 전체 건수, 인덱스가 없으면 null
+   */
+  public IdPage read(RedisOperations<String, String> operations, String indexKey, long offset,
+      int size) {
+    List<Object> results = operations.executePipelined(new SessionCallback<>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> pipeline) {
+        RedisOperations<String, String> redisOperations =
+            (RedisOperations<String, String>) pipeline;
+        redisOperations.opsForZSet().reverseRange(indexKey, offset, offset + size - 1);
+        redisOperations.opsForZSet().zCard(indexKey);
+        return null;
+      }
+    });
+    return toPage((Collection<?>) results.get(0), (Long) results.get(1));
+  }
+
+  /**
+   * ZREVRANGE와 ZCARD 결과를 완료 표시를 제외한 아이디 목록과 전체 건수로 변환
+   *
+   * @param members ZREVRANGE로 조회한 멤버
+   * @param size    ZCARD로 조회한 멤버 수
+   * @return 아이디 목록과 전체 건수, 인덱스가 없으면 null
+   */
+  static IdPage toPage(Collection<?> members, Long size) {
+    if (size == null || size == 0) {
+      return null;
+    }
+    List<Long> ids = new ArrayList<>(members.size());
+    for (Object member : members) {
+      if (!COMPLETE_MEMBER.equals(member)) {
+        ids.add(Long.valueOf(member.toString()));
+      }
+    }
+    return new IdPage(ids, size - 1);
+  }
+
+  /**
+   * DB에서 조회한 전체 아이디로 인덱스를 다시 저장하며, 버전이 있으면 저장된 버전보다 새로울 때만 저장
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate
+   * @param indexKey   인덱스 키
+   * @param ids        목록의 전체 아이디
+   * @param ttl        인덱스 만료 시간
+   * @param version    DB 조회를 시작한 시각(ms), null이거나 버전을 사용하지 않으면 비교 없이 저장
+   * @return 저장했으면 1, 저장된 버전이 같거나 새로우면 0
+   */
+  public Long write(RedisOperations<String, String> operations, String indexKey,
+      Collection<Long> ids, Duration ttl, Long version) {
+    List<String> args = new ArrayList<>(2 + ids.size());
+    args.add(version != null && cacheVersionFence.isEnabled() ? String.valueOf(version) : "");
+    args.add(String.valueOf(ttl.toMillis()));
+    ids.forEach(id -> args.add(String.valueOf(id)));
+    Long result = operations.execute(VERSIONED_ZADD_SCRIPT,
+        List.of(indexKey, CacheVersionFence.versionKey(indexKey)), args.toArray());
+    cacheVersionFence.recordWrite(result);
+    return result;
+  }
+
+  /**
+   * 적재된 인덱스에 아이디를 추가하고 변경 시각을 펜스로 남김
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate
+   * @param indexKey   인덱스 키
+   * @param id         추가할 아이디
+   * @return 추가했으면 1, 인덱스가 없으면 0
+   */
+  public Long add(RedisOperations<String, String> operations, String indexKey, long id) {
+    Long result = update(operations, indexKey, OPERATION_ADD, id);
+    if (result != null && result > 0) {
+      addedCount.increment();
+    }
+    return result;
+  }
+
+  /**
+   * 적재된 인덱스에서 아이디를 제거하고 변경 시각을 펜스로 남김
+   *
+   * @param operations Redis 명령을 실행할 RedisTemplate
+   * @param indexKey   인덱스 키
+   * @param id         제거할 아이디
+   * @return 제거했으면 1, 인덱스가 없으면 0
+   */
+  public Long remove(RedisOperations<String, String> operations, String indexKey, long id) {
+    Long result = update(operations, indexKey, OPERATION_REMOVE, id);
+    if (result != null && result > 0) {
+      removedCount.increment();
+    }
+    return result;
+  }
+
+  private Long update(RedisOperations<String, String> operations, String indexKey,
+      String operation, long id) {
+    String fenceArg = cacheVersionFence.isEnabled()
+        ? String.valueOf(cacheVersionFence.newVersion()) : "";
+    Long result = operations.execute(FENCED_ZSET_UPDATE_SCRIPT,
+        List.of(indexKey, CacheVersionFence.versionKey(indexKey)),
+        fenceArg, String.valueOf(cacheVersionFence.getFenceTtl().toMillis()), operation,
+        String.valueOf(id));
+    if (result != null && result == 0) {
+      missedCount.increment();
+    }
+    return result;
+  }
+
+  /**
+   * 인덱스에 아이디를 추가한 횟수
+   *
+   * @return 추가 횟수
+   */
+  public long getAddedCount() {
+    return addedCount.sum();
+  }
+
+  /**
+   * 인덱스에서 아이디를 제거한 횟수
+   *
+   * @return 제거 횟수
+   */
+  public long getRemovedCount() {
+    return removedCount.sum();
+  }
+
+  /**
+   * 인덱스가 없어 변경하지 않은 횟수
+   *
+   * @return 인덱스가 없었던 횟수
+   */
+  public long getMissedCount() {
+    return missedCount.sum();
+  }
+
+  /**
+   * 인덱스에서 조회한 한 페이지의 아이디와 전체 건수
+   *
+   * @param ids   아이디 내림차순의 아이디 목록
+   * @param total 전체 건수
+   */
+  public record IdPage(List<Long> ids, long total) {
+
+    /**
+     * DB에서 조회한 전체 아이디에서 한 페이지를 잘라 생성
+     *
+     * @param ids    아이디 내림차순의 전체 아이디
+     * @param offset 건너뛸 아이디 수
+     * @param size   조회할 아이디 수
+     * @return 한 페이지의 아이디와 전체 건수
+     */
+    public static IdPage of(List<Long> ids, long offset, int size) {
+      int from = (int) Math.min(offset, ids.size());
+      int to = (int) Math.min(offset + size, ids.size());
+      return new IdPage(List.copyOf(ids.subList(from, to)), ids.size());
+    }
+  }
+}
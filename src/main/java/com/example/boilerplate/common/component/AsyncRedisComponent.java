@@ -0,0 +1,453 @@
+package com.example.boilerplate.common.component;
+
+import com.example.boilerplate.common.cache.CacheMetrics;
+import com.example.boilerplate.common.cache.CacheMetrics.GetResult;
+import com.example.boilerplate.common.cache.CacheOptions;
+import com.example.boilerplate.common.cache.CacheTombstone;
+import com.example.boilerplate.common.cache.CacheValueCodec;
+import com.example.boilerplate.common.cache.CacheVersionFence;
+import com.example.boilerplate.common.cache.LocalCache;
+import com.example.boilerplate.common.cache.RedisCircuitBreaker;
+import com.example.boilerplate.common.cache.RedisReadRouter;
+import com.example.boilerplate.common.cache.SingleFlight;
+import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.common.exception.ApiException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lettuce의 비동기 명령으로 Redis를 호출하여 {@link CompletableFuture}를 반환하는 컴포넌트
+ *
+ * <p>{@link RedisComponent}와 같은 직렬화 코덱, 로컬 캐시, 서킷 브레이커, 지표를 사용하므로 두 컴포넌트로 저장한 값을
+ * 서로 조회할 수 있으며, 요청 스레드를 블로킹하지 않고 캐시 조회와 DB 조회를 동시에 시작하거나 응답을 기다리지 않고
+ * 캐시를 저장할 때 사용</p>
+ *
+ * <p>Redis 연결은 처음 호출할 때 생성하며, 오류가 발생하거나 서킷이 열려 있으면 캐시가 없는 것으로 처리</p>
+ *
+ * <p>조회는 복제본을 우선 사용하는 연결로 보내고, {@link RedisReadRouter}가 최근에 저장 또는 삭제한 것으로 기록한 키는
+ * 마스터에서만 조회하는 연결로 보냄</p>
+ */
+@SuppressWarnings("PMD.CouplingBetweenObjects")
+@Slf4j
+@Component
+public class AsyncRedisComponent {
+
+  private static final RedisCodec<String, byte[]> CODEC =
+      RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+
+  private final LettuceConnectionFactory lettuceConnectionFactory;
+  private final CacheValueCodec cacheValueCodec;
+  private final LocalCache localCache;
+  private final SingleFlight singleFlight;
+  private final RedisCircuitBreaker redisCircuitBreaker;
+  private final CacheMetrics cacheMetrics;
+  private final RedisReadRouter redisReadRouter;
+  private final CacheVersionFence cacheVersionFence;
+  private final Executor cacheLoadExecutor;
+  private final Duration commandTimeout;
+
+  private final Map<ReadFrom, StatefulRedisClusterConnection<String, byte[]>> connections =
+      new ConcurrentHashMap<>();
+
+  /**
+   * 비동기 Redis 호출에 필요한 컴포넌트와 설정을 받아 생성
+   *
+   * @param lettuceConnectionFactory Lettuce를 통한 Redis 연결 팩토리
+   * @param cacheValueCodec          캐시 값 직렬화 코덱
+   * @param localCache               로컬 캐시 및 Hot Key 로컬 복제본
+   * @param singleFlight             동일한 키의 동시 DB 조회를 병합하는 컴포넌트
+   * @param redisCircuitBreaker      Redis 서킷 브레이커
+   * @param cacheMetrics             캐시 지표
+   * @param redisReadRouter          최근에 저장한 키의 조회를 마스터로 보내는 컴포넌트
+   * @param cacheVersionFence        DB에서 적재한 값을 버전과 함께 저장하는 컴포넌트
+   * @param cacheLoadExecutor        캐시에 없는 데이터를 DB에서 조회하는 Executor
+   * @param commandTimeout           명령 응답 대기 시간
+   */
+  public AsyncRedisComponent(
+      LettuceConnectionFactory lettuceConnectionFactory,
+      CacheValueCodec cacheValueCodec,
+      LocalCache localCache,
+      SingleFlight singleFlight,
+      RedisCircuitBreaker redisCircuitBreaker,
+      CacheMetrics cacheMetrics,
+      RedisReadRouter redisReadRouter,
+      CacheVersionFence cacheVersionFence,
+      @Qualifier("cacheLoadExecutor") Executor cacheLoadExecutor,
+      @Value("${redis.command-timeout:1s}") Duration commandTimeout) {
+    this.lettuceConnectionFactory = lettuceConnectionFactory;
+    this.cacheValueCodec = cacheValueCodec;
+    this.localCache = localCache;
+    this.singleFlight = singleFlight;
+    this.redisCircuitBreaker = redisCircuitBreaker;
+    this.cacheMetrics = cacheMetrics;
+    this.redisReadRouter = redisReadRouter;
+    this.cacheVersionFence = cacheVersionFence;
+    this.cacheLoadExecutor = cacheLoadExecutor;
+    this.commandTimeout = commandTimeout;
+  }
+
+  /**
+   * 키에 해당하는 객체를 비동기로 조회
+   *
+   * @param key           검색할 키
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param <T>           반환하는 객체의 타입
+   * @return 해당 키로부터 가져온 객체로 완료되는 Future, 없거나 오류가 발생하면 null로 완료
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> getObjectValue(String key, TypeReference<T> typeReference) {
+    return getCachedValue(key, typeReference)
+        .thenApply(result -> (T) result)
+        .exceptionally(throwable -> {
+          log.error("getObjectValue key: {}", key, throwable);
+          return null;
+        });
+  }
+
+  /**
+   * 키에 해당하는 객체를 비동기로 저장하고, 로컬 캐시 무효화 메시지를 발행
+   *
+   * <p>명령을 전송한 후 바로 반환하므로 응답을 기다리지 않아도 되며, 오류는 로그로만 기록</p>
+   *
+   * @param key      저장할 키
+   * @param value    저장할 객체
+   * @param duration 지속시간
+   * @param timeunit 지속시간의 단위
+   * @return 저장에 성공했는지 여부로 완료되는 Future
+   */
+  @SuppressWarnings("PMD.LinguisticNaming")
+  public CompletableFuture<Boolean> setObjectValue(String key, Object value, long duration,
+      TimeUnit timeunit) {
+    return writeCacheValue(key, cacheValueCodec.serialize(value),
+        Duration.ofMillis(timeunit.toMillis(duration)), null)
+        .whenComplete((saved, throwable) -> publishInvalidation(key));
+  }
+
+  /**
+   * 키에 해당하는 값을 비동기로 삭제하고, 로컬 캐시 무효화 메시지를 발행
+   *
+   * <p>{@link CacheVersionFence}를 사용하는 경우 삭제 시각을 펜스로 남기는 스크립트로 삭제</p>
+   *
+   * @param key 삭제할 키
+   * @return 삭제가 성공했는지 여부로 완료되는 Future
+   */
+  public CompletableFuture<Boolean> deleteKey(String key) {
+    redisReadRouter.markWritten(key);
+    Function<RedisAdvancedClusterAsyncCommands<String, byte[]>, CompletionStage<Long>> delete =
+        cacheVersionFence.isEnabled()
+            ? commands -> evalScript(commands, cacheVersionFence.getFencedDeleteScript(),
+            new String[]{key, CacheVersionFence.versionKey(key)}, cacheVersionFence.deleteArgs())
+            : commands -> commands.del(key);
+    return executeRedis("del", key, delete, () -> 0L)
+        .thenApply(deleted -> deleted != null && deleted > 0)
+        .exceptionally(throwable -> {
+          log.error("deleteKey key : {}", key, throwable);
+          return false;
+        })
+        .whenComplete((deleted, throwable) -> publishInvalidation(key));
+  }
+
+  /**
+   * 캐시 정책에 따라 Redis 캐시에서 데이터를 비동기로 가져오거나, 캐시가 없을 경우 DB에서 조회 후 캐싱
+   *
+   * <p>로컬 캐시(L1) → Redis(L2) → DB 순서로 조회하며, DB 조회는 {@code cacheLoadExecutor}에서
+   * {@link SingleFlight}를 통해 실행하고 조회한 데이터는 저장 응답을 기다리지 않고 반환</p>
+   *
+   * <p>논리적 만료 시각을 함께 저장하는 조기 갱신({@link CacheOptions#isRefreshAhead()})과 Hash 저장
+   * ({@link CacheOptions#isHash()})은 {@link RedisComponent#getCacheOrDefault(String, TypeReference,
+   * Supplier, CacheOptions)}에서만 지원</p>
+   *
+   * @param cacheKey      Redis 캐시 키
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param dbCallback    캐시에 데이터가 없는 경우 DB에서 데이터를 조회하는 콜백
+   * @param cacheOptions  캐시 정책
+   * @param <T>           반환 데이터의 타입
+   * @return 캐시 데이터 또는 DB 조회 데이터로 완료되는 Future, 존재하지 않는 데이터로 캐싱된 키이면
+   *     {@link ApiException}으로 완료
+   * @throws IllegalArgumentException 조기 갱신 또는 Hash 저장이 설정된 캐시 정책인 경우
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> getCacheOrDefault(
+      String cacheKey,
+      TypeReference<T> typeReference,
+      Supplier<T> dbCallback,
+      CacheOptions cacheOptions) {
+    if (cacheOptions.isRefreshAhead()) {
+      throw new IllegalArgumentException("refresh-ahead is not supported asynchronously");
+    }
+    if (cacheOptions.isHash()) {
+      throw new IllegalArgumentException("hash entries are not supported asynchronously");
+    }
+
+    Object localValue = localCache.get(cacheKey);
+    if (localValue instanceof CacheTombstone cacheTombstone) {
+      cacheMetrics.recordGet(cacheKey, GetResult.LOCAL_HIT);
+      return CompletableFuture.failedFuture(cacheTombstone.toException());
+    }
+    if (localValue != null) {
+      cacheMetrics.recordGet(cacheKey, GetResult.LOCAL_HIT);
+      return CompletableFuture.completedFuture((T) localValue);
+    }
+
+    return getCachedValue(cacheKey, typeReference)
+        .exceptionally(throwable -> {
+          log.warn("Redis is unavailable. Falling back to DB. key: {}, Error: {}", cacheKey,
+              throwable.getMessage());
+          return null;
+        })
+        .thenCompose(cachedValue -> {
+          cacheMetrics.recordGet(cacheKey, cachedValue == null ? GetResult.MISS : GetResult.HIT);
+          if (cachedValue instanceof CacheTombstone cacheTombstone) {
+            localCache.put(cacheKey, cacheTombstone);
+            return CompletableFuture.failedFuture(cacheTombstone.toException());
+          }
+          if (cachedValue != null) {
+            T value = (T) cachedValue;
+            localCache.put(cacheKey, value);
+            return CompletableFuture.completedFuture(value);
+          }
+          return CompletableFuture.supplyAsync(
+              () -> singleFlight.load(cacheKey, () -> load(cacheKey, dbCallback, cacheOptions)),
+              cacheLoadExecutor);
+        });
+  }
+
+  /**
+   * DB에서 데이터를 조회하여 응답을 기다리지 않고 저장하며, 404 예외가 발생하면 {@link CacheTombstone}을 저장
+   *
+   * @param cacheKey     Redis 캐시 키
+   * @param dbCallback   DB에서 데이터를 조회하는 콜백
+   * @param cacheOptions 캐시 정책
+   * @param <T>          반환 데이터의 타입
+   * @return DB 조회 데이터
+   */
+  private <T> T load(String cacheKey, Supplier<T> dbCallback, CacheOptions cacheOptions) {
+    long version = cacheVersionFence.newVersion();
+    try {
+      T value = cacheMetrics.recordLoad(cacheKey, dbCallback);
+      writeCacheValue(cacheKey, encode(cacheKey, value, cacheOptions),
+          cacheOptions.jitteredTtl(), version);
+      localCache.put(cacheKey, value);
+      return value;
+    } catch (ApiException e) {
+      if (cacheOptions.getNegativeTtl() != null && e.getHttpStatus() == HttpStatus.NOT_FOUND) {
+        CacheTombstone cacheTombstone = CacheTombstone.of(e.getStatus().getCode());
+        writeCacheValue(cacheKey, encode(cacheKey, cacheTombstone, cacheOptions),
+            cacheOptions.getNegativeTtl(), version);
+        localCache.put(cacheKey, cacheTombstone);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 키에 해당하는 캐시 값을 비동기로 조회하여 반환 타입으로 바로 역직렬화
+   *
+   * @param cacheKey      Redis 캐시 키
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @return 캐시 값 또는 {@link CacheTombstone}으로 완료되는 Future, 없으면 null로 완료
+   */
+  private CompletableFuture<Object> getCachedValue(String cacheKey,
+      TypeReference<?> typeReference) {
+    ReadFrom readFrom = redisReadRouter.isRecentlyWritten(cacheKey)
+        ? ReadFrom.UPSTREAM : ReadFrom.REPLICA_PREFERRED;
+    return executeRedis("get", cacheKey, readFrom, commands -> commands.get(cacheKey),
+        () -> null)
+        .thenApply(bytes -> cacheValueCodec.decode(bytes, typeReference));
+  }
+
+  /**
+   * 캐시 정책의 직렬화 형식으로 저장하고 키의 네임스페이스 별 저장 크기를 기록하도록 직렬화
+   *
+   * @param cacheKey     Redis 캐시 키
+   * @param value        저장할 값
+   * @param cacheOptions 캐시 정책
+   * @return 직렬화된 값
+   */
+  private byte[] encode(String cacheKey, Object value, CacheOptions cacheOptions) {
+    return cacheValueCodec.serialize(cacheValueCodec.wrap(value, cacheOptions.getFormat(),
+        CacheMetrics.namespace(cacheKey)));
+  }
+
+  /**
+   * 무효화 메시지 발행 없이 캐시 값을 비동기로 저장
+   *
+   * <p>버전이 있고 {@link CacheVersionFence}를 사용하는 경우 저장된 버전 또는 삭제 펜스보다 새로운 버전일 때만 저장</p>
+   *
+   * @param cacheKey Redis 캐시 키
+   * @param value    직렬화된 값
+   * @param ttl      캐시 만료 시간
+   * @param version  DB에서 적재한 값의 버전, null이면 버전 비교 없이 저장
+   * @return 저장에 성공했는지 여부로 완료되는 Future
+   */
+  private CompletableFuture<Boolean> writeCacheValue(String cacheKey, byte[] value,
+      Duration ttl, Long version) {
+    redisReadRouter.markWritten(cacheKey);
+    if (version != null && cacheVersionFence.isEnabled()) {
+      return executeRedis("set", cacheKey,
+          commands -> evalScript(commands, cacheVersionFence.getVersionedSetScript(),
+              new String[]{cacheKey, CacheVersionFence.versionKey(cacheKey)},
+              cacheVersionFence.writeArgs(value, ttl, version)), () -> null)
+          .thenApply(written -> {
+            cacheVersionFence.recordWrite(written);
+            return written != null && written > 0;
+          })
+          .exceptionally(throwable -> {
+            log.error("writeCacheValue key: {}", cacheKey, throwable);
+            return false;
+          });
+    }
+    return executeRedis("set", cacheKey,
+        commands -> commands.set(cacheKey, value, SetArgs.Builder.px(ttl)), () -> null)
+        .thenApply("OK"::equals)
+        .exceptionally(throwable -> {
+          log.error("writeCacheValue key: {}", cacheKey, throwable);
+          return false;
+        });
+  }
+
+  /**
+   * 스크립트를 EVALSHA로 실행하고, 노드의 스크립트 캐시에 없어 NOSCRIPT로 실패한 경우에만 원문으로 EVAL을 전송
+   *
+   * <p>{@link CacheVersionFence}가 파이프라인 밖에서 실행하는 방식과 같으며, 호출마다 스크립트 원문을 전송하지 않음</p>
+   *
+   * @param commands 비동기 Redis 명령
+   * @param script   실행할 스크립트
+   * @param keys     스크립트의 KEYS
+   * @param args     스크립트의 ARGV
+   * @return 스크립트의 결과로 완료되는 CompletionStage
+   */
+  private static CompletionStage<Long> evalScript(
+      RedisAdvancedClusterAsyncCommands<String, byte[]> commands, RedisScript<Long> script,
+      String[] keys, byte[]... args) {
+    return commands.<Long>evalsha(script.getSha1(), ScriptOutputType.INTEGER, keys, args)
+        .exceptionallyCompose(throwable -> isNoScript(throwable)
+            ? commands.<Long>eval(script.getScriptAsString(), ScriptOutputType.INTEGER, keys,
+            args)
+            : CompletableFuture.failedFuture(throwable));
+  }
+
+  private static boolean isNoScript(Throwable throwable) {
+    return throwable instanceof RedisNoScriptException
+        || throwable instanceof CompletionException
+        && throwable.getCause() instanceof RedisNoScriptException;
+  }
+
+  /**
+   * 로컬 캐시에서 키를 제거하고, 다른 노드에도 제거하도록 무효화 메시지를 비동기로 발행
+   *
+   * @param key 무효화할 키
+   */
+  private void publishInvalidation(String key) {
+    if (!localCache.isEnabled()) {
+      return;
+    }
+    localCache.evict(key);
+    executeRedis("publish", key, commands -> commands.publish(
+        Constants.CACHE_INVALIDATION_CHANNEL, key.getBytes(StandardCharsets.UTF_8)), () -> 0L)
+        .exceptionally(throwable -> {
+          log.error("publishInvalidation key : {}", key, throwable);
+          return 0L;
+        });
+  }
+
+  /**
+   * 서킷 브레이커를 통해 비동기 Redis 명령을 실행하고, 키의 네임스페이스 별 응답 시간과 오류를 기록
+   *
+   * <p>명령 응답 대기 시간이 지나면 {@link java.util.concurrent.TimeoutException}으로 완료</p>
+   *
+   * @param operation Redis 명령 이름
+   * @param key       대표 캐시 키
+   * @param command   비동기 Redis 명령
+   * @param fallback  서킷이 열려 있을 때 반환할 값
+   * @param <T>       반환 데이터의 타입
+   * @return 명령의 결과 또는 대체 값으로 완료되는 Future
+   */
+  private <T> CompletableFuture<T> executeRedis(String operation, String key,
+      Function<RedisAdvancedClusterAsyncCommands<String, byte[]>, CompletionStage<T>> command,
+      Supplier<T> fallback) {
+    return executeRedis(operation, key, ReadFrom.REPLICA_PREFERRED, command, fallback);
+  }
+
+  /**
+   * 조회할 노드를 지정하여 서킷 브레이커를 통해 비동기 Redis 명령을 실행
+   *
+   * @param operation Redis 명령 이름
+   * @param key       대표 캐시 키
+   * @param readFrom  읽기 작업을 보낼 노드
+   * @param command   비동기 Redis 명령
+   * @param fallback  서킷이 열려 있을 때 반환할 값
+   * @param <T>       반환 데이터의 타입
+   * @return 명령의 결과 또는 대체 값으로 완료되는 Future
+   */
+  private <T> CompletableFuture<T> executeRedis(String operation, String key, ReadFrom readFrom,
+      Function<RedisAdvancedClusterAsyncCommands<String, byte[]>, CompletionStage<T>> command,
+      Supplier<T> fallback) {
+    try {
+      return cacheMetrics.recordRedisAsync(operation, key,
+          () -> redisCircuitBreaker.executeAsync(
+              () -> command.apply(connection(readFrom).async()).toCompletableFuture()
+                  .orTimeout(commandTimeout.toMillis(), TimeUnit.MILLISECONDS),
+              fallback));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * 비동기 명령에 사용할 Redis 클러스터 연결을 읽기 노드 설정 별로 반환하며, 없으면 생성
+   *
+   * <p>{@link LettuceConnectionFactory}의 클라이언트를 공유하며, 쓰기 작업은 설정과 관계없이 마스터로 전송</p>
+   *
+   * @param readFrom 읽기 작업을 보낼 노드
+   * @return Redis 클러스터 연결
+   */
+  @SuppressWarnings("PMD.CloseResource")
+  private StatefulRedisClusterConnection<String, byte[]> connection(ReadFrom readFrom) {
+    return connections.computeIfAbsent(readFrom, target -> {
+      RedisClusterClient redisClusterClient =
+          (RedisClusterClient) lettuceConnectionFactory.getRequiredNativeClient();
+      StatefulRedisClusterConnection<String, byte[]> newConnection =
+          redisClusterClient.connect(CODEC);
+      newConnection.setReadFrom(target);
+      return newConnection;
+    });
+  }
+
+  /**
+   * 애플리케이션 종료 시 Redis 연결을 닫음
+   */
+  @PreDestroy
+  public void close() {
+    connections.values().forEach(StatefulRedisClusterConnection::close);
+    connections.clear();
+  }
+}
@@ -1,17 +1,63 @@
 package com.example.boilerplate.common.component;
 
+import com.example.boilerplate.common.cache.CacheEntry;
+import com.example.boilerplate.common.cache.CacheMetrics;
+import com.example.boilerplate.common.cache.CacheMetrics.GetResult;
+import com.example.boilerplate.common.cache.CacheOptions;
+import com.example.boilerplate.common.cache.CacheRefresher;
+import com.example.boilerplate.common.cache.CacheTombstone;
+import com.example.boilerplate.common.cache.CacheValueCodec;
+import com.example.boilerplate.common.cache.CacheVersionFence;
+import com.example.boilerplate.common.cache.CounterAggregator;
+import com.example.boilerplate.common.cache.CounterAggregator.AddResult;
+import com.example.boilerplate.common.cache.HashCacheStore;
+import com.example.boilerplate.common.cache.LocalCache;
+import com.example.boilerplate.common.cache.RebuildLease;
+import com.example.boilerplate.common.cache.RebuildLease.Lease;
+import com.example.boilerplate.common.cache.RedisCircuitBreaker;
+import com.example.boilerplate.common.cache.RedisReadRouter;
+import com.example.boilerplate.common.cache.SingleFlight;
+import com.example.boilerplate.common.cache.SortedSetIndexStore;
+import com.example.boilerplate.common.cache.SortedSetIndexStore.IdPage;
+import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.common.exception.ApiException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.cluster.SlotHash;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
+@SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.GodClass", "PMD.AvoidDuplicateLiterals",
+    "PMD.TooManyMethods"})
 @Slf4j
 @RequiredArgsConstructor
 @Component
@@ -20,7 +66,19 @@ public class RedisComponent {
   private final StringRedisTemplate stringRedisTemplate;
   private final RedisTemplate<String, Object> objectRedisTemplate;
   private final RedisTemplate<String, Integer> integerRedisTemplate;
-  private final ObjectMapper objectMapper;
+  private final CacheValueCodec cacheValueCodec;
+  private final LocalCache localCache;
+  private final SingleFlight singleFlight;
+  private final CacheRefresher cacheRefresher;
+  private final RedisCircuitBreaker redisCircuitBreaker;
+  private final CacheMetrics cacheMetrics;
+  private final RedisReadRouter redisReadRouter;
+  private final RebuildLease rebuildLease;
+  private final CounterAggregator counterAggregator;
+  private final TaskScheduler counterFlushScheduler;
+  private final CacheVersionFence cacheVersionFence;
+  private final HashCacheStore hashCacheStore;
+  private final SortedSetIndexStore sortedSetIndexStore;
 
   /**
    * 키에 해당하는 문자열을 저장
@@ -33,10 +91,11 @@ public class RedisComponent {
   public void setStringValue(String key, String value, long duration, TimeUnit timeunit) {
     try {
       ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-      valueOperations.set(key, value, duration, timeunit);
+      runRedis("set", key, () -> valueOperations.set(key, value, duration, timeunit));
     } catch (Exception e) {
       log.error("setStringValue key: {}", key, e);
     }
+    redisReadRouter.markWritten(key);
   }
 
   /**
@@ -47,8 +106,9 @@ public class RedisComponent {
    */
   public String getStringValue(String key) {
     try {
-      ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-      String value = valueOperations.get(key);
+      ValueOperations<String, String> valueOperations =
+          redisReadRouter.stringTemplate(key).opsForValue();
+      String value = executeRedis("get", key, () -> valueOperations.get(key), () -> null);
       if (StringUtils.hasText(value)) {
         return value;
       }
@@ -69,10 +129,12 @@ public class RedisComponent {
   public void setObjectValue(String key, Object value, long duration, TimeUnit timeunit) {
     try {
       ValueOperations<String, Object> valueOperations = objectRedisTemplate.opsForValue();
-      valueOperations.set(key, value, duration, timeunit);
+      runRedis("set", key, () -> valueOperations.set(key, value, duration, timeunit));
     } catch (Exception e) {
       log.error("setObjectValue key: {}", key, e);
     }
+    redisReadRouter.markWritten(key);
+    publishInvalidation(key);
   }
 
   /**
@@ -83,20 +145,53 @@ public class RedisComponent {
    * @param <T>           반환하는 객체의 타입
    * @return 해당 키로부터 가져온 객체, 없거나 오류가 발생하면 null 반환
    */
+  @SuppressWarnings("unchecked")
   public <T> T getObjectValue(String key, TypeReference<T> typeReference) {
     try {
-      ValueOperations<String, Object> valueOperations = objectRedisTemplate.opsForValue();
-      Object result = valueOperations.get(key);
-      if (result == null) {
-        return null;
-      }
-      return objectMapper.convertValue(result, typeReference);
+      RedisTemplate<String, Object> redisTemplate = redisReadRouter.objectTemplate(key);
+      byte[] result = executeRedis("get", key, () -> getBytes(redisTemplate, key), () -> null);
+      return (T) cacheValueCodec.decode(result, typeReference);
     } catch (Exception e) {
       log.error("getObjectValue key: {}", key, e);
     }
     return null;
   }
 
+  /**
+   * 여러 키에 해당하는 객체를 한 번에 조회
+   *
+   * <p>클러스터 모드에서는 슬롯이 다른 키를 하나의 MGET으로 조회할 수 없으므로, 키를 슬롯별로 묶어
+   * 슬롯 당 하나의 MGET을 파이프라인으로 전송하며 각 노드에서 병렬로 처리</p>
+   *
+   * @param keys          검색할 키 목록
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param <T>           반환하는 객체의 타입
+   * @return 키와 객체의 Map, 값이 없는 키는 포함하지 않음
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Map<String, T> multiGetObjectValues(Collection<String> keys,
+      TypeReference<T> typeReference) {
+    Map<String, T> values = new LinkedHashMap<>();
+    multiGetCachedValues(keys, bytes -> cacheValueCodec.decode(bytes, typeReference))
+        .forEach((key, value) -> values.put(key, (T) value));
+    return values;
+  }
+
+  /**
+   * 여러 키와 객체를 파이프라인으로 한 번에 저장
+   *
+   * @param values   저장할 키와 객체의 Map
+   * @param duration 지속시간
+   * @param timeunit 지속시간의 단위
+   */
+  public void multiSetObjectValues(Map<String, ?> values, long duration, TimeUnit timeunit) {
+    Duration ttl = Duration.ofMillis(timeunit.toMillis(duration));
+    Map<String, Duration> ttls = new HashMap<>();
+    values.keySet().forEach(key -> ttls.put(key, ttl));
+    writeCacheValues(values, ttls, null);
+    values.keySet().forEach(this::publishInvalidation);
+  }
+
   /**
    * 키에 해당하는 정수를 저장
    *
@@ -108,7 +203,7 @@ public class RedisComponent {
   public void setIntegerValue(String key, Integer value, long duration, TimeUnit timeunit) {
     try {
       ValueOperations<String, Integer> valueOperations = integerRedisTemplate.opsForValue();
-      valueOperations.set(key, value, duration, timeunit);
+      runRedis("set", key, () -> valueOperations.set(key, value, duration, timeunit));
     } catch (Exception e) {
       log.error("setIntegerValue key: {}", key, e);
     }
@@ -123,25 +218,340 @@ public class RedisComponent {
   public Integer getIntegerValue(String key) {
     try {
       ValueOperations<String, Integer> valueOperations = integerRedisTemplate.opsForValue();
-      return valueOperations.get(key);
+      return executeRedis("get", key, () -> valueOperations.get(key), () -> null);
     } catch (Exception e) {
       log.error("getIntegerValue key: {}", key, e);
     }
     return null;
   }
 
+  /**
+   * 키에 해당하는 카운터를 증가
+   *
+   * <p>증가분은 노드 안에서 합산되어 주기적으로 또는 임계치에 도달하면 파이프라인 INCRBY로 한 번에 전송되므로,
+   * 호출할 때마다 Redis를 호출하지 않음</p>
+   *
+   * @param key   카운터 키
+   * @param delta 증가분
+   */
+  public void incrementCounter(String key, long delta) {
+    AddResult addResult = counterAggregator.add(key, delta);
+    if (addResult == AddResult.DIRECT) {
+      sendCounterDeltas(Map.of(key, delta));
+    } else if (addResult == AddResult.FLUSH) {
+      counterFlushScheduler.schedule(this::flushCounters, Instant.now());
+    }
+  }
+
+  /**
+   * 키에 해당하는 카운터를 조회
+   *
+   * @param key 카운터 키
+   * @return Redis에 저장된 값과 아직 전송하지 않은 증가분의 합
+   */
+  public long getCounterValue(String key) {
+    long pendingDelta = counterAggregator.getPendingDelta(key);
+    try {
+      ValueOperations<String, Integer> valueOperations = integerRedisTemplate.opsForValue();
+      Number value = executeRedis("get", key, () -> valueOperations.get(key), () -> null);
+      return value == null ? pendingDelta : value.longValue() + pendingDelta;
+    } catch (Exception e) {
+      log.error("getCounterValue key: {}", key, e);
+    }
+    return pendingDelta;
+  }
+
+  /**
+   * 노드 안에서 합산한 카운터 증가분을 전송하며, 종료 시에도 남은 증가분을 전송
+   */
+  @PreDestroy
+  public void flushCounters() {
+    counterAggregator.flush(this::sendCounterDeltas);
+  }
+
+  /**
+   * 카운터 증가분을 주기적으로 전송하도록 예약
+   */
+  @PostConstruct
+  void scheduleCounterFlush() {
+    counterFlushScheduler.scheduleAtFixedRate(this::flushCounters,
+        counterAggregator.getFlushInterval());
+  }
+
   /**
    * 키에 해당하는 값을 삭제
    *
+   * <p>{@link CacheVersionFence}를 사용하는 경우 삭제 시각을 펜스로 남겨, 삭제 전에 DB 조회를 시작한 적재가 이전 값을
+   * 다시 저장하지 못하도록 함</p>
+   *
    * @param key 삭제할 키
    * @return 삭제가 성공했는지 여부
    */
   public boolean deleteKey(String key) {
+    boolean deleted;
     try {
-      return Boolean.TRUE.equals(stringRedisTemplate.delete(key));
+      if (cacheVersionFence.isEnabled()) {
+        deleted = executeRedis("del", key,
+            () -> cacheVersionFence.delete(stringRedisTemplate, key), () -> 0L) > 0;
+      } else {
+        deleted = Boolean.TRUE.equals(
+            executeRedis("del", key, () -> stringRedisTemplate.delete(key), () -> false));
+      }
     } catch (Exception e) {
       log.error("deleteKey key : {}", key, e);
-      return false;
+      deleted = false;
+    }
+    redisReadRouter.markWritten(key);
+    publishInvalidation(key);
+    return deleted;
+  }
+
+  /**
+   * 여러 키를 슬롯별로 묶어 파이프라인 UNLINK로 한 번에 삭제하고, 로컬 캐시 무효화 메시지를 발행
+   *
+   * <p>UNLINK는 값의 메모리 해제를 Redis의 백그라운드 스레드에서 처리하므로 큰 값도 Redis를 블로킹하지 않으며,
+   * {@link CacheVersionFence}를 사용하는 경우 키마다 삭제 펜스를 남기는 스크립트로 삭제</p>
+   *
+   * @param keys 삭제할 키 목록
+   * @return 전송에 성공했는지 여부
+   */
+  public boolean unlinkKeys(Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return true;
+    }
+    Collection<List<String>> keysBySlot = groupBySlot(keys);
+    boolean sent;
+    try {
+      SessionCallback<Object> unlinkCallback = new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> redisOperations =
+              (RedisOperations<String, String>) operations;
+          if (cacheVersionFence.isEnabled()) {
+            keysBySlot.forEach(slotKeys -> slotKeys.forEach(
+                key -> cacheVersionFence.delete(redisOperations, key)));
+          } else {
+            keysBySlot.forEach(redisOperations::unlink);
+          }
+          return null;
+        }
+      };
+      sent = executeRedis("unlink", keys.iterator().next(), () -> {
+        stringRedisTemplate.executePipelined(unlinkCallback);
+        return true;
+      }, () -> false);
+    } catch (Exception e) {
+      log.error("unlinkKeys keys: {}", keys, e);
+      sent = false;
+    }
+    redisReadRouter.markWritten(keys);
+    publishInvalidation(keys);
+    return sent;
+  }
+
+  /**
+   * Hash로 저장된 캐시의 필드만 덮어쓰고(write-through), 로컬 캐시 무효화 메시지를 발행
+   *
+   * <p>캐시가 없으면 저장하지 않으며, Hash가 아닌 값이 저장되어 있으면 삭제</p>
+   *
+   * @param cacheKey Redis 캐시 키
+   * @param fields   속성 이름과 값의 Map 또는 객체 (객체이면 모든 속성)
+   * @return 전송에 성공했는지 여부, 실패하면 캐시를 삭제해야 함
+   */
+  public boolean updateHashFields(String cacheKey, Object fields) {
+    Map<String, String> encodedFields = hashCacheStore.encodeFields(fields);
+    if (encodedFields.isEmpty()) {
+      return true;
+    }
+    boolean sent;
+    try {
+      sent = executeRedis("hset", cacheKey,
+          () -> hashCacheStore.update(stringRedisTemplate, cacheKey, encodedFields),
+          () -> null) != null;
+    } catch (Exception e) {
+      log.error("updateHashFields key: {}", cacheKey, e);
+      sent = false;
+    }
+    redisReadRouter.markWritten(cacheKey);
+    publishInvalidation(cacheKey);
+    return sent;
+  }
+
+  /**
+   * 아이디를 점수로 하는 Sorted Set 인덱스에서 아이디 내림차순으로 한 페이지의 아이디와 전체 건수를 조회하고, 인덱스가
+   * 없으면 DB에서 전체 아이디를 조회하여 인덱스를 저장
+   *
+   * <p>동일한 인덱스의 동시 DB 조회는 {@link SingleFlight}로 병합하며, 조회를 시작한 시각을 버전으로 저장하므로 조회 중에
+   * 아이디가 추가 또는 제거되었으면 저장하지 않음</p>
+   *
+   * @param indexKey   인덱스 키
+   * @param offset     건너뛸 아이디 수
+   * @param size       조회할 아이디 수
+   * @param dbCallback 인덱스가 없는 경우 DB에서 전체 아이디를 내림차순으로 조회하는 콜백
+   * @param ttl        인덱스 만료 시간
+   * @return 한 페이지의 아이디와 전체 건수
+   */
+  public IdPage getIndexPageOrDefault(
+      String indexKey,
+      long offset,
+      int size,
+      Supplier<List<Long>> dbCallback,
+      Duration ttl) {
+    IdPage idPage = null;
+    try {
+      idPage = executeRedis("zrevrange", indexKey,
+          () -> sortedSetIndexStore.read(redisReadRouter.stringTemplate(indexKey), indexKey,
+              offset, size), () -> null);
+    } catch (Exception e) {
+      log.warn("Redis is unavailable. Falling back to DB. key: {}, Error: {}", indexKey,
+          e.getMessage());
+    }
+    cacheMetrics.recordGet(indexKey, idPage == null ? GetResult.MISS : GetResult.HIT);
+    if (idPage != null) {
+      return idPage;
+    }
+
+    List<Long> ids = singleFlight.load(indexKey, () -> {
+      long version = cacheVersionFence.newVersion();
+      List<Long> loadedIds = cacheMetrics.recordLoad(indexKey, dbCallback);
+      try {
+        runRedis("zadd", indexKey, () -> sortedSetIndexStore.write(stringRedisTemplate,
+            indexKey, loadedIds, ttl, version));
+        redisReadRouter.markWritten(indexKey);
+      } catch (Exception e) {
+        log.error("writeIndex key: {}", indexKey, e);
+      }
+      return loadedIds;
+    });
+    return IdPage.of(ids, offset, size);
+  }
+
+  /**
+   * 적재된 Sorted Set 인덱스에 아이디를 추가하며, 인덱스가 없으면 추가하지 않음
+   *
+   * @param indexKey 인덱스 키
+   * @param id       추가할 아이디
+   * @return 전송에 성공했는지 여부, 실패하면 인덱스를 삭제해야 함
+   */
+  public boolean addIndexMember(String indexKey, long id) {
+    return updateIndex("zadd", indexKey,
+        () -> sortedSetIndexStore.add(stringRedisTemplate, indexKey, id));
+  }
+
+  /**
+   * 적재된 Sorted Set 인덱스에서 아이디를 제거
+   *
+   * @param indexKey 인덱스 키
+   * @param id       제거할 아이디
+   * @return 전송에 성공했는지 여부, 실패하면 인덱스를 삭제해야 함
+   */
+  public boolean removeIndexMember(String indexKey, long id) {
+    return updateIndex("zrem", indexKey,
+        () -> sortedSetIndexStore.remove(stringRedisTemplate, indexKey, id));
+  }
+
+  private boolean updateIndex(String operation, String indexKey, Supplier<Long> action) {
+    boolean sent;
+    try {
+      sent = executeRedis(operation, indexKey, action, () -> null) != null;
+    } catch (Exception e) {
+      log.error("updateIndex key: {}", indexKey, e);
+      sent = false;
+    }
+    redisReadRouter.markWritten(indexKey);
+    return sent;
+  }
+
+  /**
+   * 여러 세대 번호를 파이프라인으로 한 번에 증가
+   *
+   * @param generationKeys 세대 번호를 저장하는 키 목록
+   * @return 전송에 성공했는지 여부
+   */
+  public boolean incrementGenerations(Collection<String> generationKeys) {
+    if (generationKeys.isEmpty()) {
+      return true;
+    }
+    String initialGeneration = String.valueOf(System.currentTimeMillis());
+    redisReadRouter.markWritten(generationKeys);
+    try {
+      SessionCallback<Object> incrementCallback = new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> redisOperations =
+              (RedisOperations<String, String>) operations;
+          generationKeys.forEach(generationKey -> {
+            redisOperations.opsForValue().setIfAbsent(generationKey, initialGeneration);
+            redisOperations.opsForValue().increment(generationKey);
+          });
+          return null;
+        }
+      };
+      return executeRedis("incr", generationKeys.iterator().next(), () -> {
+        stringRedisTemplate.executePipelined(incrementCallback);
+        return true;
+      }, () -> false);
+    } catch (Exception e) {
+      log.error("incrementGenerations keys: {}", generationKeys, e);
+    }
+    return false;
+  }
+
+  /**
+   * 카운터 증가분을 파이프라인 INCRBY로 한 번에 전송
+   *
+   * @param deltas 키와 증가분의 Map
+   * @return 전송에 성공했는지 여부
+   */
+  private boolean sendCounterDeltas(Map<String, Long> deltas) {
+    try {
+      SessionCallback<Object> incrementCallback = new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, Integer> redisOperations =
+              (RedisOperations<String, Integer>) operations;
+          deltas.forEach((key, delta) -> redisOperations.opsForValue().increment(key, delta));
+          return null;
+        }
+      };
+      return executeRedis("incrby", deltas.keySet().iterator().next(), () -> {
+        integerRedisTemplate.executePipelined(incrementCallback);
+        return true;
+      }, () -> false);
+    } catch (Exception e) {
+      log.error("sendCounterDeltas keys: {}", deltas.keySet(), e);
+    }
+    return false;
+  }
+
+  /**
+   * 로컬 캐시에서 키를 제거하고, 다른 노드에도 제거하도록 무효화 메시지를 발행
+   *
+   * @param key 무효화할 키
+   */
+  private void publishInvalidation(String key) {
+    publishInvalidation(List.of(key));
+  }
+
+  /**
+   * 로컬 캐시에서 여러 키를 제거하고, 다른 노드에도 제거하도록 하나의 무효화 메시지로 발행
+   *
+   * @param keys 무효화할 키 목록
+   */
+  private void publishInvalidation(Collection<String> keys) {
+    if (!localCache.isEnabled()) {
+      return;
+    }
+    keys.forEach(localCache::evict);
+    String message = String.join(Constants.CACHE_INVALIDATION_DELIMITER, keys);
+    try {
+      runRedis("publish", keys.iterator().next(),
+          () -> stringRedisTemplate.convertAndSend(Constants.CACHE_INVALIDATION_CHANNEL, message));
+    } catch (Exception e) {
+      log.error("publishInvalidation keys : {}", keys, e);
     }
   }
 
@@ -162,19 +572,864 @@ public class RedisComponent {
       Supplier<T> dbCallback,
       long ttl,
       TimeUnit timeUnit) {
+    return getCacheOrDefault(cacheKey, typeReference, dbCallback,
+        CacheOptions.of(Duration.ofMillis(timeUnit.toMillis(ttl))));
+  }
+
+  /**
+   * 캐시 정책에 따라 Redis 캐시에서 데이터를 가져오거나, 캐시가 없을 경우 DB에서 조회 후 캐싱
+   *
+   * <p>로컬 캐시를 사용하는 경우 로컬 캐시(L1) → Redis(L2) → DB 순서로 조회하며, 동일한 키에 대한
+   * 동시 DB 조회는 {@link SingleFlight}를 통해 하나로 병합</p>
+   *
+   * <p>{@link CacheOptions#isRefreshAhead()}가 설정된 경우 값과 함께 논리적 만료 시각을 저장하고,
+   * 만료 전 확률적으로 또는 만료 후 유예 시간 동안 이전 값을 반환하면서 백그라운드에서 갱신</p>
+   *
+   * <p>{@link CacheOptions#isRebuildLease()}가 설정된 경우 여러 노드 중 Lease를 획득한 노드만 DB를 조회하고,
+   * 나머지 노드는 적재된 값을 기다리거나 조기 갱신에서는 이전 값을 계속 제공</p>
+   *
+   * <p>{@link CacheOptions#getNegativeTtl()}이 설정된 경우 DB 조회에서 404 {@link ApiException}이
+   * 발생하면 {@link CacheTombstone}을 저장하고, 이후 조회 시 DB 조회 없이 같은 예외를 발생</p>
+   *
+   * <p>DB에서 적재한 값은 조회를 시작한 시각을 버전으로 {@link CacheVersionFence}를 통해 저장하므로, 조회 중에 수정 및
+   * 삭제된 데이터의 이전 값은 저장되지 않음</p>
+   *
+   * <p>{@link CacheOptions#isHash()}가 설정된 경우 값을 속성마다 하나의 필드를 가진 Hash로 저장하고 HGETALL로 조회</p>
+   *
+   * @param cacheKey      Redis 캐시 키
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param dbCallback    캐시에 데이터가 없는 경우 DB에서 데이터를 조회하는 콜백
+   * @param cacheOptions  캐시 정책
+   * @param <T>           반환 데이터의 타입
+   * @return 캐시 데이터 또는 DB 조회 데이터를 반환
+   * @throws ApiException             존재하지 않는 데이터로 캐싱된 키를 조회한 경우
+   * @throws IllegalArgumentException Hash 저장과 조기 갱신이 함께 설정된 캐시 정책인 경우
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getCacheOrDefault(
+      String cacheKey,
+      TypeReference<T> typeReference,
+      Supplier<T> dbCallback,
+      CacheOptions cacheOptions) {
+    validateHash(cacheOptions);
+
+    Object localValue = localCache.get(cacheKey);
+    if (localValue instanceof CacheTombstone cacheTombstone) {
+      cacheMetrics.recordGet(cacheKey, GetResult.LOCAL_HIT);
+      throw cacheTombstone.toException();
+    }
+    if (localValue != null) {
+      cacheMetrics.recordGet(cacheKey, GetResult.LOCAL_HIT);
+      return (T) localValue;
+    }
+
+    Supplier<T> loader = withNegativeCaching(cacheKey, dbCallback, cacheOptions);
+    if (cacheOptions.isRefreshAhead()) {
+      return getRefreshAheadValue(cacheKey, typeReference, loader, cacheOptions);
+    }
+
+    Object cachedValue = cacheOptions.isHash()
+        ? getCachedHash(cacheKey, typeReference)
+        : getCachedValue(cacheKey, bytes -> cacheValueCodec.decode(bytes, typeReference));
+    if (cachedValue != null) {
+      T value = (T) cachedValue;
+      localCache.put(cacheKey, value);
+      return value;
+    }
+
+    // 캐시에 값이 없거나 예외 발생 시 DB에서 값을 가져오고 Redis에 저장 (키 당 하나의 요청만 실행)
+    // 버전 펜스가 저장을 거부한 값은 이미 오래된 값이므로 로컬 캐시에도 저장하지 않음
+    Supplier<T> load = () -> {
+      long version = cacheVersionFence.newVersion();
+      T loadedValue = cacheMetrics.recordLoad(cacheKey, loader);
+      if (writeLoadedValue(cacheKey, loadedValue, cacheOptions.jitteredTtl(), version,
+          cacheOptions)) {
+        localCache.put(cacheKey, loadedValue);
+      }
+      return loadedValue;
+    };
+    Supplier<Object> reader = cacheOptions.isHash()
+        ? () -> readCachedHash(cacheKey, typeReference)
+        : () -> readCachedValue(cacheKey, bytes -> cacheValueCodec.decode(bytes, typeReference));
+    return singleFlight.load(cacheKey, () -> loadWithLease(cacheKey, cacheOptions, load,
+        () -> awaitRebuild(cacheKey, reader, rebuilt -> (T) rebuilt, load)));
+  }
+
+  /**
+   * 목록 및 페이지 조회 결과를 세대(generation) 번호가 포함된 키로 캐싱
+   *
+   * <p>캐시 키는 {@code cacheKeyPrefix + 세대 번호 + ":" + 조회 조건의 해시}로 구성되며, 데이터 변경 시
+   * {@link #incrementGenerations(Collection)}으로 세대 번호만 증가시키면 이전 세대의 목록은 더 이상 조회되지 않고 만료
+   * 시간이 지나면 제거되므로, 키 검색 없이 O(1)로 모든 목록 캐시를 무효화</p>
+   *
+   * @param generationKey  세대 번호를 저장하는 키
+   * @param cacheKeyPrefix 목록 캐시 키의 접두사
+   * @param query          정규화된 조회 조건
+   * @param typeReference  반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param dbCallback     DB에서 목록을 조회하는 콜백
+   * @param cacheOptions   캐시 정책
+   * @param <T>            반환 데이터의 타입
+   * @return 캐시 데이터 또는 DB 조회 데이터를 반환
+   */
+  public <T> T getQueryCacheOrDefault(
+      String generationKey,
+      String cacheKeyPrefix,
+      String query,
+      TypeReference<T> typeReference,
+      Supplier<T> dbCallback,
+      CacheOptions cacheOptions) {
+
+    String generation = getGeneration(generationKey);
+    if (generation == null) {
+      return dbCallback.get();
+    }
+    String cacheKey = cacheKeyPrefix + generation + ":"
+        + DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8));
+    return getCacheOrDefault(cacheKey, typeReference, dbCallback, cacheOptions);
+  }
+
+  /**
+   * 세대 번호를 조회하고, 없으면 현재 시각(ms)으로 초기화
+   *
+   * <p>세대 키가 유실되어도 이전 세대 번호와 겹치지 않도록 1이 아닌 현재 시각부터 시작</p>
+   *
+   * @param generationKey 세대 번호를 저장하는 키
+   * @return 세대 번호, Redis를 사용할 수 없으면 null 반환
+   */
+  public String getGeneration(String generationKey) {
+    try {
+      ValueOperations<String, String> valueOperations =
+          redisReadRouter.stringTemplate(generationKey).opsForValue();
+      return executeRedis("get", generationKey, () -> {
+        String generation = valueOperations.get(generationKey);
+        if (generation != null) {
+          return generation;
+        }
+        valueOperations.setIfAbsent(generationKey, String.valueOf(System.currentTimeMillis()));
+        return valueOperations.get(generationKey);
+      }, () -> null);
+    } catch (Exception e) {
+      log.warn("Redis is unavailable. Falling back to DB. key: {}, Error: {}", generationKey,
+          e.getMessage());
+    }
+    return null;
+  }
+
+
+  /**
+   * 여러 아이디에 해당하는 데이터를 캐시에서 한 번에 가져오고, 캐시가 없는 아이디만 DB에서 한 번에
+   * 조회한 후 파이프라인으로 캐싱
+   *
+   * <p>로컬 캐시 → Redis(슬롯별 파이프라인 MGET) → DB 순서로 조회하며, {@link CacheTombstone}이
+   * 저장된 아이디와 DB에도 존재하지 않는 아이디는 결과에서 제외</p>
+   *
+   * @param ids           조회할 아이디 목록
+   * @param keyMapper     아이디를 Redis 캐시 키로 변환하는 함수
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param dbCallback    캐시에 없는 아이디 목록을 DB에서 한 번에 조회하는 콜백
+   * @param cacheOptions  캐시 정책
+   * @param <K>           아이디의 타입
+   * @param <T>           반환 데이터의 타입
+   * @return 요청한 아이디 순서를 유지한 아이디와 데이터의 Map
+   * @throws IllegalArgumentException Hash 저장과 조기 갱신이 함께 설정된 캐시 정책인 경우
+   */
+  @SuppressWarnings("unchecked")
+  public <K, T> Map<K, T> getCachesOrDefault(
+      Collection<K> ids,
+      Function<K, String> keyMapper,
+      TypeReference<T> typeReference,
+      Function<Collection<K>, Map<K, T>> dbCallback,
+      CacheOptions cacheOptions) {
+    validateHash(cacheOptions);
+
+    Map<K, T> foundValues = new HashMap<>();
+    Map<String, K> missedKeys = new LinkedHashMap<>();
+    for (K id : ids) {
+      String cacheKey = keyMapper.apply(id);
+      Object localValue = localCache.get(cacheKey);
+      if (localValue == null) {
+        missedKeys.put(cacheKey, id);
+        continue;
+      }
+      cacheMetrics.recordGet(cacheKey, GetResult.LOCAL_HIT);
+      if (!(localValue instanceof CacheTombstone)) {
+        foundValues.put(id, (T) localValue);
+      }
+    }
+
+    long now = System.currentTimeMillis();
+    Function<byte[], Object> decoder = cacheOptions.isRefreshAhead()
+        ? bytes -> cacheValueCodec.decodeCacheEntry(bytes, typeReference)
+        : bytes -> cacheValueCodec.decode(bytes, typeReference);
+    Map<String, Object> cachedValues = cacheOptions.isHash()
+        ? multiGetHashValues(missedKeys.keySet(), typeReference)
+        : multiGetCachedValues(missedKeys.keySet(), decoder);
+    cachedValues.forEach((cacheKey, cachedValue) -> {
+      if (cachedValue instanceof CacheTombstone) {
+        cacheMetrics.recordGet(cacheKey, GetResult.HIT);
+        missedKeys.remove(cacheKey);
+        localCache.put(cacheKey, cachedValue);
+        return;
+      }
+      T value;
+      if (cacheOptions.isRefreshAhead()) {
+        // 논리적으로 만료된 엔트리는 DB에서 함께 다시 조회
+        CacheEntry<T> cacheEntry = (CacheEntry<T>) cachedValue;
+        if (cacheEntry.isExpired(now)) {
+          return;
+        }
+        value = cacheEntry.getValue();
+      } else {
+        value = (T) cachedValue;
+      }
+      cacheMetrics.recordGet(cacheKey, GetResult.HIT);
+      localCache.put(cacheKey, value);
+      foundValues.put(missedKeys.remove(cacheKey), value);
+    });
+
+    if (!missedKeys.isEmpty()) {
+      missedKeys.keySet().forEach(cacheKey -> cacheMetrics.recordGet(cacheKey, GetResult.MISS));
+      foundValues.putAll(loadCacheValues(missedKeys, dbCallback, cacheOptions));
+    }
+
+    Map<K, T> result = new LinkedHashMap<>();
+    for (K id : ids) {
+      T value = foundValues.get(id);
+      if (value != null) {
+        result.put(id, value);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 캐시에 없는 아이디 목록을 DB에서 한 번에 조회하고, 조회 결과와 Tombstone을 파이프라인으로 저장
+   *
+   * @param missedKeys   캐시에 없는 키와 아이디의 Map
+   * @param dbCallback   아이디 목록을 DB에서 한 번에 조회하는 콜백
+   * @param cacheOptions 캐시 정책
+   * @param <K>          아이디의 타입
+   * @param <T>          반환 데이터의 타입
+   * @return DB에서 조회한 아이디와 데이터의 Map
+   */
+  private <K, T> Map<K, T> loadCacheValues(
+      Map<String, K> missedKeys,
+      Function<Collection<K>, Map<K, T>> dbCallback,
+      CacheOptions cacheOptions) {
+
+    long startedAt = System.currentTimeMillis();
+    Map<K, T> loadedValues = cacheMetrics.recordLoad(missedKeys.keySet().iterator().next(),
+        () -> dbCallback.apply(missedKeys.values()));
+    long now = System.currentTimeMillis();
 
+    Map<String, Object> values = new HashMap<>();
+    Map<String, Duration> ttls = new HashMap<>();
+    Map<String, Object> localValues = new HashMap<>();
+    missedKeys.forEach((cacheKey, id) -> {
+      T value = loadedValues.get(id);
+      if (value != null) {
+        Duration ttl = cacheOptions.jitteredTtl();
+        if (cacheOptions.isHash()) {
+          values.put(cacheKey, hashCacheStore.encode(value));
+          ttls.put(cacheKey, ttl);
+        } else if (cacheOptions.isRefreshAhead()) {
+          values.put(cacheKey, encode(cacheKey,
+              CacheEntry.of(value, now + ttl.toMillis(), now - startedAt), cacheOptions));
+          ttls.put(cacheKey, ttl.plus(cacheOptions.getStaleTtl()));
+        } else {
+          values.put(cacheKey, encode(cacheKey, value, cacheOptions));
+          ttls.put(cacheKey, ttl);
+        }
+        localValues.put(cacheKey, value);
+      } else if (cacheOptions.getNegativeTtl() != null) {
+        CacheTombstone cacheTombstone =
+            CacheTombstone.of(cacheOptions.getNotFoundStatus().getCode());
+        values.put(cacheKey, cacheOptions.isHash() ? hashCacheStore.encode(cacheTombstone)
+            : encode(cacheKey, cacheTombstone, cacheOptions));
+        ttls.put(cacheKey, cacheOptions.getNegativeTtl());
+      }
+    });
+    Set<String> rejectedKeys = cacheOptions.isHash()
+        ? writeHashValues(values, ttls, startedAt)
+        : writeCacheValues(values, ttls, startedAt);
+    localValues.forEach((cacheKey, value) -> {
+      if (!rejectedKeys.contains(cacheKey)) {
+        localCache.put(cacheKey, value);
+      }
+    });
+    return loadedValues;
+  }
+
+  /**
+   * 키를 클러스터 슬롯별로 묶어 슬롯 당 하나의 MGET을 파이프라인으로 전송하여 캐시 값을 조회
+   *
+   * <p>값은 바이트로 받아 반환 타입으로 바로 역직렬화하며, 역직렬화할 수 없는 값은 없는 것으로 처리</p>
+   *
+   * @param keys    조회할 키 목록
+   * @param decoder 조회한 바이트를 반환 타입으로 역직렬화하는 함수
+   * @return 키와 캐시 값의 Map, 값이 없는 키는 포함하지 않음
+   */
+  private Map<String, Object> multiGetCachedValues(Collection<String> keys,
+      Function<byte[], Object> decoder) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    if (keys.isEmpty()) {
+      return values;
+    }
+    List<List<String>> keysBySlot = new ArrayList<>(groupBySlot(keys));
+    RedisTemplate<String, Object> redisTemplate = redisReadRouter.objectTemplate(keys);
     try {
-      T cachedValue = getObjectValue(cacheKey, typeReference);
-      if (cachedValue != null) {
-        return cachedValue;
+      SessionCallback<Object> multiGetCallback = new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, Object> redisOperations =
+              (RedisOperations<String, Object>) operations;
+          keysBySlot.forEach(slotKeys -> redisOperations.opsForValue().multiGet(slotKeys));
+          return null;
+        }
+      };
+      List<Object> results = executeRedis("mget", keys.iterator().next(),
+          () -> redisTemplate.executePipelined(multiGetCallback, RedisSerializer.byteArray()),
+          List::of);
+      if (results.isEmpty()) {
+        return values;
+      }
+      for (int i = 0; i < keysBySlot.size(); i++) {
+        List<String> slotKeys = keysBySlot.get(i);
+        List<?> slotValues = (List<?>) results.get(i);
+        for (int j = 0; j < slotKeys.size(); j++) {
+          if (slotValues.get(j) != null) {
+            decodeInto(values, slotKeys.get(j), (byte[]) slotValues.get(j), decoder);
+          }
+        }
       }
     } catch (Exception e) {
-      log.warn("Redis is unavailable. Falling back to DB. Error: {}", e.getMessage());
+      log.warn("Redis is unavailable. Falling back to DB. keys: {}, Error: {}", keys.size(),
+          e.getMessage());
+    }
+    return values;
+  }
+
+  /**
+   * 조회한 바이트를 역직렬화하여 결과에 추가하며, 역직렬화할 수 없으면 로그만 기록
+   *
+   * @param values  키와 캐시 값의 Map
+   * @param key     캐시 키
+   * @param bytes   조회한 바이트
+   * @param decoder 조회한 바이트를 반환 타입으로 역직렬화하는 함수
+   */
+  private static void decodeInto(Map<String, Object> values, String key, byte[] bytes,
+      Function<byte[], Object> decoder) {
+    try {
+      values.put(key, decoder.apply(bytes));
+    } catch (IllegalArgumentException | SerializationException e) {
+      log.error("multiGetCachedValues key: {}", key, e);
     }
+  }
 
-    // 캐시에 값이 없거나 예외 발생 시 DB에서 값을 가져오고 Redis에 저장
-    T value = dbCallback.get();
-    setObjectValue(cacheKey, value, ttl, timeUnit);
+  /**
+   * 여러 키의 Hash를 파이프라인 HGETALL로 한 번에 조회
+   *
+   * @param keys          조회할 키 목록
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @return 키와 캐시 값(또는 {@link CacheTombstone})의 Map, 값이 없는 키는 포함하지 않음
+   */
+  private Map<String, Object> multiGetHashValues(Collection<String> keys,
+      TypeReference<?> typeReference) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    if (keys.isEmpty()) {
+      return values;
+    }
+    List<String> keyList = List.copyOf(keys);
+    StringRedisTemplate redisTemplate = redisReadRouter.stringTemplate(keyList);
+    try {
+      SessionCallback<Object> hashGetCallback = new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> redisOperations =
+              (RedisOperations<String, String>) operations;
+          keyList.forEach(key -> redisOperations.opsForHash().entries(key));
+          return null;
+        }
+      };
+      List<Object> results = executeRedis("hgetall", keyList.get(0),
+          () -> redisTemplate.executePipelined(hashGetCallback), List::of);
+      for (int i = 0; i < results.size(); i++) {
+        Object value = hashCacheStore.decode((Map<?, ?>) results.get(i), typeReference);
+        if (value != null) {
+          values.put(keyList.get(i), value);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Redis is unavailable. Falling back to DB. keys: {}, Error: {}", keys.size(),
+          e.getMessage());
+    }
+    return values;
+  }
+
+  /**
+   * 키를 클러스터 해시 슬롯별로 묶음
+   *
+   * @param keys 묶을 키 목록
+   * @return 슬롯별 키 목록
+   */
+  private static Collection<List<String>> groupBySlot(Collection<String> keys) {
+    return keys.stream()
+        .distinct()
+        .collect(Collectors.groupingBy(SlotHash::getSlot, LinkedHashMap::new,
+            Collectors.toList()))
+        .values();
+  }
+
+  /**
+   * 여러 캐시 값을 무효화 메시지 발행 없이 파이프라인으로 한 번에 저장
+   *
+   * @param values  저장할 키와 값의 Map
+   * @param ttls    키 별 캐시 만료 시간
+   * @param version DB에서 적재한 값의 버전, null이면 버전 비교 없이 저장
+   * @return 버전 펜스가 저장을 거부한 키 목록
+   */
+  private Set<String> writeCacheValues(Map<String, ?> values, Map<String, Duration> ttls,
+      Long version) {
+    if (values.isEmpty()) {
+      return Set.of();
+    }
+    redisReadRouter.markWritten(values.keySet());
+    List<String> keys = List.copyOf(values.keySet());
+    boolean versioned = version != null && cacheVersionFence.isEnabled();
+    try {
+      SessionCallback<Object> multiSetCallback = new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, Object> redisOperations =
+              (RedisOperations<String, Object>) operations;
+          keys.forEach(key -> {
+            if (versioned) {
+              cacheVersionFence.write(redisOperations, key, values.get(key), ttls.get(key),
+                  version);
+            } else {
+              redisOperations.opsForValue().set(key, values.get(key), ttls.get(key));
+            }
+          });
+          return null;
+        }
+      };
+      List<Object> results = executeRedis("mset", keys.get(0),
+          () -> objectRedisTemplate.executePipelined(multiSetCallback), List::of);
+      if (versioned) {
+        results.forEach(cacheVersionFence::recordWrite);
+        return rejectedKeys(keys, results);
+      }
+    } catch (Exception e) {
+      log.error("writeCacheValues keys: {}", values.keySet(), e);
+    }
+    return Set.of();
+  }
+
+  /**
+   * DB에서 적재한 여러 값을 무효화 메시지 발행 없이 파이프라인으로 한 번에 Hash로 저장
+   *
+   * @param values  저장할 키와 Hash 필드의 Map
+   * @param ttls    키 별 캐시 만료 시간
+   * @param version DB에서 적재한 값의 버전
+   * @return 버전 펜스가 저장을 거부한 키 목록
+   */
+  @SuppressWarnings("unchecked")
+  private Set<String> writeHashValues(Map<String, ?> values, Map<String, Duration> ttls,
+      long version) {
+    if (values.isEmpty()) {
+      return Set.of();
+    }
+    redisReadRouter.markWritten(values.keySet());
+    List<String> keys = List.copyOf(values.keySet());
+    try {
+      SessionCallback<Object> hashSetCallback = new SessionCallback<>() {
+        @Override
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> redisOperations =
+              (RedisOperations<String, String>) operations;
+          keys.forEach(key -> hashCacheStore.write(redisOperations, key,
+              (Map<String, String>) values.get(key), ttls.get(key), version));
+          return null;
+        }
+      };
+      List<Object> results = executeRedis("hset", keys.get(0),
+          () -> stringRedisTemplate.executePipelined(hashSetCallback), List::of);
+      results.forEach(cacheVersionFence::recordWrite);
+      return rejectedKeys(keys, results);
+    } catch (Exception e) {
+      log.error("writeHashValues keys: {}", values.keySet(), e);
+    }
+    return Set.of();
+  }
+
+  /**
+   * 파이프라인으로 전송한 버전 비교 저장의 결과에서 저장이 거부된 키를 찾음
+   *
+   * @param keys    전송한 순서의 키 목록
+   * @param results 파이프라인의 결과 목록
+   * @return 저장이 거부된 키 목록
+   */
+  private static Set<String> rejectedKeys(List<String> keys, List<Object> results) {
+    Set<String> rejectedKeys = new HashSet<>();
+    for (int i = 0; i < results.size() && i < keys.size(); i++) {
+      if (CacheVersionFence.isRejected(results.get(i))) {
+        rejectedKeys.add(keys.get(i));
+      }
+    }
+    return rejectedKeys;
+  }
+
+  /**
+   * 논리적 만료 시각이 포함된 캐시 엔트리를 조회하고, 필요 시 백그라운드에서 갱신
+   *
+   * @param cacheKey      Redis 캐시 키
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @param loader        DB에서 데이터를 조회하는 콜백
+   * @param cacheOptions  캐시 정책
+   * @param <T>           반환 데이터의 타입
+   * @return 캐시 데이터(만료된 이전 값 포함) 또는 DB 조회 데이터를 반환
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T getRefreshAheadValue(
+      String cacheKey,
+      TypeReference<T> typeReference,
+      Supplier<T> loader,
+      CacheOptions cacheOptions) {
+
+    Function<byte[], Object> decoder =
+        bytes -> cacheValueCodec.decodeCacheEntry(bytes, typeReference);
+    Object cachedValue = getCachedValue(cacheKey, decoder);
+    if (cachedValue != null) {
+      CacheEntry<T> cacheEntry = (CacheEntry<T>) cachedValue;
+      if (cacheEntry.shouldRefresh(System.currentTimeMillis(), cacheOptions.getBeta())) {
+        // 다른 노드가 Lease를 가지고 갱신 중이면 갱신하지 않고 이전 값을 계속 제공
+        cacheRefresher.refreshAsync(cacheKey,
+            () -> singleFlight.load(cacheKey, () -> loadWithLease(cacheKey, cacheOptions,
+                () -> loadCacheEntry(cacheKey, loader, cacheOptions), cacheEntry::getValue)));
+      }
+      localCache.put(cacheKey, cacheEntry.getValue());
+      return cacheEntry.getValue();
+    }
+
+    Supplier<T> load = () -> loadCacheEntry(cacheKey, loader, cacheOptions);
+    return singleFlight.load(cacheKey, () -> loadWithLease(cacheKey, cacheOptions, load,
+        () -> awaitRebuild(cacheKey, () -> readCachedValue(cacheKey, decoder),
+            rebuilt -> ((CacheEntry<T>) rebuilt).getValue(), load)));
+  }
+
+  /**
+   * 캐시 정책이 Lease를 사용하면 Lease를 획득한 경우에만 적재하고, 다른 노드가 Lease를 가지고 있으면 대체 콜백을 실행
+   *
+   * @param cacheKey     Redis 캐시 키
+   * @param cacheOptions 캐시 정책
+   * @param load         DB에서 조회하여 캐시에 저장하는 콜백
+   * @param whileLeased  다른 노드가 Lease를 가지고 있을 때 실행하는 콜백
+   * @param <T>          반환 데이터의 타입
+   * @return 적재한 데이터 또는 대체 콜백의 결과
+   */
+  private <T> T loadWithLease(String cacheKey, CacheOptions cacheOptions, Supplier<T> load,
+      Supplier<T> whileLeased) {
+    if (!cacheOptions.isRebuildLease()) {
+      return load.get();
+    }
+    Lease lease = rebuildLease.tryAcquire(cacheKey);
+    if (lease == null) {
+      return whileLeased.get();
+    }
+    try {
+      return load.get();
+    } finally {
+      rebuildLease.release(lease);
+    }
+  }
+
+  /**
+   * Lease를 가진 노드가 적재한 값을 마스터에서 조회하여 로컬 캐시에 저장하고, 대기 시간이 지나면 직접 적재
+   *
+   * @param cacheKey  Redis 캐시 키
+   * @param reader    캐시 값을 변환 없이 조회하는 콜백, 없거나 오류가 발생하면 null 반환
+   * @param converter 조회한 캐시 값을 반환 타입으로 변환하는 함수
+   * @param fallback  대기 시간이 지나면 직접 적재하는 콜백
+   * @param <T>       반환 데이터의 타입
+   * @return 다른 노드가 적재한 데이터 또는 직접 적재한 데이터
+   * @throws ApiException 다른 노드가 {@link CacheTombstone}을 저장한 경우
+   */
+  private <T> T awaitRebuild(String cacheKey, Supplier<Object> reader,
+      Function<Object, T> converter, Supplier<T> fallback) {
+    redisReadRouter.markWritten(cacheKey);
+    Object rebuilt = rebuildLease.await(reader);
+    if (rebuilt == null) {
+      return fallback.get();
+    }
+    if (rebuilt instanceof CacheTombstone cacheTombstone) {
+      localCache.put(cacheKey, cacheTombstone);
+      throw cacheTombstone.toException();
+    }
+    T value = converter.apply(rebuilt);
+    localCache.put(cacheKey, value);
     return value;
   }
+
+  /**
+   * DB에서 데이터를 조회하여 논리적 만료 시각과 함께 캐시 엔트리로 저장
+   *
+   * <p>Redis의 실제 만료 시간은 논리적 만료 시간에 이전 값 제공 유예 시간을 더한 값이며, 버전 펜스가 저장을 거부하면
+   * 로컬 캐시에서도 제거</p>
+   *
+   * @param cacheKey     Redis 캐시 키
+   * @param loader       DB에서 데이터를 조회하는 콜백
+   * @param cacheOptions 캐시 정책
+   * @param <T>          반환 데이터의 타입
+   * @return DB 조회 데이터
+   */
+  private <T> T loadCacheEntry(String cacheKey, Supplier<T> loader, CacheOptions cacheOptions) {
+    long startedAt = System.currentTimeMillis();
+    T value = cacheMetrics.recordLoad(cacheKey, loader);
+    long now = System.currentTimeMillis();
+
+    Duration ttl = cacheOptions.jitteredTtl();
+    CacheEntry<T> cacheEntry = CacheEntry.of(value, now + ttl.toMillis(), now - startedAt);
+    if (writeCacheValue(cacheKey, encode(cacheKey, cacheEntry, cacheOptions),
+        ttl.plus(cacheOptions.getStaleTtl()), startedAt)) {
+      localCache.put(cacheKey, value);
+    } else {
+      localCache.evict(cacheKey);
+    }
+    return value;
+  }
+
+  /**
+   * 404 예외가 발생하면 {@link CacheTombstone}을 저장하도록 DB 조회 콜백을 감싸서 반환
+   *
+   * @param cacheKey     Redis 캐시 키
+   * @param dbCallback   DB에서 데이터를 조회하는 콜백
+   * @param cacheOptions 캐시 정책
+   * @param <T>          반환 데이터의 타입
+   * @return Negative Caching이 적용된 콜백, 사용하지 않는 경우 원래 콜백
+   */
+  private <T> Supplier<T> withNegativeCaching(String cacheKey, Supplier<T> dbCallback,
+      CacheOptions cacheOptions) {
+    if (cacheOptions.getNegativeTtl() == null) {
+      return dbCallback;
+    }
+    return () -> {
+      long version = cacheVersionFence.newVersion();
+      try {
+        return dbCallback.get();
+      } catch (ApiException e) {
+        if (e.getHttpStatus() == HttpStatus.NOT_FOUND) {
+          CacheTombstone cacheTombstone = CacheTombstone.of(e.getStatus().getCode());
+          if (writeLoadedValue(cacheKey, cacheTombstone, cacheOptions.getNegativeTtl(), version,
+              cacheOptions)) {
+            localCache.put(cacheKey, cacheTombstone);
+          }
+        }
+        throw e;
+      }
+    };
+  }
+
+  /**
+   * 키에 해당하는 캐시 값을 바이트로 조회하여 반환 타입으로 바로 역직렬화
+   *
+   * @param cacheKey Redis 캐시 키
+   * @param decoder  조회한 바이트를 반환 타입으로 역직렬화하는 함수
+   * @return 캐시 값, 없거나 오류가 발생하면 null 반환
+   * @throws ApiException {@link CacheTombstone}이 저장된 경우
+   */
+  private Object getCachedValue(String cacheKey, Function<byte[], Object> decoder) {
+    Object result = null;
+    try {
+      result = decoder.apply(executeRedis("get", cacheKey,
+          () -> getBytes(redisReadRouter.objectTemplate(cacheKey), cacheKey), () -> null));
+    } catch (Exception e) {
+      log.warn("Redis is unavailable. Falling back to DB. key: {}, Error: {}", cacheKey,
+          e.getMessage());
+    }
+    cacheMetrics.recordGet(cacheKey, result == null ? GetResult.MISS : GetResult.HIT);
+    if (result instanceof CacheTombstone cacheTombstone) {
+      localCache.put(cacheKey, cacheTombstone);
+      throw cacheTombstone.toException();
+    }
+    return result;
+  }
+
+  /**
+   * 키에 해당하는 캐시 값을 바이트로 조회하여 반환 타입으로 바로 역직렬화하며, 조회 지표는 기록하지 않음
+   *
+   * @param cacheKey Redis 캐시 키
+   * @param decoder  조회한 바이트를 반환 타입으로 역직렬화하는 함수
+   * @return 캐시 값, 없거나 오류가 발생하면 null 반환
+   */
+  private Object readCachedValue(String cacheKey, Function<byte[], Object> decoder) {
+    try {
+      return decoder.apply(executeRedis("get", cacheKey,
+          () -> getBytes(redisReadRouter.objectTemplate(cacheKey), cacheKey), () -> null));
+    } catch (Exception e) {
+      log.warn("readCachedValue key: {}, Error: {}", cacheKey, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 값 직렬화 코덱을 거치지 않고 키의 값을 바이트로 조회
+   *
+   * @param redisTemplate 조회할 노드의 RedisTemplate
+   * @param key           조회할 키
+   * @return 저장된 바이트, 없으면 null
+   */
+  private static byte[] getBytes(RedisTemplate<String, Object> redisTemplate, String key) {
+    return redisTemplate.execute((RedisCallback<byte[]>) connection ->
+        connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * 키에 해당하는 Hash를 조회하여 캐시 값으로 변환
+   *
+   * @param cacheKey      Redis 캐시 키
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @return 캐시 값, 없거나 오류가 발생하면 null 반환
+   * @throws ApiException {@link CacheTombstone}이 저장된 경우
+   */
+  private Object getCachedHash(String cacheKey, TypeReference<?> typeReference) {
+    Object result = readCachedHash(cacheKey, typeReference);
+    cacheMetrics.recordGet(cacheKey, result == null ? GetResult.MISS : GetResult.HIT);
+    if (result instanceof CacheTombstone cacheTombstone) {
+      localCache.put(cacheKey, cacheTombstone);
+      throw cacheTombstone.toException();
+    }
+    return result;
+  }
+
+  /**
+   * 키에 해당하는 Hash를 조회하여 캐시 값으로 변환하며, 조회 지표는 기록하지 않음
+   *
+   * @param cacheKey      Redis 캐시 키
+   * @param typeReference 반환할 객체의 타입 정보를 포함한 {@code TypeReference}
+   * @return 캐시 값 또는 {@link CacheTombstone}, 없거나 오류가 발생하면 null 반환
+   */
+  private Object readCachedHash(String cacheKey, TypeReference<?> typeReference) {
+    try {
+      Map<Object, Object> entries = executeRedis("hgetall", cacheKey,
+          () -> redisReadRouter.stringTemplate(cacheKey).opsForHash().entries(cacheKey),
+          Map::of);
+      return hashCacheStore.decode(entries, typeReference);
+    } catch (Exception e) {
+      log.warn("Redis is unavailable. Falling back to DB. key: {}, Error: {}", cacheKey,
+          e.getMessage());
+    }
+    return null;
+  }
+
+  /**
+   * Hash 저장은 조기 갱신의 논리적 만료 시각을 저장할 수 없으므로 함께 설정되었는지 확인
+   *
+   * @param cacheOptions 캐시 정책
+   * @throws IllegalArgumentException Hash 저장과 조기 갱신이 함께 설정된 경우
+   */
+  private static void validateHash(CacheOptions cacheOptions) {
+    if (cacheOptions.isHash() && cacheOptions.isRefreshAhead()) {
+      throw new IllegalArgumentException("refresh-ahead is not supported for hash entries");
+    }
+  }
+
+  /**
+   * 캐시 정책의 직렬화 형식으로 저장하고 키의 네임스페이스 별 저장 크기를 기록하도록 값을 감싸서 반환
+   *
+   * @param cacheKey     Redis 캐시 키
+   * @param value        저장할 값
+   * @param cacheOptions 캐시 정책
+   * @return 저장할 값
+   */
+  private Object encode(String cacheKey, Object value, CacheOptions cacheOptions) {
+    return cacheValueCodec.wrap(value, cacheOptions.getFormat(), CacheMetrics.namespace(cacheKey));
+  }
+
+  /**
+   * 캐시 정책의 저장 형식(Hash 또는 직렬화된 값)으로 DB에서 적재한 값을 저장
+   *
+   * @param cacheKey     Redis 캐시 키
+   * @param value        저장할 값 또는 {@link CacheTombstone}
+   * @param ttl          캐시 만료 시간
+   * @param version      값의 버전 (DB 조회를 시작한 시각)
+   * @param cacheOptions 캐시 정책
+   * @return 버전 펜스가 저장을 거부하지 않았으면 true
+   */
+  private boolean writeLoadedValue(String cacheKey, Object value, Duration ttl, long version,
+      CacheOptions cacheOptions) {
+    if (!cacheOptions.isHash()) {
+      return writeCacheValue(cacheKey, encode(cacheKey, value, cacheOptions), ttl, version);
+    }
+    Map<String, String> fields = hashCacheStore.encode(value);
+    redisReadRouter.markWritten(cacheKey);
+    try {
+      return !CacheVersionFence.isRejected(executeRedis("hset", cacheKey,
+          () -> hashCacheStore.write(stringRedisTemplate, cacheKey, fields, ttl, version),
+          () -> null));
+    } catch (Exception e) {
+      log.error("writeLoadedValue key: {}", cacheKey, e);
+    }
+    return true;
+  }
+
+  /**
+   * 무효화 메시지 발행 없이 DB에서 적재한 캐시 값을 Redis에 저장
+   *
+   * <p>{@link CacheVersionFence}를 사용하는 경우 저장된 버전 또는 삭제 펜스보다 새로운 버전일 때만 저장</p>
+   *
+   * @param cacheKey Redis 캐시 키
+   * @param value    저장할 값
+   * @param ttl      캐시 만료 시간
+   * @param version  값의 버전 (DB 조회를 시작한 시각)
+   * @return 버전 펜스가 저장을 거부하지 않았으면 true
+   */
+  private boolean writeCacheValue(String cacheKey, Object value, Duration ttl, long version) {
+    redisReadRouter.markWritten(cacheKey);
+    try {
+      if (cacheVersionFence.isEnabled()) {
+        return !CacheVersionFence.isRejected(executeRedis("set", cacheKey,
+            () -> cacheVersionFence.write(objectRedisTemplate, cacheKey, value, ttl, version),
+            () -> null));
+      } else {
+        runRedis("set", cacheKey,
+            () -> objectRedisTemplate.opsForValue().set(cacheKey, value, ttl));
+      }
+    } catch (Exception e) {
+      log.error("writeCacheValue key: {}", cacheKey, e);
+    }
+    return true;
+  }
+
+  /**
+   * 서킷 브레이커를 통해 Redis 명령을 실행하고, 키의 네임스페이스 별 응답 시간과 오류를 기록
+   *
+   * @param operation Redis 명령 이름
+   * @param key       대표 캐시 키
+   * @param action    Redis 명령
+   * @param fallback  서킷이 열려 있을 때 반환할 값
+   * @param <T>       반환 데이터의 타입
+   * @return 명령의 결과 또는 대체 값
+   */
+  private <T> T executeRedis(String operation, String key, Supplier<T> action,
+      Supplier<T> fallback) {
+    return cacheMetrics.recordRedis(operation, key,
+        () -> redisCircuitBreaker.execute(action, fallback));
+  }
+
+  /**
+   * 서킷 브레이커를 통해 반환 값이 없는 Redis 명령을 실행하고, 응답 시간과 오류를 기록
+   *
+   * @param operation Redis 명령 이름
+   * @param key       대표 캐시 키
+   * @param action    Redis 명령
+   */
+  private void runRedis(String operation, String key, Runnable action) {
+    cacheMetrics.recordRedis(operation, key, () -> {
+      redisCircuitBreaker.run(action);
+      return null;
+    });
+  }
 }
@@ -46,6 +46,86 @@ public final class Constants {
    */
   public static final String BP_CACHE_PREFIX = "BP:";
 
+  /**
+   * 로컬 캐시 무효화 메시지를 전파하기 위한 Redis Pub/Sub 채널
+   */
+  public static final String CACHE_INVALIDATION_CHANNEL = BP_CACHE_PREFIX + "cache:invalidation";
+
+  /**
+   * 하나의 무효화 메시지에 여러 캐시 키를 담을 때 사용하는 구분자
+   */
+  public static final String CACHE_INVALIDATION_DELIMITER = "\n";
+
+  /**
+   * 할 일 캐시 이름
+   */
+  public static final String TODO_CACHE_NAME = "todo";
+
+  /**
+   * 할 일 캐시 키 Prefix 값
+   */
+  public static final String TODO_CACHE_PREFIX = BP_CACHE_PREFIX + TODO_CACHE_NAME + ":";
+
+  /**
+   * 회원 캐시 이름
+   */
+  public static final String MEMBER_CACHE_NAME = "member";
+
+  /**
+   * 회원 캐시 키 Prefix 값
+   */
+  public static final String MEMBER_CACHE_PREFIX = BP_CACHE_PREFIX + MEMBER_CACHE_NAME + ":";
+
+  /**
+   * 할 일 목록 캐시의 세대 번호 키 (할 일 또는 회원 변경 시 증가)
+   */
+  public static final String TODO_LIST_GENERATION_KEY = BP_CACHE_PREFIX + "todos:generation";
+
+  /**
+   * 회원 목록 캐시의 세대 번호 키 (회원 변경 시 증가)
+   */
+  public static final String MEMBER_LIST_GENERATION_KEY = BP_CACHE_PREFIX + "members:generation";
+
+  /**
+   * 회원 별 할 일 아이디를 저장하는 Sorted Set 인덱스 키 Prefix 값
+   */
+  public static final String TODO_MEMBER_INDEX_PREFIX = BP_CACHE_PREFIX + "todos:member:";
+
+  /**
+   * 재시작 시 캐시 워밍업에 사용할 Hot Key 목록을 저장하는 키
+   */
+  public static final String CACHE_WARM_UP_KEY = BP_CACHE_PREFIX + "cache:warm-up-keys";
+
+  /**
+   * MyBatis 2차 캐시 키 Prefix 값 (뒤에 Mapper 네임스페이스가 붙음)
+   */
+  public static final String MYBATIS_CACHE_PREFIX = BP_CACHE_PREFIX + "mybatis:";
+
+  /**
+   * 직렬화 및 압축된 HTTP 응답 캐시 키 Prefix 값
+   */
+  public static final String RESPONSE_CACHE_PREFIX = BP_CACHE_PREFIX + "response:";
+
+  /**
+   * 여러 노드 중 하나만 캐시를 다시 적재하도록 하는 Lease 키 Prefix 값
+   */
+  public static final String CACHE_LEASE_PREFIX = BP_CACHE_PREFIX + "lease:";
+
+  /**
+   * 캐시 값의 버전 및 삭제 펜스를 저장하는 키 Prefix 값
+   */
+  public static final String CACHE_VERSION_PREFIX = BP_CACHE_PREFIX + "version:";
+
+  /**
+   * 요청 수 제한 토큰 버킷 키 Prefix 값
+   */
+  public static final String RATE_LIMIT_PREFIX = BP_CACHE_PREFIX + "rate:";
+
+  /**
+   * 할 일 조회 수 카운터 키 Prefix 값
+   */
+  public static final String TODO_VIEW_COUNT_PREFIX = BP_CACHE_PREFIX + "counter:todo-views:";
+
   /**
    * Hibernate에서 SQL 쿼리에 주석을 추가하기 위해 사용되는 주석 키
    */
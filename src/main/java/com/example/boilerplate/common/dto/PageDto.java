@@ -12,6 +12,7 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Schema(description = "페이징 처리 요청 DTO")
 @Getter
@@ -59,6 +60,42 @@ public class PageDto {
     return PageRequest.of(page - 1, size, Sort.by(parseSortOrders(sorts)));
   }
 
+  /**
+   * 캐시 키 생성을 위해 조회 조건을 정규화된 쿼리 문자열로 변환
+   *
+   * @return 정규화된 쿼리 문자열
+   */
+  public String toQueryKey() {
+    return appendPageQuery(UriComponentsBuilder.newInstance()).build().encode().getQuery();
+  }
+
+  /**
+   * 기본값이 적용된 페이지 번호와 크기, 방향이 소문자로 정규화된 정렬 조건을 쿼리 파라미터로 추가
+   *
+   * @param builder 쿼리 파라미터를 추가할 UriComponentsBuilder
+   * @return 쿼리 파라미터가 추가된 UriComponentsBuilder
+   */
+  protected UriComponentsBuilder appendPageQuery(UriComponentsBuilder builder) {
+    int normalizedPage = (page <= 0) ? DEFAULT_PAGE : page;
+    int normalizedSize = (size <= 0 || size > MAX_SIZE) ? DEFAULT_SIZE : size;
+    List<String> normalizedSorts = sorts == null ? List.of() : sorts.stream()
+        .filter(Objects::nonNull)
+        .map(PageDto::normalizeSort)
+        .toList();
+    return builder
+        .queryParam("page", normalizedPage)
+        .queryParam("size", normalizedSize)
+        .queryParam("sorts", normalizedSorts.toArray());
+  }
+
+  private static String normalizeSort(String sortStr) {
+    String[] parts = sortStr.split(",");
+    if (parts.length != EXPECTED_SORT_PARTS) {
+      return sortStr.trim();
+    }
+    return parts[0].trim() + "," + parts[1].trim().toLowerCase(Locale.ROOT);
+  }
+
   private List<Sort.Order> parseSortOrders(List<String> sorts) {
     return sorts.stream()
         .filter(Objects::nonNull) // Null 방지
@@ -0,0 +1,138 @@
+package com.example.boilerplate.common.filter;
+
+import com.example.boilerplate.common.cache.ResponseCache;
+import com.example.boilerplate.common.cache.ResponseCache.CachedResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * GET 요청의 응답 본문을 직렬화 및 gzip 압축된 상태로 {@link ResponseCache}에 저장하고, 캐시가 있으면 컨트롤러를
+ * 실행하지 않고 저장된 바이트를 그대로 응답하는 필터
+ *
+ * <p>캐시 키는 URL 패턴의 경로 변수로 만들며, 클라이언트가 gzip을 지원하면 압축된 본문을 {@code Content-Encoding:
+ * gzip}으로 응답하고, {@code If-None-Match}가 ETag와 같으면 본문 없이 304로 응답</p>
+ *
+ * <p>응답의 버전은 컨트롤러를 실행하기 전에 생성하므로, 실행 중에 데이터가 수정되어 응답 캐시가 삭제되면 이 응답은
+ * 저장되지 않음</p>
+ */
+@Slf4j
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+  private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+  private static final String GZIP = "gzip";
+
+  private final ResponseCache responseCache;
+  private final String pattern;
+  private final String cacheName;
+  private final Duration ttl;
+
+  /**
+   * 응답 캐시 정책을 받아 생성
+   *
+   * @param responseCache 응답 캐시 컴포넌트
+   * @param pattern       캐싱할 URL 패턴 (예: {@code /todo/{id}})
+   * @param cacheName     무효화에 사용하는 캐시 이름 (같은 데이터의 {@code @BpCacheEvict} 캐시 이름)
+   * @param ttl           캐시 만료 시간
+   */
+  public ResponseCacheFilter(ResponseCache responseCache, String pattern, String cacheName,
+      Duration ttl) {
+    super();
+    this.responseCache = responseCache;
+    this.pattern = pattern;
+    this.cacheName = cacheName;
+    this.ttl = ttl;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !responseCache.isEnabled()
+        || !HttpMethod.GET.matches(request.getMethod())
+        || !PATH_MATCHER.match(pattern, getPath(request));
+  }
+
+  /**
+   * 캐시된 응답이 있으면 그대로 응답하고, 없으면 컨트롤러의 성공 응답을 캐싱
+   *
+   * @param request     HttpServletRequest
+   * @param response    HttpServletResponse
+   * @param filterChain FilterChain
+   * @throws IOException      IOException
+   * @throws ServletException ServletException
+   */
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain)
+      throws IOException, ServletException {
+
+    String responseKey = ResponseCache.responseKey(cacheName, String.join(":",
+        PATH_MATCHER.extractUriTemplateVariables(pattern, getPath(request)).values()));
+    CachedResponse cachedResponse = responseCache.get(responseKey);
+    if (cachedResponse != null) {
+      writeCachedResponse(request, response, cachedResponse);
+      return;
+    }
+
+    long version = responseCache.newVersion();
+    ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+    filterChain.doFilter(request, responseWrapper);
+    String contentType = responseWrapper.getContentType();
+    if (responseWrapper.getStatus() == HttpStatus.OK.value() && StringUtils.hasText(contentType)
+        && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+      CachedResponse newResponse = CachedResponse.of(responseWrapper.getContentAsByteArray(),
+          contentType);
+      responseCache.put(responseKey, newResponse, ttl, version);
+      responseWrapper.setHeader(HttpHeaders.ETAG, newResponse.etag());
+    }
+    responseWrapper.copyBodyToResponse();
+  }
+
+  /**
+   * 저장된 응답을 변환 없이 출력하며, 클라이언트가 gzip을 지원하지 않으면 압축을 해제하여 출력
+   *
+   * @param request        HttpServletRequest
+   * @param response       HttpServletResponse
+   * @param cachedResponse 저장된 응답
+   * @throws IOException IOException
+   */
+  private void writeCachedResponse(HttpServletRequest request, HttpServletResponse response,
+      CachedResponse cachedResponse) throws IOException {
+    response.setHeader(HttpHeaders.ETAG, cachedResponse.etag());
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (cachedResponse.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+      response.setStatus(HttpStatus.NOT_MODIFIED.value());
+      return;
+    }
+
+    byte[] body;
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding != null && acceptEncoding.contains(GZIP)) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+      body = cachedResponse.gzipBody();
+    } else {
+      body = cachedResponse.body();
+    }
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(cachedResponse.contentType());
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private static String getPath(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+}
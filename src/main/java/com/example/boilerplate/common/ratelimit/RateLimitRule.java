@@ -0,0 +1,75 @@
+package com.example.boilerplate.common.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+
+/**
+ * URL 패턴 별 요청 수 제한 정책
+ *
+ * <p>버킷 용량만큼 연속 요청을 허용하고, 이후에는 {@code refillPeriod} 동안 용량만큼의 토큰이 균등하게 채워짐</p>
+ */
+@Getter
+@Builder
+@ToString
+public class RateLimitRule {
+
+  /**
+   * 요청 수를 제한하는 대상
+   */
+  public enum KeyType {
+    /**
+     * 클라이언트 IP
+     */
+    IP,
+    /**
+     * 인증된 회원(JWT subject), 인증되지 않은 요청은 클라이언트 IP
+     */
+    SUBJECT
+  }
+
+  /**
+   * 정책 이름 (Redis 키와 지표의 태그로 사용)
+   */
+  private final String name;
+
+  /**
+   * 적용할 URL 패턴 목록 (Ant 스타일), 같은 정책의 패턴은 하나의 버킷을 공유
+   */
+  @Singular
+  private final List<String> patterns;
+
+  /**
+   * 버킷 용량 (연속으로 허용하는 최대 요청 수)
+   */
+  private final int capacity;
+
+  /**
+   * 빈 버킷이 모두 채워지는 시간
+   */
+  private final Duration refillPeriod;
+
+  /**
+   * 노드가 Redis에서 한 번에 예약하는 토큰 수, 1이면 요청마다 Redis에서 확인
+   */
+  @Builder.Default
+  private final int localBatch = 1;
+
+  /**
+   * 요청 수를 제한하는 대상
+   */
+  @Builder.Default
+  private final KeyType keyType = KeyType.IP;
+
+  /**
+   * 토큰 하나가 채워지는 시간(ms)
+   *
+   * @return 토큰 하나가 채워지는 시간(ms)
+   */
+  public double refillMillisPerToken() {
+    return (double) refillPeriod.toMillis() / capacity;
+  }
+}
@@ -0,0 +1,207 @@
+package com.example.boilerplate.common.ratelimit;
+
+import com.example.boilerplate.common.cache.RedisCircuitBreaker;
+import com.example.boilerplate.common.constants.Constants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis의 토큰 버킷으로 여러 노드의 요청 수를 함께 제한하는 컴포넌트
+ *
+ * <p>토큰 확인과 차감은 하나의 Lua 스크립트로 원자적으로 처리하며, 노드는 정책의 {@code localBatch}만큼 토큰을 한 번에
+ * 예약하여 로컬에서 소진하므로 대부분의 요청은 Redis를 호출하지 않음. 예약한 토큰은 짧은 시간 안에 사용하지 않으면
+ * 버려지고, 토큰이 없으면 다음 토큰이 채워질 때까지 Redis 호출 없이 거절</p>
+ *
+ * <p>Redis 장애 또는 서킷이 열려 있는 경우에는 요청을 허용(fail-open)</p>
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+  static final String REQUESTS = "bp.ratelimit.requests";
+  private static final Duration LOCAL_RESERVATION_TTL = Duration.ofSeconds(1);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+      RedisScript.of(new ClassPathResource("script/redis/token-bucket.lua"), List.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisCircuitBreaker redisCircuitBreaker;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final Cache<String, LocalBucket> localBuckets;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * 요청 수 제한 설정을 받아 생성
+   *
+   * @param stringRedisTemplate 문자열을 저장하기 위한 RedisTemplate
+   * @param redisCircuitBreaker Redis 서킷 브레이커
+   * @param meterRegistry       허용 및 거절 횟수를 기록할 MeterRegistry
+   * @param enabled             요청 수 제한 사용 여부
+   * @param maximumBuckets      로컬에 보관하는 최대 버킷 수
+   */
+  public RateLimiter(
+      StringRedisTemplate stringRedisTemplate,
+      RedisCircuitBreaker redisCircuitBreaker,
+      MeterRegistry meterRegistry,
+      @Value("${redis.rate-limit.enabled:true}") boolean enabled,
+      @Value("${redis.rate-limit.maximum-buckets:100000}") int maximumBuckets) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.redisCircuitBreaker = redisCircuitBreaker;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.localBuckets = Caffeine.newBuilder()
+        .maximumSize(maximumBuckets)
+        .expireAfterAccess(Duration.ofMinutes(1))
+        .build();
+  }
+
+  /**
+   * 요청 수 제한 사용 여부
+   *
+   * @return 사용 중이면 true
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 정책과 대상에 해당하는 버킷에서 토큰 하나를 사용
+   *
+   * @param rule     요청 수 제한 정책
+   * @param identity 요청 수를 제한하는 대상 (IP 또는 회원)
+   * @return 허용 여부와 거절된 경우 다시 시도할 수 있을 때까지 남은 시간
+   */
+  public Decision tryAcquire(RateLimitRule rule, String identity) {
+    if (!enabled) {
+      return Decision.ALLOWED;
+    }
+    String key = Constants.RATE_LIMIT_PREFIX + rule.getName() + ":" + identity;
+    LocalBucket localBucket = localBuckets.get(key, name -> new LocalBucket());
+    long now = System.currentTimeMillis();
+
+    Decision decision;
+    if (localBucket.tryTake(now)) {
+      decision = Decision.ALLOWED;
+    } else if (localBucket.isBlocked(now)) {
+      decision = Decision.rejected(localBucket.blockedUntil.get() - now);
+    } else {
+      Reservation reservation = reserve(key, rule, Math.min(rule.getLocalBatch(),
+          rule.getCapacity()));
+      if (reservation.granted() > 0) {
+        localBucket.refill(reservation.granted() - 1, now + LOCAL_RESERVATION_TTL.toMillis());
+        decision = Decision.ALLOWED;
+      } else {
+        localBucket.block(now + reservation.retryAfterMillis());
+        decision = Decision.rejected(reservation.retryAfterMillis());
+      }
+    }
+    record(rule, decision);
+    return decision;
+  }
+
+  /**
+   * Redis의 토큰 버킷에서 토큰을 예약
+   *
+   * @param key       버킷 키
+   * @param rule      요청 수 제한 정책
+   * @param requested 예약할 토큰 수
+   * @return 예약된 토큰 수와 예약하지 못한 경우 다음 토큰까지 남은 시간
+   */
+  Reservation reserve(String key, RateLimitRule rule, int requested) {
+    Reservation allowAll = new Reservation(requested, 0);
+    try {
+      List<?> result = redisCircuitBreaker.execute(
+          () -> stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+              String.valueOf(rule.getCapacity()), String.valueOf(rule.refillMillisPerToken()),
+              String.valueOf(requested)),
+          () -> null);
+      if (result == null || result.size() < 2) {
+        return allowAll;
+      }
+      return new Reservation(((Number) result.get(0)).longValue(),
+          ((Number) result.get(1)).longValue());
+    } catch (Exception e) {
+      log.warn("Redis is unavailable. Allowing request. key: {}, Error: {}", key,
+          e.getMessage());
+      return allowAll;
+    }
+  }
+
+  private void record(RateLimitRule rule, Decision decision) {
+    String result = decision.allowed() ? "allowed" : "rejected";
+    counters.computeIfAbsent(rule.getName() + "|" + result,
+            name -> Counter.builder(REQUESTS)
+                .description("rate limited requests")
+                .tag("rule", rule.getName())
+                .tag("result", result)
+                .register(meterRegistry))
+        .increment();
+  }
+
+  /**
+   * 요청 수 제한 결과
+   *
+   * @param allowed          허용 여부
+   * @param retryAfterMillis 거절된 경우 다시 시도할 수 있을 때까지 남은 시간(ms)
+   */
+  public record Decision(boolean allowed, long retryAfterMillis) {
+
+    static final Decision ALLOWED = new Decision(true, 0);
+
+    static Decision rejected(long retryAfterMillis) {
+      return new Decision(false, Math.max(0, retryAfterMillis));
+    }
+  }
+
+  /**
+   * Redis에서 예약한 토큰
+   *
+   * @param granted          예약된 토큰 수
+   * @param retryAfterMillis 예약하지 못한 경우 다음 토큰까지 남은 시간(ms)
+   */
+  record Reservation(long granted, long retryAfterMillis) {
+
+  }
+
+  /**
+   * 노드가 예약한 토큰과 거절 상태를 보관하는 로컬 버킷
+   */
+  private static final class LocalBucket {
+
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicLong expiresAt = new AtomicLong();
+    private final AtomicLong blockedUntil = new AtomicLong();
+
+    private boolean tryTake(long now) {
+      return now < expiresAt.get() && tokens.getAndUpdate(count -> count > 0 ? count - 1 : 0) > 0;
+    }
+
+    private boolean isBlocked(long now) {
+      return now < blockedUntil.get();
+    }
+
+    private void refill(long granted, long reservationExpiresAt) {
+      tokens.set(granted);
+      expiresAt.set(reservationExpiresAt);
+    }
+
+    private void block(long until) {
+      blockedUntil.set(until);
+    }
+  }
+}
@@ -23,6 +23,7 @@ public enum ApiStatus {
   ALREADY_EXISTS_EMAIL("806", "이미 존재하는 이메일입니다."),
   MEMBER_NOT_FOUND("807", "존재하지 않는 회원 정보입니다."),
   TODO_NOT_FOUND("808", "할 일이 존재하지 않습니다."),
+  TOO_MANY_REQUESTS("809", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
   // Exception Handler 에러 코드
   INTERNAL_SERVER_ERROR("900", "내부 오류가 발생했습니다. 확인 후 다시 시도해주세요."),
@@ -0,0 +1,108 @@
+package com.example.boilerplate.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class CacheConfig {
+
+  /**
+   * 캐시 값을 백그라운드에서 갱신하기 위한 ThreadPoolTaskExecutor 빈을 생성
+   *
+   * <p>작업 큐가 가득 차면 작업을 거절하며, 거절된 키는 기존 값을 계속 제공</p>
+   *
+   * @param poolSize      스레드 수
+   * @param queueCapacity 작업 큐 크기
+   * @return ThreadPoolTaskExecutor 객체
+   */
+  @Bean
+  public ThreadPoolTaskExecutor cacheRefreshExecutor(
+      @Value("${redis.cache.refresh.pool-size:4}") int poolSize,
+      @Value("${redis.cache.refresh.queue-capacity:1000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("cache-refresh-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+    return executor;
+  }
+
+  /**
+   * 캐시 무효화를 백그라운드에서 전송하기 위한 ThreadPoolTaskExecutor 빈을 생성
+   *
+   * <p>대기 중인 키는 CacheInvalidator에서 합쳐지므로 전송 작업은 동시에 하나만 예약</p>
+   *
+   * @return ThreadPoolTaskExecutor 객체
+   */
+  @Bean
+  public ThreadPoolTaskExecutor cacheInvalidationExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.setThreadNamePrefix("cache-invalidation-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+    return executor;
+  }
+
+  /**
+   * 전송에 실패한 캐시 무효화를 지연 후 다시 대기 목록에 추가하기 위한 ThreadPoolTaskScheduler 빈을 생성
+   *
+   * @return ThreadPoolTaskScheduler 객체
+   */
+  @Bean
+  public ThreadPoolTaskScheduler cacheInvalidationRetryScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("cache-invalidation-retry-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(10);
+    return scheduler;
+  }
+
+  /**
+   * 비동기 캐시 조회에서 캐시에 없는 데이터를 DB에서 조회하기 위한 ThreadPoolTaskExecutor 빈을 생성
+   *
+   * <p>Lettuce의 I/O 스레드에서 블로킹되는 DB 조회를 실행하지 않도록 별도의 스레드에서 실행</p>
+   *
+   * @param poolSize      스레드 수
+   * @param queueCapacity 작업 큐 크기
+   * @return ThreadPoolTaskExecutor 객체
+   */
+  @Bean
+  public ThreadPoolTaskExecutor cacheLoadExecutor(
+      @Value("${redis.cache.async.pool-size:8}") int poolSize,
+      @Value("${redis.cache.async.queue-capacity:1000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("cache-load-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+    return executor;
+  }
+
+  /**
+   * 노드 안에서 합산한 카운터 증가분을 주기적으로 전송하기 위한 ThreadPoolTaskScheduler 빈을 생성
+   *
+   * <p>주기적인 전송과 임계치 도달로 요청된 전송이 하나의 스레드에서 순서대로 실행</p>
+   *
+   * @return ThreadPoolTaskScheduler 객체
+   */
+  @Bean
+  public ThreadPoolTaskScheduler counterFlushScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("counter-flush-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(10);
+    return scheduler;
+  }
+}
@@ -1,18 +1,26 @@
 package com.example.boilerplate.config;
 
+import com.example.boilerplate.common.cache.CacheInvalidationListener;
+import com.example.boilerplate.common.cache.CacheValueCodec;
+import com.example.boilerplate.common.constants.Constants;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
@@ -21,13 +29,35 @@ public class RedisConfig {
   @Value("${redis.cluster.nodes}")
   private List<String> nodes;
 
+  @Value("${redis.command-timeout:1s}")
+  private Duration commandTimeout;
+
   /**
    * 클러스터 구성 및 클라이언트 설정을 포함한 LettuceConnectionFactory 빈을 생성
    *
+   * <p>읽기 작업은 복제본을 우선 사용</p>
+   *
    * @return LettuceConnectionFactory 객체
    */
+  @Primary
   @Bean
   public LettuceConnectionFactory lettuceConnectionFactory() {
+    return createConnectionFactory(ReadFrom.REPLICA_PREFERRED);
+  }
+
+  /**
+   * 모든 명령을 마스터로 전송하는 LettuceConnectionFactory 빈을 생성
+   *
+   * <p>방금 저장한 키처럼 복제 지연으로 이전 값을 읽으면 안 되는 조회에 사용</p>
+   *
+   * @return LettuceConnectionFactory 객체
+   */
+  @Bean
+  public LettuceConnectionFactory masterLettuceConnectionFactory() {
+    return createConnectionFactory(ReadFrom.UPSTREAM);
+  }
+
+  private LettuceConnectionFactory createConnectionFactory(ReadFrom readFrom) {
 
     RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration(nodes);
 
@@ -48,8 +78,10 @@ public class RedisConfig {
 
     LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
         .clientOptions(clientOptions)
-        // 읽기 작업을 우선적으로 수행하도록 설정
-        .readFrom(ReadFrom.REPLICA_PREFERRED)
+        // 명령 응답 대기 시간을 제한하여 장애 시 서킷 브레이커가 빠르게 실패를 감지하도록 설정
+        .commandTimeout(commandTimeout)
+        // 읽기 작업을 수행할 노드를 설정
+        .readFrom(readFrom)
         .build();
 
     return new LettuceConnectionFactory(clusterConfig, clientConfig);
@@ -61,28 +93,70 @@ public class RedisConfig {
    * @param lettuceConnectionFactory Lettuce를 통한 Redis 연결 팩토리
    * @return StringRedisTemplate 객체
    */
+  @Primary
   @Bean
   public StringRedisTemplate stringRedisTemplate(
       LettuceConnectionFactory lettuceConnectionFactory) {
     return new StringRedisTemplate(lettuceConnectionFactory);
   }
 
+  /**
+   * 마스터에서만 문자열을 조회하기 위한 StringRedisTemplate 빈을 생성
+   *
+   * @param masterLettuceConnectionFactory 마스터로만 연결하는 Redis 연결 팩토리
+   * @return StringRedisTemplate 객체
+   */
+  @Bean
+  public StringRedisTemplate masterStringRedisTemplate(
+      @Qualifier("masterLettuceConnectionFactory")
+      LettuceConnectionFactory masterLettuceConnectionFactory) {
+    return new StringRedisTemplate(masterLettuceConnectionFactory);
+  }
+
   /**
    * 객체를 저장하기 위한 RedisTemplate 빈을 생성
    *
+   * <p>값은 {@link CacheValueCodec}으로 직렬화하여 설정된 형식과 압축을 적용</p>
+   *
    * @param lettuceConnectionFactory Lettuce를 통한 Redis 연결 팩토리
+   * @param cacheValueCodec          캐시 값 직렬화 코덱
    * @return RedisTemplate 객체
    */
+  @Primary
   @Bean
   public RedisTemplate<String, Object> objectRedisTemplate(
-      LettuceConnectionFactory lettuceConnectionFactory) {
+      LettuceConnectionFactory lettuceConnectionFactory,
+      CacheValueCodec cacheValueCodec) {
+    return createObjectRedisTemplate(lettuceConnectionFactory, cacheValueCodec);
+  }
+
+  /**
+   * 마스터에서만 객체를 조회하기 위한 RedisTemplate 빈을 생성
+   *
+   * <p>복제 지연 없이 최신 값을 읽어야 하는 조회에 사용하며, 직렬화 설정은 {@code objectRedisTemplate}과 같음</p>
+   *
+   * @param masterLettuceConnectionFactory 마스터로만 연결하는 Redis 연결 팩토리
+   * @param cacheValueCodec                캐시 값 직렬화 코덱
+   * @return RedisTemplate 객체
+   */
+  @Bean
+  public RedisTemplate<String, Object> masterObjectRedisTemplate(
+      @Qualifier("masterLettuceConnectionFactory")
+      LettuceConnectionFactory masterLettuceConnectionFactory,
+      CacheValueCodec cacheValueCodec) {
+    return createObjectRedisTemplate(masterLettuceConnectionFactory, cacheValueCodec);
+  }
+
+  private RedisTemplate<String, Object> createObjectRedisTemplate(
+      LettuceConnectionFactory lettuceConnectionFactory,
+      CacheValueCodec cacheValueCodec) {
     RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
     redisTemplate.setConnectionFactory(lettuceConnectionFactory);
     redisTemplate.setKeySerializer(RedisSerializer.string());
     redisTemplate.setHashKeySerializer(RedisSerializer.string());
-    redisTemplate.setDefaultSerializer(RedisSerializer.json());
-    redisTemplate.setValueSerializer(RedisSerializer.json());
-    redisTemplate.setHashValueSerializer(RedisSerializer.json());
+    redisTemplate.setDefaultSerializer(cacheValueCodec);
+    redisTemplate.setValueSerializer(cacheValueCodec);
+    redisTemplate.setHashValueSerializer(cacheValueCodec);
     return redisTemplate;
   }
 
@@ -101,4 +175,28 @@ public class RedisConfig {
     template.setValueSerializer(RedisSerializer.json());
     return template;
   }
+
+  /**
+   * 로컬 캐시 무효화 메시지를 구독하기 위한 RedisMessageListenerContainer 빈을 생성
+   *
+   * <p>로컬 캐시(redis.cache.near.enabled), Hot Key 로컬 복제본(redis.cache.hot-key.enabled) 또는 Off-heap
+   * 캐시(redis.cache.off-heap.enabled) 중 하나라도 사용하는 경우에만 등록</p>
+   *
+   * @param lettuceConnectionFactory  Lettuce를 통한 Redis 연결 팩토리
+   * @param cacheInvalidationListener 캐시 무효화 메시지 리스너
+   * @return RedisMessageListenerContainer 객체
+   */
+  @ConditionalOnExpression("${redis.cache.near.enabled:false}"
+      + " or ${redis.cache.hot-key.enabled:true}"
+      + " or ${redis.cache.off-heap.enabled:false}")
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      LettuceConnectionFactory lettuceConnectionFactory,
+      CacheInvalidationListener cacheInvalidationListener) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(lettuceConnectionFactory);
+    container.addMessageListener(cacheInvalidationListener,
+        new ChannelTopic(Constants.CACHE_INVALIDATION_CHANNEL));
+    return container;
+  }
 }
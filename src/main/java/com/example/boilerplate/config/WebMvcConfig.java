@@ -1,9 +1,19 @@
 package com.example.boilerplate.config;
 
+import com.example.boilerplate.common.cache.ResponseCache;
+import com.example.boilerplate.common.component.RedisComponent;
+import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.common.filter.ResponseCacheFilter;
 import com.example.boilerplate.common.interceptor.SampleInterceptor;
+import com.example.boilerplate.todo.filter.TodoViewCountFilter;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -19,4 +29,43 @@ public class WebMvcConfig implements WebMvcConfigurer {
   public void addInterceptors(InterceptorRegistry interceptorRegistry) {
     interceptorRegistry.addInterceptor(new SampleInterceptor()).addPathPatterns("/sample/**");
   }
+
+  /**
+   * 할 일 조회 수 필터 등록
+   *
+   * <p>캐시된 응답도 집계하도록 응답 캐시 필터보다 먼저 실행</p>
+   *
+   * @param redisComponent Redis 컴포넌트
+   * @return FilterRegistrationBean 객체
+   */
+  @Bean
+  public FilterRegistrationBean<TodoViewCountFilter> todoViewCountFilter(
+      RedisComponent redisComponent) {
+    FilterRegistrationBean<TodoViewCountFilter> registration =
+        new FilterRegistrationBean<>(new TodoViewCountFilter(redisComponent));
+    registration.addUrlPatterns("/todo/*");
+    registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+    return registration;
+  }
+
+  /**
+   * 특정 할 일 조회의 응답 캐시 필터 등록
+   *
+   * <p>인증과 요청 수 제한이 먼저 적용되도록 Spring Security 필터 이후에 실행</p>
+   *
+   * @param responseCache 응답 캐시 컴포넌트
+   * @param ttl           응답 캐시 만료 시간
+   * @return FilterRegistrationBean 객체
+   */
+  @Bean
+  public FilterRegistrationBean<ResponseCacheFilter> todoResponseCacheFilter(
+      ResponseCache responseCache,
+      @Value("${redis.cache.response.ttl:10m}") Duration ttl) {
+    FilterRegistrationBean<ResponseCacheFilter> registration =
+        new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache,
+            TodoViewCountFilter.TODO_PATTERN, Constants.TODO_CACHE_NAME, ttl));
+    registration.addUrlPatterns("/todo/*");
+    registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+    return registration;
+  }
 }
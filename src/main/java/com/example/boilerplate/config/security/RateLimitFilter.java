@@ -0,0 +1,125 @@
+package com.example.boilerplate.config.security;
+
+import com.example.boilerplate.common.ratelimit.RateLimitRule;
+import com.example.boilerplate.common.ratelimit.RateLimitRule.KeyType;
+import com.example.boilerplate.common.ratelimit.RateLimiter;
+import com.example.boilerplate.common.ratelimit.RateLimiter.Decision;
+import com.example.boilerplate.common.response.ErrorResponse;
+import com.example.boilerplate.common.type.ApiStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final RateLimiter rateLimiter;
+  private final Map<RateLimitRule, RequestMatcher> matchers;
+
+  /**
+   * 요청 수 제한 정책을 받아 생성
+   *
+   * @param rateLimiter 요청 수 제한 컴포넌트
+   * @param rules       URL 패턴 별 요청 수 제한 정책 (먼저 선언된 정책을 우선 적용)
+   */
+  public RateLimitFilter(RateLimiter rateLimiter, List<RateLimitRule> rules) {
+    super();
+    this.rateLimiter = rateLimiter;
+    this.matchers = rules.stream()
+        .collect(Collectors.toMap(Function.identity(),
+            rule -> new OrRequestMatcher(rule.getPatterns().stream()
+                .map(pattern -> (RequestMatcher) new AntPathRequestMatcher(pattern))
+                .toList()),
+            (first, second) -> first,
+            LinkedHashMap::new));
+  }
+
+  /**
+   * 요청 URL에 해당하는 정책으로 요청 수를 확인하고, 초과한 경우 컨트롤러를 실행하지 않고 429로 응답
+   *
+   * @param request     HttpServletRequest
+   * @param response    HttpServletResponse
+   * @param filterChain FilterChain
+   * @throws IOException      IOException
+   * @throws ServletException ServletException
+   */
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain)
+      throws IOException, ServletException {
+
+    RateLimitRule rule = findRule(request);
+    if (rule == null || !rateLimiter.isEnabled()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    Decision decision = rateLimiter.tryAcquire(rule, getIdentity(request, rule));
+    if (decision.allowed()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    log.warn("Too Many Requests. rule: {}, uri: {}", rule.getName(), request.getRequestURI());
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1, (decision.retryAfterMillis() + 999) / 1000)));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    OBJECT_MAPPER.writeValue(response.getWriter(), ErrorResponse.builder()
+        .statusCode(ApiStatus.TOO_MANY_REQUESTS.getCode())
+        .method(request.getMethod())
+        .message(ApiStatus.TOO_MANY_REQUESTS.getMessage())
+        .path(request.getRequestURI())
+        .build());
+  }
+
+  private RateLimitRule findRule(HttpServletRequest request) {
+    return matchers.entrySet().stream()
+        .filter(entry -> entry.getValue().matches(request))
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * 정책의 대상에 따라 요청 수를 제한할 식별자를 반환
+   *
+   * @param request HttpServletRequest
+   * @param rule    요청 수 제한 정책
+   * @return 인증된 회원이면 회원 식별자, 아니면 클라이언트 IP
+   */
+  private String getIdentity(HttpServletRequest request, RateLimitRule rule) {
+    if (rule.getKeyType() == KeyType.SUBJECT) {
+      Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+      if (authentication != null && authentication.isAuthenticated()
+          && !(authentication instanceof AnonymousAuthenticationToken)) {
+        return "sub:" + authentication.getName();
+      }
+    }
+    return "ip:" + request.getRemoteAddr();
+  }
+}
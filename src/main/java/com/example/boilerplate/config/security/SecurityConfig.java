@@ -1,5 +1,9 @@
 package com.example.boilerplate.config.security;
 
+import com.example.boilerplate.common.ratelimit.RateLimitRule;
+import com.example.boilerplate.common.ratelimit.RateLimitRule.KeyType;
+import com.example.boilerplate.common.ratelimit.RateLimiter;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -22,7 +26,34 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 public class SecurityConfig {
 
+  /**
+   * URL 패턴 별 요청 수 제한 정책 (먼저 선언된 정책을 우선 적용)
+   */
+  private static final List<RateLimitRule> RATE_LIMIT_RULES = List.of(
+      // 비밀번호 검증(BCrypt) 비용이 큰 로그인과 회원 가입은 IP 별로 요청마다 Redis에서 확인
+      RateLimitRule.builder()
+          .name("sign")
+          .pattern("/sign/signin")
+          .pattern("/sign/signup")
+          .capacity(10)
+          .refillPeriod(Duration.ofMinutes(1))
+          .build(),
+      // CRUD API는 회원 별로 제한하고, 토큰을 10개씩 예약하여 대부분의 요청은 로컬에서 처리
+      RateLimitRule.builder()
+          .name("api")
+          .pattern("/todo/**")
+          .pattern("/todos/**")
+          .pattern("/member/**")
+          .pattern("/members/**")
+          .capacity(200)
+          .refillPeriod(Duration.ofSeconds(10))
+          .localBatch(10)
+          .keyType(KeyType.SUBJECT)
+          .build()
+  );
+
   private final JwtTokenProvider jwtTokenProvider;
+  private final RateLimiter rateLimiter;
 
   /**
    * SecurityFilterChain을 설정하는 Bean을 생성
@@ -46,12 +77,15 @@ public class SecurityConfig {
                 .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html")
                 .permitAll()
                 .requestMatchers("/sign/signin", "/sign/signup").permitAll()
-                .requestMatchers("/admin").hasRole("ADMIN")
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .requestMatchers("/admin", "/admin/**").hasRole("ADMIN")
                 .requestMatchers("/user").hasRole("USER")
                 .anyRequest().authenticated()
         )
         .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
             UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(new RateLimitFilter(rateLimiter, RATE_LIMIT_RULES),
+            JwtAuthenticationFilter.class)
         .exceptionHandling(
             exceptionHandling ->
                 exceptionHandling.accessDeniedHandler(new JwtAccessDeniedHandler()))
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MemberRepository extends
     JpaRepository<MemberEntity, Long>,
@@ -74,4 +75,13 @@ public interface MemberRepository extends
       String email,
       Pageable pageable
   );
+
+  /**
+   * 최근에 등록된 회원 아이디 목록을 ID 내림차순으로 조회
+   *
+   * @param pageable 조회할 개수
+   * @return 회원 아이디 목록
+   */
+  @Query("select m.id from MemberEntity m order by m.id desc")
+  List<Long> findRecentIds(Pageable pageable);
 }
@@ -2,8 +2,11 @@ package com.example.boilerplate.domain.repository;
 
 import com.example.boilerplate.domain.entity.TodoEntity;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TodoRepository extends
     JpaRepository<TodoEntity, Long> {
@@ -35,4 +38,22 @@ public interface TodoRepository extends
   @EntityGraph(attributePaths = {ENTITY_GRAPH_MEMBER})
   @Override
   List<TodoEntity> findAll();
+
+  /**
+   * 최근에 등록된 할 일 아이디 목록을 ID 내림차순으로 조회
+   *
+   * @param pageable 조회할 개수
+   * @return 할 일 아이디 목록
+   */
+  @Query("select t.id from TodoEntity t order by t.id desc")
+  List<Long> findRecentIds(Pageable pageable);
+
+  /**
+   * 회원의 할 일 아이디 목록을 ID 내림차순으로 조회
+   *
+   * @param memberId 회원 아이디
+   * @return 할 일 아이디 목록
+   */
+  @Query("select t.id from TodoEntity t where t.memberId = :memberId order by t.id desc")
+  List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
 }
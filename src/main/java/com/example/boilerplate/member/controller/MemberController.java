@@ -1,16 +1,24 @@
 package com.example.boilerplate.member.controller;
 
+import com.example.boilerplate.common.cache.CacheOptions;
+import com.example.boilerplate.common.cache.CacheSpecResolver;
+import com.example.boilerplate.common.cache.CachedPage;
 import com.example.boilerplate.common.component.RedisComponent;
 import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.common.exception.ApiException;
 import com.example.boilerplate.common.response.BaseResponse;
+import com.example.boilerplate.common.type.ApiStatus;
 import com.example.boilerplate.member.dto.MemberDto;
 import com.example.boilerplate.member.service.MemberService;
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,8 +35,14 @@ public class MemberController {
 
   private final MemberService memberService;
   private final RedisComponent redisComponent;
-  private static final String MEMBER_LIST_CACHE_KEY = "members:list";
-  private static final String MEMBER_CACHE_PREFIX = "member:";
+  private final CacheSpecResolver cacheSpecResolver;
+  private static final String MEMBER_LIST_CACHE_PREFIX =
+      Constants.BP_CACHE_PREFIX + "members:list:";
+  private static final String MEMBER_PAGE_CACHE_PREFIX =
+      Constants.BP_CACHE_PREFIX + "members:paged:";
+  private static final CacheOptions MEMBER_LIST_CACHE_OPTIONS =
+      CacheOptions.of(Duration.ofMinutes(1));
+  private static final int BATCH_MAX_SIZE = 100;
 
   /**
    * 회원 목록 조회
@@ -39,8 +53,16 @@ public class MemberController {
   public BaseResponse<List<MemberDto.Response>> getMembers(
       @RequestParam(value = "email", required = false) String email,
       @RequestParam(value = "name", required = false) String name) {
-    return BaseResponse.ok(
-        memberService.getMemberList(MemberDto.Request.of(email, name)));
+    MemberDto.Request memberRequest = MemberDto.Request.of(email, name);
+    List<MemberDto.Response> memberList = redisComponent.getQueryCacheOrDefault(
+        Constants.MEMBER_LIST_GENERATION_KEY,
+        MEMBER_LIST_CACHE_PREFIX,
+        memberRequest.toQueryKey(),
+        new TypeReference<>() {
+        },
+        () -> new ArrayList<>(memberService.getMemberList(memberRequest)),
+        MEMBER_LIST_CACHE_OPTIONS);
+    return BaseResponse.ok(memberList);
   }
 
   /**
@@ -58,8 +80,15 @@ public class MemberController {
   ) {
     // TODO : sorts 조건 하나일때
     MemberDto.PageRequest pageRequest = MemberDto.PageRequest.of(email, name, page, size, sorts);
-    Page<MemberDto.Response> pagedTodoList = memberService.getPagedMemberList(pageRequest);
-    return BaseResponse.ok(pagedTodoList);
+    CachedPage<MemberDto.Response> cachedPage = redisComponent.getQueryCacheOrDefault(
+        Constants.MEMBER_LIST_GENERATION_KEY,
+        MEMBER_PAGE_CACHE_PREFIX,
+        pageRequest.toQueryKey(),
+        new TypeReference<>() {
+        },
+        () -> CachedPage.of(memberService.getPagedMemberList(pageRequest)),
+        MEMBER_LIST_CACHE_OPTIONS);
+    return BaseResponse.ok(cachedPage.toPage(pageRequest.pageRequest()));
   }
 
   /**
@@ -70,13 +99,30 @@ public class MemberController {
    */
   @GetMapping("/member/{id}")
   public BaseResponse<MemberDto.Response> getTodo(@PathVariable Long id) {
-    String cacheKey = Constants.BP_CACHE_PREFIX + MEMBER_CACHE_PREFIX + id;
-    MemberDto.Response memberResponse = redisComponent.getCacheOrDefault(cacheKey,
+    return BaseResponse.ok(memberService.getMember(id));
+  }
+
+  /**
+   * 여러 회원 조회
+   *
+   * <p>캐시에 없는 회원만 DB에서 한 번에 조회하며, 존재하지 않는 아이디는 결과에서 제외</p>
+   *
+   * @param ids 회원 아이디 목록 (최대 {@value BATCH_MAX_SIZE}건)
+   * @return 요청한 아이디 순서의 회원 목록
+   */
+  @GetMapping("/members/batch")
+  public BaseResponse<List<MemberDto.Response>> getMemberBatch(
+      @RequestParam("ids") List<Long> ids) {
+    if (ids.size() > BATCH_MAX_SIZE) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, ApiStatus.INVALID_REQUEST);
+    }
+    Map<Long, MemberDto.Response> memberMap = redisComponent.getCachesOrDefault(ids,
+        id -> Constants.MEMBER_CACHE_PREFIX + id,
         new TypeReference<>() {
         },
-        () -> memberService.getMember(id),
-        10, TimeUnit.MINUTES);
-    return BaseResponse.ok(memberResponse);
+        memberService::getMemberMap,
+        cacheSpecResolver.resolve(MemberService.class, Constants.MEMBER_CACHE_NAME));
+    return BaseResponse.ok(new ArrayList<>(memberMap.values()));
   }
 
   /**
@@ -88,7 +134,6 @@ public class MemberController {
   @PostMapping("/member")
   public BaseResponse<MemberDto.Response> insertTodo(
       @RequestBody MemberDto.InsertRequest insertMemberRequest) {
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + MEMBER_LIST_CACHE_KEY);
     return BaseResponse.ok(memberService.insertMember(insertMemberRequest));
   }
 
@@ -101,11 +146,7 @@ public class MemberController {
   @PutMapping("/member")
   public BaseResponse<MemberDto.Response> updateTodo(
       @RequestBody MemberDto.UpdateRequest updateMemberRequest) {
-    MemberDto.Response memberResponse = memberService.updateMember(updateMemberRequest);
-    redisComponent.deleteKey(
-        Constants.BP_CACHE_PREFIX + MEMBER_CACHE_PREFIX + memberResponse.getId());
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + MEMBER_LIST_CACHE_KEY);
-    return BaseResponse.ok(memberResponse);
+    return BaseResponse.ok(memberService.updateMember(updateMemberRequest));
   }
 
   /**
@@ -116,9 +157,6 @@ public class MemberController {
    */
   @DeleteMapping("/member/{id}")
   public BaseResponse<MemberDto.Response> deleteMember(@PathVariable Long id) {
-    MemberDto.Response deletedTodo = memberService.deleteMember(id);
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + MEMBER_CACHE_PREFIX + id);
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + MEMBER_LIST_CACHE_KEY);
-    return BaseResponse.ok(deletedTodo);
+    return BaseResponse.ok(memberService.deleteMember(id));
   }
 }
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 public class MemberDto {
 
@@ -38,6 +39,18 @@ public class MemberDto {
           .name(name)
           .build();
     }
+
+    /**
+     * 캐시 키 생성을 위해 조회 조건을 정규화된 쿼리 문자열로 변환
+     *
+     * @return 정규화된 쿼리 문자열
+     */
+    public String toQueryKey() {
+      return UriComponentsBuilder.newInstance()
+          .queryParam("email", email)
+          .queryParam("name", name)
+          .build().encode().getQuery();
+    }
   }
 
   @Getter
@@ -108,6 +121,14 @@ public class MemberDto {
           .sorts(sorts)
           .build();
     }
+
+    @Override
+    public String toQueryKey() {
+      return appendPageQuery(UriComponentsBuilder.newInstance()
+          .queryParam("email", email)
+          .queryParam("name", name))
+          .build().encode().getQuery();
+    }
   }
 
   @Getter
@@ -1,12 +1,19 @@
 package com.example.boilerplate.member.service;
 
+import com.example.boilerplate.common.cache.BpCacheEvict;
+import com.example.boilerplate.common.cache.BpCacheable;
+import com.example.boilerplate.common.constants.Constants;
 import com.example.boilerplate.common.exception.ApiException;
 import com.example.boilerplate.common.type.ApiStatus;
 import com.example.boilerplate.domain.entity.MemberEntity;
 import com.example.boilerplate.domain.repository.MemberRepository;
 import com.example.boilerplate.member.dto.MemberDto;
 import com.example.boilerplate.member.repository.MemberQueryRepository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -53,18 +60,38 @@ public class MemberService {
    * @param id 회원 아이디
    * @return 회원 정보
    */
+  @BpCacheable(cacheName = Constants.MEMBER_CACHE_NAME, key = "#id", ttl = "10m",
+      refreshAhead = true, rebuildLease = true, negativeTtl = "30s",
+      notFoundStatus = ApiStatus.MEMBER_NOT_FOUND)
   @Transactional(readOnly = true)
   public MemberDto.Response getMember(Long id) {
     MemberEntity memberEntity = getMemberEntity(id);
     return modelMapper.map(memberEntity, MemberDto.Response.class);
   }
 
+  /**
+   * 여러 회원 조회
+   *
+   * <p>아이디 목록을 IN 조건으로 한 번에 조회하며, 존재하지 않는 아이디는 결과에서 제외</p>
+   *
+   * @param ids 회원 아이디 목록
+   * @return 회원 아이디와 회원 정보의 Map
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, MemberDto.Response> getMemberMap(Collection<Long> ids) {
+    return memberRepository.findAllById(ids).stream()
+        .map(memberEntity -> modelMapper.map(memberEntity, MemberDto.Response.class))
+        .collect(Collectors.toMap(MemberDto.Response::getId, Function.identity()));
+  }
+
   /**
    * 회원 추가
    *
    * @param insertMemberRequest 추가할 회원 정보
    * @return 추가된 회원 정보
    */
+  @BpCacheEvict(cacheName = Constants.MEMBER_CACHE_NAME, key = "#result.id",
+      generations = Constants.MEMBER_LIST_GENERATION_KEY)
   @Transactional
   public MemberDto.Response insertMember(MemberDto.InsertRequest insertMemberRequest) {
 
@@ -74,8 +101,8 @@ public class MemberService {
         });
 
     MemberEntity memberEntity = modelMapper.map(insertMemberRequest, MemberEntity.class);
-
-    return modelMapper.map(memberRepository.save(memberEntity), MemberDto.Response.class);
+    MemberEntity savedEntity = memberRepository.save(memberEntity);
+    return modelMapper.map(savedEntity, MemberDto.Response.class);
   }
 
   /**
@@ -84,6 +111,8 @@ public class MemberService {
    * @param updateMemberRequest 수정할 회원 정보
    * @return 수정된 회원 정보
    */
+  @BpCacheEvict(cacheName = Constants.MEMBER_CACHE_NAME, key = "#result.id",
+      generations = {Constants.MEMBER_LIST_GENERATION_KEY, Constants.TODO_LIST_GENERATION_KEY})
   @Transactional
   public MemberDto.Response updateMember(MemberDto.UpdateRequest updateMemberRequest) {
 
@@ -107,6 +136,8 @@ public class MemberService {
    * @param id 삭제할 회원의 아이디
    * @return 삭제된 회원 정보
    */
+  @BpCacheEvict(cacheName = Constants.MEMBER_CACHE_NAME, key = "#id",
+      generations = {Constants.MEMBER_LIST_GENERATION_KEY, Constants.TODO_LIST_GENERATION_KEY})
   @Transactional
   public MemberDto.Response deleteMember(Long id) {
     MemberEntity memberEntity = memberRepository.findById(id)
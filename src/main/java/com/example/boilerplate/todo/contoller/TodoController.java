@@ -1,16 +1,27 @@
 package com.example.boilerplate.todo.contoller;
 
+import com.example.boilerplate.common.cache.CacheOptions;
+import com.example.boilerplate.common.cache.CacheSpecResolver;
+import com.example.boilerplate.common.cache.CachedPage;
+import com.example.boilerplate.common.cache.SortedSetIndexStore.IdPage;
 import com.example.boilerplate.common.component.RedisComponent;
 import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.common.exception.ApiException;
 import com.example.boilerplate.common.response.BaseResponse;
+import com.example.boilerplate.common.type.ApiStatus;
 import com.example.boilerplate.todo.dto.TodoDto;
 import com.example.boilerplate.todo.service.TodoService;
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,8 +38,12 @@ public class TodoController implements TodoControllerDocs {
 
   private final TodoService todoService;
   private final RedisComponent redisComponent;
-  private static final String TODO_LIST_CACHE_KEY = "todos:list";
-  private static final String TODO_CACHE_PREFIX = "todo:";
+  private final CacheSpecResolver cacheSpecResolver;
+  private static final String TODO_LIST_CACHE_PREFIX = Constants.BP_CACHE_PREFIX + "todos:list:";
+  private static final String TODO_PAGE_CACHE_PREFIX = Constants.BP_CACHE_PREFIX + "todos:paged:";
+  private static final CacheOptions TODO_LIST_CACHE_OPTIONS =
+      CacheOptions.of(Duration.ofMinutes(1));
+  private static final int BATCH_MAX_SIZE = 100;
 
   /**
    * 할 일 목록 조회
@@ -41,8 +56,16 @@ public class TodoController implements TodoControllerDocs {
       @RequestParam(value = "title", required = false) String title,
       @RequestParam(value = "description", required = false) String description,
       @RequestParam(value = "completed", required = false) Boolean completed) {
-    return BaseResponse.ok(
-        todoService.getTodoList(TodoDto.Request.of(title, description, completed)));
+    TodoDto.Request todoRequest = TodoDto.Request.of(title, description, completed);
+    List<TodoDto.Response> todoList = redisComponent.getQueryCacheOrDefault(
+        Constants.TODO_LIST_GENERATION_KEY,
+        TODO_LIST_CACHE_PREFIX,
+        todoRequest.toQueryKey(),
+        new TypeReference<>() {
+        },
+        () -> new ArrayList<>(todoService.getTodoList(todoRequest)),
+        TODO_LIST_CACHE_OPTIONS);
+    return BaseResponse.ok(todoList);
   }
 
   /**
@@ -62,8 +85,51 @@ public class TodoController implements TodoControllerDocs {
     // TODO : sorts 조건 하나일때
     TodoDto.PageRequest pageRequest =
         TodoDto.PageRequest.of(title, description, completed, page, size, sorts);
-    Page<TodoDto.Response> pagedTodoList = todoService.getPagedTodoList(pageRequest);
-    return BaseResponse.ok(pagedTodoList);
+    CachedPage<TodoDto.Response> cachedPage = redisComponent.getQueryCacheOrDefault(
+        Constants.TODO_LIST_GENERATION_KEY,
+        TODO_PAGE_CACHE_PREFIX,
+        pageRequest.toQueryKey(),
+        new TypeReference<>() {
+        },
+        () -> CachedPage.of(todoService.getPagedTodoList(pageRequest)),
+        TODO_LIST_CACHE_OPTIONS);
+    return BaseResponse.ok(cachedPage.toPage(pageRequest.pageRequest()));
+  }
+
+  /**
+   * 회원의 할 일 목록을 최신 순으로 페이징하여 조회
+   *
+   * <p>회원 별 할 일 아이디 인덱스(Redis Sorted Set)에서 ZREVRANGE로 한 페이지의 아이디를 조회하고, 할 일은 단건 캐시에서
+   * 한 번에 조회하므로 인덱스와 단건 캐시가 있으면 DB를 조회하지 않음</p>
+   *
+   * @param memberId 회원 아이디
+   * @param page     페이지 번호 (0부터 시작)
+   * @param size     페이지 크기 (최대 {@value BATCH_MAX_SIZE}건)
+   * @return 페이징 처리된 할 일 목록
+   */
+  @GetMapping("/todos/member/{memberId}")
+  public BaseResponse<Page<TodoDto.Response>> getMemberTodos(
+      @PathVariable Long memberId,
+      @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+      @RequestParam(value = "size", required = false, defaultValue = "10") int size) {
+    if (page < 0 || size < 1 || size > BATCH_MAX_SIZE) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, ApiStatus.INVALID_REQUEST);
+    }
+    PageRequest pageRequest = PageRequest.of(page, size);
+    IdPage idPage = redisComponent.getIndexPageOrDefault(
+        Constants.TODO_MEMBER_INDEX_PREFIX + memberId,
+        pageRequest.getOffset(),
+        size,
+        () -> todoService.getTodoIds(memberId),
+        TodoService.TODO_MEMBER_INDEX_TTL);
+    Map<Long, TodoDto.Response> todoMap = redisComponent.getCachesOrDefault(idPage.ids(),
+        id -> Constants.TODO_CACHE_PREFIX + id,
+        new TypeReference<>() {
+        },
+        todoService::getTodoMap,
+        cacheSpecResolver.resolve(TodoService.class, Constants.TODO_CACHE_NAME));
+    return BaseResponse.ok(
+        new PageImpl<>(new ArrayList<>(todoMap.values()), pageRequest, idPage.total()));
   }
 
   /**
@@ -75,13 +141,42 @@ public class TodoController implements TodoControllerDocs {
   @GetMapping("/todo/{id}")
   @Override
   public BaseResponse<TodoDto.Response> getTodo(@PathVariable Long id) {
-    String cacheKey = Constants.BP_CACHE_PREFIX + TODO_CACHE_PREFIX + id;
-    TodoDto.Response todoResponse = redisComponent.getCacheOrDefault(cacheKey,
+    return BaseResponse.ok(todoService.getTodo(id));
+  }
+
+  /**
+   * 특정 할 일의 조회 수
+   *
+   * @param id 할 일 아이디
+   * @return 조회 수
+   */
+  @GetMapping("/todo/{id}/views")
+  public BaseResponse<Long> getTodoViewCount(@PathVariable Long id) {
+    return BaseResponse.ok(redisComponent.getCounterValue(Constants.TODO_VIEW_COUNT_PREFIX + id));
+  }
+
+  /**
+   * 여러 할 일 조회
+   *
+   * <p>캐시에 없는 할 일만 DB에서 한 번에 조회하며, 존재하지 않는 아이디는 결과에서 제외</p>
+   *
+   * @param ids 할 일 아이디 목록 (최대 {@value BATCH_MAX_SIZE}건)
+   * @return 요청한 아이디 순서의 할 일 목록
+   */
+  @GetMapping("/todos/batch")
+  @Override
+  public BaseResponse<List<TodoDto.Response>> getTodoBatch(
+      @RequestParam("ids") List<Long> ids) {
+    if (ids.size() > BATCH_MAX_SIZE) {
+      throw new ApiException(HttpStatus.BAD_REQUEST, ApiStatus.INVALID_REQUEST);
+    }
+    Map<Long, TodoDto.Response> todoMap = redisComponent.getCachesOrDefault(ids,
+        id -> Constants.TODO_CACHE_PREFIX + id,
         new TypeReference<>() {
         },
-        () -> todoService.getTodo(id),
-        10, TimeUnit.MINUTES);
-    return BaseResponse.ok(todoResponse);
+        todoService::getTodoMap,
+        cacheSpecResolver.resolve(TodoService.class, Constants.TODO_CACHE_NAME));
+    return BaseResponse.ok(new ArrayList<>(todoMap.values()));
   }
 
   /**
@@ -94,7 +189,6 @@ public class TodoController implements TodoControllerDocs {
   @Override
   public BaseResponse<TodoDto.Response> insertTodo(
       @RequestBody TodoDto.InsertRequest insertTodoRequest) {
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + TODO_LIST_CACHE_KEY);
     return BaseResponse.ok(todoService.insertTodo(insertTodoRequest));
   }
 
@@ -108,10 +202,7 @@ public class TodoController implements TodoControllerDocs {
   @Override
   public BaseResponse<TodoDto.Response> updateTodo(
       @RequestBody TodoDto.UpdateRequest updateTodoRequest) {
-    TodoDto.Response todoResponse = todoService.updateTodo(updateTodoRequest);
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + TODO_CACHE_PREFIX + todoResponse.getId());
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + TODO_LIST_CACHE_KEY);
-    return BaseResponse.ok(todoResponse);
+    return BaseResponse.ok(todoService.updateTodo(updateTodoRequest));
   }
 
   /**
@@ -123,9 +214,6 @@ public class TodoController implements TodoControllerDocs {
   @DeleteMapping("/todo/{id}")
   @Override
   public BaseResponse<TodoDto.Response> deleteTodo(@PathVariable Long id) {
-    TodoDto.Response deletedTodo = todoService.deleteTodo(id);
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + TODO_CACHE_PREFIX + id);
-    redisComponent.deleteKey(Constants.BP_CACHE_PREFIX + TODO_LIST_CACHE_KEY);
-    return BaseResponse.ok(deletedTodo);
+    return BaseResponse.ok(todoService.deleteTodo(id));
   }
 }
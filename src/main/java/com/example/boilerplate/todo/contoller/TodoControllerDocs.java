@@ -58,6 +58,24 @@ public interface TodoControllerDocs {
   @Parameter(name = "id", description = "할 일 아이디", example = "1")
   BaseResponse<TodoDto.Response> getTodo(@PathVariable Long id);
 
+  @Operation(summary = "여러 할 일 조회")
+  @ApiResponse(
+      responseCode = "200",
+      description = "성공",
+      content = @Content(
+          mediaType = MediaType.APPLICATION_JSON_VALUE,
+          schema = @Schema(implementation = TodoDto.Response.class),
+          examples = @ExampleObject(
+              value = """
+                  {"statusCode": "200", "message": "성공", "data": [{"id": 1, "title": "Spring Security 학습", "description": "JWT 기반 인증 및 권한 부여 학습하기", "completed": true}, {"id": 2, "title": "Spring Boot DevTools 설정", "description": "개발 환경에서 자동 리로드 설정", "completed": true}]}
+                  """
+          )
+      )
+  )
+  @Parameter(name = "ids", description = "할 일 아이디 목록 (최대 100건)", example = "1,2")
+  BaseResponse<List<TodoDto.Response>> getTodoBatch(
+      @RequestParam("ids") List<Long> ids);
+
   @Operation(summary = "할 일 추가")
   @ApiResponse(
       responseCode = "200",
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 public class TodoDto {
 
@@ -41,6 +42,19 @@ public class TodoDto {
           .completed(completed)
           .build();
     }
+
+    /**
+     * 캐시 키 생성을 위해 조회 조건을 정규화된 쿼리 문자열로 변환
+     *
+     * @return 정규화된 쿼리 문자열
+     */
+    public String toQueryKey() {
+      return UriComponentsBuilder.newInstance()
+          .queryParam("title", title)
+          .queryParam("description", description)
+          .queryParam("completed", completed)
+          .build().encode().getQuery();
+    }
   }
 
   @Getter
@@ -77,6 +91,15 @@ public class TodoDto {
           .sorts(sorts)
           .build();
     }
+
+    @Override
+    public String toQueryKey() {
+      return appendPageQuery(UriComponentsBuilder.newInstance()
+          .queryParam("title", title)
+          .queryParam("description", description)
+          .queryParam("completed", completed))
+          .build().encode().getQuery();
+    }
   }
 
   @Getter
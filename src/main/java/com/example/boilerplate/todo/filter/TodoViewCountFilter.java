@@ -0,0 +1,65 @@
+package com.example.boilerplate.todo.filter;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import com.example.boilerplate.common.constants.Constants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 특정 할 일 조회가 성공하면 조회 수를 증가시키는 필터
+ *
+ * <p>응답 캐시가 있으면 컨트롤러가 실행되지 않으므로, 응답 캐시 필터보다 먼저 등록하여 캐시된 응답(304 포함)도 집계</p>
+ */
+public class TodoViewCountFilter extends OncePerRequestFilter {
+
+  /**
+   * 조회 수를 집계할 URL 패턴
+   */
+  public static final String TODO_PATTERN = "/todo/{id}";
+
+  private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+  private final RedisComponent redisComponent;
+
+  /**
+   * 조회 수를 저장할 Redis 컴포넌트를 받아 생성
+   *
+   * @param redisComponent Redis 컴포넌트
+   */
+  public TodoViewCountFilter(RedisComponent redisComponent) {
+    super();
+    this.redisComponent = redisComponent;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.GET.matches(request.getMethod())
+        || !PATH_MATCHER.match(TODO_PATTERN, getPath(request));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain)
+      throws IOException, ServletException {
+    filterChain.doFilter(request, response);
+    if (response.getStatus() == HttpStatus.OK.value()
+        || response.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+      String id = PATH_MATCHER.extractUriTemplateVariables(TODO_PATTERN, getPath(request))
+          .get("id");
+      redisComponent.incrementCounter(Constants.TODO_VIEW_COUNT_PREFIX + id, 1);
+    }
+  }
+
+  private static String getPath(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+}
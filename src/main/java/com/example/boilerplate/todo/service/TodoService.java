@@ -1,5 +1,10 @@
 package com.example.boilerplate.todo.service;
 
+import com.example.boilerplate.common.cache.BpCacheEvict;
+import com.example.boilerplate.common.cache.BpCachePut;
+import com.example.boilerplate.common.cache.BpCacheable;
+import com.example.boilerplate.common.cache.CacheInvalidator;
+import com.example.boilerplate.common.constants.Constants;
 import com.example.boilerplate.common.exception.ApiException;
 import com.example.boilerplate.common.type.ApiStatus;
 import com.example.boilerplate.domain.entity.MemberEntity;
@@ -10,7 +15,12 @@ import com.example.boilerplate.domain.repository.TodoDynamicRepository;
 import com.example.boilerplate.domain.repository.TodoRepository;
 import com.example.boilerplate.todo.dto.TodoDto;
 import com.example.boilerplate.todo.repository.TodoQueryRepository;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -25,11 +35,17 @@ import org.springframework.util.StringUtils;
 @Service
 public class TodoService {
 
+  /**
+   * 회원 별 할 일 아이디 인덱스({@link Constants#TODO_MEMBER_INDEX_PREFIX})의 만료 시간
+   */
+  public static final Duration TODO_MEMBER_INDEX_TTL = Duration.ofMinutes(10);
+
   private final TodoRepository todoRepository;
   private final TodoQueryRepository todoQueryRepository;
   private final TodoDynamicRepository todoDynamicRepository;
   private final MemberRepository memberRepository;
   private final ModelMapper modelMapper;
+  private final CacheInvalidator cacheInvalidator;
 
   /**
    * 할 일 목록 조회
@@ -59,18 +75,51 @@ public class TodoService {
    * @param id 할 일 아이디
    * @return 할 일 상세 정보
    */
+  @BpCacheable(cacheName = Constants.TODO_CACHE_NAME, key = "#id", ttl = "10m",
+      hash = true, rebuildLease = true, negativeTtl = "30s",
+      notFoundStatus = ApiStatus.TODO_NOT_FOUND)
   @Transactional(readOnly = true)
   public TodoDto.Response getTodo(Long id) {
     TodoEntity todoEntity = getTodoEntity(id);
     return modelMapper.map(todoEntity, TodoDto.Response.class);
   }
 
+  /**
+   * 여러 할 일 조회
+   *
+   * <p>아이디 목록을 IN 조건으로 한 번에 조회하며, 존재하지 않는 아이디는 결과에서 제외</p>
+   *
+   * @param ids 할 일 아이디 목록
+   * @return 할 일 아이디와 할 일 정보의 Map
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, TodoDto.Response> getTodoMap(Collection<Long> ids) {
+    return todoRepository.findAllById(ids).stream()
+        .map(todoEntity -> modelMapper.map(todoEntity, TodoDto.Response.class))
+        .collect(Collectors.toMap(TodoDto.Response::getId, Function.identity()));
+  }
+
+  /**
+   * 회원의 할 일 아이디 목록 조회
+   *
+   * <p>회원 조인 없이 {@code member_id} 조건으로 아이디만 조회하며, 회원 별 할 일 인덱스를 적재할 때 사용</p>
+   *
+   * @param memberId 회원 아이디
+   * @return ID 내림차순의 할 일 아이디 목록
+   */
+  @Transactional(readOnly = true)
+  public List<Long> getTodoIds(Long memberId) {
+    return todoRepository.findIdsByMemberId(memberId);
+  }
+
   /**
    * 할 일 추가
    *
    * @param insertTodoRequest 추가할 할 일 정보
    * @return 추가된 할 일 정보
    */
+  @BpCacheEvict(cacheName = Constants.TODO_CACHE_NAME, key = "#result.id",
+      generations = Constants.TODO_LIST_GENERATION_KEY, response = true)
   @Transactional
   public TodoDto.Response insertTodo(TodoDto.InsertRequest insertTodoRequest) {
 
@@ -81,7 +130,8 @@ public class TodoService {
     todoEntity.setMemberId(memberEntity.getId());
 
     TodoEntity savedEntity = todoRepository.save(todoEntity);
-
+    cacheInvalidator.addIndexMember(
+        Constants.TODO_MEMBER_INDEX_PREFIX + savedEntity.getMemberId(), savedEntity.getId());
     return modelMapper.map(savedEntity, TodoDto.Response.class);
   }
 
@@ -91,6 +141,8 @@ public class TodoService {
    * @param updateTodoRequest 수정할 할 일 정보
    * @return 수정된 할 일 정보
    */
+  @BpCachePut(cacheName = Constants.TODO_CACHE_NAME, key = "#result.id",
+      generations = Constants.TODO_LIST_GENERATION_KEY, response = true)
   @Transactional
   public TodoDto.Response updateTodo(TodoDto.UpdateRequest updateTodoRequest) {
 
@@ -116,10 +168,16 @@ public class TodoService {
    * @param id 삭제할 할 일의 아이디
    * @return 삭제된 할 일 정보
    */
+  @BpCacheEvict(cacheName = Constants.TODO_CACHE_NAME, key = "#id",
+      generations = Constants.TODO_LIST_GENERATION_KEY, response = true)
   @Transactional
   public TodoDto.Response deleteTodo(Long id) {
     TodoEntity todoEntity = getTodoEntity(id);
     todoRepository.delete(todoEntity);
+    if (todoEntity.getMemberId() != null) {
+      cacheInvalidator.removeIndexMember(
+          Constants.TODO_MEMBER_INDEX_PREFIX + todoEntity.getMemberId(), id);
+    }
     return modelMapper.map(todoEntity, TodoDto.Response.class);
   }
 
@@ -128,6 +186,9 @@ public class TodoService {
    *
    * @param dynamicRequest 변경할 할 일 정보
    */
+  @BpCachePut(cacheName = Constants.TODO_CACHE_NAME, key = "#dynamicRequest.id",
+      fields = "{completed: #dynamicRequest.completed}",
+      generations = Constants.TODO_LIST_GENERATION_KEY, response = true)
   @Transactional
   public void updateTodoCompleted(TodoDto.DynamicRequest dynamicRequest) {
     TodoDynamicEntity todoDynamic = todoDynamicRepository.findById(dynamicRequest.getId())
@@ -0,0 +1,8 @@
+-- 키의 값이 요청한 토큰과 같을 때만 삭제 (다른 노드가 다시 획득한 Lease를 삭제하지 않도록)
+-- KEYS[1]: Lease 키
+-- ARGV[1]: Lease를 획득할 때 저장한 토큰
+-- 반환: 삭제했으면 1, 아니면 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+  return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,11 @@
+-- 캐시 키를 삭제하고 버전 키에 삭제 시각을 펜스로 남김 (삭제 전에 조회를 시작한 적재가 이전 값을 다시 저장하지 않도록)
+-- KEYS[1]: 캐시 키, KEYS[2]: 버전 키
+-- ARGV[1]: 펜스 버전(삭제 시각 ms), ARGV[2]: 펜스 만료 시간(ms)
+-- 반환: 삭제한 키 수
+local current = tonumber(redis.call('GET', KEYS[2]))
+if current == nil or current < tonumber(ARGV[1]) then
+  redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+else
+  redis.call('PEXPIRE', KEYS[2], ARGV[2])
+end
+return redis.call('UNLINK', KEYS[1])
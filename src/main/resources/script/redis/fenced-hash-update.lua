@@ -0,0 +1,20 @@
+-- 캐시된 Hash의 필드만 덮어쓰고(write-through), 버전 키에 수정 시각을 펜스로 남김 (수정 전에 조회를 시작한 적재가 이전 값을 저장하지 않도록)
+-- KEYS[1]: 캐시 키, KEYS[2]: 버전 키
+-- ARGV[1]: 펜스 버전(수정 시각 ms, 빈 값이면 펜스를 남기지 않음), ARGV[2]: 펜스 만료 시간(ms), ARGV[3..]: 필드와 값을 번갈아 나열한 목록
+-- 반환: 필드를 덮어썼으면 1, 캐시가 없으면 0, Hash가 아니거나 Tombstone이 저장되어 있어 삭제했으면 -1
+if ARGV[1] ~= '' then
+  local current = tonumber(redis.call('GET', KEYS[2]))
+  if current == nil or current < tonumber(ARGV[1]) then
+    redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+  end
+end
+local key_type = redis.call('TYPE', KEYS[1]).ok
+if key_type == 'none' then
+  return 0
+end
+if key_type ~= 'hash' or redis.call('HEXISTS', KEYS[1], '@tombstone') == 1 then
+  redis.call('UNLINK', KEYS[1])
+  return -1
+end
+redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+return 1
@@ -0,0 +1,19 @@
+-- 적재된 Sorted Set 인덱스에 아이디를 추가 또는 제거하고, 버전 키에 변경 시각을 펜스로 남김 (변경 전에 조회를 시작한 적재가 이전 목록을 저장하지 않도록)
+-- KEYS[1]: 인덱스 키, KEYS[2]: 버전 키
+-- ARGV[1]: 펜스 버전(변경 시각 ms, 빈 값이면 펜스를 남기지 않음), ARGV[2]: 펜스 만료 시간(ms), ARGV[3]: add 또는 remove, ARGV[4]: 아이디
+-- 반환: 변경했으면 1, 인덱스가 없으면 0
+if ARGV[1] ~= '' then
+  local current = tonumber(redis.call('GET', KEYS[2]))
+  if current == nil or current < tonumber(ARGV[1]) then
+    redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+  end
+end
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  return 0
+end
+if ARGV[3] == 'add' then
+  redis.call('ZADD', KEYS[1], ARGV[4], ARGV[4])
+else
+  redis.call('ZREM', KEYS[1], ARGV[4])
+end
+return 1
@@ -0,0 +1,31 @@
+-- 토큰 버킷에서 요청한 수만큼(최대 남은 토큰 수) 토큰을 한 번에 예약
+-- KEYS[1]: 버킷 키
+-- ARGV[1]: 버킷 용량, ARGV[2]: 토큰 하나가 채워지는 시간(ms), ARGV[3]: 예약할 토큰 수
+-- 반환: { 예약된 토큰 수, 예약하지 못한 경우 다음 토큰까지 남은 시간(ms) }
+local capacity = tonumber(ARGV[1])
+local refill_millis = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = time[1] * 1000 + math.floor(time[2] / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local updated_at = tonumber(bucket[2])
+if tokens == nil or updated_at == nil then
+  tokens = capacity
+  updated_at = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - updated_at) / refill_millis)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * refill_millis))
+
+local retry_after = 0
+if granted == 0 then
+  retry_after = math.ceil((1 - tokens) * refill_millis)
+end
+return { granted, retry_after }
@@ -0,0 +1,15 @@
+-- 저장된 버전보다 새로운 버전일 때만 캐시 값을 속성마다 하나의 필드를 가진 Hash로 다시 저장
+-- KEYS[1]: 캐시 키, KEYS[2]: 버전 키
+-- ARGV[1]: 값의 버전(빈 값이면 버전을 비교하지 않음), ARGV[2]: 만료 시간(ms), ARGV[3..]: 필드와 값을 번갈아 나열한 목록
+-- 반환: 저장했으면 1, 저장된 버전(또는 삭제 펜스)이 같거나 새로우면 0
+if ARGV[1] ~= '' then
+  local current = tonumber(redis.call('GET', KEYS[2]))
+  if current ~= nil and tonumber(ARGV[1]) <= current then
+    return 0
+  end
+  redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+end
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
@@ -0,0 +1,11 @@
+-- 저장된 버전보다 새로운 버전일 때만 캐시 값을 저장 (이전에 조회를 시작한 적재가 새 값을 덮어쓰지 않도록)
+-- KEYS[1]: 캐시 키, KEYS[2]: 버전 키
+-- ARGV[1]: 저장할 값의 버전, ARGV[2]: 저장할 값, ARGV[3]: 만료 시간(ms)
+-- 반환: 저장했으면 1, 저장된 버전(또는 삭제 펜스)이 같거나 새로우면 0
+local current = tonumber(redis.call('GET', KEYS[2]))
+if current ~= nil and tonumber(ARGV[1]) <= current then
+  return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[3])
+return 1
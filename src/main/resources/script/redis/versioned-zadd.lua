@@ -0,0 +1,24 @@
+-- 저장된 버전보다 새로운 버전일 때만 아이디를 점수로 하는 Sorted Set 인덱스를 다시 저장
+-- KEYS[1]: 인덱스 키, KEYS[2]: 버전 키
+-- ARGV[1]: 인덱스의 버전(빈 값이면 버전을 비교하지 않음), ARGV[2]: 만료 시간(ms), ARGV[3..]: 아이디 목록
+-- 반환: 저장했으면 1, 저장된 버전(또는 삭제 펜스)이 같거나 새로우면 0
+if ARGV[1] ~= '' then
+  local current = tonumber(redis.call('GET', KEYS[2]))
+  if current ~= nil and tonumber(ARGV[1]) <= current then
+    return 0
+  end
+  redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+end
+redis.call('DEL', KEYS[1])
+-- 아이디가 없어도 인덱스가 적재되었음을 알 수 있도록 가장 낮은 점수의 완료 표시를 함께 저장
+redis.call('ZADD', KEYS[1], '-inf', '@complete')
+for i = 3, #ARGV, 500 do
+  local args = {}
+  for j = i, math.min(i + 499, #ARGV) do
+    args[#args + 1] = ARGV[j]
+    args[#args + 1] = ARGV[j]
+  end
+  redis.call('ZADD', KEYS[1], unpack(args))
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
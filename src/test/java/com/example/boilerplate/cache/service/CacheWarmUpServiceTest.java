@@ -0,0 +1,47 @@
+package com.example.boilerplate.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.boilerplate.common.constants.Constants;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheWarmUpServiceTest {
+
+  @Order(1)
+  @DisplayName("저장된 Hot Key 중 단건 캐시 키만 키 Prefix 별 아이디 목록으로 변환")
+  @Test
+  void testToIds() {
+
+    // Given
+    List<String> keys = List.of(
+        Constants.TODO_CACHE_PREFIX + "3",
+        Constants.MEMBER_CACHE_PREFIX + "7",
+        Constants.TODO_CACHE_PREFIX + "1",
+        Constants.TODO_LIST_GENERATION_KEY,
+        Constants.TODO_CACHE_PREFIX,
+        "session:1");
+
+    // When
+    Map<String, List<Long>> ids = CacheWarmUpService.toIds(keys);
+
+    // Then
+    log.debug("ids : {}", ids);
+    assertAll(
+        () -> assertEquals(Set.of(Constants.TODO_CACHE_PREFIX, Constants.MEMBER_CACHE_PREFIX),
+            ids.keySet()),
+        () -> assertEquals(List.of(3L, 1L), ids.get(Constants.TODO_CACHE_PREFIX)),
+        () -> assertEquals(List.of(7L), ids.get(Constants.MEMBER_CACHE_PREFIX))
+    );
+  }
+}
@@ -0,0 +1,218 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BpCacheAspectTest {
+
+  private static final String CACHE_NAME = "sample";
+  private static final String GENERATION_KEY = "BP:samples:generation";
+
+  private final FakeRedisComponent redisComponent = new FakeRedisComponent();
+  private final MockEnvironment environment = new MockEnvironment();
+
+  @Order(1)
+  @DisplayName("SpEL 키와 애너테이션에 선언된 캐시 정책으로 캐시를 조회")
+  @Test
+  void testCacheable() {
+
+    // Given
+    SampleService sampleService = proxy();
+
+    // When
+    String value = sampleService.getSample(1L);
+
+    // Then
+    CacheOptions cacheOptions = redisComponent.cacheOptions;
+    log.debug("cacheOptions : {}", cacheOptions);
+    assertAll(
+        () -> assertEquals("sample-1", value),
+        () -> assertEquals(List.of("BP:sample:1"), redisComponent.cacheKeys),
+        () -> assertEquals(Duration.ofMinutes(5), cacheOptions.getTtl()),
+        () -> assertTrue(cacheOptions.isRefreshAhead()),
+        () -> assertNull(cacheOptions.getNegativeTtl()),
+        () -> assertNull(cacheOptions.getFormat())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("redis.cache.specs 설정이 있으면 애너테이션 값보다 우선 적용")
+  @Test
+  void testCacheableWithSpec() {
+
+    // Given
+    environment.setProperty("redis.cache.specs.sample.ttl", "30s");
+    environment.setProperty("redis.cache.specs.sample.negative-ttl", "10s");
+    environment.setProperty("redis.cache.specs.sample.codec", "smile");
+    SampleService sampleService = proxy();
+
+    // When
+    sampleService.getSample(1L);
+
+    // Then
+    CacheOptions cacheOptions = redisComponent.cacheOptions;
+    assertAll(
+        () -> assertEquals(Duration.ofSeconds(30), cacheOptions.getTtl()),
+        () -> assertTrue(cacheOptions.isRefreshAhead()),
+        () -> assertEquals(Duration.ofSeconds(10), cacheOptions.getNegativeTtl()),
+        () -> assertEquals(CacheValueCodec.Format.SMILE, cacheOptions.getFormat())
+    );
+  }
+
+  @Order(3)
+  @DisplayName("메서드가 정상적으로 반환되면 반환 값으로 만든 키와 세대 번호를 무효화")
+  @Test
+  void testCacheEvict() {
+
+    // Given
+    SampleService sampleService = proxy();
+
+    // When
+    sampleService.updateSample(2L);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(List.of("BP:sample:2")), redisComponent.unlinked),
+        () -> assertEquals(List.of(List.of(GENERATION_KEY)), redisComponent.incremented)
+    );
+  }
+
+  @Order(4)
+  @DisplayName("응답 캐시 무효화가 설정되면 같은 키의 응답 캐시도 함께 무효화")
+  @Test
+  void testCacheEvictWithResponse() {
+
+    // Given
+    SampleService sampleService = proxy();
+
+    // When
+    sampleService.deleteSample(3L);
+
+    // Then
+    assertEquals(List.of(List.of("BP:sample:3", "BP:response:sample:3")),
+        redisComponent.unlinked);
+  }
+
+  @Order(5)
+  @DisplayName("필드 표현식으로 만든 필드만 Hash 캐시에 덮어쓰고, 응답 캐시와 세대 번호는 무효화")
+  @Test
+  void testCachePut() {
+
+    // Given
+    SampleService sampleService = proxy();
+
+    // When
+    sampleService.completeSample(4L, true);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(Map.entry("BP:sample:4", Map.of("completed", true))),
+            redisComponent.updated),
+        () -> assertEquals(List.of(List.of("BP:response:sample:4")), redisComponent.unlinked),
+        () -> assertEquals(List.of(List.of(GENERATION_KEY)), redisComponent.incremented)
+    );
+  }
+
+  private SampleService proxy() {
+    CacheInvalidator cacheInvalidator = new CacheInvalidator(redisComponent,
+        CacheTestFixtures.disabledLocalCache(), CacheTestFixtures.simpleCacheMetrics(),
+        Runnable::run, CacheTestFixtures.recordingScheduler(new ArrayList<>()), 100, 10_000, 5,
+        Duration.ofMillis(100));
+    AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAspect(new BpCacheAspect(redisComponent, cacheInvalidator,
+        new CacheSpecResolver(environment)));
+    return proxyFactory.getProxy();
+  }
+
+  /**
+   * 캐시 애너테이션이 선언된 서비스
+   */
+  static class SampleService {
+
+    @BpCacheable(cacheName = CACHE_NAME, key = "#id", ttl = "5m", refreshAhead = true)
+    public String getSample(Long id) {
+      return "sample-" + id;
+    }
+
+    @BpCacheEvict(cacheName = CACHE_NAME, key = "#result", generations = GENERATION_KEY)
+    public Long updateSample(Long id) {
+      return id;
+    }
+
+    @BpCacheEvict(cacheName = CACHE_NAME, key = "#id", response = true)
+    public Long deleteSample(Long id) {
+      return id;
+    }
+
+    @BpCachePut(cacheName = CACHE_NAME, key = "#id", fields = "{completed: #completed}",
+        generations = GENERATION_KEY, response = true)
+    public void completeSample(Long id, Boolean completed) {
+      // 필드 덮어쓰기 대상 메서드
+    }
+  }
+
+  /**
+   * 캐시 조회 및 무효화 요청을 기록하는 RedisComponent
+   */
+  private static class FakeRedisComponent extends RedisComponent {
+
+    private final List<String> cacheKeys = new ArrayList<>();
+    private final List<List<String>> unlinked = new ArrayList<>();
+    private final List<List<String>> incremented = new ArrayList<>();
+    private final List<Map.Entry<String, Object>> updated = new ArrayList<>();
+    private CacheOptions cacheOptions;
+
+    FakeRedisComponent() {
+      super(null, null, null, null, null, null, null, null, null, null, null, null, null,
+          null, null, null);
+    }
+
+    @Override
+    public <T> T getCacheOrDefault(String cacheKey, TypeReference<T> typeReference,
+        Supplier<T> dbCallback, CacheOptions cacheOptions) {
+      this.cacheKeys.add(cacheKey);
+      this.cacheOptions = cacheOptions;
+      return dbCallback.get();
+    }
+
+    @Override
+    public boolean unlinkKeys(Collection<String> keys) {
+      unlinked.add(new ArrayList<>(keys));
+      return true;
+    }
+
+    @Override
+    public boolean updateHashFields(String cacheKey, Object fields) {
+      updated.add(Map.entry(cacheKey, fields));
+      return true;
+    }
+
+    @Override
+    public boolean incrementGenerations(Collection<String> keys) {
+      incremented.add(new ArrayList<>(keys));
+      return true;
+    }
+  }
+}
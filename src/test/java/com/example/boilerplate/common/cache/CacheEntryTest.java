@@ -0,0 +1,71 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheEntryTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+
+  @Order(1)
+  @DisplayName("논리적 만료 시각이 지난 엔트리는 항상 갱신")
+  @Test
+  void testRefreshWhenExpired() {
+
+    // Given
+    CacheEntry<String> cacheEntry = CacheEntry.of("value", NOW - 1, 10);
+
+    // When
+    boolean shouldRefresh = cacheEntry.shouldRefresh(NOW, 1.0);
+
+    // Then
+    assertTrue(shouldRefresh);
+  }
+
+  @Order(2)
+  @DisplayName("만료 시각까지 충분히 남은 엔트리는 갱신하지 않음")
+  @Test
+  void testNoRefreshWhenFresh() {
+
+    // Given
+    CacheEntry<String> cacheEntry = CacheEntry.of("value", NOW + Duration.ofHours(1).toMillis(), 1);
+
+    // When
+    boolean shouldRefresh = cacheEntry.shouldRefresh(NOW, 1.0);
+
+    // Then
+    assertFalse(shouldRefresh);
+  }
+
+  @Order(3)
+  @DisplayName("무작위 비율이 적용된 만료 시간은 지정된 범위 내에 존재")
+  @RepeatedTest(20)
+  void testJitteredTtl() {
+
+    // Given
+    Duration ttl = Duration.ofMinutes(10);
+    CacheOptions cacheOptions = CacheOptions.builder().ttl(ttl).jitter(0.1).build();
+
+    // When
+    Duration jitteredTtl = cacheOptions.jitteredTtl();
+
+    // Then
+    log.debug("jitteredTtl : {}", jitteredTtl);
+    assertAll(
+        () -> assertTrue(jitteredTtl.compareTo(ttl) >= 0),
+        () -> assertTrue(jitteredTtl.compareTo(ttl.plus(Duration.ofMinutes(1))) <= 0)
+    );
+  }
+}
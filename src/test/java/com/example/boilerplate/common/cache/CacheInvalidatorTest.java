@@ -0,0 +1,295 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.component.RedisComponent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheInvalidatorTest {
+
+  private static final String TODO_KEY = "bp:todo:1";
+  private static final String OTHER_TODO_KEY = "bp:todo:2";
+  private static final String GENERATION_KEY = "bp:todos:generation";
+  private static final String INDEX_KEY = "bp:todos:member:1";
+  private static final int MAX_RETRIES = 3;
+
+  private final FakeRedisComponent redisComponent = new FakeRedisComponent();
+  private final List<Runnable> tasks = new ArrayList<>();
+  private final List<Runnable> retries = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Order(1)
+  @DisplayName("대기 중인 중복 키는 합쳐서 하나의 배치로 무효화")
+  @Test
+  void testCoalesceDuplicateKeys() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(10_000);
+
+    // When
+    cacheInvalidator.evict(TODO_KEY, OTHER_TODO_KEY);
+    cacheInvalidator.evict(TODO_KEY);
+    cacheInvalidator.evictGeneration(GENERATION_KEY);
+    tasks.forEach(Runnable::run);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, tasks.size()),
+        () -> assertEquals(List.of(List.of(TODO_KEY, OTHER_TODO_KEY)), redisComponent.unlinked),
+        () -> assertEquals(List.of(List.of(GENERATION_KEY)), redisComponent.incremented),
+        () -> assertEquals(1, cacheInvalidator.getCoalescedCount()),
+        () -> assertEquals(3, cacheInvalidator.getInvalidatedCount()),
+        () -> assertEquals(0, cacheInvalidator.getPendingCount())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("트랜잭션 안에서 요청된 무효화는 커밋된 후에만 실행")
+  @Test
+  void testEvictAfterCommit() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(10_000);
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    cacheInvalidator.evict(TODO_KEY);
+    int pendingBeforeCommit = cacheInvalidator.getPendingCount();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    tasks.forEach(Runnable::run);
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, pendingBeforeCommit),
+        () -> assertEquals(List.of(List.of(TODO_KEY)), redisComponent.unlinked)
+    );
+  }
+
+  @Order(3)
+  @DisplayName("트랜잭션이 롤백되면 요청된 무효화를 실행하지 않음")
+  @Test
+  void testDiscardOnRollback() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(10_000);
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    cacheInvalidator.evict(TODO_KEY);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    tasks.forEach(Runnable::run);
+
+    // Then
+    assertAll(
+        () -> assertTrue(tasks.isEmpty()),
+        () -> assertTrue(redisComponent.unlinked.isEmpty()),
+        () -> assertEquals(0, cacheInvalidator.getRequestedCount())
+    );
+  }
+
+  @Order(4)
+  @DisplayName("대기 중인 키가 최대 개수를 넘으면 호출한 스레드에서 직접 무효화")
+  @Test
+  void testInlineWhenPendingFull() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(1);
+    cacheInvalidator.evict(TODO_KEY);
+
+    // When
+    cacheInvalidator.evict(OTHER_TODO_KEY);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(List.of(OTHER_TODO_KEY)), redisComponent.unlinked),
+        () -> assertEquals(1, cacheInvalidator.getInlineCount()),
+        () -> assertEquals(1, cacheInvalidator.getPendingCount())
+    );
+  }
+
+  @Order(5)
+  @DisplayName("인덱스 변경은 커밋 이후에 전송하고, 전송에 실패하면 인덱스를 무효화")
+  @Test
+  void testIndexMemberAfterCommit() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(10_000);
+    TransactionSynchronizationManager.initSynchronization();
+    redisComponent.indexAvailable = false;
+
+    // When
+    cacheInvalidator.addIndexMember(INDEX_KEY, 3L);
+    int indexedBeforeCommit = redisComponent.indexed.size();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    tasks.forEach(Runnable::run);
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, indexedBeforeCommit),
+        () -> assertEquals(List.of("add:" + INDEX_KEY + ":3"), redisComponent.indexed),
+        () -> assertEquals(List.of(List.of(INDEX_KEY)), redisComponent.unlinked)
+    );
+  }
+
+  @Order(6)
+  @DisplayName("전송에 실패한 키는 지연 후 다시 대기 목록에 추가하여 재전송")
+  @Test
+  void testRetryFailedKeys() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(10_000);
+    redisComponent.unlinkAvailable = false;
+    cacheInvalidator.evict(TODO_KEY);
+    runTasks();
+
+    // When
+    redisComponent.unlinkAvailable = true;
+    int pendingBeforeRetry = cacheInvalidator.getPendingCount();
+    runRetries();
+    runTasks();
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, pendingBeforeRetry),
+        () -> assertEquals(List.of(List.of(TODO_KEY), List.of(TODO_KEY)), redisComponent.unlinked),
+        () -> assertEquals(1, cacheInvalidator.getFailedCount()),
+        () -> assertEquals(1, cacheInvalidator.getRetriedCount()),
+        () -> assertEquals(1, cacheInvalidator.getInvalidatedCount()),
+        () -> assertEquals(0, cacheInvalidator.getDroppedCount()),
+        () -> assertEquals(0, cacheInvalidator.getPendingCount())
+    );
+  }
+
+  @Order(7)
+  @DisplayName("최대 재시도 횟수를 넘으면 무효화를 포기하고 포기한 키의 수를 기록")
+  @Test
+  void testDropAfterMaxRetries() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(10_000);
+    redisComponent.generationAvailable = false;
+    cacheInvalidator.evictGeneration(GENERATION_KEY);
+
+    // When
+    runTasks();
+    for (int i = 0; i < MAX_RETRIES; i++) {
+      runRetries();
+      runTasks();
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(MAX_RETRIES + 1, redisComponent.incremented.size()),
+        () -> assertEquals(MAX_RETRIES + 1, cacheInvalidator.getFailedCount()),
+        () -> assertEquals(MAX_RETRIES, cacheInvalidator.getRetriedCount()),
+        () -> assertEquals(1, cacheInvalidator.getDroppedCount()),
+        () -> assertTrue(retries.isEmpty()),
+        () -> assertEquals(0, cacheInvalidator.getPendingCount())
+    );
+  }
+
+  @Order(8)
+  @DisplayName("직접 무효화에 실패한 키도 지연 후 대기 목록에 추가하여 재전송")
+  @Test
+  void testRetryInlineFailure() {
+
+    // Given
+    CacheInvalidator cacheInvalidator = cacheInvalidator(1);
+    cacheInvalidator.evict(TODO_KEY);
+    redisComponent.unlinkAvailable = false;
+    cacheInvalidator.evict(OTHER_TODO_KEY);
+
+    // When
+    redisComponent.unlinkAvailable = true;
+    runRetries();
+    runTasks();
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(List.of(OTHER_TODO_KEY), List.of(TODO_KEY, OTHER_TODO_KEY)),
+            redisComponent.unlinked),
+        () -> assertEquals(1, cacheInvalidator.getInlineCount()),
+        () -> assertEquals(1, cacheInvalidator.getRetriedCount()),
+        () -> assertEquals(2, cacheInvalidator.getInvalidatedCount()),
+        () -> assertEquals(0, cacheInvalidator.getPendingCount())
+    );
+  }
+
+  private void runTasks() {
+    List<Runnable> scheduled = new ArrayList<>(tasks);
+    tasks.clear();
+    scheduled.forEach(Runnable::run);
+  }
+
+  private void runRetries() {
+    List<Runnable> scheduled = new ArrayList<>(retries);
+    retries.clear();
+    scheduled.forEach(Runnable::run);
+  }
+
+  private CacheInvalidator cacheInvalidator(int maxPending) {
+    return new CacheInvalidator(redisComponent, CacheTestFixtures.disabledLocalCache(),
+        CacheTestFixtures.simpleCacheMetrics(), tasks::add,
+        CacheTestFixtures.recordingScheduler(retries), 100, maxPending, MAX_RETRIES,
+        Duration.ofMillis(100));
+  }
+
+  /**
+   * 전송된 키를 기록하는 RedisComponent
+   */
+  private static class FakeRedisComponent extends RedisComponent {
+
+    private final List<List<String>> unlinked = new ArrayList<>();
+    private final List<List<String>> incremented = new ArrayList<>();
+    private final List<String> indexed = new ArrayList<>();
+    private boolean indexAvailable = true;
+    private boolean unlinkAvailable = true;
+    private boolean generationAvailable = true;
+
+    FakeRedisComponent() {
+      super(null, null, null, null, null, null, null, null, null, null, null, null, null,
+          null, null, null);
+    }
+
+    @Override
+    public boolean unlinkKeys(Collection<String> keys) {
+      unlinked.add(new ArrayList<>(keys));
+      return unlinkAvailable;
+    }
+
+    @Override
+    public boolean incrementGenerations(Collection<String> keys) {
+      incremented.add(new ArrayList<>(keys));
+      return generationAvailable;
+    }
+
+    @Override
+    public boolean addIndexMember(String indexKey, long id) {
+      indexed.add("add:" + indexKey + ":" + id);
+      return indexAvailable;
+    }
+  }
+}
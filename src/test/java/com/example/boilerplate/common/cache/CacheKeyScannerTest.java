@@ -0,0 +1,95 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.boilerplate.common.exception.ApiException;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.http.HttpStatus;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheKeyScannerTest {
+
+  @Order(1)
+  @DisplayName("패턴은 BP:로 시작해야 하며, 삭제 패턴은 와일드카드가 없는 네임스페이스를 포함")
+  @Test
+  void testValidatePattern() {
+
+    // Given
+    String nonPrefixedPattern = "*";
+    String rootPattern = "BP:*";
+    String wildcardNamespacePattern = "BP:to*:1";
+
+    // When
+    ApiException nonPrefixedException = assertThrows(ApiException.class,
+        () -> CacheKeyScanner.validatePattern(nonPrefixedPattern, false));
+    ApiException rootException = assertThrows(ApiException.class,
+        () -> CacheKeyScanner.validatePattern(rootPattern, true));
+    ApiException wildcardNamespaceException = assertThrows(ApiException.class,
+        () -> CacheKeyScanner.validatePattern(wildcardNamespacePattern, true));
+
+    // Then
+    assertAll(
+        () -> assertDoesNotThrow(() -> CacheKeyScanner.validatePattern(rootPattern, false)),
+        () -> assertDoesNotThrow(() -> CacheKeyScanner.validatePattern("BP:todo:*", true)),
+        () -> assertDoesNotThrow(
+            () -> CacheKeyScanner.validatePattern("BP:response:todo:*", true)),
+        () -> assertEquals(HttpStatus.BAD_REQUEST, nonPrefixedException.getHttpStatus()),
+        () -> assertEquals(HttpStatus.BAD_REQUEST, rootException.getHttpStatus()),
+        () -> assertEquals(HttpStatus.BAD_REQUEST, wildcardNamespaceException.getHttpStatus())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("남은 만료 시간은 가장 작은 상한의 구간으로, 만료 시간이 없으면 persistent로 분류")
+  @Test
+  void testTtlBucket() {
+
+    // Given
+    long oneMinute = Duration.ofMinutes(1).toMillis();
+    long thirtyMinutes = Duration.ofMinutes(30).toMillis();
+    long twoHours = Duration.ofHours(2).toMillis();
+    long oneDay = Duration.ofDays(1).toMillis();
+
+    // When
+    // Then
+    assertAll(
+        () -> assertEquals("persistent", CacheKeyScanner.ttlBucket(-1)),
+        () -> assertEquals("<1m", CacheKeyScanner.ttlBucket(0)),
+        () -> assertEquals("<10m", CacheKeyScanner.ttlBucket(oneMinute)),
+        () -> assertEquals("<1h", CacheKeyScanner.ttlBucket(thirtyMinutes)),
+        () -> assertEquals("<1d", CacheKeyScanner.ttlBucket(twoHours)),
+        () -> assertEquals(">=1d", CacheKeyScanner.ttlBucket(oneDay))
+    );
+  }
+
+  @Order(3)
+  @DisplayName("네임스페이스 전체 메모리 사용량은 표본의 평균으로 추정")
+  @Test
+  void testEstimatedBytes() {
+
+    // Given
+    CacheKeyScanner.PrefixStats prefixStats =
+        new CacheKeyScanner.PrefixStats("BP:todo:", 1_000, 100, 12_800, Map.of("<1h", 100L));
+    CacheKeyScanner.PrefixStats emptyStats =
+        new CacheKeyScanner.PrefixStats("BP:todo:", 1_000, 0, 0, Map.of());
+
+    // When
+    long estimatedBytes = prefixStats.estimatedBytes();
+    long emptyEstimatedBytes = emptyStats.estimatedBytes();
+
+    // Then
+    assertAll(
+        () -> assertEquals(128_000, estimatedBytes),
+        () -> assertEquals(0, emptyEstimatedBytes)
+    );
+  }
+}
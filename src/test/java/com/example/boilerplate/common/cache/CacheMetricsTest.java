@@ -0,0 +1,123 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.boilerplate.common.cache.CacheMetrics.GetResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheMetricsTest {
+
+  private static final String TODO_KEY = "BP:todo:1";
+  private static final String TODO_NAMESPACE = "BP:todo:";
+  private static final String TAG_NAMESPACE = "namespace";
+  private static final String GET = "get";
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CacheMetrics cacheMetrics = new CacheMetrics(meterRegistry, true);
+
+  @Order(1)
+  @DisplayName("캐시 키에서 접두사 다음의 첫 번째 구분자까지를 네임스페이스로 추출")
+  @Test
+  void testNamespace() {
+
+    // Given
+    String listKey = "BP:todos:list:1:abc";
+
+    // When
+    // Then
+    assertAll(
+        () -> assertEquals(TODO_NAMESPACE, CacheMetrics.namespace(TODO_KEY)),
+        () -> assertEquals("BP:todos:", CacheMetrics.namespace(listKey)),
+        () -> assertEquals("other", CacheMetrics.namespace("BP:todos")),
+        () -> assertEquals("other", CacheMetrics.namespace("session:1"))
+    );
+  }
+
+  @Order(2)
+  @DisplayName("조회 결과를 네임스페이스와 결과 태그로 집계")
+  @Test
+  void testRecordGet() {
+
+    // Given
+    String otherKey = "BP:todo:2";
+
+    // When
+    cacheMetrics.recordGet(TODO_KEY, GetResult.HIT);
+    cacheMetrics.recordGet(otherKey, GetResult.HIT);
+    cacheMetrics.recordGet(TODO_KEY, GetResult.MISS);
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, getCount("hit")),
+        () -> assertEquals(1, getCount("miss"))
+    );
+  }
+
+  @Order(3)
+  @DisplayName("Redis 명령에서 예외가 발생하면 응답 시간과 오류 횟수를 기록하고 예외를 전달")
+  @Test
+  void testRecordRedisError() {
+
+    // Given
+    IllegalStateException failure = new IllegalStateException("redis unavailable");
+
+    // When
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> cacheMetrics.recordRedis(GET, TODO_KEY, () -> {
+          throw failure;
+        }));
+
+    // Then
+    assertAll(
+        () -> assertEquals(failure, exception),
+        () -> assertEquals(1, errorCount()),
+        () -> assertEquals(1, failureLatencyCount())
+    );
+  }
+
+  @Order(4)
+  @DisplayName("비동기 Redis 명령은 Future가 완료되는 시점에 응답 시간과 오류 횟수를 기록")
+  @Test
+  void testRecordRedisAsync() {
+
+    // Given
+    CompletableFuture<String> command = new CompletableFuture<>();
+    cacheMetrics.recordRedisAsync(GET, TODO_KEY, () -> command);
+    long beforeComplete = meterRegistry.find(CacheMetrics.ERRORS).counters().size();
+
+    // When
+    command.completeExceptionally(new IllegalStateException("redis unavailable"));
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, beforeComplete),
+        () -> assertEquals(1, errorCount()),
+        () -> assertEquals(1, failureLatencyCount())
+    );
+  }
+
+  private double getCount(String result) {
+    return meterRegistry.get(CacheMetrics.GETS)
+        .tags(TAG_NAMESPACE, TODO_NAMESPACE, "result", result).counter().count();
+  }
+
+  private double errorCount() {
+    return meterRegistry.get(CacheMetrics.ERRORS)
+        .tags("operation", GET, TAG_NAMESPACE, TODO_NAMESPACE).counter().count();
+  }
+
+  private long failureLatencyCount() {
+    return meterRegistry.get(CacheMetrics.REDIS_LATENCY).tags("outcome", "failure").timer()
+        .count();
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.type.ApiStatus;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.mock.env.MockEnvironment;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheSpecResolverTest {
+
+  private static final String CACHE_NAME = "sample";
+
+  private final MockEnvironment environment = new MockEnvironment();
+  private final CacheSpecResolver cacheSpecResolver = new CacheSpecResolver(environment);
+
+  @Order(1)
+  @DisplayName("resolve_클래스의 @BpCacheable 메서드를 찾아 redis.cache.specs 설정을 적용한 캐시 정책을 생성")
+  @Test
+  void testResolveByCacheName() throws NoSuchMethodException {
+
+    // Given
+    environment.setProperty("redis.cache.specs.sample.ttl", "30s");
+    BpCacheable bpCacheable = SampleService.class.getMethod("getSample", Long.class)
+        .getAnnotation(BpCacheable.class);
+
+    // When
+    CacheOptions cacheOptions = cacheSpecResolver.resolve(SampleService.class, CACHE_NAME);
+
+    // Then
+    assertAll(
+        () -> assertEquals(Duration.ofSeconds(30), cacheOptions.getTtl()),
+        () -> assertTrue(cacheOptions.isHash()),
+        () -> assertEquals(Duration.ofSeconds(10), cacheOptions.getNegativeTtl()),
+        () -> assertEquals(ApiStatus.TODO_NOT_FOUND, cacheOptions.getNotFoundStatus()),
+        () -> assertSame(cacheOptions, cacheSpecResolver.resolve(bpCacheable))
+    );
+  }
+
+  @Order(2)
+  @DisplayName("resolve_캐시 이름이 같은 @BpCacheable 메서드가 없으면 IllegalStateException 발생")
+  @Test
+  void testResolveUnknownCacheName() {
+
+    // When
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> cacheSpecResolver.resolve(SampleService.class, "unknown"));
+
+    // Then
+    assertTrue(exception.getMessage().contains("unknown"));
+  }
+
+  /**
+   * 캐시 애너테이션이 선언된 서비스
+   */
+  static class SampleService {
+
+    @BpCacheable(cacheName = CACHE_NAME, key = "#id", ttl = "5m", hash = true,
+        negativeTtl = "10s", notFoundStatus = ApiStatus.TODO_NOT_FOUND)
+    public String getSample(Long id) {
+      return "sample-" + id;
+    }
+  }
+}
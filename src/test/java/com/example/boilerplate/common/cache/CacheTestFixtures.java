@@ -0,0 +1,57 @@
+package com.example.boilerplate.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 캐시 단위 테스트에서 공통으로 사용하는 객체 생성
+ */
+final class CacheTestFixtures {
+
+  private CacheTestFixtures() {
+  }
+
+  /**
+   * 모든 계층을 사용하지 않는 로컬 캐시를 생성
+   *
+   * @return 항상 캐시가 없는 것으로 동작하는 LocalCache
+   */
+  static LocalCache disabledLocalCache() {
+    return new LocalCache(
+        new NearCache(false, 100, Duration.ofSeconds(1)),
+        new HotKeyCache(false, 1, 1, Duration.ofSeconds(10), 1, Duration.ofSeconds(1), 16),
+        new OffHeapCache(null, false, DataSize.ofKilobytes(64), DataSize.ofKilobytes(64),
+            List.of(), Duration.ofSeconds(1)));
+  }
+
+  /**
+   * 지표를 메모리에 기록하는 캐시 지표를 생성
+   *
+   * @return SimpleMeterRegistry에 기록하는 CacheMetrics
+   */
+  static CacheMetrics simpleCacheMetrics() {
+    return new CacheMetrics(new SimpleMeterRegistry(), true);
+  }
+
+  /**
+   * 예약된 작업을 실행하지 않고 목록에 추가하는 TaskScheduler를 생성
+   *
+   * @param tasks 예약된 작업을 추가할 목록
+   * @return 작업을 목록에 추가하는 TaskScheduler
+   */
+  static TaskScheduler recordingScheduler(List<Runnable> tasks) {
+    return new ThreadPoolTaskScheduler() {
+      @Override
+      public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        tasks.add(task);
+        return null;
+      }
+    };
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.boilerplate.common.exception.ApiException;
+import com.example.boilerplate.common.type.ApiStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.http.HttpStatus;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheTombstoneTest {
+
+  @Order(1)
+  @DisplayName("저장된 상태 코드로 404 예외를 생성")
+  @Test
+  void testToException() {
+
+    // Given
+    CacheTombstone cacheTombstone = CacheTombstone.of(ApiStatus.TODO_NOT_FOUND.getCode());
+
+    // When
+    ApiException exception = cacheTombstone.toException();
+
+    // Then
+    assertAll(
+        () -> assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus()),
+        () -> assertEquals(ApiStatus.TODO_NOT_FOUND, exception.getStatus())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("알 수 없는 상태 코드는 NOT_FOUND로 생성")
+  @Test
+  void testToExceptionWithUnknownCode() {
+
+    // Given
+    CacheTombstone cacheTombstone = CacheTombstone.of("999");
+
+    // When
+    ApiException exception = cacheTombstone.toException();
+
+    // Then
+    assertEquals(ApiStatus.NOT_FOUND, exception.getStatus());
+  }
+}
@@ -0,0 +1,243 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.CacheValueCodec.Format;
+import com.example.boilerplate.todo.dto.TodoDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheValueCodecTest {
+
+  private static final String TITLE = "Spring Security 학습";
+  private static final String DESCRIPTION = "JWT 기반 인증 및 권한 부여 학습하기";
+  private static final String NOT_FOUND_CODE = "808";
+  private static final String NAMESPACE = "BP:todo:";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CacheMetrics cacheMetrics = new CacheMetrics(meterRegistry, true);
+
+  @Order(1)
+  @DisplayName("헤더가 없는 기존 JSON 값은 그대로 조회")
+  @Test
+  void testDeserializeLegacyJson() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.SMILE, 1024);
+    byte[] legacyBytes = RedisSerializer.json().serialize(todo(1L));
+
+    // When
+    Object value = cacheValueCodec.deserialize(legacyBytes);
+
+    // Then
+    log.debug("value : {}", value);
+    assertInstanceOf(TodoDto.Response.class, value);
+  }
+
+  @Order(2)
+  @DisplayName("JSON 형식이면서 압축하지 않는 값은 기존 형식과 동일하게 저장")
+  @Test
+  void testSerializeJsonWithoutHeader() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.JSON, 0);
+
+    // When
+    byte[] bytes = cacheValueCodec.serialize(todo(1L));
+
+    // Then
+    assertArrayEquals(RedisSerializer.json().serialize(todo(1L)), bytes);
+  }
+
+  @Order(3)
+  @DisplayName("Smile 형식으로 저장한 값은 타입 정보를 유지하여 조회")
+  @Test
+  void testSmileRoundTrip() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.SMILE, 0);
+
+    // When
+    byte[] bytes = cacheValueCodec.serialize(CacheTombstone.of(NOT_FOUND_CODE));
+    Object value = cacheValueCodec.deserialize(bytes);
+
+    // Then
+    log.debug("value : {}", value);
+    assertAll(
+        () -> assertEquals(CacheValueCodec.MAGIC, bytes[0]),
+        () -> assertEquals(NOT_FOUND_CODE,
+            assertInstanceOf(CacheTombstone.class, value).getStatusCode())
+    );
+  }
+
+  @Order(4)
+  @DisplayName("기준 크기 이상의 값은 압축하여 저장하고 원본으로 복원")
+  @Test
+  void testCompressionRoundTrip() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.SMILE, 1024);
+    List<TodoDto.Response> todoList = new ArrayList<>(
+        LongStream.rangeClosed(1, 100).mapToObj(this::todo).toList());
+
+    // When
+    byte[] bytes = cacheValueCodec.serialize(todoList);
+    List<?> value = assertInstanceOf(List.class, cacheValueCodec.decode(bytes,
+        new TypeReference<List<TodoDto.Response>>() {
+        }));
+
+    // Then
+    log.debug("bytes.length : {}", bytes.length);
+    assertAll(
+        () -> assertTrue(bytes.length < RedisSerializer.json().serialize(todoList).length / 4),
+        () -> assertEquals(100, value.size()),
+        () -> assertEquals(100L,
+            assertInstanceOf(TodoDto.Response.class, value.get(99)).getId())
+    );
+  }
+
+  @Order(5)
+  @DisplayName("이미 반환 타입인 값은 추가 변환 없이 그대로 반환")
+  @Test
+  void testConvertWithoutCopy() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.SMILE, 1024);
+    TodoDto.Response todo = todo(1L);
+
+    // When
+    TodoDto.Response value = cacheValueCodec.convert(todo, new TypeReference<>() {
+    });
+
+    // Then
+    assertSame(todo, value);
+  }
+
+  @Order(6)
+  @DisplayName("캐시 별로 지정한 직렬화 형식으로 저장하고 네임스페이스 별 저장 크기를 기록")
+  @Test
+  void testSerializeWithFormat() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.JSON, 0);
+
+    // When
+    byte[] bytes = cacheValueCodec.serialize(
+        cacheValueCodec.wrap(todo(1L), Format.SMILE, NAMESPACE));
+    Object value = cacheValueCodec.deserialize(bytes);
+
+    // Then
+    DistributionSummary payloadSize = meterRegistry.get(CacheMetrics.PAYLOAD_SIZE)
+        .tag("namespace", NAMESPACE)
+        .summary();
+    assertAll(
+        () -> assertEquals(CacheValueCodec.MAGIC, bytes[0]),
+        () -> assertInstanceOf(TodoDto.Response.class, value),
+        () -> assertEquals(1, payloadSize.count()),
+        () -> assertEquals(bytes.length, payloadSize.totalAmount())
+    );
+  }
+
+  @Order(7)
+  @DisplayName("헤더의 형식, 압축 방식, 길이가 올바르지 않으면 SerializationException 발생")
+  @Test
+  void testDeserializeInvalidHeader() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.SMILE, 0);
+    byte[] unknownFormat = {CacheValueCodec.MAGIC, CacheValueCodec.VERSION, 9, 0, 1};
+    byte[] unknownCompression = {CacheValueCodec.MAGIC, CacheValueCodec.VERSION, 0, -1, 1};
+    byte[] truncatedHeader = {CacheValueCodec.MAGIC};
+    byte[] truncatedLength = {CacheValueCodec.MAGIC, CacheValueCodec.VERSION, 0, 1, 0};
+
+    // When
+    SerializationException formatException = assertThrows(SerializationException.class,
+        () -> cacheValueCodec.deserialize(unknownFormat));
+    SerializationException compressionException = assertThrows(SerializationException.class,
+        () -> cacheValueCodec.deserialize(unknownCompression));
+    SerializationException headerException = assertThrows(SerializationException.class,
+        () -> cacheValueCodec.deserialize(truncatedHeader));
+    SerializationException lengthException = assertThrows(SerializationException.class,
+        () -> cacheValueCodec.deserialize(truncatedLength));
+
+    // Then
+    log.debug("formatException : {}", formatException.getMessage());
+    assertAll(
+        () -> assertEquals("Unsupported cache value format: 9", formatException.getMessage()),
+        () -> assertEquals("Unsupported cache value compression: -1",
+            compressionException.getMessage()),
+        () -> assertEquals("Truncated cache value header: 1", headerException.getMessage()),
+        () -> assertEquals("Truncated compressed cache value: 5", lengthException.getMessage())
+    );
+  }
+
+  @Order(8)
+  @DisplayName("바이트를 반환 타입으로 바로 역직렬화하고, 반환 타입이 아닌 Tombstone은 그대로 반환")
+  @Test
+  void testDecode() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = codec(Format.SMILE, 0);
+    TypeReference<List<TodoDto.Response>> typeReference = new TypeReference<>() {
+    };
+    byte[] smileBytes = cacheValueCodec.serialize(new ArrayList<>(List.of(todo(1L))));
+    byte[] legacyBytes = RedisSerializer.json().serialize(new ArrayList<>(List.of(todo(2L))));
+    byte[] tombstoneBytes = cacheValueCodec.serialize(CacheTombstone.of(NOT_FOUND_CODE));
+
+    // When
+    Object smileValue = cacheValueCodec.decode(smileBytes, typeReference);
+    Object legacyValue = cacheValueCodec.decode(legacyBytes, typeReference);
+    Object tombstone = cacheValueCodec.decode(tombstoneBytes, typeReference);
+
+    // Then
+    log.debug("smileValue : {}, legacyValue : {}", smileValue, legacyValue);
+    assertAll(
+        () -> assertEquals(1L, firstTodo(smileValue).getId()),
+        () -> assertEquals(2L, firstTodo(legacyValue).getId()),
+        () -> assertEquals(NOT_FOUND_CODE,
+            assertInstanceOf(CacheTombstone.class, tombstone).getStatusCode()),
+        () -> assertNull(cacheValueCodec.decode(null, typeReference))
+    );
+  }
+
+  private CacheValueCodec codec(Format format, int compressionThreshold) {
+    return new CacheValueCodec(objectMapper, format, compressionThreshold, cacheMetrics);
+  }
+
+  private static TodoDto.Response firstTodo(Object value) {
+    return assertInstanceOf(TodoDto.Response.class, assertInstanceOf(List.class, value).get(0));
+  }
+
+  private TodoDto.Response todo(long id) {
+    return TodoDto.Response.builder()
+        .id(id)
+        .title(TITLE)
+        .description(DESCRIPTION)
+        .completed(true)
+        .build();
+  }
+}
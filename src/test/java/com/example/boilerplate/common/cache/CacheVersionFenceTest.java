@@ -0,0 +1,104 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lettuce.core.cluster.SlotHash;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheVersionFenceTest {
+
+  private static final String KEY = "BP:todo:1";
+
+  private final CacheVersionFence cacheVersionFence =
+      new CacheVersionFence(null, true, Duration.ofSeconds(10));
+
+  @Order(1)
+  @DisplayName("버전 키는 캐시 키와 같은 클러스터 슬롯에 위치")
+  @Test
+  void testVersionKey() {
+
+    // Given
+    int slot = SlotHash.getSlot(KEY);
+
+    // When
+    String versionKey = CacheVersionFence.versionKey(KEY);
+
+    // Then
+    log.debug("versionKey : {}", versionKey);
+    assertAll(
+        () -> assertEquals("BP:version:{BP:todo:1}", versionKey),
+        () -> assertEquals(slot, SlotHash.getSlot(versionKey))
+    );
+  }
+
+  @Order(2)
+  @DisplayName("버전 비교 저장 스크립트의 인자는 버전, 값, 만료 시간(ms) 순서")
+  @Test
+  void testWriteArgs() {
+
+    // Given
+    byte[] value = "value".getBytes(StandardCharsets.UTF_8);
+
+    // When
+    byte[][] args = cacheVersionFence.writeArgs(value, Duration.ofMinutes(10), 1_000L);
+
+    // Then
+    assertAll(
+        () -> assertEquals("1000", new String(args[0], StandardCharsets.UTF_8)),
+        () -> assertArrayEquals(value, args[1]),
+        () -> assertEquals("600000", new String(args[2], StandardCharsets.UTF_8))
+    );
+  }
+
+  @Order(3)
+  @DisplayName("삭제 펜스의 버전은 삭제 시각이며 펜스 만료 시간이 함께 전달")
+  @Test
+  void testDeleteArgs() {
+
+    // Given
+    long before = System.currentTimeMillis();
+
+    // When
+    byte[][] args = cacheVersionFence.deleteArgs();
+
+    // Then
+    assertAll(
+        () -> assertTrue(Long.parseLong(new String(args[0], StandardCharsets.UTF_8)) >= before),
+        () -> assertEquals("10000", new String(args[1], StandardCharsets.UTF_8))
+    );
+  }
+
+  @Order(4)
+  @DisplayName("스크립트 결과로 저장 및 거부 횟수를 기록하고, 파이프라인의 null 결과는 무시")
+  @Test
+  void testRecordWrite() {
+
+    // Given
+    Long written = 1L;
+    Long rejected = 0L;
+
+    // When
+    cacheVersionFence.recordWrite(written);
+    cacheVersionFence.recordWrite(rejected);
+    cacheVersionFence.recordWrite(rejected);
+    cacheVersionFence.recordWrite(null);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, cacheVersionFence.getWrittenCount()),
+        () -> assertEquals(2, cacheVersionFence.getRejectedCount())
+    );
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.boilerplate.common.cache.CacheValueCodec.Format;
+import com.example.boilerplate.todo.dto.TodoDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CachedPageTest {
+
+  @Order(1)
+  @DisplayName("캐시에 저장한 페이지는 요청한 페이지 정보로 다시 생성")
+  @Test
+  void testCachedPageRoundTrip() {
+
+    // Given
+    CacheValueCodec cacheValueCodec = new CacheValueCodec(new ObjectMapper(), Format.SMILE, 0,
+        new CacheMetrics(new SimpleMeterRegistry(), false));
+    PageRequest pageRequest = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "title"));
+    Page<TodoDto.Response> page = new PageImpl<>(List.of(
+        TodoDto.Response.builder().id(1L).title("B").build(),
+        TodoDto.Response.builder().id(2L).title("A").build()), pageRequest, 5);
+
+    // When
+    byte[] bytes = cacheValueCodec.serialize(CachedPage.of(page));
+    @SuppressWarnings("unchecked")
+    CachedPage<TodoDto.Response> cachedPage = (CachedPage<TodoDto.Response>)
+        cacheValueCodec.decode(bytes, new TypeReference<CachedPage<TodoDto.Response>>() {
+        });
+    Page<TodoDto.Response> restoredPage = cachedPage.toPage(pageRequest);
+
+    // Then
+    log.debug("restoredPage : {}", restoredPage);
+    assertAll(
+        () -> assertEquals(List.of(1L, 2L),
+            restoredPage.getContent().stream().map(TodoDto.Response::getId).toList()),
+        () -> assertEquals(5, restoredPage.getTotalElements()),
+        () -> assertEquals(3, restoredPage.getTotalPages()),
+        () -> assertEquals(pageRequest.getSort(), restoredPage.getSort())
+    );
+  }
+}
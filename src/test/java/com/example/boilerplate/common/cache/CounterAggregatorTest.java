@@ -0,0 +1,146 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.CounterAggregator.AddResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CounterAggregatorTest {
+
+  private static final String KEY = "BP:counter:todo-views:1";
+  private static final String OTHER_KEY = "BP:counter:todo-views:2";
+
+  @Order(1)
+  @DisplayName("합산한 증가분을 한 번에 전송하고, 전송한 값만큼 차감")
+  @Test
+  void testFlush() {
+
+    // Given
+    CounterAggregator counterAggregator = new CounterAggregator(true, Duration.ofSeconds(1),
+        1000, 100);
+    counterAggregator.add(KEY, 1);
+    counterAggregator.add(KEY, 2);
+    counterAggregator.add(OTHER_KEY, 5);
+    Map<String, Long> sent = new HashMap<>();
+
+    // When
+    int flushedCount = counterAggregator.flush(deltas -> {
+      sent.putAll(deltas);
+      return true;
+    });
+    int emptyFlushedCount = counterAggregator.flush(deltas -> true);
+
+    // Then
+    log.debug("sent : {}", sent);
+    assertAll(
+        () -> assertEquals(2, flushedCount),
+        () -> assertEquals(Map.of(KEY, 3L, OTHER_KEY, 5L), sent),
+        () -> assertEquals(0, counterAggregator.getPendingDelta(KEY)),
+        () -> assertEquals(0, emptyFlushedCount)
+    );
+  }
+
+  @Order(2)
+  @DisplayName("전송에 실패하면 증가분을 유지")
+  @Test
+  void testFlushFailed() {
+
+    // Given
+    CounterAggregator counterAggregator = new CounterAggregator(true, Duration.ofSeconds(1),
+        1000, 100);
+    counterAggregator.add(KEY, 3);
+
+    // When
+    int flushedCount = counterAggregator.flush(deltas -> false);
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, flushedCount),
+        () -> assertEquals(3, counterAggregator.getPendingDelta(KEY)),
+        () -> assertEquals(1, counterAggregator.getFailedCount())
+    );
+  }
+
+  @Order(3)
+  @DisplayName("임계치에 도달하면 전송을 한 번만 요청")
+  @Test
+  void testFlushThreshold() {
+
+    // Given
+    CounterAggregator counterAggregator = new CounterAggregator(true, Duration.ofSeconds(1),
+        2, 100);
+
+    // When
+    AddResult first = counterAggregator.add(KEY, 1);
+    AddResult second = counterAggregator.add(KEY, 1);
+    AddResult third = counterAggregator.add(KEY, 1);
+
+    // Then
+    assertAll(
+        () -> assertEquals(AddResult.AGGREGATED, first),
+        () -> assertEquals(AddResult.FLUSH, second),
+        () -> assertEquals(AddResult.AGGREGATED, third)
+    );
+  }
+
+  @Order(4)
+  @DisplayName("최대 키 수에 도달하면 새 키는 합산하지 않고 바로 전송")
+  @Test
+  void testMaximumKeys() {
+
+    // Given
+    CounterAggregator counterAggregator = new CounterAggregator(true, Duration.ofSeconds(1),
+        1000, 1);
+    counterAggregator.add(KEY, 1);
+
+    // When
+    AddResult addResult = counterAggregator.add(OTHER_KEY, 1);
+
+    // Then
+    assertAll(
+        () -> assertEquals(AddResult.DIRECT, addResult),
+        () -> assertEquals(0, counterAggregator.getPendingDelta(OTHER_KEY)),
+        () -> assertEquals(1, counterAggregator.getDirectCount())
+    );
+  }
+
+  @Order(5)
+  @DisplayName("전송 후 증가분이 0인 키는 제거되어, 최대 키 수보다 많은 키를 차례로 합산해도 바로 전송하지 않음")
+  @Test
+  void testRemoveFlushedKeys() {
+
+    // Given
+    CounterAggregator counterAggregator = new CounterAggregator(true, Duration.ofSeconds(1),
+        1000, 2);
+    List<AddResult> addResults = new ArrayList<>();
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      addResults.add(counterAggregator.add("BP:counter:todo-views:" + i, 1));
+      counterAggregator.flush(deltas -> true);
+    }
+
+    // Then
+    log.debug("addResults : {}", addResults);
+    assertAll(
+        () -> assertTrue(addResults.stream().allMatch(AddResult.AGGREGATED::equals)),
+        () -> assertEquals(0, counterAggregator.getDirectCount()),
+        () -> assertEquals(0, counterAggregator.getKeyCount()),
+        () -> assertEquals(10, counterAggregator.getFlushedKeyCount())
+    );
+  }
+}
@@ -0,0 +1,107 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.type.ApiStatus;
+import com.example.boilerplate.todo.dto.TodoDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class HashCacheStoreTest {
+
+  private static final String TITLE = "할 일";
+  private static final TypeReference<TodoDto.Response> TODO_TYPE = new TypeReference<>() {
+  };
+
+  private final HashCacheStore hashCacheStore = new HashCacheStore(new ObjectMapper(),
+      new CacheVersionFence(null, true, Duration.ofSeconds(10)));
+
+  @Order(1)
+  @DisplayName("객체를 속성마다 하나의 JSON 필드로 저장하고, 필드로 다시 객체를 만듦")
+  @Test
+  void testEncodeAndDecode() {
+
+    // Given
+    TodoDto.Response todo = todo();
+
+    // When
+    Map<String, String> fields = hashCacheStore.encode(todo);
+    TodoDto.Response decoded = (TodoDto.Response) hashCacheStore.decode(fields, TODO_TYPE);
+
+    // Then
+    log.debug("fields : {}", fields);
+    assertAll(
+        () -> assertEquals("1", fields.get("id")),
+        () -> assertEquals("\"" + TITLE + "\"", fields.get("title")),
+        () -> assertEquals("false", fields.get("completed")),
+        () -> assertEquals(todo.getId(), decoded.getId()),
+        () -> assertEquals(todo.getTitle(), decoded.getTitle()),
+        () -> assertEquals(todo.getCompleted(), decoded.getCompleted())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("덮어쓴 필드만 바뀌고 나머지 필드는 유지")
+  @Test
+  void testEncodeFields() {
+
+    // Given
+    Map<String, String> fields = new HashMap<>(hashCacheStore.encode(todo()));
+
+    // When
+    fields.putAll(hashCacheStore.encodeFields(Map.of("completed", true)));
+    TodoDto.Response decoded = (TodoDto.Response) hashCacheStore.decode(fields, TODO_TYPE);
+
+    // Then
+    assertAll(
+        () -> assertTrue(decoded.getCompleted()),
+        () -> assertEquals(TITLE, decoded.getTitle())
+    );
+  }
+
+  @Order(3)
+  @DisplayName("Tombstone은 상태 코드 필드 하나로 저장하고, 필드가 없으면 null 반환")
+  @Test
+  void testTombstone() {
+
+    // Given
+    CacheTombstone cacheTombstone = CacheTombstone.of(ApiStatus.TODO_NOT_FOUND.getCode());
+
+    // When
+    Map<String, String> fields = hashCacheStore.encode(cacheTombstone);
+    Object decoded = hashCacheStore.decode(fields, TODO_TYPE);
+    Object empty = hashCacheStore.decode(Map.of(), TODO_TYPE);
+
+    // Then
+    assertAll(
+        () -> assertEquals(Set.of(HashCacheStore.TOMBSTONE_FIELD), fields.keySet()),
+        () -> assertEquals(ApiStatus.TODO_NOT_FOUND.getCode(),
+            assertInstanceOf(CacheTombstone.class, decoded).getStatusCode()),
+        () -> assertNull(empty)
+    );
+  }
+
+  private static TodoDto.Response todo() {
+    return TodoDto.Response.builder()
+        .id(1L)
+        .title(TITLE)
+        .completed(false)
+        .build();
+  }
+}
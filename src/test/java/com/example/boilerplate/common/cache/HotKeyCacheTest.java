@@ -0,0 +1,147 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.HotKeyCache.HotKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class HotKeyCacheTest {
+
+  private static final String HOT_KEY = "BP:todo:1";
+  private static final String COLD_KEY = "BP:todo:2";
+  private static final String VALUE = "value";
+
+  @Order(1)
+  @DisplayName("추정 빈도가 실제 빈도보다 작지 않고, 절반으로 줄이면 빈도도 절반으로 감소")
+  @Test
+  void testCountMinSketch() {
+
+    // Given
+    CountMinSketch countMinSketch = new CountMinSketch(4, 1000);
+    IntStream.range(0, 100).forEach(i -> countMinSketch.increment(HOT_KEY));
+    IntStream.range(0, 3).forEach(i -> countMinSketch.increment(COLD_KEY));
+
+    // When
+    long hotCount = countMinSketch.estimate(HOT_KEY);
+    long coldCount = countMinSketch.estimate(COLD_KEY);
+    countMinSketch.halve();
+
+    // Then
+    log.debug("hotCount : {}, coldCount : {}", hotCount, coldCount);
+    assertAll(
+        () -> assertTrue(hotCount >= 100),
+        () -> assertTrue(coldCount >= 3 && coldCount < 100),
+        () -> assertEquals(hotCount / 2, countMinSketch.estimate(HOT_KEY))
+    );
+  }
+
+  @Order(2)
+  @DisplayName("기준 이상 조회된 키만 Hot Key로 승격되어 로컬 복제본으로 응답")
+  @Test
+  void testPromoteHotKey() {
+
+    // Given
+    HotKeyCache hotKeyCache = hotKeyCache(2, Duration.ofMinutes(1));
+    IntStream.range(0, 10).forEach(i -> hotKeyCache.get(HOT_KEY));
+    hotKeyCache.get(COLD_KEY);
+
+    // When
+    hotKeyCache.put(HOT_KEY, VALUE);
+    hotKeyCache.put(COLD_KEY, VALUE);
+
+    // Then
+    List<HotKey> hotKeys = hotKeyCache.getHotKeys();
+    log.debug("hotKeys : {}", hotKeys);
+    assertAll(
+        () -> assertEquals(List.of(HOT_KEY), keys(hotKeys)),
+        () -> assertTrue(hotKeys.get(0).replicated()),
+        () -> assertEquals(VALUE, hotKeyCache.<String>get(HOT_KEY)),
+        () -> assertNull(hotKeyCache.<String>get(COLD_KEY)),
+        () -> assertEquals(1, hotKeyCache.getPromotedCount())
+    );
+  }
+
+  @Order(3)
+  @DisplayName("최대 Hot Key 수만큼 있으면 가장 빈도가 낮은 Hot Key보다 자주 조회된 키로만 교체")
+  @Test
+  void testReplaceColdestKey() {
+
+    // Given
+    HotKeyCache hotKeyCache = hotKeyCache(1, Duration.ofMinutes(1));
+    IntStream.range(0, 20).forEach(i -> hotKeyCache.get(HOT_KEY));
+
+    // When
+    IntStream.range(0, 10).forEach(i -> hotKeyCache.get(COLD_KEY));
+    List<HotKey> beforeReplace = hotKeyCache.getHotKeys();
+    IntStream.range(0, 20).forEach(i -> hotKeyCache.get(COLD_KEY));
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(HOT_KEY), keys(beforeReplace)),
+        () -> assertEquals(List.of(COLD_KEY), keys(hotKeyCache.getHotKeys())),
+        () -> assertEquals(1, hotKeyCache.getDemotedCount())
+    );
+  }
+
+  @Order(4)
+  @DisplayName("윈도우가 지나 빈도가 기준 아래로 줄어든 키는 강등")
+  @Test
+  void testDemoteAfterDecay() {
+
+    // Given
+    HotKeyCache hotKeyCache = hotKeyCache(2, Duration.ZERO);
+    IntStream.range(0, 10).forEach(i -> hotKeyCache.get(HOT_KEY));
+
+    // When
+    IntStream.range(0, 10).forEach(i -> hotKeyCache.get(COLD_KEY));
+
+    // Then
+    assertFalse(keys(hotKeyCache.getHotKeys()).contains(HOT_KEY));
+  }
+
+  @Order(5)
+  @DisplayName("hashCode가 같은 키도 행 별 위치가 달라 빈도가 합쳐지지 않음")
+  @Test
+  void testCountMinSketchWithSameHashCode() {
+
+    // Given
+    String key = "BP:todo:Aa";
+    String sameHashCodeKey = "BP:todo:BB";
+    CountMinSketch countMinSketch = new CountMinSketch(4, 1000);
+    IntStream.range(0, 100).forEach(i -> countMinSketch.increment(key));
+
+    // When
+    long count = countMinSketch.estimate(key);
+    long sameHashCodeCount = countMinSketch.estimate(sameHashCodeKey);
+
+    // Then
+    log.debug("count : {}, sameHashCodeCount : {}", count, sameHashCodeCount);
+    assertAll(
+        () -> assertEquals(key.hashCode(), sameHashCodeKey.hashCode()),
+        () -> assertEquals(100, count),
+        () -> assertTrue(sameHashCodeCount < 100)
+    );
+  }
+
+  private static HotKeyCache hotKeyCache(int topK, Duration window) {
+    return new HotKeyCache(true, 1, 5, window, topK, Duration.ofMinutes(1), 1024);
+  }
+
+  private static List<String> keys(List<HotKey> hotKeys) {
+    return hotKeys.stream().map(HotKey::key).toList();
+  }
+}
@@ -0,0 +1,248 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.CacheValueCodec.Format;
+import com.example.boilerplate.common.component.RedisComponent;
+import com.example.boilerplate.member.dto.SampleDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MybatisRedisCacheTest {
+
+  private static final String NAMESPACE = "com.example.boilerplate.member.mapper.MemberMapper";
+  private static final String CACHE_KEY_PREFIX = "BP:mybatis:" + NAMESPACE + ":";
+  private static final String GENERATION_KEY = CACHE_KEY_PREFIX + "generation";
+
+  private final FakeRedisComponent redisComponent = new FakeRedisComponent();
+  private final MybatisRedisCache mybatisRedisCache = new MybatisRedisCache(NAMESPACE);
+
+  @BeforeEach
+  void setUp() {
+    MybatisRedisCache.initialize(redisComponent, Duration.ofMinutes(10));
+  }
+
+  @AfterEach
+  void tearDown() {
+    MybatisRedisCache.initialize(null, Duration.ofMinutes(10));
+  }
+
+  @Order(1)
+  @DisplayName("putObject_조회 결과를 세대 번호가 포함된 키로 저장하고 같은 CacheKey로 조회")
+  @Test
+  void testPutObject() {
+
+    // Given
+    CacheKey cacheKey = cacheKey(1L);
+
+    // When
+    Object missed = mybatisRedisCache.getObject(cacheKey);
+    mybatisRedisCache.putObject(cacheKey, members(1L));
+    List<?> cached = (List<?>) mybatisRedisCache.getObject(cacheKey);
+
+    // Then
+    log.info("cached : {}", cached);
+    SampleDto.MemberResponse member = (SampleDto.MemberResponse) cached.get(0);
+    assertAll(
+        () -> assertNull(missed),
+        () -> assertEquals(1, redisComponent.values.size()),
+        () -> assertTrue(storedKey().startsWith(CACHE_KEY_PREFIX + "1:")),
+        () -> assertEquals(List.of(Duration.ofMinutes(10).toMillis()), redisComponent.ttls),
+        () -> assertEquals(1, cached.size()),
+        () -> assertEquals(1L, member.getId()),
+        () -> assertEquals("홍길동", member.getName())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("clear_세대 번호를 증가시켜 이전 조회 결과를 조회하지 않음")
+  @Test
+  void testClear() {
+
+    // Given
+    CacheKey cacheKey = cacheKey(1L);
+    mybatisRedisCache.getObject(cacheKey);
+    mybatisRedisCache.putObject(cacheKey, members(1L));
+
+    // When
+    mybatisRedisCache.clear();
+    Object cached = mybatisRedisCache.getObject(cacheKey);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(List.of(GENERATION_KEY)), redisComponent.incremented),
+        () -> assertNull(cached)
+    );
+  }
+
+  @Order(3)
+  @DisplayName("putObject_조회 중에 무효화되면 이전 세대 키로 저장되어 새 세대에서 조회되지 않음")
+  @Test
+  void testPutObjectAfterClear() {
+
+    // Given
+    CacheKey cacheKey = cacheKey(1L);
+    mybatisRedisCache.getObject(cacheKey);
+    new MybatisRedisCache(NAMESPACE).clear();
+
+    // When
+    mybatisRedisCache.putObject(cacheKey, members(1L));
+    Object cached = mybatisRedisCache.getObject(cacheKey);
+
+    // Then
+    assertAll(
+        () -> assertTrue(storedKey().startsWith(CACHE_KEY_PREFIX + "1:")),
+        () -> assertNull(cached)
+    );
+  }
+
+  @Order(4)
+  @DisplayName("putObject_다른 스레드가 새 세대에서 같은 조회를 해도 현재 스레드가 읽은 세대 키로 저장")
+  @Test
+  void testPutObjectInterleavedWithOtherThread() {
+
+    // Given
+    CacheKey cacheKey = cacheKey(1L);
+    mybatisRedisCache.getObject(cacheKey);
+    redisComponent.incrementGenerations(List.of(GENERATION_KEY));
+    CompletableFuture.runAsync(() -> mybatisRedisCache.getObject(cacheKey)).join();
+
+    // When
+    mybatisRedisCache.putObject(cacheKey, members(1L));
+    Object cached = mybatisRedisCache.getObject(cacheKey);
+
+    // Then
+    assertAll(
+        () -> assertTrue(storedKey().startsWith(CACHE_KEY_PREFIX + "1:")),
+        () -> assertNull(cached)
+    );
+  }
+
+  @Order(5)
+  @DisplayName("putObject_현재 스레드에서 조회하지 않았거나 removeObject로 잊은 키는 저장하지 않음")
+  @Test
+  void testPutObjectWithoutRead() {
+
+    // Given
+    CacheKey cacheKey = cacheKey(1L);
+    CompletableFuture.runAsync(() -> mybatisRedisCache.getObject(cacheKey)).join();
+    mybatisRedisCache.putObject(cacheKey, members(1L));
+    mybatisRedisCache.getObject(cacheKey(2L));
+    mybatisRedisCache.removeObject(cacheKey(2L));
+
+    // When
+    mybatisRedisCache.putObject(cacheKey(2L), members(2L));
+
+    // Then
+    assertTrue(redisComponent.values.isEmpty());
+  }
+
+  @Order(6)
+  @DisplayName("setTtl/setGenerationKey_Mapper 설정을 사용하며, 초기화 전에는 캐시가 없는 것으로 동작")
+  @Test
+  void testProperties() {
+
+    // Given
+    mybatisRedisCache.setGenerationKey("BP:members:generation");
+    mybatisRedisCache.setTtl("30s");
+    CacheKey cacheKey = cacheKey(1L);
+
+    // When
+    mybatisRedisCache.getObject(cacheKey);
+    mybatisRedisCache.putObject(cacheKey, members(1L));
+    mybatisRedisCache.clear();
+    MybatisRedisCache.initialize(null, Duration.ofMinutes(10));
+    Object uninitialized = mybatisRedisCache.getObject(cacheKey);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(Duration.ofSeconds(30).toMillis()), redisComponent.ttls),
+        () -> assertEquals(List.of(List.of("BP:members:generation")), redisComponent.incremented),
+        () -> assertNull(uninitialized)
+    );
+  }
+
+  private String storedKey() {
+    return redisComponent.values.keySet().iterator().next();
+  }
+
+  private static CacheKey cacheKey(long id) {
+    return new CacheKey(new Object[]{NAMESPACE + ".selectMember", id});
+  }
+
+  private static List<SampleDto.MemberResponse> members(long id) {
+    List<SampleDto.MemberResponse> members = new ArrayList<>();
+    members.add(SampleDto.MemberResponse.builder()
+        .id(id)
+        .name("홍길동")
+        .email("hong@example.com")
+        .build());
+    return members;
+  }
+
+  /**
+   * 값을 직렬화하여 메모리에 저장하는 RedisComponent
+   */
+  private static class FakeRedisComponent extends RedisComponent {
+
+    private final CacheValueCodec cacheValueCodec = new CacheValueCodec(new ObjectMapper(),
+        Format.JSON, 0, new CacheMetrics(new SimpleMeterRegistry(), false));
+    private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final List<Long> ttls = new CopyOnWriteArrayList<>();
+    private final List<List<String>> incremented = new CopyOnWriteArrayList<>();
+
+    FakeRedisComponent() {
+      super(null, null, null, null, null, null, null, null, null, null, null, null, null,
+          null, null, null);
+    }
+
+    @Override
+    public String getGeneration(String generationKey) {
+      return String.valueOf(generations.computeIfAbsent(generationKey, key -> 1L));
+    }
+
+    @Override
+    public boolean incrementGenerations(Collection<String> generationKeys) {
+      incremented.add(new ArrayList<>(generationKeys));
+      generationKeys.forEach(key -> generations.merge(key, 2L, (current, initial) -> current + 1));
+      return true;
+    }
+
+    @Override
+    public void setObjectValue(String key, Object value, long duration, TimeUnit timeunit) {
+      values.put(key, cacheValueCodec.serialize(value));
+      ttls.add(timeunit.toMillis(duration));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getObjectValue(String key, TypeReference<T> typeReference) {
+      return (T) cacheValueCodec.decode(values.get(key), typeReference);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NearCacheTest {
+
+  private static final String KEY = "BP:todo:1";
+  private static final String VALUE = "value";
+
+  @Order(1)
+  @DisplayName("로컬 캐시에 저장한 값을 조회")
+  @Test
+  void testPutAndGet() {
+
+    // Given
+    NearCache nearCache = new NearCache(true, 100, Duration.ofMinutes(1));
+
+    // When
+    nearCache.put(KEY, VALUE);
+
+    // Then
+    String value = nearCache.get(KEY);
+    assertEquals(VALUE, value);
+  }
+
+  @Order(2)
+  @DisplayName("무효화된 키는 로컬 캐시에서 제거")
+  @Test
+  void testEvict() {
+
+    // Given
+    NearCache nearCache = new NearCache(true, 100, Duration.ofMinutes(1));
+    nearCache.put(KEY, VALUE);
+
+    // When
+    nearCache.evict(KEY);
+
+    // Then
+    String value = nearCache.get(KEY);
+    assertNull(value);
+  }
+
+  @Order(3)
+  @DisplayName("비활성화 상태에서는 저장하지 않음")
+  @Test
+  void testDisabled() {
+
+    // Given
+    NearCache nearCache = new NearCache(false, 100, Duration.ofMinutes(1));
+
+    // When
+    nearCache.put(KEY, VALUE);
+
+    // Then
+    String value = nearCache.get(KEY);
+    assertAll(
+        () -> assertFalse(nearCache.isEnabled()),
+        () -> assertNull(value)
+    );
+  }
+}
@@ -0,0 +1,143 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.CacheValueCodec.Format;
+import com.example.boilerplate.todo.dto.TodoDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.util.unit.DataSize;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OffHeapCacheTest {
+
+  private static final String TODO_PREFIX = "BP:todo:";
+  private static final String VALUE = "a".repeat(100);
+
+  private final CacheValueCodec cacheValueCodec = new CacheValueCodec(new ObjectMapper(),
+      Format.JSON, 0, new CacheMetrics(new SimpleMeterRegistry(), false));
+
+  @Order(1)
+  @DisplayName("아이디 키의 값을 직렬화하여 저장하고 같은 타입으로 조회")
+  @Test
+  void testPutAndGet() {
+
+    // Given
+    OffHeapCache offHeapCache = offHeapCache(DataSize.ofMegabytes(1));
+    TodoDto.Response todo = TodoDto.Response.builder()
+        .id(1L)
+        .title("Spring Security 학습")
+        .completed(false)
+        .build();
+
+    // When
+    offHeapCache.put(TODO_PREFIX + 1, todo);
+    TodoDto.Response cached = offHeapCache.get(TODO_PREFIX + 1);
+
+    // Then
+    log.debug("cached : {}", cached);
+    assertAll(
+        () -> assertEquals(todo.getId(), cached.getId()),
+        () -> assertEquals(todo.getTitle(), cached.getTitle()),
+        () -> assertEquals(todo.getCompleted(), cached.getCompleted()),
+        () -> assertEquals(1, offHeapCache.getEntryCount()),
+        () -> assertTrue(offHeapCache.getUsedBytes() > 0),
+        () -> assertEquals(1, offHeapCache.getHitCount())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("보관할 네임스페이스의 아이디 키가 아니면 저장하지 않음")
+  @Test
+  void testIgnoreNonIdKey() {
+
+    // Given
+    OffHeapCache offHeapCache = offHeapCache(DataSize.ofMegabytes(1));
+
+    // When
+    offHeapCache.put("BP:todos:list:1", VALUE);
+    offHeapCache.put("BP:todo:1:comments", VALUE);
+    offHeapCache.put("BP:todo:01", VALUE);
+    offHeapCache.put("BP:sample:1", VALUE);
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, offHeapCache.getEntryCount()),
+        () -> assertNotEquals(offHeapCache.indexKey(TODO_PREFIX + 1),
+            offHeapCache.indexKey("BP:member:1")),
+        () -> assertEquals(0, offHeapCache.getMissCount())
+    );
+  }
+
+  @Order(3)
+  @DisplayName("용량을 모두 사용하면 CLOCK 알고리즘으로 최근에 조회하지 않은 값을 교체")
+  @Test
+  void testClockEviction() {
+
+    // Given
+    // 1KB 페이지 하나에 128바이트 슬롯 8개
+    OffHeapCache offHeapCache = offHeapCache(DataSize.ofKilobytes(1));
+    LongStream.rangeClosed(1, 8).forEach(id -> offHeapCache.put(TODO_PREFIX + id, VALUE));
+    offHeapCache.get(TODO_PREFIX + 1);
+
+    // When
+    offHeapCache.put(TODO_PREFIX + 9, VALUE);
+
+    // Then
+    assertAll(
+        () -> assertEquals(VALUE, offHeapCache.get(TODO_PREFIX + 1)),
+        () -> assertNull(offHeapCache.get(TODO_PREFIX + 2)),
+        () -> assertEquals(VALUE, offHeapCache.get(TODO_PREFIX + 9)),
+        () -> assertEquals(8, offHeapCache.getEntryCount()),
+        () -> assertEquals(1, offHeapCache.getEvictionCount()),
+        () -> assertEquals(1024, offHeapCache.getAllocatedBytes())
+    );
+  }
+
+  @Order(4)
+  @DisplayName("덮어쓰거나 제거한 값의 슬롯은 다시 사용하며, 점유율과 교체 지표를 등록")
+  @Test
+  void testEvictAndMetrics() {
+
+    // Given
+    OffHeapCache offHeapCache = offHeapCache(DataSize.ofKilobytes(1));
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    offHeapCache.bindTo(meterRegistry);
+    LongStream.rangeClosed(1, 8).forEach(id -> offHeapCache.put(TODO_PREFIX + id, VALUE));
+
+    // When
+    offHeapCache.put(TODO_PREFIX + 1, VALUE);
+    offHeapCache.evict(TODO_PREFIX + 2);
+    offHeapCache.put(TODO_PREFIX + 9, VALUE);
+
+    // Then
+    assertAll(
+        () -> assertEquals(0, offHeapCache.getEvictionCount()),
+        () -> assertEquals(8, offHeapCache.getEntryCount()),
+        () -> assertEquals(8, meterRegistry.get(OffHeapCache.ENTRIES).gauge().value()),
+        () -> assertEquals(offHeapCache.getUsedBytes(),
+            meterRegistry.get(OffHeapCache.USED_BYTES).gauge().value()),
+        () -> assertEquals(0, meterRegistry.get(OffHeapCache.EVICTIONS).functionCounter().count())
+    );
+  }
+
+  private OffHeapCache offHeapCache(DataSize capacity) {
+    return new OffHeapCache(cacheValueCodec, true, capacity, DataSize.ofKilobytes(1),
+        List.of("todo", "member"), Duration.ofMinutes(1));
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.boilerplate.common.cache.RebuildLease.Lease;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RebuildLeaseTest {
+
+  private static final String KEY = "BP:todo:1";
+  private static final String VALUE = "value";
+
+  private final RebuildLease rebuildLease = new RebuildLease(null, null, Duration.ofSeconds(5),
+      Duration.ofMillis(200), Duration.ofMillis(10));
+
+  @Order(1)
+  @DisplayName("다른 노드가 적재한 값이 조회되면 대기를 멈추고 반환")
+  @Test
+  void testAwait() {
+
+    // Given
+    AtomicInteger pollCount = new AtomicInteger();
+
+    // When
+    String value = rebuildLease.await(() -> pollCount.incrementAndGet() < 3 ? null : VALUE);
+
+    // Then
+    assertAll(
+        () -> assertEquals(VALUE, value),
+        () -> assertEquals(3, pollCount.get()),
+        () -> assertEquals(1, rebuildLease.getWaitedCount()),
+        () -> assertEquals(0, rebuildLease.getTimeoutCount())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("대기 시간 안에 적재된 값이 없으면 null 반환")
+  @Test
+  void testAwaitTimeout() {
+
+    // Given
+    Supplier<String> notLoaded = () -> null;
+
+    // When
+    String value = rebuildLease.await(notLoaded);
+
+    // Then
+    assertAll(
+        () -> assertNull(value),
+        () -> assertEquals(1, rebuildLease.getTimeoutCount())
+    );
+  }
+
+  @Order(3)
+  @DisplayName("Redis를 사용할 수 없으면 해제할 필요가 없는 Lease로 적재")
+  @Test
+  void testAcquireWithoutRedis() {
+
+    // When
+    Lease lease = rebuildLease.tryAcquire(KEY);
+    rebuildLease.release(lease);
+
+    // Then
+    assertAll(
+        () -> assertNotNull(lease),
+        () -> assertNull(lease.token()),
+        () -> assertEquals(0, rebuildLease.getAcquiredCount())
+    );
+  }
+}
@@ -0,0 +1,157 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.boilerplate.common.cache.RedisCircuitBreaker.State;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.serializer.SerializationException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RedisCircuitBreakerTest {
+
+  private static final String VALUE = "value";
+  private static final String FALLBACK = "fallback";
+
+  @Order(1)
+  @DisplayName("실패 비율이 기준을 넘으면 OPEN 상태가 되어 Redis를 호출하지 않고 대체 값을 반환")
+  @Test
+  void testOpenOnFailureRate() {
+
+    // Given
+    RedisCircuitBreaker redisCircuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+    AtomicInteger calls = new AtomicInteger();
+    failTimes(redisCircuitBreaker, 4);
+
+    // When
+    String result = redisCircuitBreaker.execute(() -> {
+      calls.incrementAndGet();
+      return VALUE;
+    }, () -> FALLBACK);
+
+    // Then
+    assertAll(
+        () -> assertEquals(FALLBACK, result),
+        () -> assertEquals(0, calls.get()),
+        () -> assertEquals(State.OPEN, redisCircuitBreaker.getState()),
+        () -> assertEquals(1, redisCircuitBreaker.getTransitionCount(State.OPEN)),
+        () -> assertEquals(1, redisCircuitBreaker.getNotPermittedCount())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("대기 시간이 지나면 HALF_OPEN 상태에서 확인 호출이 성공하면 CLOSED 상태로 복구")
+  @Test
+  void testCloseAfterHalfOpenSuccess() {
+
+    // Given
+    RedisCircuitBreaker redisCircuitBreaker = circuitBreaker(Duration.ZERO);
+    failTimes(redisCircuitBreaker, 4);
+
+    // When
+    String first = redisCircuitBreaker.execute(() -> VALUE, () -> FALLBACK);
+    String second = redisCircuitBreaker.execute(() -> VALUE, () -> FALLBACK);
+
+    // Then
+    assertAll(
+        () -> assertEquals(VALUE, first),
+        () -> assertEquals(VALUE, second),
+        () -> assertEquals(State.CLOSED, redisCircuitBreaker.getState()),
+        () -> assertEquals(1, redisCircuitBreaker.getTransitionCount(State.HALF_OPEN)),
+        () -> assertEquals(1, redisCircuitBreaker.getTransitionCount(State.CLOSED))
+    );
+  }
+
+  @Order(3)
+  @DisplayName("HALF_OPEN 상태에서 확인 호출이 실패하면 다시 OPEN 상태로 전환")
+  @Test
+  void testReopenAfterHalfOpenFailure() {
+
+    // Given
+    RedisCircuitBreaker redisCircuitBreaker = circuitBreaker(Duration.ZERO);
+    failTimes(redisCircuitBreaker, 4);
+
+    // When
+    failTimes(redisCircuitBreaker, 1);
+
+    // Then
+    assertAll(
+        () -> assertEquals(State.OPEN, redisCircuitBreaker.getState()),
+        () -> assertEquals(2, redisCircuitBreaker.getTransitionCount(State.OPEN))
+    );
+  }
+
+  @Order(4)
+  @DisplayName("비동기 명령은 완료 시점에 결과를 기록하고, OPEN 상태에서는 대체 값으로 완료")
+  @Test
+  void testExecuteAsync() {
+
+    // Given
+    RedisCircuitBreaker redisCircuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+    for (int i = 0; i < 4; i++) {
+      redisCircuitBreaker.executeAsync(
+          () -> CompletableFuture.<String>failedFuture(new TimeoutException("timeout")),
+          () -> FALLBACK);
+    }
+
+    // When
+    CompletableFuture<String> result = redisCircuitBreaker.executeAsync(
+        () -> CompletableFuture.completedFuture(VALUE), () -> FALLBACK);
+
+    // Then
+    assertAll(
+        () -> assertEquals(FALLBACK, result.join()),
+        () -> assertEquals(State.OPEN, redisCircuitBreaker.getState())
+    );
+  }
+
+  @Order(5)
+  @DisplayName("Redis 장애가 아닌 예외는 실패로 기록하지 않고 그대로 전달")
+  @Test
+  void testIgnoreNonRedisFailure() {
+
+    // Given
+    RedisCircuitBreaker redisCircuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+
+    // When
+    for (int i = 0; i < 4; i++) {
+      assertThrows(SerializationException.class, () -> redisCircuitBreaker.execute(() -> {
+        throw new SerializationException("cannot deserialize");
+      }, () -> FALLBACK));
+      redisCircuitBreaker.executeAsync(
+          () -> CompletableFuture.<String>failedFuture(new IllegalStateException("invalid")),
+          () -> FALLBACK);
+    }
+    String result = redisCircuitBreaker.execute(() -> VALUE, () -> FALLBACK);
+
+    // Then
+    assertAll(
+        () -> assertEquals(VALUE, result),
+        () -> assertEquals(State.CLOSED, redisCircuitBreaker.getState()),
+        () -> assertEquals(0, redisCircuitBreaker.getTransitionCount(State.OPEN))
+    );
+  }
+
+  private static RedisCircuitBreaker circuitBreaker(Duration openDuration) {
+    return new RedisCircuitBreaker(true, 50, Duration.ofSeconds(1), 4, Duration.ofMinutes(1),
+        openDuration, 2);
+  }
+
+  private static void failTimes(RedisCircuitBreaker redisCircuitBreaker, int times) {
+    for (int i = 0; i < times; i++) {
+      assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+        throw new RedisConnectionFailureException("redis unavailable");
+      }, () -> FALLBACK));
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RedisReadRouterTest {
+
+  private static final String KEY = "BP:todo:1";
+  private static final String OTHER_KEY = "BP:todo:2";
+
+  private final RedisTemplate<String, Object> objectRedisTemplate = new RedisTemplate<>();
+  private final RedisTemplate<String, Object> masterObjectRedisTemplate = new RedisTemplate<>();
+  private final StringRedisTemplate stringRedisTemplate = new StringRedisTemplate();
+  private final StringRedisTemplate masterStringRedisTemplate = new StringRedisTemplate();
+
+  @Order(1)
+  @DisplayName("최근에 저장한 키는 마스터 템플릿으로, 나머지 키는 복제본 템플릿으로 조회")
+  @Test
+  void testRouteRecentlyWrittenKey() {
+
+    // Given
+    RedisReadRouter redisReadRouter = createRouter(true, Duration.ofMinutes(1));
+
+    // When
+    redisReadRouter.markWritten(KEY);
+
+    // Then
+    assertAll(
+        () -> assertSame(masterObjectRedisTemplate, redisReadRouter.objectTemplate(KEY)),
+        () -> assertSame(masterStringRedisTemplate, redisReadRouter.stringTemplate(KEY)),
+        () -> assertSame(objectRedisTemplate, redisReadRouter.objectTemplate(OTHER_KEY)),
+        () -> assertSame(masterObjectRedisTemplate,
+            redisReadRouter.objectTemplate(List.of(KEY, OTHER_KEY))),
+        () -> assertEquals(3, redisReadRouter.getMasterReadCount()),
+        () -> assertEquals(1, redisReadRouter.getReplicaReadCount())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("기록 시간이 지난 키는 다시 복제본 템플릿으로 조회")
+  @Test
+  void testExpireRecentWrite() {
+
+    // Given
+    RedisReadRouter redisReadRouter = createRouter(true, Duration.ZERO);
+
+    // When
+    redisReadRouter.markWritten(List.of(KEY));
+
+    // Then
+    assertSame(objectRedisTemplate, redisReadRouter.objectTemplate(KEY));
+  }
+
+  @Order(3)
+  @DisplayName("비활성화 상태에서는 최근에 저장한 키도 복제본 템플릿으로 조회")
+  @Test
+  void testDisabled() {
+
+    // Given
+    RedisReadRouter redisReadRouter = createRouter(false, Duration.ofMinutes(1));
+
+    // When
+    redisReadRouter.markWritten(KEY);
+
+    // Then
+    assertAll(
+        () -> assertFalse(redisReadRouter.isRecentlyWritten(KEY)),
+        () -> assertEquals(0, redisReadRouter.getRecentWriteCount())
+    );
+  }
+
+  private RedisReadRouter createRouter(boolean enabled, Duration window) {
+    return new RedisReadRouter(objectRedisTemplate, masterObjectRedisTemplate,
+        stringRedisTemplate, masterStringRedisTemplate, enabled, window, 100);
+  }
+}
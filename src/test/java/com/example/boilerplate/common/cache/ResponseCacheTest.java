@@ -0,0 +1,80 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.ResponseCache.CachedResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.http.MediaType;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResponseCacheTest {
+
+  private static final byte[] BODY =
+      "{\"statusCode\":\"200\",\"message\":\"성공\",\"data\":{\"id\":1}}"
+          .getBytes(StandardCharsets.UTF_8);
+
+  @Order(1)
+  @DisplayName("응답 본문을 gzip으로 압축하여 저장하고, 압축을 해제하면 원래 본문과 같음")
+  @Test
+  void testCachedResponse() {
+
+    // Given
+    String contentType = MediaType.APPLICATION_JSON_VALUE;
+
+    // When
+    CachedResponse cachedResponse = CachedResponse.of(BODY, contentType);
+
+    // Then
+    log.debug("etag : {}", cachedResponse.etag());
+    assertAll(
+        () -> assertArrayEquals(BODY, cachedResponse.body()),
+        () -> assertFalse(Arrays.equals(BODY, cachedResponse.gzipBody())),
+        () -> assertTrue(cachedResponse.etag().startsWith("\"")),
+        () -> assertTrue(cachedResponse.etag().endsWith("\"")),
+        () -> assertEquals(contentType, cachedResponse.contentType())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("같은 본문은 같은 ETag를 가짐")
+  @Test
+  void testEtag() {
+
+    // Given
+    byte[] sameBody = BODY.clone();
+
+    // When
+    CachedResponse first = CachedResponse.of(BODY, MediaType.APPLICATION_JSON_VALUE);
+    CachedResponse second = CachedResponse.of(sameBody, MediaType.APPLICATION_JSON_VALUE);
+
+    // Then
+    assertEquals(first.etag(), second.etag());
+  }
+
+  @Order(3)
+  @DisplayName("응답 캐시 키는 캐시 이름과 키로 구성")
+  @Test
+  void testResponseKey() {
+
+    // Given
+    String cacheName = "todo";
+
+    // When
+    String responseKey = ResponseCache.responseKey(cacheName, 1L);
+
+    // Then
+    assertEquals("BP:response:todo:1", responseKey);
+  }
+}
@@ -0,0 +1,120 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.boilerplate.common.exception.ApiException;
+import com.example.boilerplate.common.type.ApiStatus;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SingleFlightTest {
+
+  private static final String KEY = "BP:todo:1";
+  private static final String VALUE = "value";
+
+  @Order(1)
+  @DisplayName("동시에 요청된 동일 키의 로딩은 한 번만 실행")
+  @Test
+  void testCoalesceConcurrentLoads() {
+
+    // Given
+    SingleFlight singleFlight = new SingleFlight(true, Duration.ofSeconds(5));
+    AtomicInteger loaderCalls = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    int requestCount = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+
+    // When
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+        () -> singleFlight.load(KEY, () -> {
+          loaderCalls.incrementAndGet();
+          awaitQuietly(release);
+          return VALUE;
+        }), executor);
+    awaitInFlight(singleFlight);
+    List<CompletableFuture<String>> followers = IntStream.range(1, requestCount)
+        .mapToObj(i -> CompletableFuture.supplyAsync(
+            () -> singleFlight.load(KEY, () -> {
+              loaderCalls.incrementAndGet();
+              return "other";
+            }), executor))
+        .toList();
+    awaitCoalesced(singleFlight, requestCount - 1);
+    release.countDown();
+    executor.shutdown();
+    List<String> followerValues = followers.stream().map(CompletableFuture::join).toList();
+
+    // Then
+    log.debug("followerValues : {}", followerValues);
+    assertAll(
+        () -> assertEquals(VALUE, leader.join()),
+        () -> assertEquals(Collections.nCopies(requestCount - 1, VALUE), followerValues),
+        () -> assertEquals(1, loaderCalls.get()),
+        () -> assertEquals(1, singleFlight.getLoadCount()),
+        () -> assertEquals(requestCount - 1, singleFlight.getCoalescedCount()),
+        () -> assertEquals(0, singleFlight.getInFlightCount())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("로더에서 발생한 예외는 호출자에게 그대로 전달")
+  @Test
+  void testPropagateException() {
+
+    // Given
+    SingleFlight singleFlight = new SingleFlight(true, Duration.ofSeconds(1));
+
+    // When
+    ApiException apiException = assertThrows(ApiException.class,
+        () -> singleFlight.load(KEY, () -> {
+          throw new ApiException(ApiStatus.TODO_NOT_FOUND);
+        }));
+
+    // Then
+    assertAll(
+        () -> assertEquals(ApiStatus.TODO_NOT_FOUND, apiException.getStatus()),
+        () -> assertEquals(0, singleFlight.getInFlightCount())
+    );
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitInFlight(SingleFlight singleFlight) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (singleFlight.getInFlightCount() == 0 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static void awaitCoalesced(SingleFlight singleFlight, long expected) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (singleFlight.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+  }
+}
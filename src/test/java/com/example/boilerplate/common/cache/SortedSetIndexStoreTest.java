@@ -0,0 +1,77 @@
+package com.example.boilerplate.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.SortedSetIndexStore.IdPage;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SortedSetIndexStoreTest {
+
+  @Order(1)
+  @DisplayName("ZREVRANGE 결과에서 완료 표시를 제외하고, 전체 건수는 ZCARD에서 완료 표시를 뺀 값")
+  @Test
+  void testToPage() {
+
+    // Given
+    List<String> members = List.of("5", "3", SortedSetIndexStore.COMPLETE_MEMBER);
+
+    // When
+    IdPage idPage = SortedSetIndexStore.toPage(members, 3L);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(5L, 3L), idPage.ids()),
+        () -> assertEquals(2, idPage.total())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("완료 표시만 있으면 빈 목록, 인덱스가 없으면 null")
+  @Test
+  void testToPageWhenEmptyOrMissing() {
+
+    // Given
+    List<String> completeOnly = List.of(SortedSetIndexStore.COMPLETE_MEMBER);
+
+    // When
+    IdPage emptyPage = SortedSetIndexStore.toPage(completeOnly, 1L);
+    IdPage missingPage = SortedSetIndexStore.toPage(List.of(), 0L);
+
+    // Then
+    assertAll(
+        () -> assertTrue(emptyPage.ids().isEmpty()),
+        () -> assertEquals(0, emptyPage.total()),
+        () -> assertNull(missingPage)
+    );
+  }
+
+  @Order(3)
+  @DisplayName("DB에서 조회한 전체 아이디는 요청한 범위만 잘라내고, 범위를 벗어나면 빈 목록")
+  @Test
+  void testIdPageOf() {
+
+    // Given
+    List<Long> ids = List.of(9L, 7L, 5L, 3L, 1L);
+
+    // When
+    IdPage secondPage = IdPage.of(ids, 2, 2);
+    IdPage outOfRange = IdPage.of(ids, 10, 2);
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(5L, 3L), secondPage.ids()),
+        () -> assertEquals(5, secondPage.total()),
+        () -> assertTrue(outOfRange.ids().isEmpty()),
+        () -> assertEquals(5, outOfRange.total())
+    );
+  }
+}
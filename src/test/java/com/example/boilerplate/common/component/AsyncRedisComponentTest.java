@@ -0,0 +1,294 @@
+package com.example.boilerplate.common.component;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.cache.CacheMetrics;
+import com.example.boilerplate.common.cache.CacheOptions;
+import com.example.boilerplate.common.cache.CacheValueCodec;
+import com.example.boilerplate.common.cache.CacheVersionFence;
+import com.example.boilerplate.common.cache.LocalCache;
+import com.example.boilerplate.common.cache.RedisCircuitBreaker;
+import com.example.boilerplate.common.cache.RedisCircuitBreaker.State;
+import com.example.boilerplate.common.cache.RedisReadRouter;
+import com.example.boilerplate.common.cache.SingleFlight;
+import com.example.boilerplate.common.component.RedisComponentTest.SampleDto;
+import com.example.boilerplate.common.exception.ApiException;
+import com.example.boilerplate.common.type.ApiStatus;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest
+class AsyncRedisComponentTest {
+
+  private static final String NAME = "Gildong";
+  private static final CacheOptions CACHE_OPTIONS = CacheOptions.of(Duration.ofMinutes(10));
+  private static final TypeReference<SampleDto> SAMPLE_TYPE = new TypeReference<>() {
+  };
+
+  @Autowired
+  AsyncRedisComponent asyncRedisComponent;
+
+  @Autowired
+  LettuceConnectionFactory lettuceConnectionFactory;
+
+  @Autowired
+  CacheValueCodec cacheValueCodec;
+
+  @Autowired
+  LocalCache localCache;
+
+  @Autowired
+  SingleFlight singleFlight;
+
+  @Autowired
+  CacheMetrics cacheMetrics;
+
+  @Autowired
+  RedisReadRouter redisReadRouter;
+
+  @Autowired
+  CacheVersionFence cacheVersionFence;
+
+  @Autowired
+  StringRedisTemplate stringRedisTemplate;
+
+  @Order(1)
+  @DisplayName("객체를 비동기로 저장하고 조회")
+  @Test
+  void testObjectSetAndGet() {
+
+    // Given
+    String key = "SAMPLE:ASYNC:" + UUID.randomUUID();
+    SampleDto sample = SampleDto.of("200", NAME, 30);
+
+    // When
+    boolean saved = asyncRedisComponent.setObjectValue(key, sample, 10L, TimeUnit.MINUTES)
+        .join();
+    SampleDto retrievedSample = asyncRedisComponent.getObjectValue(key, SAMPLE_TYPE).join();
+
+    // Then
+    log.debug("retrievedSample : {}", retrievedSample);
+    assertAll(
+        () -> assertTrue(saved),
+        () -> assertNotNull(retrievedSample),
+        () -> assertEquals(sample.getId(), retrievedSample.getId()),
+        () -> assertEquals(sample.getName(), retrievedSample.getName()),
+        () -> assertEquals(sample.getAge(), retrievedSample.getAge())
+    );
+  }
+
+  @Order(2)
+  @DisplayName("스크립트 캐시를 비운 후에도 펜스를 남기며 키를 비동기로 삭제")
+  @Test
+  void testDeleteKeyAfterScriptFlush() {
+
+    // Given
+    String key = "SAMPLE:ASYNC:" + UUID.randomUUID();
+    asyncRedisComponent.setObjectValue(key, SampleDto.of("201", NAME, 30), 10L, TimeUnit.MINUTES)
+        .join();
+    flushScripts();
+
+    // When
+    boolean deleted = asyncRedisComponent.deleteKey(key).join();
+    boolean deletedAgain = asyncRedisComponent.deleteKey(key).join();
+
+    // Then
+    assertAll(
+        () -> assertTrue(deleted),
+        () -> assertFalse(deletedAgain),
+        () -> assertNull(asyncRedisComponent.getObjectValue(key, SAMPLE_TYPE).join()),
+        () -> assertEquals(Boolean.TRUE,
+            stringRedisTemplate.hasKey(CacheVersionFence.versionKey(key)))
+    );
+  }
+
+  @Order(3)
+  @DisplayName("캐시가 없으면 DB에서 한 번만 조회하고, 이후에는 캐시에서 조회")
+  @Test
+  void testGetCacheOrDefault() {
+
+    // Given
+    String key = "SAMPLE:ASYNC:" + UUID.randomUUID();
+    AtomicInteger dbCalls = new AtomicInteger();
+
+    // When
+    SampleDto loaded = asyncRedisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+      dbCalls.incrementAndGet();
+      return SampleDto.of("202", NAME, 30);
+    }, CACHE_OPTIONS).join();
+    localCache.evict(key);
+    SampleDto cached = asyncRedisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+      dbCalls.incrementAndGet();
+      return SampleDto.of("999", NAME, 99);
+    }, CACHE_OPTIONS).join();
+
+    // Then
+    log.debug("loaded : {}, cached : {}", loaded, cached);
+    assertAll(
+        () -> assertEquals(1, dbCalls.get()),
+        () -> assertEquals(loaded.getId(), cached.getId()),
+        () -> assertEquals(loaded.getName(), cached.getName()),
+        () -> assertEquals(loaded.getAge(), cached.getAge())
+    );
+  }
+
+  @Order(4)
+  @DisplayName("존재하지 않는 데이터는 Tombstone으로 저장하여 DB 조회 없이 같은 예외로 완료")
+  @Test
+  void testGetCacheOrDefaultWithNegativeCaching() {
+
+    // Given
+    String key = "SAMPLE:ASYNC:" + UUID.randomUUID();
+    AtomicInteger dbCalls = new AtomicInteger();
+    CacheOptions cacheOptions = CacheOptions.builder()
+        .ttl(Duration.ofMinutes(10))
+        .negativeTtl(Duration.ofMinutes(1))
+        .build();
+
+    // When
+    CompletionException first = assertThrows(CompletionException.class,
+        () -> asyncRedisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+          dbCalls.incrementAndGet();
+          throw new ApiException(HttpStatus.NOT_FOUND, ApiStatus.NOT_FOUND);
+        }, cacheOptions).join());
+    localCache.evict(key);
+    CompletionException second = assertThrows(CompletionException.class,
+        () -> asyncRedisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+          dbCalls.incrementAndGet();
+          return SampleDto.of("203", NAME, 30);
+        }, cacheOptions).join());
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, dbCalls.get()),
+        () -> assertEquals(ApiStatus.NOT_FOUND,
+            assertInstanceOf(ApiException.class, first.getCause()).getStatus()),
+        () -> assertEquals(ApiStatus.NOT_FOUND,
+            assertInstanceOf(ApiException.class, second.getCause()).getStatus())
+    );
+  }
+
+  @Order(5)
+  @DisplayName("Redis에 연결할 수 없으면 캐시가 없는 것으로 처리하고 DB에서 조회")
+  @Test
+  void testFallbackWhenRedisIsDown() throws Exception {
+
+    // Given
+    String key = "SAMPLE:ASYNC:" + UUID.randomUUID();
+    AtomicInteger dbCalls = new AtomicInteger();
+    LettuceConnectionFactory downConnectionFactory = new LettuceConnectionFactory(
+        new RedisClusterConfiguration(List.of("127.0.0.1:1")));
+    downConnectionFactory.afterPropertiesSet();
+    RedisCircuitBreaker redisCircuitBreaker = circuitBreaker(20);
+    AsyncRedisComponent downRedisComponent =
+        asyncRedisComponent(downConnectionFactory, redisCircuitBreaker);
+
+    try {
+      // When
+      SampleDto loaded = downRedisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+        dbCalls.incrementAndGet();
+        return SampleDto.of("204", NAME, 30);
+      }, CACHE_OPTIONS).join();
+      SampleDto retrievedSample = downRedisComponent.getObjectValue(key, SAMPLE_TYPE).join();
+      boolean deleted = downRedisComponent.deleteKey(key).join();
+
+      // Then
+      log.debug("loaded : {}", loaded);
+      assertAll(
+          () -> assertEquals(1, dbCalls.get()),
+          () -> assertEquals("204", loaded.getId()),
+          () -> assertNull(retrievedSample),
+          () -> assertFalse(deleted)
+      );
+    } finally {
+      localCache.evict(key);
+      downRedisComponent.close();
+      downConnectionFactory.destroy();
+    }
+  }
+
+  @Order(6)
+  @DisplayName("서킷이 열려 있으면 Redis를 호출하지 않고 DB에서 조회")
+  @Test
+  void testFallbackWhenCircuitIsOpen() {
+
+    // Given
+    String key = "SAMPLE:ASYNC:" + UUID.randomUUID();
+    AtomicInteger dbCalls = new AtomicInteger();
+    RedisCircuitBreaker redisCircuitBreaker = circuitBreaker(1);
+    assertThrows(RedisConnectionFailureException.class, () -> redisCircuitBreaker.execute(() -> {
+      throw new RedisConnectionFailureException("redis unavailable");
+    }, () -> null));
+    AsyncRedisComponent openRedisComponent =
+        asyncRedisComponent(lettuceConnectionFactory, redisCircuitBreaker);
+
+    try {
+      // When
+      SampleDto loaded = openRedisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+        dbCalls.incrementAndGet();
+        return SampleDto.of("205", NAME, 30);
+      }, CACHE_OPTIONS).join();
+      SampleDto retrievedSample = openRedisComponent.getObjectValue(key, SAMPLE_TYPE).join();
+
+      // Then
+      assertAll(
+          () -> assertEquals(State.OPEN, redisCircuitBreaker.getState()),
+          () -> assertEquals(1, dbCalls.get()),
+          () -> assertEquals("205", loaded.getId()),
+          () -> assertNull(retrievedSample),
+          () -> assertEquals(3, redisCircuitBreaker.getNotPermittedCount()),
+          () -> assertNull(asyncRedisComponent.getObjectValue(key, SAMPLE_TYPE).join())
+      );
+    } finally {
+      localCache.evict(key);
+      openRedisComponent.close();
+    }
+  }
+
+  private AsyncRedisComponent asyncRedisComponent(
+      LettuceConnectionFactory connectionFactory, RedisCircuitBreaker redisCircuitBreaker) {
+    return new AsyncRedisComponent(connectionFactory, cacheValueCodec, localCache, singleFlight,
+        redisCircuitBreaker, cacheMetrics, redisReadRouter, cacheVersionFence, Runnable::run,
+        Duration.ofSeconds(1));
+  }
+
+  private static RedisCircuitBreaker circuitBreaker(int minimumCalls) {
+    return new RedisCircuitBreaker(true, 50, Duration.ofSeconds(1), minimumCalls,
+        Duration.ofMinutes(1), Duration.ofMinutes(1), 1);
+  }
+
+  private void flushScripts() {
+    stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+      connection.scriptingCommands().scriptFlush();
+      return null;
+    });
+  }
+}
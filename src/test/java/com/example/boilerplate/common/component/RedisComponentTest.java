@@ -2,12 +2,36 @@ package com.example.boilerplate.common.component;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.boilerplate.common.cache.CacheInvalidationListener;
+import com.example.boilerplate.common.cache.CacheOptions;
+import com.example.boilerplate.common.cache.HotKeyCache;
+import com.example.boilerplate.common.cache.LocalCache;
+import com.example.boilerplate.common.cache.NearCache;
+import com.example.boilerplate.common.cache.OffHeapCache;
+import com.example.boilerplate.common.cache.RedisReadRouter;
+import com.example.boilerplate.common.cache.ResponseCache;
+import com.example.boilerplate.common.cache.ResponseCache.CachedResponse;
+import com.example.boilerplate.common.cache.SortedSetIndexStore.IdPage;
+import com.example.boilerplate.common.constants.Constants;
+import com.example.boilerplate.common.exception.ApiException;
+import com.example.boilerplate.common.type.ApiStatus;
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,15 +45,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
 
 @Slf4j
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @SpringBootTest
 class RedisComponentTest {
 
+  private static final String NAME = "Gildong";
+  private static final CacheOptions CACHE_OPTIONS = CacheOptions.of(Duration.ofMinutes(10));
+  private static final TypeReference<SampleDto> SAMPLE_TYPE = new TypeReference<>() {
+  };
+
   @Autowired
   RedisComponent redisComponent;
 
+  @Autowired
+  ResponseCache responseCache;
+
+  @Autowired
+  StringRedisTemplate stringRedisTemplate;
+
+  @Autowired
+  RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Autowired
+  RedisReadRouter redisReadRouter;
+
   @Order(1)
   @DisplayName("문자열을 저장하고 조회")
   @Test
@@ -221,6 +270,341 @@ class RedisComponentTest {
     );
   }
 
+  @Order(9)
+  @DisplayName("캐시가 없으면 DB에서 조회하여 저장하고, 이후에는 DB를 조회하지 않음")
+  @Test
+  void testGetCacheOrDefault() {
+
+    // Given
+    String key = "SAMPLE:CACHE:" + UUID.randomUUID();
+    AtomicInteger dbCalls = new AtomicInteger();
+
+    // When
+    SampleDto loaded = redisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+      dbCalls.incrementAndGet();
+      return SampleDto.of("102", NAME, 30);
+    }, CACHE_OPTIONS);
+    SampleDto cached = redisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+      dbCalls.incrementAndGet();
+      return SampleDto.of("102", "Changed", 31);
+    }, CACHE_OPTIONS);
+
+    // Then
+    log.debug("cached : {}", cached);
+    assertAll(
+        () -> assertEquals(1, dbCalls.get()),
+        () -> assertEquals(loaded.getName(), cached.getName()),
+        () -> assertEquals(loaded.getAge(), cached.getAge())
+    );
+  }
+
+  @Order(10)
+  @DisplayName("존재하지 않는 데이터는 Tombstone으로 저장하여 DB 조회 없이 같은 예외 발생")
+  @Test
+  void testGetCacheOrDefaultWithNegativeCaching() {
+
+    // Given
+    String key = "SAMPLE:CACHE:" + UUID.randomUUID();
+    AtomicInteger dbCalls = new AtomicInteger();
+    CacheOptions cacheOptions = CacheOptions.builder()
+        .ttl(Duration.ofMinutes(10))
+        .negativeTtl(Duration.ofMinutes(1))
+        .build();
+
+    // When
+    ApiException first = assertThrows(ApiException.class,
+        () -> redisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+          dbCalls.incrementAndGet();
+          throw new ApiException(HttpStatus.NOT_FOUND, ApiStatus.NOT_FOUND);
+        }, cacheOptions));
+    ApiException second = assertThrows(ApiException.class,
+        () -> redisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> {
+          dbCalls.incrementAndGet();
+          return SampleDto.of("103", NAME, 30);
+        }, cacheOptions));
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, dbCalls.get()),
+        () -> assertEquals(ApiStatus.NOT_FOUND, first.getStatus()),
+        () -> assertEquals(ApiStatus.NOT_FOUND, second.getStatus())
+    );
+  }
+
+  @Order(11)
+  @DisplayName("여러 아이디 조회 시 캐시가 없는 아이디만 DB에서 한 번에 조회")
+  @Test
+  void testGetCachesOrDefault() {
+
+    // Given
+    String prefix = "SAMPLE:CACHE:" + UUID.randomUUID() + ":";
+    redisComponent.setObjectValue(prefix + 1, SampleDto.of("1", "Cached", 20), 10,
+        TimeUnit.MINUTES);
+    AtomicInteger dbCalls = new AtomicInteger();
+
+    // When
+    Map<Long, SampleDto> samples = redisComponent.getCachesOrDefault(List.of(1L, 2L, 3L),
+        id -> prefix + id, SAMPLE_TYPE, missedIds -> {
+          dbCalls.incrementAndGet();
+          return missedIds.stream()
+              .filter(id -> id != 3L)
+              .collect(Collectors.toMap(id -> id,
+                  id -> SampleDto.of(String.valueOf(id), "Loaded", 30)));
+        }, CACHE_OPTIONS);
+
+    // Then
+    log.debug("samples : {}", samples);
+    assertAll(
+        () -> assertEquals(1, dbCalls.get()),
+        () -> assertEquals(List.of(1L, 2L), List.copyOf(samples.keySet())),
+        () -> assertEquals("Cached", samples.get(1L).getName()),
+        () -> assertEquals("Loaded", samples.get(2L).getName())
+    );
+  }
+
+  @Order(12)
+  @DisplayName("세대 번호를 증가시키면 이전 세대의 조회 결과를 사용하지 않고 DB에서 다시 조회")
+  @Test
+  void testGetQueryCacheOrDefaultAfterIncrementGenerations() {
+
+    // Given
+    String generationKey = "SAMPLE:GENERATION:" + UUID.randomUUID();
+    String cacheKeyPrefix = "SAMPLE:LIST:";
+    AtomicInteger dbCalls = new AtomicInteger();
+    TypeReference<List<SampleDto>> listType = new TypeReference<>() {
+    };
+    redisComponent.getQueryCacheOrDefault(generationKey, cacheKeyPrefix, "name=Gildong",
+        listType, () -> List.of(SampleDto.of(String.valueOf(dbCalls.incrementAndGet()),
+            NAME, 30)), CACHE_OPTIONS);
+
+    // When
+    boolean incremented = redisComponent.incrementGenerations(List.of(generationKey));
+    List<SampleDto> samples = redisComponent.getQueryCacheOrDefault(generationKey,
+        cacheKeyPrefix, "name=Gildong", listType,
+        () -> List.of(SampleDto.of(String.valueOf(dbCalls.incrementAndGet()), NAME, 30)),
+        CACHE_OPTIONS);
+
+    // Then
+    assertAll(
+        () -> assertTrue(incremented),
+        () -> assertEquals(2, dbCalls.get()),
+        () -> assertEquals("2", samples.get(0).getId())
+    );
+  }
+
+  @Order(13)
+  @DisplayName("여러 키를 한 번에 삭제")
+  @Test
+  void testUnlinkKeys() {
+
+    // Given
+    String prefix = "SAMPLE:UNLINK:" + UUID.randomUUID() + ":";
+    List<String> keys = List.of(prefix + 1, prefix + 2, prefix + 3);
+    redisComponent.multiSetObjectValues(keys.stream()
+        .collect(Collectors.toMap(key -> key, key -> SampleDto.of(key, NAME, 30))), 10,
+        TimeUnit.MINUTES);
+
+    // When
+    boolean unlinked = redisComponent.unlinkKeys(keys);
+
+    // Then
+    Map<String, SampleDto> remaining = redisComponent.multiGetObjectValues(keys, SAMPLE_TYPE);
+    assertAll(
+        () -> assertTrue(unlinked),
+        () -> assertTrue(remaining.isEmpty())
+    );
+  }
+
+  @Order(14)
+  @DisplayName("Hash로 저장된 캐시는 변경된 필드만 덮어씀")
+  @Test
+  void testUpdateHashFields() {
+
+    // Given
+    String key = "SAMPLE:HASH:" + UUID.randomUUID();
+    CacheOptions cacheOptions = CacheOptions.builder()
+        .ttl(Duration.ofMinutes(10))
+        .hash(true)
+        .build();
+    redisComponent.getCacheOrDefault(key, SAMPLE_TYPE, () -> SampleDto.of("104", NAME, 30),
+        cacheOptions);
+
+    // When
+    boolean updated = redisComponent.updateHashFields(key, Map.of("age", 31));
+
+    // Then
+    SampleDto cached = redisComponent.getCacheOrDefault(key, SAMPLE_TYPE,
+        () -> SampleDto.of("104", "Changed", 0), cacheOptions);
+    log.debug("cached : {}", cached);
+    assertAll(
+        () -> assertTrue(updated),
+        () -> assertEquals(NAME, cached.getName()),
+        () -> assertEquals(31, cached.getAge())
+    );
+  }
+
+  @Order(15)
+  @DisplayName("Sorted Set 인덱스가 없으면 DB에서 적재하고, 이후 추가 및 제거된 아이디를 반영")
+  @Test
+  void testIndexPage() {
+
+    // Given
+    String indexKey = "SAMPLE:INDEX:" + UUID.randomUUID();
+    AtomicInteger dbCalls = new AtomicInteger();
+    Duration ttl = Duration.ofMinutes(10);
+    redisComponent.getIndexPageOrDefault(indexKey, 0, 10, () -> {
+      dbCalls.incrementAndGet();
+      return List.of(5L, 3L, 1L);
+    }, ttl);
+
+    // When
+    boolean added = redisComponent.addIndexMember(indexKey, 7L);
+    boolean removed = redisComponent.removeIndexMember(indexKey, 3L);
+    IdPage idPage = redisComponent.getIndexPageOrDefault(indexKey, 0, 2, () -> {
+      dbCalls.incrementAndGet();
+      return List.of();
+    }, ttl);
+
+    // Then
+    log.debug("idPage : {}", idPage);
+    assertAll(
+        () -> assertTrue(added),
+        () -> assertTrue(removed),
+        () -> assertEquals(1, dbCalls.get()),
+        () -> assertEquals(List.of(7L, 5L), idPage.ids()),
+        () -> assertEquals(3, idPage.total())
+    );
+  }
+
+  @Order(16)
+  @DisplayName("응답을 만드는 중에 수정되어 응답 캐시가 삭제되면 이전 응답을 다시 저장하지 않음")
+  @Test
+  void testResponseCacheFence() {
+
+    // Given
+    String responseKey = ResponseCache.responseKey("sample", UUID.randomUUID());
+    Duration ttl = Duration.ofMinutes(10);
+    CachedResponse staleResponse = CachedResponse.of(
+        "{\"name\":\"Gildong\"}".getBytes(StandardCharsets.UTF_8),
+        MediaType.APPLICATION_JSON_VALUE);
+    CachedResponse freshResponse = CachedResponse.of(
+        "{\"name\":\"Changed\"}".getBytes(StandardCharsets.UTF_8),
+        MediaType.APPLICATION_JSON_VALUE);
+    CachedResponse missed = responseCache.get(responseKey);
+    long staleVersion = responseCache.newVersion();
+
+    // When
+    boolean unlinked = redisComponent.unlinkKeys(List.of(responseKey));
+    long unlinkedAt = responseCache.newVersion();
+    boolean stalePut = responseCache.put(responseKey, staleResponse, ttl, staleVersion);
+    CachedResponse afterStalePut = responseCache.get(responseKey);
+    long freshVersion = responseCache.newVersion();
+    while (freshVersion <= unlinkedAt) {
+      freshVersion = responseCache.newVersion();
+    }
+    boolean freshPut = responseCache.put(responseKey, freshResponse, ttl, freshVersion);
+
+    // Then
+    CachedResponse cached = responseCache.get(responseKey);
+    log.debug("cached : {}", cached);
+    assertAll(
+        () -> assertNull(missed),
+        () -> assertTrue(unlinked),
+        () -> assertFalse(stalePut),
+        () -> assertNull(afterStalePut),
+        () -> assertTrue(freshPut),
+        () -> assertNotNull(cached),
+        () -> assertEquals(freshResponse.etag(), cached.etag())
+    );
+  }
+
+  @Order(17)
+  @DisplayName("스크립트 캐시가 비어 있어도 파이프라인으로 전송한 버전 저장, Hash 저장 및 펜스 삭제를 실행")
+  @Test
+  void testPipelinedScriptsAfterScriptFlush() {
+
+    // Given
+    String prefix = "SAMPLE:SCRIPT:" + UUID.randomUUID() + ":";
+    String hashPrefix = prefix + "HASH:";
+    List<String> keys = List.of(prefix + 1, prefix + 2);
+    List<String> hashKeys = List.of(hashPrefix + 1, hashPrefix + 2);
+    CacheOptions hashOptions = CacheOptions.builder()
+        .ttl(Duration.ofMinutes(10))
+        .hash(true)
+        .build();
+    Function<Collection<Long>, Map<Long, SampleDto>> loader = ids -> ids.stream()
+        .collect(Collectors.toMap(id -> id, id -> SampleDto.of(String.valueOf(id), NAME, 30)));
+
+    // When
+    flushScripts();
+    redisComponent.getCachesOrDefault(List.of(1L, 2L), id -> prefix + id, SAMPLE_TYPE, loader,
+        CACHE_OPTIONS);
+    flushScripts();
+    redisComponent.getCachesOrDefault(List.of(1L, 2L), id -> hashPrefix + id, SAMPLE_TYPE,
+        loader, hashOptions);
+    List<DataType> storedTypes = keys.stream().map(stringRedisTemplate::type).toList();
+    List<DataType> storedHashTypes = hashKeys.stream().map(stringRedisTemplate::type).toList();
+    flushScripts();
+    boolean unlinked = redisComponent.unlinkKeys(List.of(keys.get(0), keys.get(1),
+        hashKeys.get(0), hashKeys.get(1)));
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(DataType.STRING, DataType.STRING), storedTypes),
+        () -> assertEquals(List.of(DataType.HASH, DataType.HASH), storedHashTypes),
+        () -> assertTrue(unlinked),
+        () -> assertFalse(Boolean.TRUE.equals(stringRedisTemplate.hasKey(keys.get(0)))),
+        () -> assertFalse(Boolean.TRUE.equals(stringRedisTemplate.hasKey(hashKeys.get(0))))
+    );
+  }
+
+  @Order(18)
+  @DisplayName("다른 노드에서 값을 저장하면 무효화 메시지를 받아 이 노드의 Hot Key 복제본을 제거")
+  @Test
+  void testEvictHotKeyReplicaOnOtherNode() throws InterruptedException {
+
+    // Given
+    String key = "SAMPLE:HOT:" + UUID.randomUUID();
+    HotKeyCache otherHotKeyCache = new HotKeyCache(true, 1, 1, Duration.ofMinutes(1), 16,
+        Duration.ofMinutes(1), 1024);
+    LocalCache otherLocalCache = new LocalCache(
+        new NearCache(false, 100, Duration.ofSeconds(1)),
+        otherHotKeyCache,
+        new OffHeapCache(null, false, DataSize.ofKilobytes(64), DataSize.ofKilobytes(64),
+            List.of(), Duration.ofSeconds(1)));
+    CacheInvalidationListener otherListener = new CacheInvalidationListener(otherLocalCache,
+        redisReadRouter);
+    ChannelTopic topic = new ChannelTopic(Constants.CACHE_INVALIDATION_CHANNEL);
+    redisMessageListenerContainer.addMessageListener(otherListener, topic);
+    otherLocalCache.get(key);
+    otherLocalCache.put(key, SampleDto.of("105", NAME, 30));
+    SampleDto replicated = otherLocalCache.get(key);
+
+    // When
+    try {
+      for (int i = 0; i < 50 && otherHotKeyCache.get(key) != null; i++) {
+        redisComponent.setObjectValue(key, SampleDto.of("105", "Changed", 31), 10,
+            TimeUnit.MINUTES);
+        Thread.sleep(100);
+      }
+    } finally {
+      redisMessageListenerContainer.removeMessageListener(otherListener, topic);
+    }
+
+    // Then
+    assertAll(
+        () -> assertNotNull(replicated),
+        () -> assertNull(otherHotKeyCache.get(key))
+    );
+  }
+
+  private void flushScripts() {
+    stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+      connection.scriptingCommands().scriptFlush();
+      return null;
+    });
+  }
+
   @Getter
   @Builder
   @NoArgsConstructor
@@ -0,0 +1,59 @@
+package com.example.boilerplate.common.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.example.boilerplate.todo.dto.TodoDto;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PageDtoTest {
+
+  private static final String TITLE = "Spring";
+
+  @Order(1)
+  @DisplayName("기본값과 정렬 방향의 대소문자가 정규화되어 같은 조회 조건은 같은 키로 변환")
+  @Test
+  void testNormalizedQueryKey() {
+
+    // Given
+    TodoDto.PageRequest defaultRequest = TodoDto.PageRequest.of(TITLE, null, null, 0, 0,
+        List.of("title,DESC"));
+    TodoDto.PageRequest explicitRequest = TodoDto.PageRequest.of(TITLE, null, null, 1, 10,
+        List.of(" title , desc"));
+
+    // When
+    String defaultQueryKey = defaultRequest.toQueryKey();
+    String explicitQueryKey = explicitRequest.toQueryKey();
+
+    // Then
+    log.debug("defaultQueryKey : {}", defaultQueryKey);
+    assertEquals(explicitQueryKey, defaultQueryKey);
+  }
+
+  @Order(2)
+  @DisplayName("조회 조건 값에 포함된 구분자는 인코딩되어 다른 조건과 같은 키로 변환되지 않음")
+  @Test
+  void testEncodedQueryKey() {
+
+    // Given
+    TodoDto.PageRequest injectedRequest = TodoDto.PageRequest.of(TITLE + "&description=JPA",
+        null, null, 1, 10);
+    TodoDto.PageRequest plainRequest = TodoDto.PageRequest.of(TITLE, "JPA", null, 1, 10);
+
+    // When
+    String injectedQueryKey = injectedRequest.toQueryKey();
+    String plainQueryKey = plainRequest.toQueryKey();
+
+    // Then
+    log.debug("injectedQueryKey : {}", injectedQueryKey);
+    assertNotEquals(plainQueryKey, injectedQueryKey);
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.boilerplate.common.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.boilerplate.common.ratelimit.RateLimiter.Decision;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@Slf4j
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RateLimiterTest {
+
+  private static final String IDENTITY = "ip:127.0.0.1";
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Order(1)
+  @DisplayName("예약한 토큰을 로컬에서 소진할 때까지 Redis를 다시 호출하지 않음")
+  @Test
+  void testLocalBatch() {
+
+    // Given
+    FakeRateLimiter rateLimiter = new FakeRateLimiter(meterRegistry, 100);
+    RateLimitRule rule = rule(5);
+
+    // When
+    List<Decision> decisions = IntStream.range(0, 6)
+        .mapToObj(i -> rateLimiter.tryAcquire(rule, IDENTITY))
+        .toList();
+
+    // Then
+    log.debug("decisions : {}", decisions);
+    assertAll(
+        () -> assertTrue(decisions.stream().allMatch(Decision::allowed)),
+        () -> assertEquals(List.of(5, 5), rateLimiter.requests)
+    );
+  }
+
+  @Order(2)
+  @DisplayName("토큰이 없으면 다음 토큰이 채워질 때까지 Redis 호출 없이 거절")
+  @Test
+  void testRejectWithoutRedis() {
+
+    // Given
+    FakeRateLimiter rateLimiter = new FakeRateLimiter(meterRegistry, 1);
+    RateLimitRule rule = rule(1);
+    rateLimiter.tryAcquire(rule, IDENTITY);
+
+    // When
+    Decision first = rateLimiter.tryAcquire(rule, IDENTITY);
+    Decision second = rateLimiter.tryAcquire(rule, IDENTITY);
+
+    // Then
+    assertAll(
+        () -> assertFalse(first.allowed()),
+        () -> assertFalse(second.allowed()),
+        () -> assertTrue(second.retryAfterMillis() >= 1 && second.retryAfterMillis() <= 60_000),
+        () -> assertEquals(2, rateLimiter.requests.size()),
+        () -> assertEquals(2, meterRegistry.get(RateLimiter.REQUESTS)
+            .tags("rule", "sign", "result", "rejected").counter().count())
+    );
+  }
+
+  private static RateLimitRule rule(int localBatch) {
+    return RateLimitRule.builder()
+        .name("sign")
+        .pattern("/sign/signin")
+        .capacity(10)
+        .refillPeriod(Duration.ofMinutes(1))
+        .localBatch(localBatch)
+        .build();
+  }
+
+  /**
+   * Redis 대신 남은 토큰 수만큼 예약하는 RateLimiter
+   */
+  private static class FakeRateLimiter extends RateLimiter {
+
+    private final List<Integer> requests = new ArrayList<>();
+    private long remaining;
+
+    FakeRateLimiter(MeterRegistry meterRegistry, long remaining) {
+      super(null, null, meterRegistry, true, 100);
+      this.remaining = remaining;
+    }
+
+    @Override
+    Reservation reserve(String key, RateLimitRule rule, int requested) {
+      requests.add(requested);
+      long granted = Math.min(requested, remaining);
+      remaining -= granted;
+      return new Reservation(granted, granted > 0 ? 0 : 6_000);
+    }
+  }
+}
@@ -13,6 +13,7 @@ import com.example.boilerplate.todo.dto.TodoDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
@@ -215,6 +216,36 @@ class TodoServiceTest {
     }
   }
 
+  @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+  @DisplayName("getTodoMap - 여러 할 일 조회")
+  @Nested
+  class TestGetTodoMap {
+
+    @Order(1)
+    @DisplayName("존재하는 아이디만 결과에 포함")
+    @Transactional
+    @Test
+    void testGetTodoMapSuccess() {
+
+      // Given
+      long firstTodoId = saveTodoAndReturnId(TODO_TITLE_PREFIX + "_1", TODO_DESCRIPTION_PREFIX);
+      long secondTodoId = saveTodoAndReturnId(TODO_TITLE_PREFIX + "_2", TODO_DESCRIPTION_PREFIX);
+      clearPersistenceContext();
+
+      // When
+      Map<Long, TodoDto.Response> todoMap =
+          todoService.getTodoMap(List.of(firstTodoId, secondTodoId, 0L));
+
+      // Then
+      assertAll(
+          () -> assertEquals(2, todoMap.size()),
+          () -> assertTrue(todoMap.containsKey(firstTodoId)),
+          () -> assertTrue(todoMap.containsKey(secondTodoId)),
+          () -> assertFalse(todoMap.containsKey(0L))
+      );
+    }
+  }
+
   @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
   @DisplayName("insertTodo - 할 일 추가")
   @Nested